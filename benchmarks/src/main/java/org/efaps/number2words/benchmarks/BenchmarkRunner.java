@@ -0,0 +1,61 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Main class of the benchmarks. The command line options of JMH are
+ * supported (e.g. a regular expression to select benchmarks); the GC profiler
+ * is always added, so that the allocated bytes per operation
+ * (<code>gc.alloc.rate.norm</code>) are reported.
+ *
+ * @author The eFaps Team
+ */
+public final class BenchmarkRunner
+{
+    /**
+     * Private constructor to make a utility class.
+     */
+    private BenchmarkRunner()
+    {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param _args JMH command line options
+     * @throws RunnerException if the benchmarks could not be run
+     * @throws CommandLineOptionException if the options are not valid
+     */
+    public static void main(final String[] _args)
+        throws RunnerException, CommandLineOptionException
+    {
+        final Options options = new OptionsBuilder()
+                        .parent(new CommandLineOptions(_args))
+                        .addProfiler(GCProfiler.class)
+                        .build();
+        new Runner(options).run();
+    }
+}
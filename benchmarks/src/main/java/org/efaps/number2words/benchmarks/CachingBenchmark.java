@@ -0,0 +1,243 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.efaps.number2words.CachingConverter;
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the conversion with a {@link CachingConverter} against the
+ * uncached conversion for {@link ValueDistribution#ZIPF Zipf distributed}
+ * values. The converter is shared by all benchmark threads, so that the
+ * concurrent access to the cache is measured, too. The hits, misses and
+ * evictions of the cache are reported as secondary results with
+ * {@link CacheCounters}.
+ *
+ * @author The eFaps Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(2)
+public class CachingBenchmark
+{
+    /**
+     * Number of precomputed values of each thread (must be a power of two).
+     */
+    private static final int VALUES = 65_536;
+
+    /**
+     * Language of the converter.
+     */
+    @Param({"en", "de", "es"})
+    private String language;
+
+    /**
+     * Maximum number of cached entries; <code>0</code> for the uncached
+     * converter.
+     */
+    @Param({"0", "4096", "65536"})
+    private int cacheSize;
+
+    /**
+     * Shared converter to benchmark.
+     */
+    private IConverter converter;
+
+    /**
+     * Prepares the converter.
+     */
+    @Setup
+    public void setup()
+    {
+        final IConverter uncached = Converter.getMaleConverter(new Locale(this.language));
+        this.converter = this.cacheSize == 0 ? uncached : new CachingConverter(uncached, this.cacheSize);
+    }
+
+    /**
+     * Is the thread which reports the counters of the cache already
+     * assigned?
+     *
+     * @see CacheCounters
+     */
+    private final AtomicBoolean reporterAssigned = new AtomicBoolean();
+
+    /**
+     * Benchmarks {@link IConverter#convert(long)}.
+     *
+     * @param _values   values of the thread
+     * @param _counters counters of the cache
+     * @return converted value
+     */
+    @Benchmark
+    public String convert(final Values _values,
+                          final CacheCounters _counters)
+    {
+        return this.converter.convert(_values.next());
+    }
+
+    /**
+     * Hits, misses and evictions of the shared cache in one iteration which
+     * are reported as secondary results. The counters of the cache are
+     * shared by all threads, but JMH sums the counters of all threads, so
+     * only the first thread reports the counters and the counters of the
+     * other threads are zero.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CacheCounters
+    {
+        /**
+         * Cache of the benchmark; <code>null</code> if this thread does not
+         * report the counters or the converter is not cached.
+         */
+        private CachingConverter cache;
+
+        /**
+         * Hits of the cache at the start of the iteration.
+         */
+        private long startHits;
+
+        /**
+         * Misses of the cache at the start of the iteration.
+         */
+        private long startMisses;
+
+        /**
+         * Evictions of the cache at the start of the iteration.
+         */
+        private long startEvictions;
+
+        /**
+         * Assigns the cache if this thread is the first thread.
+         *
+         * @param _benchmark    benchmark with the shared converter
+         */
+        @Setup(Level.Trial)
+        public void setup(final CachingBenchmark _benchmark)
+        {
+            if (_benchmark.converter instanceof CachingConverter && _benchmark.reporterAssigned.compareAndSet(false,
+                            true))  {
+                this.cache = (CachingConverter) _benchmark.converter;
+            }
+        }
+
+        /**
+         * Stores the counters of the cache at the start of the iteration.
+         */
+        @Setup(Level.Iteration)
+        public void startIteration()
+        {
+            if (this.cache != null)  {
+                this.startHits = this.cache.getHitCount();
+                this.startMisses = this.cache.getMissCount();
+                this.startEvictions = this.cache.getEvictionCount();
+            }
+        }
+
+        /**
+         * Returns the hits of the cache in the current iteration.
+         *
+         * @return hits
+         */
+        public long hits()
+        {
+            return this.cache == null ? 0 : this.cache.getHitCount() - this.startHits;
+        }
+
+        /**
+         * Returns the misses of the cache in the current iteration.
+         *
+         * @return misses
+         */
+        public long misses()
+        {
+            return this.cache == null ? 0 : this.cache.getMissCount() - this.startMisses;
+        }
+
+        /**
+         * Returns the evictions of the cache in the current iteration.
+         *
+         * @return evictions
+         */
+        public long evictions()
+        {
+            return this.cache == null ? 0 : this.cache.getEvictionCount() - this.startEvictions;
+        }
+    }
+
+    /**
+     * Zipf distributed values of one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Values
+    {
+        /**
+         * Precomputed values to convert.
+         */
+        private long[] values;
+
+        /**
+         * Index of the next value.
+         */
+        private int index;
+
+        /**
+         * Prepares the values.
+         */
+        @Setup
+        public void setup()
+        {
+            this.values = ValueDistribution.ZIPF.generate(CachingBenchmark.VALUES);
+        }
+
+        /**
+         * Returns the next value to convert.
+         *
+         * @return next value
+         */
+        long next()
+        {
+            this.index = (this.index + 1) & (CachingBenchmark.VALUES - 1);
+            return this.values[this.index];
+        }
+    }
+}
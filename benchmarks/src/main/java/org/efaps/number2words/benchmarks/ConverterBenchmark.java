@@ -0,0 +1,203 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.efaps.number2words.ConversionOptions;
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.LetterCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the conversion of numbers to words for all languages and
+ * {@link ValueDistribution value distributions}. The throughput is measured
+ * together with the sampled latency so that percentiles are reported.
+ *
+ * @author The eFaps Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConverterBenchmark
+{
+    /**
+     * Number of precomputed values (must be a power of two).
+     */
+    private static final int VALUES = 4096;
+
+    /**
+     * Shared options for {@link #convertWithOptions()}.
+     */
+    private static final ConversionOptions OPTIONS = ConversionOptions.DEFAULT
+                    .withLetterCase(LetterCase.CAPITALIZED).withConjunction("and");
+
+    /**
+     * Language of the converter.
+     */
+    @Param({"en", "de", "es", "fr", "da"})
+    private String language;
+
+    /**
+     * Distribution of the converted values.
+     */
+    @Param({"SMALL", "INVOICE", "ROUND_POWERS", "NEGATIVE", "MAX", "ZIPF"})
+    private ValueDistribution distribution;
+
+    /**
+     * Converter to benchmark.
+     */
+    private IConverter converter;
+
+    /**
+     * Precomputed values to convert.
+     */
+    private long[] values;
+
+    /**
+     * Reused buffer for {@link #convertToBuilder()}.
+     */
+    private StringBuilder buffer;
+
+    /**
+     * Reused direct buffer for {@link #convertToByteBuffer()}.
+     */
+    private ByteBuffer bytes;
+
+    /**
+     * Index of the next value.
+     */
+    private int index;
+
+    /**
+     * Prepares the converter and the values.
+     */
+    @Setup
+    public void setup()
+    {
+        this.converter = Converter.getMaleConverter(new Locale(this.language));
+        this.values = this.distribution.generate(ConverterBenchmark.VALUES);
+        this.buffer = new StringBuilder(256);
+        this.bytes = ByteBuffer.allocateDirect(1024);
+    }
+
+    /**
+     * Returns the next value to convert.
+     *
+     * @return next value
+     */
+    private long nextValue()
+    {
+        this.index = (this.index + 1) & (ConverterBenchmark.VALUES - 1);
+        return this.values[this.index];
+    }
+
+    /**
+     * Benchmarks {@link IConverter#convert(long)}.
+     *
+     * @return converted value
+     */
+    @Benchmark
+    public String convert()
+    {
+        return this.converter.convert(nextValue());
+    }
+
+    /**
+     * Benchmarks {@link IConverter#convert(long, ConversionOptions)} with
+     * shared capitalized options and a conjunction as comparison with
+     * {@link #convert()}.
+     *
+     * @return converted value
+     */
+    @Benchmark
+    public String convertWithOptions()
+    {
+        return this.converter.convert(nextValue(), ConverterBenchmark.OPTIONS);
+    }
+
+    /**
+     * Benchmarks {@link IConverter#convertTo(long, StringBuilder)} with a
+     * reused buffer.
+     *
+     * @return buffer with the converted value
+     */
+    @Benchmark
+    public StringBuilder convertToBuilder()
+    {
+        this.buffer.setLength(0);
+        return this.converter.convertTo(nextValue(), this.buffer);
+    }
+
+    /**
+     * Benchmarks {@link IConverter#convertTo(long, ByteBuffer)} with a reused
+     * direct buffer.
+     *
+     * @return number of written bytes
+     */
+    @Benchmark
+    public int convertToByteBuffer()
+    {
+        this.bytes.clear();
+        return this.converter.convertTo(nextValue(), this.bytes);
+    }
+
+    /**
+     * Benchmarks {@link IConverter#length(long)} which computes the length
+     * without writing the words.
+     *
+     * @return length of the words
+     */
+    @Benchmark
+    public int length()
+    {
+        return this.converter.length(nextValue());
+    }
+
+    /**
+     * Benchmarks the conversion into a string which is encoded into a reused
+     * direct buffer as reference for {@link #convertToByteBuffer()}.
+     *
+     * @return number of written bytes
+     */
+    @Benchmark
+    public int convertAndEncode()
+    {
+        this.bytes.clear();
+        final byte[] encoded = this.converter.convert(nextValue()).getBytes(StandardCharsets.UTF_8);
+        this.bytes.put(encoded);
+        return encoded.length;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.benchmarks;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.converters.GeneratedEnglish;
+import org.efaps.number2words.converters.GeneratedGerman;
+import org.efaps.number2words.converters.GeneratedSpanish;
+import org.efaps.number2words.converters.LanguagePackProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the hand-written converters against the converters generated
+ * from the language packs. Before the measurement converters of all
+ * languages, genders and the language packs are used, so that the shared
+ * call sites of the hand-written converters are megamorphic as in an
+ * application which uses several languages.
+ *
+ * @author The eFaps Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GeneratedBenchmark
+{
+    /**
+     * Number of precomputed values (must be a power of two).
+     */
+    private static final int VALUES = 4096;
+
+    /**
+     * Language of the converter.
+     */
+    @Param({"en", "de", "es"})
+    private String language;
+
+    /**
+     * <i>true</i> for the generated converter, <i>false</i> for the
+     * hand-written converter.
+     */
+    @Param({"false", "true"})
+    private boolean generated;
+
+    /**
+     * Distribution of the converted values.
+     */
+    @Param({"INVOICE", "MAX"})
+    private ValueDistribution distribution;
+
+    /**
+     * Converter to benchmark.
+     */
+    private IConverter converter;
+
+    /**
+     * Precomputed values to convert.
+     */
+    private long[] values;
+
+    /**
+     * Reused buffer for {@link #convertToBuilder()}.
+     */
+    private StringBuilder buffer;
+
+    /**
+     * Index of the next value.
+     */
+    private int index;
+
+    /**
+     * Prepares the converter and the values and uses converters of all
+     * languages to make the shared call sites megamorphic.
+     *
+     * @throws IOException if a language pack could not be read
+     */
+    @Setup
+    public void setup()
+        throws IOException
+    {
+        final Locale locale = new Locale(this.language);
+        final IConverter[] all = {
+            Converter.getMaleConverter(Locale.ENGLISH),
+            Converter.getConverter(Locale.GERMAN, Gender.FEMALE),
+            Converter.getConverter(new Locale("es"), Gender.FEMALE),
+            LanguagePackProvider.forLocale(Locale.ENGLISH).getMaleConverter(),
+            new GeneratedEnglish(), new GeneratedGerman(), new GeneratedSpanish()};
+        final StringBuilder warmup = new StringBuilder();
+        for (int i = 0; i < 50_000; i++)  {
+            warmup.setLength(0);
+            all[i % all.length].convertTo(i * 7_919L, warmup);
+        }
+        if (this.generated)  {
+            this.converter = Locale.ENGLISH.equals(locale)
+                            ? new GeneratedEnglish()
+                            : Locale.GERMAN.equals(locale) ? new GeneratedGerman() : new GeneratedSpanish();
+        } else  {
+            this.converter = Converter.getMaleConverter(locale);
+        }
+        this.values = this.distribution.generate(GeneratedBenchmark.VALUES);
+        this.buffer = new StringBuilder(256);
+    }
+
+    /**
+     * Returns the next value to convert.
+     *
+     * @return next value
+     */
+    private long nextValue()
+    {
+        this.index = (this.index + 1) & (GeneratedBenchmark.VALUES - 1);
+        return this.values[this.index];
+    }
+
+    /**
+     * Benchmarks {@link IConverter#convert(long)}.
+     *
+     * @return converted value
+     */
+    @Benchmark
+    public String convert()
+    {
+        return this.converter.convert(nextValue());
+    }
+
+    /**
+     * Benchmarks {@link IConverter#convertTo(long, StringBuilder)} with a
+     * reused buffer.
+     *
+     * @return buffer with the converted value
+     */
+    @Benchmark
+    public StringBuilder convertToBuilder()
+    {
+        this.buffer.setLength(0);
+        return this.converter.convertTo(nextValue(), this.buffer);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the lookup of converters with
+ * {@link Converter#getMaleConverter(Locale)}.
+ *
+ * @author The eFaps Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LookupBenchmark
+{
+    /**
+     * Supported locale with country (resolved with fallback).
+     */
+    private final Locale supported = Locale.GERMANY;
+
+    /**
+     * Unsupported locale (resolved from the negative cache).
+     */
+    private final Locale unsupported = new Locale("xx", "YY");
+
+    /**
+     * Benchmarks the lookup of a supported locale.
+     *
+     * @return converter
+     */
+    @Benchmark
+    public IConverter lookupSupported()
+    {
+        return Converter.getMaleConverter(this.supported);
+    }
+
+    /**
+     * Benchmarks the lookup of an unsupported locale.
+     *
+     * @return always <code>null</code>
+     */
+    @Benchmark
+    public IConverter lookupUnsupported()
+    {
+        return Converter.getMaleConverter(this.unsupported);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.benchmarks;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.IParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the parsing of words to numbers with {@link IParser} for all
+ * languages. The parsed texts are written by the converters for the values
+ * of a {@link ValueDistribution}.
+ *
+ * @author The eFaps Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParserBenchmark
+{
+    /**
+     * Number of precomputed texts (must be a power of two).
+     */
+    private static final int VALUES = 4096;
+
+    /**
+     * Language of the parser.
+     */
+    @Param({"en", "de", "es", "fr", "da"})
+    private String language;
+
+    /**
+     * Distribution of the values of the parsed texts.
+     */
+    @Param({"INVOICE", "ROUND_POWERS", "MAX"})
+    private ValueDistribution distribution;
+
+    /**
+     * Parser to benchmark.
+     */
+    private IParser parser;
+
+    /**
+     * Precomputed texts to parse.
+     */
+    private String[] texts;
+
+    /**
+     * Index of the next text.
+     */
+    private int index;
+
+    /**
+     * Prepares the parser and the texts.
+     */
+    @Setup
+    public void setup()
+    {
+        final Locale locale = new Locale(this.language);
+        final IConverter converter = Converter.getMaleConverter(locale);
+        this.parser = Converter.getParser(locale);
+        final long[] values = this.distribution.generate(ParserBenchmark.VALUES);
+        this.texts = new String[values.length];
+        for (int i = 0; i < values.length; i++)  {
+            this.texts[i] = converter.convert(values[i]);
+        }
+    }
+
+    /**
+     * Benchmarks {@link IParser#parse(CharSequence)}.
+     *
+     * @return parsed value
+     * @throws ParseException if a text could not be parsed
+     */
+    @Benchmark
+    public long parse()
+        throws ParseException
+    {
+        this.index = (this.index + 1) & (ParserBenchmark.VALUES - 1);
+        return this.parser.parse(this.texts[this.index]);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.RomanNotation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the conversion of numbers to Roman numerals for all notations,
+ * so that the throughput could be compared with the decimal converters of
+ * the {@link ConverterBenchmark}.
+ *
+ * @author The eFaps Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RomanBenchmark
+{
+    /**
+     * Number of precomputed values (must be a power of two).
+     */
+    private static final int VALUES = 4096;
+
+    /**
+     * Notation of the numerals.
+     */
+    @Param({"STANDARD", "VINCULUM", "APOSTROPHUS"})
+    private RomanNotation notation;
+
+    /**
+     * Converter to benchmark.
+     */
+    private IConverter converter;
+
+    /**
+     * Precomputed values to convert.
+     */
+    private long[] values;
+
+    /**
+     * Reused buffer for {@link #convertToBuilder()}.
+     */
+    private StringBuilder buffer;
+
+    /**
+     * Reused direct buffer for {@link #convertToByteBuffer()}.
+     */
+    private ByteBuffer bytes;
+
+    /**
+     * Index of the next value.
+     */
+    private int index;
+
+    /**
+     * Prepares the converter and the seeded random values of the whole
+     * range of the notation.
+     */
+    @Setup
+    public void setup()
+    {
+        this.converter = Converter.getRomanConverter(this.notation);
+        final Random random = new Random(4711);
+        this.values = new long[RomanBenchmark.VALUES];
+        for (int i = 0; i < RomanBenchmark.VALUES; i++)  {
+            this.values[i] = 1 + random.nextInt((int) this.notation.getMaximum());
+        }
+        this.buffer = new StringBuilder(256);
+        this.bytes = ByteBuffer.allocateDirect(1024);
+    }
+
+    /**
+     * Returns the next value to convert.
+     *
+     * @return next value
+     */
+    private long nextValue()
+    {
+        this.index = (this.index + 1) & (RomanBenchmark.VALUES - 1);
+        return this.values[this.index];
+    }
+
+    /**
+     * Benchmarks {@link IConverter#convert(long)}.
+     *
+     * @return converted value
+     */
+    @Benchmark
+    public String convert()
+    {
+        return this.converter.convert(nextValue());
+    }
+
+    /**
+     * Benchmarks {@link IConverter#convertTo(long, StringBuilder)} with a
+     * reused buffer.
+     *
+     * @return buffer with the converted value
+     */
+    @Benchmark
+    public StringBuilder convertToBuilder()
+    {
+        this.buffer.setLength(0);
+        return this.converter.convertTo(nextValue(), this.buffer);
+    }
+
+    /**
+     * Benchmarks {@link IConverter#convertTo(long, ByteBuffer)} with a reused
+     * direct buffer.
+     *
+     * @return number of written bytes
+     */
+    @Benchmark
+    public int convertToByteBuffer()
+    {
+        this.bytes.clear();
+        return this.converter.convertTo(nextValue(), this.bytes);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Distributions of the values which are converted in the benchmarks. All
+ * values are generated with a fixed seed, so that each run of a benchmark
+ * converts exactly the same numbers.
+ *
+ * @author The eFaps Team
+ */
+public enum ValueDistribution
+{
+    /** Small integers between 0 and 999. */
+    SMALL
+    {
+        @Override
+        protected long next(final Random _random)
+        {
+            return _random.nextInt(1000);
+        }
+    },
+
+    /** Log-normal distributed invoice amounts with a median of 250. */
+    INVOICE
+    {
+        @Override
+        protected long next(final Random _random)
+        {
+            return Math.round(Math.exp(Math.log(250) + 1.5 * _random.nextGaussian()));
+        }
+    },
+
+    /** Round powers of one thousand multiplied with 1 till 999. */
+    ROUND_POWERS
+    {
+        @Override
+        protected long next(final Random _random)
+        {
+            long ret = 1 + _random.nextInt(999);
+            for (int power = _random.nextInt(7); power > 0; power--)  {
+                ret *= 1000;
+            }
+            return ret;
+        }
+    },
+
+    /** Negative log-normal distributed amounts. */
+    NEGATIVE
+    {
+        @Override
+        protected long next(final Random _random)
+        {
+            return -INVOICE.next(_random);
+        }
+    },
+
+    /** Always the largest long value (worst case with seven groups). */
+    MAX
+    {
+        @Override
+        protected long next(final Random _random)
+        {
+            return Long.MAX_VALUE;
+        }
+    },
+
+    /**
+     * Zipf distributed (exponent 1) amounts out of {@link Zipf#RANKS} distinct
+     * invoice amounts, so that few amounts are converted very often.
+     */
+    ZIPF
+    {
+        @Override
+        protected long next(final Random _random)
+        {
+            int rank = Arrays.binarySearch(Zipf.CUMULATIVE, _random.nextDouble());
+            if (rank < 0)  {
+                rank = Math.min(-rank - 1, Zipf.RANKS - 1);
+            }
+            return Zipf.AMOUNTS[rank];
+        }
+    };
+
+    /**
+     * Fixed seed for the generation of the values.
+     */
+    public static final long SEED = 20_091_125L;
+
+    /**
+     * Returns the next value of the distribution.
+     *
+     * @param _random   random generator
+     * @return next value
+     */
+    protected abstract long next(Random _random);
+
+    /**
+     * Generates <code>_count</code> values of this distribution with the
+     * fixed {@link #SEED}.
+     *
+     * @param _count    number of values to generate
+     * @return generated values
+     */
+    public long[] generate(final int _count)
+    {
+        final Random random = new Random(ValueDistribution.SEED + ordinal());
+        final long[] ret = new long[_count];
+        for (int i = 0; i < _count; i++)  {
+            ret[i] = next(random);
+        }
+        return ret;
+    }
+
+    /**
+     * Precomputed ranks of the {@link #ZIPF} distribution.
+     */
+    private static final class Zipf
+    {
+        /**
+         * Number of distinct amounts.
+         */
+        private static final int RANKS = 100_000;
+
+        /**
+         * Distinct amounts ordered by their rank.
+         */
+        private static final long[] AMOUNTS = new long[Zipf.RANKS];
+
+        /**
+         * Cumulative probabilities of the ranks.
+         */
+        private static final double[] CUMULATIVE = new double[Zipf.RANKS];
+
+        static {
+            final Random random = new Random(ValueDistribution.SEED);
+            double sum = 0;
+            for (int rank = 0; rank < Zipf.RANKS; rank++)  {
+                Zipf.AMOUNTS[rank] = random.nextInt(1_000_000_000);
+                sum += 1.0 / (rank + 1);
+                Zipf.CUMULATIVE[rank] = sum;
+            }
+            for (int rank = 0; rank < Zipf.RANKS; rank++)  {
+                Zipf.CUMULATIVE[rank] /= sum;
+            }
+        }
+
+        /**
+         * Private constructor to make a utility class.
+         */
+        private Zipf()
+        {
+        }
+    }
+}
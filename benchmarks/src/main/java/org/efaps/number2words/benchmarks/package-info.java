@@ -0,0 +1,25 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * JMH benchmarks for the converters of numbers to words. The benchmarks are
+ * started with {@link org.efaps.number2words.benchmarks.BenchmarkRunner}
+ * which adds the GC profiler to report the allocated bytes per operation.
+ *
+ * @author The eFaps Team
+ */
+package org.efaps.number2words.benchmarks;
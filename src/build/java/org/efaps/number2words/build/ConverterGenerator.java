@@ -0,0 +1,969 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.build;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * <p>Generates for each language pack (see
+ * <code>org.efaps.number2words.converters.LanguagePack</code>) a final
+ * converter class. All rules of the pack are resolved while generating, so
+ * that the generated class contains only the word tables as constants and
+ * the control flow needed for the language. The conversion of a number is
+ * specialized in the generated class itself and reads the precomputed table
+ * from a final field, so that the call sites stay monomorphic also if
+ * converters of many languages are used in the same JVM.</p>
+ * <p>The generator is run by the Maven build in the phase
+ * <code>generate-sources</code> as single-file source program:
+ * <pre>
+ * java src/build/java/org/efaps/number2words/build/ConverterGenerator.java \
+ *      &lt;pack directory&gt; &lt;output directory&gt;
+ * </pre>
+ * The generator uses only the JDK, because it runs before the project is
+ * compiled. Unchanged sources are not written again.</p>
+ *
+ * @author The eFaps Team
+ */
+public final class ConverterGenerator
+{
+    /**
+     * Package of the generated converters.
+     */
+    private static final String PACKAGE = "org.efaps.number2words.converters";
+
+    /**
+     * Names of the genders (must be the same as
+     * <code>org.efaps.number2words.Gender</code>).
+     */
+    private static final String[] GENDERS = {"MALE", "FEMALE", "NEUTER"};
+
+    /**
+     * Divisors of the powers (<code>1000^(power + 1)</code>) as Java
+     * literals.
+     */
+    private static final String[] DIVISORS = {
+        "1_000L", "1_000_000L", "1_000_000_000L", "1_000_000_000_000L",
+        "1_000_000_000_000_000L", "1_000_000_000_000_000_000L"};
+
+    /**
+     * License header of the generated sources.
+     */
+    private static final String HEADER = "/*\n"
+                    + " * Copyright 2003 - 2020 The eFaps Team\n"
+                    + " *\n"
+                    + " * Licensed under the Apache License, Version 2.0 (the \"License\");\n"
+                    + " * you may not use this file except in compliance with the License.\n"
+                    + " * You may obtain a copy of the License at\n"
+                    + " *\n"
+                    + " *     http://www.apache.org/licenses/LICENSE-2.0\n"
+                    + " *\n"
+                    + " * Unless required by applicable law or agreed to in writing, software\n"
+                    + " * distributed under the License is distributed on an \"AS IS\" BASIS,\n"
+                    + " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n"
+                    + " * See the License for the specific language governing permissions and\n"
+                    + " * limitations under the License.\n"
+                    + " *\n"
+                    + " */\n";
+
+    /**
+     * Properties of the language pack.
+     */
+    private final Properties properties;
+
+    /**
+     * File name of the language pack.
+     */
+    private final String packName;
+
+    /**
+     * Simple name of the generated class.
+     */
+    private final String className;
+
+    /**
+     * Generated source.
+     */
+    private final StringBuilder out = new StringBuilder();
+
+    /**
+     * Creates the generator for one language pack.
+     *
+     * @param _properties   properties of the language pack
+     * @param _packName     file name of the language pack
+     */
+    private ConverterGenerator(final Properties _properties,
+                               final String _packName)
+    {
+        this.properties = _properties;
+        this.packName = _packName;
+        this.className = "Generated"
+                        + Locale.forLanguageTag(required("locale")).getDisplayLanguage(Locale.ENGLISH);
+    }
+
+    /**
+     * Generates the converters for all language packs of a directory.
+     *
+     * @param _args     directory of the language packs and output directory
+     *                  of the generated sources
+     * @throws IOException if a pack could not be read or a source could not
+     *                     be written
+     */
+    public static void main(final String[] _args)
+        throws IOException
+    {
+        if (_args.length != 2)  {
+            throw new IllegalArgumentException("usage: ConverterGenerator <pack directory> <output directory>");
+        }
+        final Path target = Paths.get(_args[1], ConverterGenerator.PACKAGE.split("\\."));
+        Files.createDirectories(target);
+        final List<Path> packs = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(_args[0]), "*.properties"))  {
+            stream.forEach(packs::add);
+        }
+        packs.sort(null);
+        for (final Path pack : packs)  {
+            final Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(pack))  {
+                properties.load(in);
+            }
+            final ConverterGenerator generator = new ConverterGenerator(properties, pack.getFileName().toString());
+            final byte[] source = generator.generate().getBytes(StandardCharsets.US_ASCII);
+            final Path file = target.resolve(generator.className + ".java");
+            if (!Files.exists(file) || !Arrays.equals(Files.readAllBytes(file), source))  {
+                Files.write(file, source);
+            }
+        }
+    }
+
+    /**
+     * Generates the source of the converter.
+     *
+     * @return Java source
+     */
+    private String generate()
+    {
+        final String[] numbers = list("numbers");
+        final String[] tens = Arrays.copyOf(list("tens"), 11);
+        final String[] hundreds = optionalList("hundreds");
+        final String hundred = hundreds == null ? required("hundred") : null;
+        tens[10] = hundreds == null ? hundred : hundreds[1];
+        final String[] powers = list("powers");
+        final String[] singlePowers = optionalList("powers.one");
+        final String hundredExact = optional("hundred.exact");
+        final boolean compoundForms = Boolean.parseBoolean(this.properties.getProperty("compound.forms", "false")
+                        .trim());
+        final Set<String> beforeNoun = genders("forms.beforeNoun", Set.of(ConverterGenerator.GENDERS));
+        final Set<String> thousands = genders("forms.thousands", Set.of());
+        final String preposition = this.properties.getProperty("money.preposition", "").trim();
+        final String prepositionDivisor = this.properties.getProperty("money.preposition.divisor", "1").trim();
+        Long.parseLong(prepositionDivisor);
+
+        // gender forms: name of the constant for each gender
+        final Map<String, String[]> constants = new LinkedHashMap<>();
+        constants.put("NUMBERS", numbers);
+        final String[] numberForms = new String[3];
+        final String[] hundredForms = new String[3];
+        final String[] tables = new String[3];
+        for (int gender = 0; gender < 3; gender++)  {
+            final String name = ConverterGenerator.GENDERS[gender];
+            final String[] forms = forms("numbers." + name.toLowerCase(Locale.ROOT), numbers);
+            // genders without own forms use the forms of the male gender
+            numberForms[gender] = forms == null ? numberForms[0] : name + "_NUMBERS";
+            if (numberForms[gender] == null)  {
+                numberForms[gender] = "NUMBERS";
+            }
+            if (forms != null)  {
+                constants.put(numberForms[gender], forms);
+            }
+            if (hundreds != null)  {
+                final String[] hForms = forms("hundreds." + name.toLowerCase(Locale.ROOT), hundreds);
+                hundredForms[gender] = hForms == null
+                                ? (gender == 0 ? "HUNDREDS" : hundredForms[0])
+                                : name + "_HUNDREDS";
+                if (hForms != null)  {
+                    constants.put(hundredForms[gender], hForms);
+                }
+            }
+            final boolean own = gender == 0 || !numberForms[0].equals(numberForms[gender])
+                            || hundreds != null && !hundredForms[0].equals(hundredForms[gender]);
+            tables[gender] = own ? (gender == 0 ? "TABLE" : name + "_TABLE") : "TABLE";
+        }
+        constants.put("TENS", tens);
+        if (hundreds != null)  {
+            constants.put("HUNDREDS", hundreds);
+        }
+        constants.put("POWERS", powers);
+        if (singlePowers != null)  {
+            constants.put("SINGLE_POWERS", singlePowers);
+        }
+
+        final String cls = this.className;
+        final String language = Locale.forLanguageTag(required("locale")).getDisplayLanguage(Locale.ENGLISH);
+
+        line(ConverterGenerator.HEADER);
+        line("");
+        line("package " + ConverterGenerator.PACKAGE + ";");
+        line("");
+        line("import java.io.IOException;");
+        line("import java.util.Locale;");
+        line("");
+        line("import org.efaps.number2words.Gender;");
+        line("");
+        line("/**");
+        line(" * <p>Converter for the " + language + " language generated from the language pack");
+        line(" * <code>" + this.packName + "</code>. The rules of the pack are resolved in the generated");
+        line(" * code and the conversion reads the precomputed table of the gender from a final");
+        line(" * field, so that no method is dispatched depending on the language.</p>");
+        line(" * <p><b>Generated by ConverterGenerator, do not edit.</b></p>");
+        line(" *");
+        line(" * @author The eFaps Team");
+        line(" */");
+        line("public final class " + cls);
+        line("    extends AbstractDecimalConverter");
+        line("{");
+        line("    /**");
+        line("     * Locale of the language.");
+        line("     */");
+        line("    private static final Locale LOCALE = Locale.forLanguageTag(" + literal(required("locale")) + ");");
+        for (final Map.Entry<String, String[]> constant : constants.entrySet())  {
+            line("");
+            line("    /**");
+            line("     * Words of the constant " + constant.getKey() + " of the language pack.");
+            line("     */");
+            line("    private static final String[] " + constant.getKey() + " = {");
+            final StringBuilder row = new StringBuilder("       ");
+            for (final String word : constant.getValue())  {
+                final String lit = literal(word);
+                if (row.length() + lit.length() + 2 > 110)  {
+                    line(row.toString());
+                    row.setLength(0);
+                    row.append("       ");
+                }
+                row.append(' ').append(lit).append(',');
+            }
+            row.setLength(row.length() - 1);
+            line(row + "};");
+        }
+        for (int gender = 0; gender < 3; gender++)  {
+            final boolean own = gender == 0 || !"TABLE".equals(tables[gender]);
+            if (own)  {
+                line("");
+                line("    /**");
+                line("     * Precomputed table for " + ConverterGenerator.GENDERS[gender].toLowerCase(Locale.ROOT)
+                                + " numbers.");
+                line("     */");
+                line("    private static final DecimalTable " + tables[gender] + " = DecimalTable.compile(new "
+                                + cls + "(Gender." + ConverterGenerator.GENDERS[gender] + "));");
+            }
+        }
+        line("");
+        line("    /**");
+        line("     * Gender of the counted noun.");
+        line("     */");
+        line("    private final Gender gender;");
+        line("");
+        line("    /**");
+        line("     * Precomputed table of the gender (<code>null</code> for the instances which");
+        line("     * compile the tables).");
+        line("     */");
+        line("    private final DecimalTable table;");
+        if (hundreds != null)  {
+            line("");
+            line("    /**");
+            line("     * Words of the hundreds of the last group for the gender.");
+            line("     */");
+            line("    private final String[] hundreds;");
+        }
+        line("");
+        line("    /**");
+        line("     * Words of the irregular numbers of the last group for the gender.");
+        line("     */");
+        line("    private final String[] numbers;");
+        line("");
+        line("    /**");
+        line("     * Creates the converter for male numbers.");
+        line("     */");
+        line("    public " + cls + "()");
+        line("    {");
+        line("        this(Gender.MALE);");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * Creates the converter for numbers of the <code>_gender</code>.");
+        line("     *");
+        line("     * @param _gender   gender of the counted noun");
+        line("     */");
+        line("    public " + cls + "(final Gender _gender)");
+        line("    {");
+        line("        this.gender = _gender;");
+        line("        this.table = " + genderSwitch("_gender", tables, cls + ".") + ";");
+        if (hundreds != null)  {
+            line("        this.hundreds = " + genderSwitch("_gender", hundredForms, cls + ".") + ";");
+        }
+        line("        this.numbers = " + genderSwitch("_gender", numberForms, cls + ".") + ";");
+        line("    }");
+
+        // last two digits
+        final String unitsParam = compoundForms ? "_numbers" : cls + ".NUMBERS";
+        line("");
+        line("    /**");
+        line("     * Appends the words for the numbers from 1 to 99.");
+        line("     *");
+        line("     * @param _target   target to append the words");
+        line("     * @param _separate must a separator be written before the next word?");
+        line("     * @param _number   number less than one hundred to convert");
+        line("     * @param _numbers  words of the irregular numbers");
+        line("     * @return <i>true</i> if a separator must be written before the next");
+        line("     *         word; otherwise <i>false</i>");
+        line("     * @throws IOException if the words could not be appended");
+        line("     */");
+        line("    private static boolean appendTens(final Appendable _target,");
+        line("                                      final boolean _separate,");
+        line("                                      final int _number,");
+        line("                                      final String[] _numbers)");
+        line("        throws IOException");
+        line("    {");
+        line("        final boolean ret;");
+        line("        if (_number < " + numbers.length + ")  {");
+        line("            ret = AbstractDecimalConverter.appendWord(_target, _separate, _numbers[_number]);");
+        line("        } else if (_number % 10 == 0)  {");
+        line("            ret = AbstractDecimalConverter.appendWord(_target, _separate, " + cls
+                        + ".TENS[_number / 10]);");
+        line("        } else  {");
+        line("            ret = AbstractDecimalConverter.appendWord(_target, _separate,");
+        line("                            " + compound(cls + ".TENS[_number / 10]", unitsParam + "[_number % 10]")
+                        + ");");
+        line("        }");
+        line("        return ret;");
+        line("    }");
+
+        // group of three digits
+        final String hundredsParam = hundreds == null ? "" : ", _hundreds";
+        line("");
+        line("    /**");
+        line("     * Appends the words for the numbers from 1 to 999.");
+        line("     *");
+        line("     * @param _target   target to append the words");
+        line("     * @param _separate must a separator be written before the next word?");
+        line("     * @param _number   number less than one thousand to convert");
+        if (hundreds != null)  {
+            line("     * @param _hundreds words of the hundreds");
+        }
+        line("     * @param _numbers  words of the irregular numbers");
+        line("     * @return <i>true</i> if a separator must be written before the next");
+        line("     *         word; otherwise <i>false</i>");
+        line("     * @throws IOException if the words could not be appended");
+        line("     */");
+        line("    private static boolean appendGroup(final Appendable _target,");
+        line("                                       final boolean _separate,");
+        line("                                       final int _number,");
+        if (hundreds != null)  {
+            line("                                       final String[] _hundreds,");
+        }
+        line("                                       final String[] _numbers)");
+        line("        throws IOException");
+        line("    {");
+        String indent = "        ";
+        if (hundredExact != null)  {
+            line("        final boolean ret;");
+            line("        if (_number == 100)  {");
+            line("            ret = AbstractDecimalConverter.appendWord(_target, _separate, " + literal(hundredExact)
+                            + ");");
+            line("        } else  {");
+            indent = "            ";
+        }
+        line(indent + "boolean separate = _separate;");
+        line(indent + "if (_number >= 100)  {");
+        if (hundreds == null)  {
+            line(indent + "    separate = AbstractDecimalConverter.appendWord(_target, separate, " + cls
+                            + ".NUMBERS[_number / 100]);");
+            line(indent + "    separate = AbstractDecimalConverter.appendWord(_target, separate, "
+                            + literal(hundred) + ");");
+        } else  {
+            line(indent + "    separate = AbstractDecimalConverter.appendWord(_target, separate,");
+            line(indent + "                    _hundreds[_number / 100]);");
+        }
+        line(indent + "}");
+        if (hundredExact != null)  {
+            line("            ret = " + cls + ".appendTens(_target, separate, _number % 100, _numbers);");
+            line("        }");
+            line("        return ret;");
+        } else  {
+            line("        return " + cls + ".appendTens(_target, separate, _number % 100, _numbers);");
+        }
+        line("    }");
+
+        // hooks
+        hook("Appends the words for the numbers from 1 to 999 with the base words.",
+             "appendLessThanOneThousand", "number less than one thousand to be converted");
+        line("        return " + cls + ".appendGroup(_target, _separate, _number,");
+        line("                        " + (hundreds == null ? "" : cls + ".HUNDREDS, ") + cls + ".NUMBERS);");
+        line("    }");
+        hook("Appends the words for the numbers from 1 to 99 with the base words.",
+             "appendLessThanOneHundred", "number less than one hundred to convert");
+        line("        return " + cls + ".appendTens(_target, _separate, _number, " + cls + ".NUMBERS);");
+        line("    }");
+        hook("Appends the words of the last group of three digits with the forms of the gender.",
+             "appendLastGroup", "number less than one thousand to be converted");
+        line("        return " + cls + ".appendGroup(_target, _separate, _number"
+                        + (hundreds == null ? "" : ", this.hundreds") + ", this.numbers);");
+        line("    }");
+        if (beforeNoun.size() < 3)  {
+            hook("Appends the words of the last group of three digits in front of a noun.",
+                 "appendLastGroupBeforeNoun", "number less than one thousand to be converted");
+            line("        return " + genderCondition(beforeNoun));
+            line("                        ? appendLastGroup(_target, _separate, _number)");
+            line("                        : appendLessThanOneThousand(_target, _separate, _number);");
+            line("    }");
+        }
+        if (singlePowers != null || !thousands.isEmpty())  {
+            line("");
+            line("    /**");
+            line("     * Appends the words for the given <code>_number</code> depending on the");
+            line("     * <code>_power</code>.");
+            line("     *");
+            line("     * @param _target   target to append the words");
+            line("     * @param _separate must a separator be written before the next word?");
+            line("     * @param _number   number to convert");
+            line("     * @param _power    power of the number");
+            line("     * @return <i>true</i> if a separator must be written before the next");
+            line("     *         word; otherwise <i>false</i>");
+            line("     * @throws IOException if the words could not be appended");
+            line("     */");
+            line("    @Override");
+            line("    protected boolean appendPower(final Appendable _target,");
+            line("                                  final boolean _separate,");
+            line("                                  final int _number,");
+            line("                                  final int _power)");
+            line("        throws IOException");
+            line("    {");
+            line("        final boolean ret;");
+            String keyword = "if";
+            if (singlePowers != null)  {
+                line("        if (_number == 1 && _power < " + singlePowers.length + ")  {");
+                line("            ret = AbstractDecimalConverter.appendWord(_target, _separate, " + cls
+                                + ".SINGLE_POWERS[_power]);");
+                keyword = "} else if";
+            }
+            if (!thousands.isEmpty())  {
+                line("        " + keyword + " (_number != 0 && _power == 0 && " + genderCondition(thousands) + ")  {");
+                line("            ret = AbstractDecimalConverter.appendWord(_target,");
+                line("                            appendLastGroup(_target, _separate, _number),");
+                line("                            getPowerName(_power));");
+            }
+            line("        } else  {");
+            line("            ret = super.appendPower(_target, _separate, _number, _power);");
+            line("        }");
+            line("        return ret;");
+            line("    }");
+        }
+        getter("String[]", "getNumNames", "Returns the base words of the irregular numbers.",
+                        "string array of numbers", cls + ".NUMBERS");
+        getter("String[]", "getTensNames", "Returns the words of the tens and of hundred.",
+                        "string array of tens names", cls + ".TENS");
+        getter("String[]", "getPowerNames", "Returns the words of the powers.",
+                        "string array of power numbers", cls + ".POWERS");
+        getter("DecimalTable", "getTable", "Returns the precomputed table of the gender.",
+                        "table of precomputed fragments", "this.table");
+        getter("String", "getZero", "Returns the word for zero.",
+                        "always &quot;" + required("zero") + "&quot;", literal(required("zero")));
+        getter("String", "getMinus", "Returns the word for minus.",
+                        "always &quot;" + required("minus") + "&quot;", literal(required("minus")));
+        getter("String", "getMoneyConjunction", "Returns the conjunction of amounts.",
+                        "always &quot;" + required("money.conjunction") + "&quot;",
+                        literal(required("money.conjunction")));
+        if (!preposition.isEmpty())  {
+            line("");
+            line("    /**");
+            line("     * Returns the preposition in front of the currency name.");
+            line("     *");
+            line("     * @param _units    units of the amount (not negative)");
+            line("     * @return preposition; an empty string if no preposition is needed");
+            line("     */");
+            line("    @Override");
+            line("    protected String getMoneyPreposition(final long _units)");
+            line("    {");
+            line("        return _units != 0 && _units % " + prepositionDivisor + "L == 0 ? " + literal(preposition)
+                            + " : \"\";");
+            line("    }");
+        }
+        tokens(numbers, constants, hundreds, hundred, hundredExact, powers, singlePowers);
+        words("StringBuilder", "");
+        words("Appendable", "IOException");
+        line("");
+        line("    /**");
+        line("     * Converts the number with the specialized conversion.");
+        line("     *");
+        line("     * @param _number   number to convert");
+        line("     * @return words representing the number");
+        line("     */");
+        line("    @Override");
+        line("    public String convert(final long _number)");
+        line("    {");
+        line("        return convertTo(_number, new StringBuilder()).toString();");
+        line("    }");
+        if ("short".equals(this.properties.getProperty("scale", "long").trim()))  {
+            line("");
+            line("    /**");
+            line("     * The language uses the short scale.");
+            line("     *");
+            line("     * @return always <i>true</i>");
+            line("     */");
+            line("    @Override");
+            line("    public boolean usesShortScale()");
+            line("    {");
+            line("        return true;");
+            line("    }");
+        }
+        line("");
+        line("    /**");
+        line("     * Returns the locale of the language.");
+        line("     *");
+        line("     * @return locale of the language");
+        line("     */");
+        line("    @Override");
+        line("    public Locale getLocale()");
+        line("    {");
+        line("        return " + cls + ".LOCALE;");
+        line("    }");
+        line("}");
+        return this.out.toString();
+    }
+
+    /**
+     * Writes the start of a hook which appends words for a number.
+     *
+     * @param _doc      description of the hook
+     * @param _name     name of the method
+     * @param _number   description of the number parameter
+     */
+    private void hook(final String _doc,
+                      final String _name,
+                      final String _number)
+    {
+        final String pad = " ".repeat(_name.length() + 19);
+        line("");
+        line("    /**");
+        line("     * " + _doc);
+        line("     *");
+        line("     * @param _target   target to append the words");
+        line("     * @param _separate must a separator be written before the next word?");
+        line("     * @param _number   " + _number);
+        line("     * @return <i>true</i> if a separator must be written before the next");
+        line("     *         word; otherwise <i>false</i>");
+        line("     * @throws IOException if the words could not be appended");
+        line("     */");
+        line("    @Override");
+        line("    protected boolean " + _name + "(final Appendable _target,");
+        line("    " + pad + "final boolean _separate,");
+        line("    " + pad + "final int _number)");
+        line("        throws IOException");
+        line("    {");
+    }
+
+    /**
+     * Writes a getter which returns a constant.
+     *
+     * @param _type     return type
+     * @param _name     name of the method
+     * @param _doc      description of the getter
+     * @param _return   description of the returned value
+     * @param _value    returned expression
+     */
+    private void getter(final String _type,
+                        final String _name,
+                        final String _doc,
+                        final String _return,
+                        final String _value)
+    {
+        line("");
+        line("    /**");
+        line("     * " + _doc);
+        line("     *");
+        line("     * @return " + _return);
+        line("     */");
+        line("    @Override");
+        line("    protected " + _type + " " + _name + "()");
+        line("    {");
+        line("        return " + _value + ";");
+        line("    }");
+    }
+
+    /**
+     * Writes the specialized conversion for the target type. The groups of
+     * all powers are unrolled and read from the final table field.
+     *
+     * @param _type     type of the target
+     * @param _throws   thrown exception or an empty string
+     */
+    private void words(final String _type,
+                       final String _throws)
+    {
+        final String pad = " ".repeat(_type.length());
+        line("");
+        line("    /**");
+        line("     * Appends the words of a number with the specialized conversion.");
+        line("     *");
+        line("     * @param _number   number to convert");
+        line("     * @param _target   target to append the words");
+        line("     * @return given <code>_target</code>");
+        if (!_throws.isEmpty())  {
+            line("     * @throws IOException if the words could not be appended");
+        }
+        line("     */");
+        line("    @Override");
+        line("    public " + _type + " convertTo(final long _number,");
+        line("           " + pad + "           final " + _type + " _target)");
+        if (!_throws.isEmpty())  {
+            line("        throws " + _throws);
+        }
+        line("    {");
+        line("        final DecimalTable words = this.table;");
+        line("        if (_number == 0)  {");
+        line("            _target.append(words.getZero());");
+        line("        } else  {");
+        line("            boolean separate = _number < 0;");
+        line("            if (separate)  {");
+        line("                _target.append(words.getMinus());");
+        line("            }");
+        line("            // groups of the negated number, because the absolute value of Long.MIN_VALUE is no long");
+        line("            final long negated = separate ? _number : -_number;");
+        line("            int group;");
+        for (int power = ConverterGenerator.DIVISORS.length - 1; power >= -1; power--)  {
+            if (power < 0)  {
+                line("            group = (int) -(negated % 1000);");
+            } else  {
+                line("            group = (int) -(negated / " + ConverterGenerator.DIVISORS[power] + " % 1000);");
+            }
+            line("            if (group != 0)  {");
+            line("                if (separate)  {");
+            line("                    _target.append(' ');");
+            line("                }");
+            line("                _target.append(words.getFragment(" + power + ", group));");
+            if (power >= 0)  {
+                line("                separate = true;");
+            }
+            line("            }");
+        }
+        line("        }");
+        line("        return _target;");
+        line("    }");
+    }
+
+    /**
+     * Writes the definition of the words for the parser.
+     *
+     * @param _numbers      base words of the irregular numbers
+     * @param _constants    all word constants
+     * @param _hundreds     words of the hundreds or <code>null</code>
+     * @param _hundred      word for hundred or <code>null</code>
+     * @param _hundredExact word for exactly one hundred or <code>null</code>
+     * @param _powers       words of the powers
+     * @param _singlePowers words of one times the powers or <code>null</code>
+     */
+    private void tokens(final String[] _numbers,
+                        final Map<String, String[]> _constants,
+                        final String[] _hundreds,
+                        final String _hundred,
+                        final String _hundredExact,
+                        final String[] _powers,
+                        final String[] _singlePowers)
+    {
+        line("");
+        line("    /**");
+        line("     * Defines the words of the language for the parser.");
+        line("     *");
+        line("     * @param _builder  builder of the parser");
+        line("     */");
+        line("    @Override");
+        line("    protected void defineTokens(final DecimalParser.Builder _builder)");
+        line("    {");
+        line("        _builder.addNumber(" + literal(required("zero")) + ", 0).addMinus(" + literal(required("minus"))
+                        + ");");
+        for (final Map.Entry<String, String[]> constant : _constants.entrySet())  {
+            if (constant.getKey().endsWith("NUMBERS"))  {
+                line("        for (int number = 1; number < " + this.className + "." + constant.getKey()
+                                + ".length; number++)  {");
+                line("            _builder.addNumber(" + this.className + "." + constant.getKey()
+                                + "[number], number);");
+                line("        }");
+            } else if (constant.getKey().endsWith("HUNDREDS"))  {
+                line("        for (int hundreds = 1; hundreds < 10; hundreds++)  {");
+                line("            _builder.addNumber(" + this.className + "." + constant.getKey()
+                                + "[hundreds], hundreds * 100);");
+                line("        }");
+            }
+        }
+        line("        for (int tens = 1; tens < 10; tens++)  {");
+        line("            _builder.addNumber(" + this.className + ".TENS[tens], tens * 10);");
+        line("        }");
+        if (_hundred != null)  {
+            line("        _builder.addHundred(" + literal(_hundred) + ");");
+        }
+        if (_hundredExact != null)  {
+            line("        _builder.addNumber(" + literal(_hundredExact) + ", 100);");
+        }
+        final String template = required("compound");
+        if (template.indexOf("{unit}") < template.indexOf("{tens}"))  {
+            line("        _builder.withUnitsBeforeTens();");
+        }
+        final String[] ignored = optionalList("parser.ignored");
+        if (ignored != null)  {
+            for (final String word : ignored)  {
+                line("        _builder.addIgnored(" + literal(word) + ");");
+            }
+        }
+        line("        long scale = 1;");
+        line("        for (int power = 0; power < " + this.className + ".POWERS.length; power++)  {");
+        line("            scale *= 1000;");
+        line("            _builder.addPowerName(" + this.className + ".POWERS[power], scale);");
+        if (_singlePowers != null)  {
+            line("            _builder.addPowerName(" + this.className + ".SINGLE_POWERS[power], scale);");
+        }
+        line("        }");
+        line("    }");
+    }
+
+    /**
+     * Returns the expression of the compound of tens and unit.
+     *
+     * @param _tens     expression of the tens
+     * @param _unit     expression of the unit
+     * @return Java expression
+     */
+    private String compound(final String _tens,
+                            final String _unit)
+    {
+        final String template = required("compound");
+        if (!template.contains("{tens}") || !template.contains("{unit}"))  {
+            throw new IllegalArgumentException("compound '" + template + "' must contain {tens} and {unit}");
+        }
+        final StringBuilder ret = new StringBuilder();
+        int pos = 0;
+        while (pos < template.length())  {
+            final int next = template.indexOf('{', pos);
+            final int end = next < 0 ? template.length() : next;
+            if (end > pos)  {
+                ret.append(ret.length() > 0 ? " + " : "").append(literal(template.substring(pos, end)));
+            }
+            if (next >= 0)  {
+                final boolean tens = template.startsWith("{tens}", next);
+                ret.append(ret.length() > 0 ? " + " : "").append(tens ? _tens : _unit);
+                pos = next + (tens ? "{tens}" : "{unit}").length();
+            } else  {
+                pos = end;
+            }
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Returns a conditional expression which selects the value for a
+     * gender. Equal values are merged.
+     *
+     * @param _gender   expression of the gender
+     * @param _values   values for male, female and neuter
+     * @param _prefix   prefix of the values
+     * @return Java expression
+     */
+    private static String genderSwitch(final String _gender,
+                                       final String[] _values,
+                                       final String _prefix)
+    {
+        final String ret;
+        if (_values[1].equals(_values[0]) && _values[2].equals(_values[0]))  {
+            ret = _prefix + _values[0];
+        } else if (_values[2].equals(_values[0]))  {
+            ret = _gender + " == Gender.FEMALE ? " + _prefix + _values[1] + " : " + _prefix + _values[0];
+        } else  {
+            ret = _gender + " == Gender.FEMALE ? " + _prefix + _values[1]
+                            + "\n                        : " + _gender + " == Gender.NEUTER ? " + _prefix + _values[2]
+                            + "\n                        : " + _prefix + _values[0];
+        }
+        return ret;
+    }
+
+    /**
+     * Returns a condition which is true if the gender of the converter is
+     * one of the <code>_genders</code>.
+     *
+     * @param _genders  names of the genders
+     * @return Java expression
+     */
+    private static String genderCondition(final Set<String> _genders)
+    {
+        final StringBuilder ret = new StringBuilder();
+        for (final String gender : ConverterGenerator.GENDERS)  {
+            if (_genders.contains(gender))  {
+                ret.append(ret.length() > 0 ? " || " : "").append("this.gender == Gender.").append(gender);
+            }
+        }
+        return ret.length() == 0 ? "false" : ret.toString();
+    }
+
+    /**
+     * Returns the Java literal of a string. Characters which are not ASCII
+     * are written as unicode escapes.
+     *
+     * @param _value    string
+     * @return Java literal
+     */
+    private static String literal(final String _value)
+    {
+        final StringBuilder ret = new StringBuilder("\"");
+        for (final char ch : _value.toCharArray())  {
+            if (ch == '"' || ch == '\\')  {
+                ret.append('\\').append(ch);
+            } else if (ch < 0x20 || ch > 0x7e)  {
+                ret.append(String.format("\\u%04X", (int) ch));
+            } else  {
+                ret.append(ch);
+            }
+        }
+        return ret.append('"').toString();
+    }
+
+    /**
+     * Returns the value of a required property.
+     *
+     * @param _key  key of the property
+     * @return trimmed value
+     */
+    private String required(final String _key)
+    {
+        final String ret = this.properties.getProperty(_key);
+        if (ret == null)  {
+            throw new IllegalArgumentException("language pack property '" + _key + "' is not defined");
+        }
+        return ret.trim();
+    }
+
+    /**
+     * Returns the value of an optional property.
+     *
+     * @param _key  key of the property
+     * @return trimmed value or <code>null</code>
+     */
+    private String optional(final String _key)
+    {
+        final String ret = this.properties.getProperty(_key);
+        return ret == null ? null : ret.trim();
+    }
+
+    /**
+     * Returns the trimmed entries of a required comma separated list.
+     *
+     * @param _key  key of the property
+     * @return entries
+     */
+    private String[] list(final String _key)
+    {
+        final String[] ret = required(_key).split(",", -1);
+        for (int i = 0; i < ret.length; i++)  {
+            ret[i] = ret[i].trim();
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the trimmed entries of an optional comma separated list.
+     *
+     * @param _key  key of the property
+     * @return entries or <code>null</code>
+     */
+    private String[] optionalList(final String _key)
+    {
+        return this.properties.getProperty(_key) == null ? null : list(_key);
+    }
+
+    /**
+     * Returns the gender forms of a list. Not empty entries replace the
+     * entries of <code>_base</code>.
+     *
+     * @param _key  key of the property
+     * @param _base base words
+     * @return gender forms or <code>null</code>
+     */
+    private String[] forms(final String _key,
+                           final String[] _base)
+    {
+        String[] ret = null;
+        final String[] forms = optionalList(_key);
+        if (forms != null)  {
+            ret = _base.clone();
+            for (int i = 0; i < forms.length && i < ret.length; i++)  {
+                if (!forms[i].isEmpty())  {
+                    ret[i] = forms[i];
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the upper case names of the genders of a list.
+     *
+     * @param _key      key of the property
+     * @param _default  genders if the property is not defined
+     * @return names of the genders
+     */
+    private Set<String> genders(final String _key,
+                                final Set<String> _default)
+    {
+        Set<String> ret = _default;
+        final String[] genders = optionalList(_key);
+        if (genders != null)  {
+            ret = new HashSet<>();
+            for (final String gender : genders)  {
+                if (!gender.isEmpty())  {
+                    ret.add(gender.toUpperCase(Locale.ROOT));
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Appends a line to the generated source.
+     *
+     * @param _line line to append
+     */
+    private void line(final String _line)
+    {
+        this.out.append(_line);
+        if (!_line.endsWith("\n"))  {
+            this.out.append('\n');
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Converts many numbers at once with a {@link IConverter converter}. The
+ * numbers are split in ranges which are converted in parallel on a
+ * {@link ForkJoinPool}. The order of the converted words is always the same
+ * as the order of the numbers.</p>
+ * <p>Ranges with less or equal numbers than the threshold are converted
+ * sequentially with one reused buffer, so that for each number only the
+ * resulting string is allocated.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * final BulkConverter bulk = new BulkConverter(Converter.getMaleConverter(Locale.ENGLISH));
+ * final String[] texts = bulk.convertAll(new long[] {1L, 2L, 3L});
+ * </pre>
+ * </p>
+ *
+ * @author The eFaps Team
+ */
+public final class BulkConverter
+{
+    /**
+     * Default threshold of numbers up to which a range is converted
+     * sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 4096;
+
+    /**
+     * Initial capacity of the reused buffer of one range.
+     */
+    private static final int BUFFER_CAPACITY = 256;
+
+    /**
+     * Converter used to convert the numbers.
+     */
+    private final IConverter converter;
+
+    /**
+     * Pool on which the ranges are converted.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Number of numbers up to which a range is converted sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Creates a bulk converter which uses the common fork join pool and the
+     * {@link #DEFAULT_THRESHOLD default threshold}.
+     *
+     * @param _converter    converter used to convert the numbers
+     */
+    public BulkConverter(final IConverter _converter)
+    {
+        this(_converter, ForkJoinPool.commonPool(), BulkConverter.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a bulk converter.
+     *
+     * @param _converter    converter used to convert the numbers
+     * @param _pool         pool on which the ranges are converted
+     * @param _threshold    number of numbers up to which a range is converted
+     *                      sequentially (must be greater than zero)
+     */
+    public BulkConverter(final IConverter _converter,
+                         final ForkJoinPool _pool,
+                         final int _threshold)
+    {
+        if (_threshold < 1)  {
+            throw new IllegalArgumentException("threshold must be greater than zero, but is " + _threshold);
+        }
+        this.converter = _converter;
+        this.pool = _pool;
+        this.threshold = _threshold;
+    }
+
+    /**
+     * Converts all <code>_numbers</code> into their text representation.
+     *
+     * @param _numbers  numbers to convert
+     * @return array with the converted numbers in the same order
+     */
+    public String[] convertAll(final long[] _numbers)
+    {
+        final String[] ret = new String[_numbers.length];
+        final ConvertRange task = new ConvertRange(_numbers, ret, 0, _numbers.length);
+        if (_numbers.length <= this.threshold)  {
+            task.compute();
+        } else  {
+            this.pool.invoke(task);
+        }
+        return ret;
+    }
+
+    /**
+     * Converts all <code>_numbers</code> of the stream into their text
+     * representation. The returned stream is lazy and has the same order as
+     * the given stream: the numbers are pulled in chunks of the threshold
+     * times the parallelism of the pool, each chunk is converted with
+     * {@link #convertAll(long[])} and the words are emitted before the next
+     * chunk is pulled. So only one chunk is held in memory and also
+     * unbounded streams could be converted. Closing the returned stream
+     * closes the given stream.
+     *
+     * @param _numbers  stream of the numbers to convert
+     * @return lazy stream of the converted numbers in the same order
+     */
+    public Stream<String> convert(final LongStream _numbers)
+    {
+        final int chunk = (int) Math.min(Integer.MAX_VALUE - 8,
+                        (long) this.threshold * Math.max(1, this.pool.getParallelism()));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new ChunkIterator(_numbers.iterator(), chunk),
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                        .onClose(_numbers::close);
+    }
+
+    /**
+     * Iterator over the converted numbers of a stream which pulls and
+     * converts the numbers chunk by chunk.
+     */
+    private final class ChunkIterator
+        implements Iterator<String>
+    {
+        /**
+         * Iterator over the numbers to convert.
+         */
+        private final PrimitiveIterator.OfLong numbers;
+
+        /**
+         * Maximum number of numbers of one chunk.
+         */
+        private final int chunk;
+
+        /**
+         * Converted numbers of the current chunk.
+         */
+        private String[] texts = new String[0];
+
+        /**
+         * Index of the next converted number in {@link #texts}.
+         */
+        private int index;
+
+        /**
+         * Creates the iterator.
+         *
+         * @param _numbers  iterator over the numbers to convert
+         * @param _chunk    maximum number of numbers of one chunk
+         */
+        ChunkIterator(final PrimitiveIterator.OfLong _numbers,
+                      final int _chunk)
+        {
+            this.numbers = _numbers;
+            this.chunk = _chunk;
+        }
+
+        /**
+         * Returns whether more converted numbers exist. If the current chunk
+         * is emitted, the next chunk is pulled and converted.
+         *
+         * @return <i>true</i> if more converted numbers exist
+         */
+        @Override
+        public boolean hasNext()
+        {
+            if (this.index >= this.texts.length && this.numbers.hasNext())  {
+                long[] next = new long[Math.min(this.chunk, BulkConverter.this.threshold)];
+                int count = 0;
+                while (count < this.chunk && this.numbers.hasNext())  {
+                    if (count == next.length)  {
+                        next = Arrays.copyOf(next, (int) Math.min(this.chunk, 2L * next.length));
+                    }
+                    next[count++] = this.numbers.nextLong();
+                }
+                this.texts = convertAll(count == next.length ? next : Arrays.copyOf(next, count));
+                this.index = 0;
+            }
+            return this.index < this.texts.length;
+        }
+
+        /**
+         * Returns the next converted number.
+         *
+         * @return next converted number
+         */
+        @Override
+        public String next()
+        {
+            if (!hasNext())  {
+                throw new NoSuchElementException();
+            }
+            final String ret = this.texts[this.index];
+            // the emitted words are released for the garbage collector
+            this.texts[this.index++] = null;
+            return ret;
+        }
+    }
+
+    /**
+     * Task to convert a range of numbers.
+     */
+    private final class ConvertRange
+        extends RecursiveAction
+    {
+        /**
+         * Needed for serialization.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Numbers to convert.
+         */
+        private final long[] numbers;
+
+        /**
+         * Array in which the converted numbers are stored.
+         */
+        private final String[] texts;
+
+        /**
+         * Index of the first number of the range (inclusive).
+         */
+        private final int start;
+
+        /**
+         * Index of the last number of the range (exclusive).
+         */
+        private final int end;
+
+        /**
+         * Creates the task for a range.
+         *
+         * @param _numbers  numbers to convert
+         * @param _texts    array for the converted numbers
+         * @param _start    index of the first number (inclusive)
+         * @param _end      index of the last number (exclusive)
+         */
+        ConvertRange(final long[] _numbers,
+                     final String[] _texts,
+                     final int _start,
+                     final int _end)
+        {
+            this.numbers = _numbers;
+            this.texts = _texts;
+            this.start = _start;
+            this.end = _end;
+        }
+
+        /**
+         * Converts the range sequentially if the range is small enough;
+         * otherwise the range is split in two halves which are converted in
+         * parallel.
+         */
+        @Override
+        protected void compute()
+        {
+            if (this.end - this.start <= BulkConverter.this.threshold)  {
+                final StringBuilder buffer = new StringBuilder(BulkConverter.BUFFER_CAPACITY);
+                for (int i = this.start; i < this.end; i++)  {
+                    buffer.setLength(0);
+                    this.texts[i] = BulkConverter.this.converter.convertTo(this.numbers[i], buffer).toString();
+                }
+            } else  {
+                final int middle = (this.start + this.end) >>> 1;
+                ForkJoinTask.invokeAll(new ConvertRange(this.numbers, this.texts, this.start, middle),
+                                new ConvertRange(this.numbers, this.texts, middle, this.end));
+            }
+        }
+    }
+}
@@ -0,0 +1,609 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Decorator for a {@link IConverter converter} which caches the words of
+ * converted numbers. The cache is an open addressing hash table keyed by the
+ * primitive <code>long</code>, so that no boxing is needed. The slots of the
+ * table are only replaced with compare and set, so that readers and writers
+ * never lock.</p>
+ * <p>The cache is bounded by the number of entries. A number is searched
+ * only in a small window of slots behind its hash slot. If the window is
+ * full, an entry is evicted with the CLOCK algorithm: each hit marks the
+ * entry as referenced and the eviction removes the first not referenced
+ * entry of the window while the marks of the passed entries are cleared.</p>
+ * <p>Numbers of arbitrary size and amounts are not cached and are directly
+ * converted by the decorated converter.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * final CachingConverter converter = new CachingConverter(Converter.getMaleConverter(Locale.ENGLISH), 4096);
+ * final String text = converter.convert(100L);
+ * final double hitRate = converter.getHitRate();
+ * </pre>
+ * </p>
+ *
+ * @author The eFaps Team
+ */
+public final class CachingConverter
+    implements IConverter
+{
+    /**
+     * Number of slots which are searched behind the hash slot of a number.
+     */
+    private static final int PROBE_WINDOW = 8;
+
+    /**
+     * Multiplier of the Fibonacci hashing (<code>2^64</code> divided by the
+     * golden ratio).
+     */
+    private static final long GOLDEN_RATIO = 0x9E37_79B9_7F4A_7C15L;
+
+    /**
+     * Maximum capacity of the cache (the highest power of two of an int).
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Decorated converter.
+     */
+    private final IConverter converter;
+
+    /**
+     * Slots of the hash table.
+     */
+    private final AtomicReferenceArray<Entry> slots;
+
+    /**
+     * Mask to map an index to a slot.
+     */
+    private final int mask;
+
+    /**
+     * Shift of the Fibonacci hashing (<code>64</code> minus the number of
+     * bits of the capacity).
+     */
+    private final int shift;
+
+    /**
+     * Number of found numbers.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Number of not found numbers.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Number of evicted entries.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates the caching decorator.
+     *
+     * @param _converter    converter to decorate
+     * @param _maxEntries   maximum number of cached numbers; the capacity is
+     *                      rounded up to a power of two (but at least the
+     *                      size of the probe window and at most
+     *                      <code>2^30</code>)
+     */
+    public CachingConverter(final IConverter _converter,
+                            final int _maxEntries)
+    {
+        if (_maxEntries < 1)  {
+            throw new IllegalArgumentException("maximum entries must be greater than zero, but is " + _maxEntries);
+        }
+        final int capacity = Math.max(CachingConverter.PROBE_WINDOW,
+                        _maxEntries > CachingConverter.MAX_CAPACITY
+                                        ? CachingConverter.MAX_CAPACITY
+                                        : Integer.highestOneBit(_maxEntries - 1) << 1);
+        this.converter = _converter;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    /**
+     * Returns the cached words of <code>_number</code>. If the number is not
+     * cached, the number is converted with the decorated converter and
+     * stored.
+     *
+     * @param _number   number to convert
+     * @return words of the number
+     */
+    private String lookup(final long _number)
+    {
+        final int start = (int) ((_number * CachingConverter.GOLDEN_RATIO) >>> this.shift);
+        for (int i = 0; i < CachingConverter.PROBE_WINDOW; i++)  {
+            final Entry entry = this.slots.get((start + i) & this.mask);
+            if (entry == null)  {
+                break;
+            }
+            if (entry.number == _number)  {
+                if (!entry.referenced)  {
+                    entry.referenced = true;
+                }
+                this.hits.increment();
+                return entry.text;
+            }
+        }
+        this.misses.increment();
+        final Entry entry = new Entry(_number, this.converter.convert(_number));
+        store(start, entry);
+        return entry.text;
+    }
+
+    /**
+     * Stores the <code>_entry</code> in the probe window beginning with the
+     * slot <code>_start</code>. An empty slot is used if one exists;
+     * otherwise an entry of the window is evicted. If another thread changes
+     * the window concurrently, the entry is not stored, because it could be
+     * stored again with the next miss.
+     *
+     * @param _start    index of the hash slot
+     * @param _entry    entry to store
+     */
+    private void store(final int _start,
+                       final Entry _entry)
+    {
+        for (int i = 0; i < CachingConverter.PROBE_WINDOW; i++)  {
+            final int index = (_start + i) & this.mask;
+            final Entry current = this.slots.get(index);
+            if (current == null)  {
+                if (this.slots.compareAndSet(index, null, _entry))  {
+                    return;
+                }
+                // the slot was taken concurrently, maybe with the same number
+                final Entry stored = this.slots.get(index);
+                if (stored != null && stored.number == _entry.number)  {
+                    return;
+                }
+            } else if (current.number == _entry.number)  {
+                // stored concurrently by another thread
+                return;
+            }
+        }
+        // CLOCK: the first not referenced entry is the victim, the passed
+        // entries get a second chance; after one round the first slot is used
+        int victim = _start & this.mask;
+        for (int i = 0; i < CachingConverter.PROBE_WINDOW; i++)  {
+            final int index = (_start + i) & this.mask;
+            final Entry current = this.slots.get(index);
+            if (current != null && current.referenced)  {
+                current.referenced = false;
+            } else  {
+                victim = index;
+                break;
+            }
+        }
+        final Entry evicted = this.slots.get(victim);
+        if (evicted != null && this.slots.compareAndSet(victim, evicted, _entry))  {
+            this.evictions.increment();
+        }
+    }
+
+    /**
+     * Returns the cached words of the number.
+     *
+     * @see IConverter#convert(long)
+     * @param _number   number to convert
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final long _number)
+    {
+        return lookup(_number);
+    }
+
+    /**
+     * Appends the cached words of the number to an appendable.
+     *
+     * @see IConverter#convertTo(long, Appendable)
+     * @param _number   number to convert
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final long _number,
+                                final Appendable _target)
+        throws IOException
+    {
+        return _target.append(lookup(_number));
+    }
+
+    /**
+     * Appends the cached words of the number to a string builder.
+     *
+     * @see IConverter#convertTo(long, StringBuilder)
+     * @param _number   number to convert
+     * @param _target   string builder to append the words
+     * @return given <code>_target</code>
+     */
+    @Override
+    public StringBuilder convertTo(final long _number,
+                                   final StringBuilder _target)
+    {
+        return _target.append(lookup(_number));
+    }
+
+    /**
+     * Writes the encoded words of the number with the decorated converter,
+     * because the decorated converter writes the bytes without any
+     * intermediate string.
+     *
+     * @see IConverter#convertTo(long, ByteBuffer, Charset)
+     * @param _number   number to convert
+     * @param _target   buffer to which the encoded words are written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes or the negative number of needed bytes
+     */
+    @Override
+    public int convertTo(final long _number,
+                         final ByteBuffer _target,
+                         final Charset _charset)
+    {
+        return this.converter.convertTo(_number, _target, _charset);
+    }
+
+    /**
+     * Writes the encoded words of the number with the decorated converter.
+     *
+     * @see IConverter#convertTo(long, OutputStream, Charset)
+     * @param _number   number to convert
+     * @param _target   stream to which the encoded words are written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes
+     * @throws IOException if the bytes could not be written
+     */
+    @Override
+    public int convertTo(final long _number,
+                         final OutputStream _target,
+                         final Charset _charset)
+        throws IOException
+    {
+        return this.converter.convertTo(_number, _target, _charset);
+    }
+
+    /**
+     * Converts the number of arbitrary size with the decorated converter.
+     *
+     * @see IConverter#convert(BigInteger)
+     * @param _number   number to convert
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final BigInteger _number)
+    {
+        return this.converter.convert(_number);
+    }
+
+    /**
+     * Appends the words of the number of arbitrary size with the decorated
+     * converter.
+     *
+     * @see IConverter#convertTo(BigInteger, StringBuilder)
+     * @param _number   number to convert
+     * @param _target   string builder to append the words
+     * @return given <code>_target</code>
+     */
+    @Override
+    public StringBuilder convertTo(final BigInteger _number,
+                                   final StringBuilder _target)
+    {
+        return this.converter.convertTo(_number, _target);
+    }
+
+    /**
+     * Appends the words of the amount with the decorated converter.
+     *
+     * @see IConverter#convertMoneyTo(long, CurrencyDescriptor, Appendable)
+     * @param _minorUnits   amount in minor units
+     * @param _currency     description of the currency
+     * @param _target       target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertMoneyTo(final long _minorUnits,
+                                     final CurrencyDescriptor _currency,
+                                     final Appendable _target)
+        throws IOException
+    {
+        return this.converter.convertMoneyTo(_minorUnits, _currency, _target);
+    }
+
+    /**
+     * Appends the words of the decimal number with the decorated converter.
+     * Decimal numbers are not cached.
+     *
+     * @see IConverter#convertTo(BigDecimal, FractionStyle, Appendable)
+     * @param _number   decimal number to convert
+     * @param _style    style of the fraction digits
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final BigDecimal _number,
+                                final FractionStyle _style,
+                                final Appendable _target)
+        throws IOException
+    {
+        return this.converter.convertTo(_number, _style, _target);
+    }
+
+    /**
+     * Appends the words of the ordinal number with the decorated converter.
+     * Ordinal numbers are not cached.
+     *
+     * @see IConverter#convertOrdinalTo(long, Appendable)
+     * @param _number   number to convert
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertOrdinalTo(final long _number,
+                                       final Appendable _target)
+        throws IOException
+    {
+        return this.converter.convertOrdinalTo(_number, _target);
+    }
+
+    /**
+     * Converts the number with the <code>_options</code>. Only the words of
+     * the {@link ConversionOptions#DEFAULT default options} are cached, all
+     * other options are converted with the decorated converter.
+     *
+     * @see IConverter#convert(long, ConversionOptions)
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final long _number,
+                          final ConversionOptions _options)
+    {
+        return _options.isDefault() ? convert(_number) : this.converter.convert(_number, _options);
+    }
+
+    /**
+     * Appends the words of the number with the <code>_options</code>. Only
+     * the words of the {@link ConversionOptions#DEFAULT default options} are
+     * cached.
+     *
+     * @see IConverter#convertTo(long, ConversionOptions, Appendable)
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final long _number,
+                                final ConversionOptions _options,
+                                final Appendable _target)
+        throws IOException
+    {
+        return _options.isDefault()
+                        ? convertTo(_number, _target)
+                        : this.converter.convertTo(_number, _options, _target);
+    }
+
+    /**
+     * Returns the length of the words with the decorated converter.
+     *
+     * @see IConverter#length(long)
+     * @param _number   number to measure
+     * @return length of the words in characters
+     */
+    @Override
+    public int length(final long _number)
+    {
+        return this.converter.length(_number);
+    }
+
+    /**
+     * Returns the length of the UTF-8 encoded words with the decorated
+     * converter.
+     *
+     * @see IConverter#byteLength(long)
+     * @param _number   number to measure
+     * @return length of the UTF-8 encoded words in bytes
+     */
+    @Override
+    public int byteLength(final long _number)
+    {
+        return this.converter.byteLength(_number);
+    }
+
+    /**
+     * Returns the fingerprint of the decorated converter.
+     *
+     * @return fingerprint of the words of the decorated converter
+     */
+    @Override
+    public long getFingerprint()
+    {
+        return this.converter.getFingerprint();
+    }
+
+    /**
+     * Returns the locale of the decorated converter.
+     *
+     * @return locale of the decorated converter
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return this.converter.getLocale();
+    }
+
+    /**
+     * Returns the decimal flag of the decorated converter.
+     *
+     * @return <i>true</i> if the decorated converter uses the decimal system
+     */
+    @Override
+    public boolean isDecimal()
+    {
+        return this.converter.isDecimal();
+    }
+
+    /**
+     * Returns the short scale flag of the decorated converter.
+     *
+     * @return <i>true</i> if the decorated converter uses the short scale
+     */
+    @Override
+    public boolean usesShortScale()
+    {
+        return this.converter.usesShortScale();
+    }
+
+    /**
+     * Returns the decorated converter.
+     *
+     * @return decorated converter
+     */
+    public IConverter getConverter()
+    {
+        return this.converter;
+    }
+
+    /**
+     * Returns the maximum number of cached numbers.
+     *
+     * @return capacity of the cache
+     */
+    public int getCapacity()
+    {
+        return this.slots.length();
+    }
+
+    /**
+     * Returns the current number of cached numbers. The slots are counted,
+     * so the method should not be called in a hot path.
+     *
+     * @return number of cached numbers
+     */
+    public int size()
+    {
+        int ret = 0;
+        for (int i = 0; i < this.slots.length(); i++)  {
+            if (this.slots.get(i) != null)  {
+                ret++;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the number of conversions for which the words were found in
+     * the cache.
+     *
+     * @return number of hits
+     */
+    public long getHitCount()
+    {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of conversions for which the words were not found
+     * in the cache.
+     *
+     * @return number of misses
+     */
+    public long getMissCount()
+    {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of entries which were evicted from the cache.
+     *
+     * @return number of evictions
+     */
+    public long getEvictionCount()
+    {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Returns the ratio of the hits to all conversions.
+     *
+     * @return hit rate between 0 and 1; 0 if nothing was converted
+     */
+    public double getHitRate()
+    {
+        final long hitCount = this.hits.sum();
+        final long total = hitCount + this.misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Cached words of a number. The number and the words are immutable,
+     * only the reference mark of the CLOCK algorithm is changed.
+     */
+    private static final class Entry
+    {
+        /**
+         * Converted number.
+         */
+        private final long number;
+
+        /**
+         * Words of the number.
+         */
+        private final String text;
+
+        /**
+         * Was the entry used since the last eviction round?
+         */
+        private volatile boolean referenced;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param _number   converted number
+         * @param _text     words of the number
+         */
+        Entry(final long _number,
+              final String _text)
+        {
+            this.number = _number;
+            this.text = _text;
+        }
+    }
+}
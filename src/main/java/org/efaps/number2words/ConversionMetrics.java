@@ -0,0 +1,420 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Metrics of the conversions of one language recorded by the
+ * {@link InstrumentedConverter instrumented converters}. All counters are
+ * {@link LongAdder striped adders}, so that recording threads never contend
+ * on one memory location. The values are summed only if they are read.</p>
+ * <p>The latency histogram has logarithmic buckets: bucket <code>i</code>
+ * counts the conversions with a latency below <code>2^i</code> nanoseconds
+ * (and not counted in a lower bucket). The length histogram has linear
+ * buckets of {@link #LENGTH_BUCKET_WIDTH} characters. The last bucket of
+ * each histogram counts all greater values.</p>
+ *
+ * @author The eFaps Team
+ */
+public final class ConversionMetrics
+    implements ConversionMetricsMXBean
+{
+    /**
+     * Number of buckets of the latency histogram.
+     */
+    public static final int LATENCY_BUCKETS = 40;
+
+    /**
+     * Number of buckets of the length histogram.
+     */
+    public static final int LENGTH_BUCKETS = 33;
+
+    /**
+     * Width of a bucket of the length histogram in characters.
+     */
+    public static final int LENGTH_BUCKET_WIDTH = 8;
+
+    /**
+     * Language of the instrumented converters.
+     */
+    private final String language;
+
+    /**
+     * Number of conversions.
+     */
+    private final LongAdder calls = new LongAdder();
+
+    /**
+     * Number of failed conversions.
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Sum of the latencies in nanoseconds.
+     */
+    private final LongAdder latencySum = new LongAdder();
+
+    /**
+     * Sum of the lengths of the converted numbers.
+     */
+    private final LongAdder lengthSum = new LongAdder();
+
+    /**
+     * Number of recorded lengths.
+     */
+    private final LongAdder lengthCount = new LongAdder();
+
+    /**
+     * Buckets of the latency histogram.
+     */
+    private final LongAdder[] latencies = ConversionMetrics.newBuckets(ConversionMetrics.LATENCY_BUCKETS);
+
+    /**
+     * Buckets of the length histogram.
+     */
+    private final LongAdder[] lengths = ConversionMetrics.newBuckets(ConversionMetrics.LENGTH_BUCKETS);
+
+    /**
+     * Caches of the instrumented converters of the language.
+     */
+    private final List<CachingConverter> caches = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates the metrics of a language.
+     *
+     * @param _language language of the instrumented converters
+     */
+    public ConversionMetrics(final String _language)
+    {
+        this.language = _language;
+    }
+
+    /**
+     * Records one conversion.
+     *
+     * @param _nanos    latency of the conversion in nanoseconds
+     * @param _length   length of the converted number or a negative value if
+     *                  the length is not known
+     */
+    void record(final long _nanos,
+                final int _length)
+    {
+        this.calls.increment();
+        this.latencySum.add(_nanos);
+        this.latencies[ConversionMetrics.latencyBucket(_nanos)].increment();
+        if (_length >= 0)  {
+            this.lengthSum.add(_length);
+            this.lengthCount.increment();
+            this.lengths[Math.min(_length / ConversionMetrics.LENGTH_BUCKET_WIDTH,
+                            ConversionMetrics.LENGTH_BUCKETS - 1)].increment();
+        }
+    }
+
+    /**
+     * Records one failed conversion.
+     *
+     * @param _nanos    latency until the conversion failed in nanoseconds
+     */
+    void recordError(final long _nanos)
+    {
+        this.errors.increment();
+        record(_nanos, -1);
+    }
+
+    /**
+     * Adds the cache of an instrumented converter, so that its hits and
+     * misses are included in the metrics.
+     *
+     * @param _cache    cache to add
+     */
+    void addCache(final CachingConverter _cache)
+    {
+        if (!this.caches.contains(_cache))  {
+            this.caches.add(_cache);
+        }
+    }
+
+    /**
+     * Returns the language of the instrumented converters.
+     *
+     * @return language code
+     */
+    @Override
+    public String getLanguage()
+    {
+        return this.language;
+    }
+
+    /**
+     * Returns the number of conversions.
+     *
+     * @return number of calls
+     */
+    @Override
+    public long getCallCount()
+    {
+        return this.calls.sum();
+    }
+
+    /**
+     * Returns the number of conversions which failed with an exception.
+     *
+     * @return number of errors
+     */
+    @Override
+    public long getErrorCount()
+    {
+        return this.errors.sum();
+    }
+
+    /**
+     * Returns the mean latency of the conversions.
+     *
+     * @return mean latency in nanoseconds; 0 if nothing was converted
+     */
+    @Override
+    public double getMeanLatencyNanos()
+    {
+        final long count = this.calls.sum();
+        return count == 0 ? 0 : (double) this.latencySum.sum() / count;
+    }
+
+    /**
+     * Returns the median of the latency.
+     *
+     * @return upper bound of the histogram bucket of the median in
+     *         nanoseconds
+     */
+    @Override
+    public long getMedianLatencyNanos()
+    {
+        return getLatencyPercentileNanos(0.5);
+    }
+
+    /**
+     * Returns the 99th percentile of the latency.
+     *
+     * @return upper bound of the histogram bucket of the 99th percentile in
+     *         nanoseconds
+     */
+    @Override
+    public long get99thPercentileLatencyNanos()
+    {
+        return getLatencyPercentileNanos(0.99);
+    }
+
+    /**
+     * Returns a percentile of the latency estimated from the histogram.
+     *
+     * @param _percentile   percentile between 0 and 1
+     * @return upper bound of the histogram bucket of the percentile in
+     *         nanoseconds; 0 if nothing was converted
+     */
+    public long getLatencyPercentileNanos(final double _percentile)
+    {
+        final long[] histogram = getLatencyHistogram();
+        long total = 0;
+        for (final long count : histogram)  {
+            total += count;
+        }
+        long ret = 0;
+        if (total > 0)  {
+            final long rank = Math.max(1, (long) Math.ceil(_percentile * total));
+            long sum = 0;
+            for (int i = 0; i < histogram.length; i++)  {
+                sum += histogram[i];
+                if (sum >= rank)  {
+                    ret = ConversionMetrics.getLatencyBucketBound(i);
+                    break;
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the histogram of the latency.
+     *
+     * @return number of conversions for each bucket
+     * @see #getLatencyBucketBound(int)
+     */
+    @Override
+    public long[] getLatencyHistogram()
+    {
+        return ConversionMetrics.sum(this.latencies);
+    }
+
+    /**
+     * Returns the mean length of the converted numbers.
+     *
+     * @return mean length; 0 if nothing was converted
+     */
+    @Override
+    public double getMeanLength()
+    {
+        final long count = this.lengthCount.sum();
+        return count == 0 ? 0 : (double) this.lengthSum.sum() / count;
+    }
+
+    /**
+     * Returns the histogram of the lengths of the converted numbers.
+     *
+     * @return number of conversions for each bucket
+     * @see #getLengthBucketBound(int)
+     */
+    @Override
+    public long[] getLengthHistogram()
+    {
+        return ConversionMetrics.sum(this.lengths);
+    }
+
+    /**
+     * Returns the number of conversions found in the caches.
+     *
+     * @return number of cache hits
+     */
+    @Override
+    public long getCacheHitCount()
+    {
+        long ret = 0;
+        for (final CachingConverter cache : this.caches)  {
+            ret += cache.getHitCount();
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the number of conversions not found in the caches.
+     *
+     * @return number of cache misses
+     */
+    @Override
+    public long getCacheMissCount()
+    {
+        long ret = 0;
+        for (final CachingConverter cache : this.caches)  {
+            ret += cache.getMissCount();
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the ratio of the cache hits to all cache lookups.
+     *
+     * @return hit ratio between 0 and 1; 0 if no cache is enabled or nothing
+     *         was converted
+     */
+    @Override
+    public double getCacheHitRatio()
+    {
+        final long hitCount = getCacheHitCount();
+        final long total = hitCount + getCacheMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Resets all counters and histograms. The counters of the caches are
+     * not reset. Conversions recorded concurrently could be partly lost.
+     */
+    @Override
+    public void reset()
+    {
+        this.calls.reset();
+        this.errors.reset();
+        this.latencySum.reset();
+        this.lengthSum.reset();
+        this.lengthCount.reset();
+        for (final LongAdder bucket : this.latencies)  {
+            bucket.reset();
+        }
+        for (final LongAdder bucket : this.lengths)  {
+            bucket.reset();
+        }
+    }
+
+    /**
+     * Returns the upper bound of a bucket of the latency histogram.
+     *
+     * @param _bucket   index of the bucket
+     * @return greatest latency in nanoseconds counted in the bucket
+     */
+    public static long getLatencyBucketBound(final int _bucket)
+    {
+        return _bucket >= ConversionMetrics.LATENCY_BUCKETS - 1 ? Long.MAX_VALUE : (1L << _bucket) - 1;
+    }
+
+    /**
+     * Returns the upper bound of a bucket of the length histogram.
+     *
+     * @param _bucket   index of the bucket
+     * @return greatest length counted in the bucket
+     */
+    public static int getLengthBucketBound(final int _bucket)
+    {
+        return _bucket >= ConversionMetrics.LENGTH_BUCKETS - 1
+                        ? Integer.MAX_VALUE
+                        : (_bucket + 1) * ConversionMetrics.LENGTH_BUCKET_WIDTH - 1;
+    }
+
+    /**
+     * Returns the bucket of the latency histogram for a latency.
+     *
+     * @param _nanos    latency in nanoseconds
+     * @return index of the bucket
+     */
+    private static int latencyBucket(final long _nanos)
+    {
+        return _nanos <= 0
+                        ? 0
+                        : Math.min(Long.SIZE - Long.numberOfLeadingZeros(_nanos),
+                                        ConversionMetrics.LATENCY_BUCKETS - 1);
+    }
+
+    /**
+     * Creates the buckets of a histogram.
+     *
+     * @param _count    number of buckets
+     * @return new buckets
+     */
+    private static LongAdder[] newBuckets(final int _count)
+    {
+        final LongAdder[] ret = new LongAdder[_count];
+        for (int i = 0; i < _count; i++)  {
+            ret[i] = new LongAdder();
+        }
+        return ret;
+    }
+
+    /**
+     * Sums the buckets of a histogram.
+     *
+     * @param _buckets  buckets to sum
+     * @return sums of the buckets
+     */
+    private static long[] sum(final LongAdder[] _buckets)
+    {
+        final long[] ret = new long[_buckets.length];
+        for (int i = 0; i < _buckets.length; i++)  {
+            ret[i] = _buckets[i].sum();
+        }
+        return ret;
+    }
+}
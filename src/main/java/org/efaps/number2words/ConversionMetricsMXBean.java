@@ -0,0 +1,125 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words;
+
+/**
+ * Management interface of the {@link ConversionMetrics metrics} of one
+ * language. The metrics are registered in the platform MBean server with the
+ * object name <code>org.efaps.number2words:type=ConversionMetrics,language=&lt;language&gt;</code>
+ * while the {@link Instrumentation instrumentation} is enabled.
+ *
+ * @author The eFaps Team
+ */
+public interface ConversionMetricsMXBean
+{
+    /**
+     * Returns the language of the instrumented converters.
+     *
+     * @return language code
+     */
+    String getLanguage();
+
+    /**
+     * Returns the number of conversions.
+     *
+     * @return number of calls
+     */
+    long getCallCount();
+
+    /**
+     * Returns the number of conversions which failed with an exception.
+     *
+     * @return number of errors
+     */
+    long getErrorCount();
+
+    /**
+     * Returns the mean latency of the conversions.
+     *
+     * @return mean latency in nanoseconds; 0 if nothing was converted
+     */
+    double getMeanLatencyNanos();
+
+    /**
+     * Returns the median of the latency.
+     *
+     * @return upper bound of the histogram bucket of the median in
+     *         nanoseconds
+     */
+    long getMedianLatencyNanos();
+
+    /**
+     * Returns the 99th percentile of the latency.
+     *
+     * @return upper bound of the histogram bucket of the 99th percentile in
+     *         nanoseconds
+     */
+    long get99thPercentileLatencyNanos();
+
+    /**
+     * Returns the histogram of the latency.
+     *
+     * @return number of conversions for each bucket
+     * @see ConversionMetrics#getLatencyBucketBound(int)
+     */
+    long[] getLatencyHistogram();
+
+    /**
+     * Returns the mean length of the converted numbers.
+     *
+     * @return mean length; 0 if nothing was converted
+     */
+    double getMeanLength();
+
+    /**
+     * Returns the histogram of the lengths of the converted numbers.
+     *
+     * @return number of conversions for each bucket
+     * @see ConversionMetrics#getLengthBucketBound(int)
+     */
+    long[] getLengthHistogram();
+
+    /**
+     * Returns the number of conversions found in the caches.
+     *
+     * @return number of cache hits
+     */
+    long getCacheHitCount();
+
+    /**
+     * Returns the number of conversions not found in the caches.
+     *
+     * @return number of cache misses
+     */
+    long getCacheMissCount();
+
+    /**
+     * Returns the ratio of the cache hits to all cache lookups.
+     *
+     * @return hit ratio between 0 and 1; 0 if no cache is enabled or nothing
+     *         was converted
+     */
+    double getCacheHitRatio();
+
+    /**
+     * Resets all counters and histograms. The counters of the caches are
+     * not reset.
+     */
+    void reset();
+}
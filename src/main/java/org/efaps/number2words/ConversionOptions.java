@@ -0,0 +1,341 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.util.Objects;
+
+/**
+ * <p>Immutable options how the words of a number are written. The options
+ * are taken into account while the words are written, so that no second
+ * pass over the text is needed to change the case, the separators, the
+ * conjunctions, the compound spelling or the sign. The options are:
+ * <ul>
+ * <li>the {@link #withLetterCase(LetterCase) letter case},</li>
+ * <li>the {@link #withSeparator(String) separator} written instead of the
+ *     blanks between the words,</li>
+ * <li>the {@link #withHyphen(String) hyphen} written instead of the hyphens
+ *     of compound words (e.g. &quot;twenty-three&quot;),</li>
+ * <li>the {@link #withConjunction(String) conjunction} written after the
+ *     hundreds and in front of a last group below one hundred (e.g. the
+ *     British &quot;one hundred and five&quot;),</li>
+ * <li>the {@link #withCompound(boolean) compound mode} in which the numbers
+ *     below one million are written as one word (e.g. the German
+ *     &quot;dreihundertf&uuml;nfundzwanzigtausend&quot;),</li>
+ * <li>the {@link #withSignStyle(SignStyle) sign style} of negative
+ *     numbers.</li>
+ * </ul>
+ * </p>
+ * <p>The decimal converters compile the precomputed words once for each
+ * distinct options and cache them, so that options should be created once
+ * and shared (e.g. in a constant). A conversion with options is then as
+ * fast as a conversion with the {@link #DEFAULT default options}.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * final ConversionOptions cheque = ConversionOptions.DEFAULT
+ *         .withLetterCase(LetterCase.UPPER)
+ *         .withConjunction("and");
+ * final String text = converter.convert(105L, cheque);
+ * </pre>
+ * </p>
+ *
+ * @author The eFaps Team
+ * @see IConverter#convert(long, ConversionOptions)
+ */
+public final class ConversionOptions
+{
+    /**
+     * Options which write the words as defined by the language.
+     */
+    public static final ConversionOptions DEFAULT = new ConversionOptions(LetterCase.DEFAULT, " ", "-", null, false,
+                    SignStyle.WORD);
+
+    /**
+     * Letter case of the words.
+     */
+    private final LetterCase letterCase;
+
+    /**
+     * Separator between the words.
+     */
+    private final String separator;
+
+    /**
+     * Hyphen of compound words.
+     */
+    private final String hyphen;
+
+    /**
+     * Conjunction after the hundreds or <code>null</code> if no conjunction
+     * is written.
+     */
+    private final String conjunction;
+
+    /**
+     * Are the numbers below one million written as one word?
+     */
+    private final boolean compound;
+
+    /**
+     * Style of the sign of negative numbers.
+     */
+    private final SignStyle signStyle;
+
+    /**
+     * Hash code of the options.
+     */
+    private final int hash;
+
+    /**
+     * Private constructor used to copy the options with a changed option.
+     *
+     * @param _letterCase   letter case of the words
+     * @param _separator    separator between the words
+     * @param _hyphen       hyphen of compound words
+     * @param _conjunction  conjunction after the hundreds or
+     *                      <code>null</code>
+     * @param _compound     are the numbers below one million written as one
+     *                      word?
+     * @param _signStyle    style of the sign
+     */
+    private ConversionOptions(final LetterCase _letterCase,
+                              final String _separator,
+                              final String _hyphen,
+                              final String _conjunction,
+                              final boolean _compound,
+                              final SignStyle _signStyle)
+    {
+        this.letterCase = Objects.requireNonNull(_letterCase, "letter case");
+        this.separator = Objects.requireNonNull(_separator, "separator");
+        this.hyphen = Objects.requireNonNull(_hyphen, "hyphen");
+        this.conjunction = _conjunction == null || _conjunction.isEmpty() ? null : _conjunction;
+        this.compound = _compound;
+        this.signStyle = Objects.requireNonNull(_signStyle, "sign style");
+        this.hash = Objects.hash(this.letterCase, this.separator, this.hyphen, this.conjunction, this.compound,
+                        this.signStyle);
+    }
+
+    /**
+     * Returns a copy of these options with the <code>_letterCase</code>.
+     *
+     * @param _letterCase   letter case of the words
+     * @return new options
+     */
+    public ConversionOptions withLetterCase(final LetterCase _letterCase)
+    {
+        return new ConversionOptions(_letterCase, this.separator, this.hyphen, this.conjunction, this.compound,
+                        this.signStyle);
+    }
+
+    /**
+     * Returns a copy of these options with the <code>_separator</code>
+     * written instead of the blanks between the words (e.g. a hyphen for
+     * &quot;one-hundred-five&quot;).
+     *
+     * @param _separator    separator between the words
+     * @return new options
+     */
+    public ConversionOptions withSeparator(final String _separator)
+    {
+        return new ConversionOptions(this.letterCase, _separator, this.hyphen, this.conjunction, this.compound,
+                        this.signStyle);
+    }
+
+    /**
+     * Returns a copy of these options with the <code>_hyphen</code> written
+     * instead of the hyphens of compound words (e.g. a blank for
+     * &quot;twenty three&quot;).
+     *
+     * @param _hyphen   hyphen of compound words
+     * @return new options
+     */
+    public ConversionOptions withHyphen(final String _hyphen)
+    {
+        return new ConversionOptions(this.letterCase, this.separator, _hyphen, this.conjunction, this.compound,
+                        this.signStyle);
+    }
+
+    /**
+     * Returns a copy of these options with the <code>_conjunction</code>
+     * written after the hundreds of each group and in front of a last group
+     * below one hundred which follows higher groups (e.g. &quot;and&quot;
+     * for the British &quot;one thousand one hundred and five&quot; and
+     * &quot;one thousand and five&quot;). If the language already writes a
+     * conjunction after the hundreds (e.g. the Danish &quot;og&quot;), it is
+     * replaced.
+     *
+     * @param _conjunction  conjunction; <code>null</code> or an empty string
+     *                      if no conjunction is written
+     * @return new options
+     */
+    public ConversionOptions withConjunction(final String _conjunction)
+    {
+        return new ConversionOptions(this.letterCase, this.separator, this.hyphen, _conjunction, this.compound,
+                        this.signStyle);
+    }
+
+    /**
+     * Returns a copy of these options with the compound mode. In compound
+     * mode the words of the numbers below one million are written without
+     * separators as one word, as the German numbers are written (e.g.
+     * &quot;zwei Millionen dreihunderttausendeins&quot;).
+     *
+     * @param _compound are the numbers below one million written as one
+     *                  word?
+     * @return new options
+     */
+    public ConversionOptions withCompound(final boolean _compound)
+    {
+        return new ConversionOptions(this.letterCase, this.separator, this.hyphen, this.conjunction, _compound,
+                        this.signStyle);
+    }
+
+    /**
+     * Returns a copy of these options with the <code>_signStyle</code> of
+     * negative numbers.
+     *
+     * @param _signStyle    style of the sign
+     * @return new options
+     */
+    public ConversionOptions withSignStyle(final SignStyle _signStyle)
+    {
+        return new ConversionOptions(this.letterCase, this.separator, this.hyphen, this.conjunction, this.compound,
+                        _signStyle);
+    }
+
+    /**
+     * Returns the letter case of the words.
+     *
+     * @return letter case
+     */
+    public LetterCase getLetterCase()
+    {
+        return this.letterCase;
+    }
+
+    /**
+     * Returns the separator between the words.
+     *
+     * @return separator
+     */
+    public String getSeparator()
+    {
+        return this.separator;
+    }
+
+    /**
+     * Returns the hyphen of compound words.
+     *
+     * @return hyphen
+     */
+    public String getHyphen()
+    {
+        return this.hyphen;
+    }
+
+    /**
+     * Returns the conjunction after the hundreds.
+     *
+     * @return conjunction or <code>null</code> if no conjunction is written
+     */
+    public String getConjunction()
+    {
+        return this.conjunction;
+    }
+
+    /**
+     * Returns whether the numbers below one million are written as one word.
+     *
+     * @return <i>true</i> for the compound mode
+     */
+    public boolean isCompound()
+    {
+        return this.compound;
+    }
+
+    /**
+     * Returns the style of the sign of negative numbers.
+     *
+     * @return sign style
+     */
+    public SignStyle getSignStyle()
+    {
+        return this.signStyle;
+    }
+
+    /**
+     * Returns whether these options are the {@link #DEFAULT default
+     * options}, so that the words are written as defined by the language.
+     *
+     * @return <i>true</i> if the options are equal to the default options
+     */
+    public boolean isDefault()
+    {
+        return this == ConversionOptions.DEFAULT || equals(ConversionOptions.DEFAULT);
+    }
+
+    /**
+     * Compares the options with another object.
+     *
+     * @param _object   object to compare
+     * @return <i>true</i> if the object are options with the same values
+     */
+    @Override
+    public boolean equals(final Object _object)
+    {
+        boolean ret = this == _object;
+        if (!ret && _object instanceof ConversionOptions)  {
+            final ConversionOptions other = (ConversionOptions) _object;
+            ret = this.hash == other.hash
+                            && this.letterCase == other.letterCase
+                            && this.separator.equals(other.separator)
+                            && this.hyphen.equals(other.hyphen)
+                            && Objects.equals(this.conjunction, other.conjunction)
+                            && this.compound == other.compound
+                            && this.signStyle == other.signStyle;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the precomputed hash code of the options.
+     *
+     * @return hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return this.hash;
+    }
+
+    /**
+     * Returns the description of the options.
+     *
+     * @return description of the options
+     */
+    @Override
+    public String toString()
+    {
+        return "ConversionOptions[letterCase=" + this.letterCase
+                        + ", separator='" + this.separator + "'"
+                        + ", hyphen='" + this.hyphen + "'"
+                        + ", conjunction=" + (this.conjunction == null ? "none" : "'" + this.conjunction + "'")
+                        + ", compound=" + this.compound
+                        + ", signStyle=" + this.signStyle + "]";
+    }
+}
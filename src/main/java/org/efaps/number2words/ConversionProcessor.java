@@ -0,0 +1,548 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>Asynchronous conversion of a stream of {@link ConversionRequest
+ * requests} into {@link ConversionResult results}. The processor is
+ * subscribed to a publisher of requests and publishes the results in the same
+ * order to exactly one subscriber.</p>
+ * <p>The processor honours the demand of both sides: from the upstream at
+ * most {@link #getBatchSize() batch size} requests are outstanding (and so
+ * buffered), new requests are only demanded after a part of them was
+ * converted; to the downstream never more results than requested are
+ * published. The requests are converted in batches on the
+ * {@link Executor executor}, so that the thread which publishes the
+ * requests (e.g. an event loop) is never blocked by the conversion.</p>
+ * <p>The conversion is serialized with an atomic work counter instead of
+ * locks and reuses one buffer of the processor, so that the processor
+ * neither pins carrier threads of virtual threads (no
+ * <code>synchronized</code>) nor needs buffers per thread. A processor which
+ * runs on virtual threads is created with
+ * {@link #withVirtualThreads(int)}.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * final ConversionProcessor processor = new ConversionProcessor();
+ * publisher.subscribe(processor);
+ * processor.subscribe(subscriber);
+ * </pre>
+ * </p>
+ *
+ * @author The eFaps Team
+ */
+public final class ConversionProcessor
+    implements Flow.Processor<ConversionRequest, ConversionResult>
+{
+    /**
+     * Default number of requests which are demanded from the upstream and
+     * converted at once.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * Initial capacity of the reused buffer.
+     */
+    private static final int BUFFER_CAPACITY = 256;
+
+    /**
+     * Executor on which the requests are converted.
+     */
+    private final Executor executor;
+
+    /**
+     * Number of requests which are demanded from the upstream and converted
+     * at once.
+     */
+    private final int batchSize;
+
+    /**
+     * Number of converted requests after which new requests are demanded
+     * from the upstream.
+     */
+    private final int replenish;
+
+    /**
+     * Received requests which are not converted yet. The queue holds at
+     * most {@link #batchSize} requests.
+     */
+    private final Queue<ConversionRequest> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of results requested by the downstream and not yet published.
+     */
+    private final AtomicLong requested = new AtomicLong();
+
+    /**
+     * Counter of the pending drains; only the caller which increments the
+     * counter from zero schedules the {@link #drainLoop()}, so that the
+     * conversion is never running in parallel.
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+
+    /**
+     * Subscription of the upstream publisher of the requests.
+     */
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+
+    /**
+     * Subscriber of the results.
+     */
+    private final AtomicReference<Flow.Subscriber<? super ConversionResult>> downstream = new AtomicReference<>();
+
+    /**
+     * Is the upstream completed (normally or with an error)?
+     */
+    private volatile boolean done;
+
+    /**
+     * Error of the upstream; published after all received requests are
+     * converted.
+     */
+    private volatile Throwable error;
+
+    /**
+     * Failure which is published to the downstream immediately (e.g. an
+     * invalid demand).
+     */
+    private volatile Throwable failure;
+
+    /**
+     * Has the downstream cancelled the subscription?
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Buffer reused for all conversions; only used by the serialized
+     * {@link #drainLoop()}.
+     */
+    private final StringBuilder buffer = new StringBuilder(ConversionProcessor.BUFFER_CAPACITY);
+
+    /**
+     * Requests of the current batch; only used by the serialized
+     * {@link #drainLoop()}.
+     */
+    private final ConversionRequest[] batch;
+
+    /**
+     * Results of the current batch; only used by the serialized
+     * {@link #drainLoop()}.
+     */
+    private final ConversionResult[] results;
+
+    /**
+     * Number of converted requests since new requests were demanded from the
+     * upstream; only used by the serialized {@link #drainLoop()}.
+     */
+    private int consumed;
+
+    /**
+     * Is the terminal signal published to the downstream? Only used by the
+     * serialized {@link #drainLoop()}.
+     */
+    private boolean terminated;
+
+    /**
+     * Converter of the last request; only used by the serialized
+     * {@link #drainLoop()}.
+     */
+    private IConverter converter;
+
+    /**
+     * Locale of {@link #converter}.
+     */
+    private Locale converterLocale;
+
+    /**
+     * Gender of {@link #converter}.
+     */
+    private Gender converterGender;
+
+    /**
+     * Creates a processor which converts on the common fork join pool with
+     * the {@link #DEFAULT_BATCH_SIZE default batch size}.
+     */
+    public ConversionProcessor()
+    {
+        this(ForkJoinPool.commonPool(), ConversionProcessor.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a processor.
+     *
+     * @param _executor     executor on which the requests are converted
+     * @param _batchSize    number of requests which are demanded from the
+     *                      upstream and converted at once (must be greater
+     *                      than zero)
+     */
+    public ConversionProcessor(final Executor _executor,
+                               final int _batchSize)
+    {
+        if (_batchSize < 1)  {
+            throw new IllegalArgumentException("batch size must be greater than zero, but is " + _batchSize);
+        }
+        this.executor = Objects.requireNonNull(_executor, "executor");
+        this.batchSize = _batchSize;
+        this.replenish = Math.max(1, _batchSize - (_batchSize >> 2));
+        this.batch = new ConversionRequest[_batchSize];
+        this.results = new ConversionResult[_batchSize];
+    }
+
+    /**
+     * Creates a processor which converts each batch on a new virtual thread.
+     * The virtual threads are available with Java 21; the processor itself is
+     * compiled for older runtimes, so that the executor is created
+     * reflectively.
+     *
+     * @param _batchSize    number of requests which are demanded from the
+     *                      upstream and converted at once
+     * @return new processor
+     * @throws UnsupportedOperationException if the runtime has no virtual
+     *                                       threads
+     * @see #isVirtualThreadsSupported()
+     */
+    public static ConversionProcessor withVirtualThreads(final int _batchSize)
+    {
+        if (VirtualThreads.EXECUTOR == null)  {
+            throw new UnsupportedOperationException("virtual threads are not supported by the runtime");
+        }
+        return new ConversionProcessor(VirtualThreads.EXECUTOR, _batchSize);
+    }
+
+    /**
+     * Returns whether the runtime supports virtual threads.
+     *
+     * @return <i>true</i> if {@link #withVirtualThreads(int)} could be used
+     */
+    public static boolean isVirtualThreadsSupported()
+    {
+        return VirtualThreads.EXECUTOR != null;
+    }
+
+    /**
+     * Returns the number of requests which are demanded from the upstream
+     * and converted at once.
+     *
+     * @return batch size
+     */
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    /**
+     * Subscribes the processor to the upstream. The first batch of requests
+     * is demanded immediately; a second subscription is cancelled.
+     *
+     * @param _subscription subscription of the upstream
+     */
+    @Override
+    public void onSubscribe(final Flow.Subscription _subscription)
+    {
+        Objects.requireNonNull(_subscription, "subscription");
+        if (!this.upstream.compareAndSet(null, _subscription))  {
+            _subscription.cancel();
+        } else if (this.cancelled)  {
+            _subscription.cancel();
+        } else  {
+            _subscription.request(this.batchSize);
+        }
+    }
+
+    /**
+     * Receives a request of the upstream and schedules the conversion.
+     *
+     * @param _request  request to convert
+     */
+    @Override
+    public void onNext(final ConversionRequest _request)
+    {
+        this.queue.offer(Objects.requireNonNull(_request, "request"));
+        drain();
+    }
+
+    /**
+     * Receives the error of the upstream. The error is published to the
+     * downstream after all received requests are converted.
+     *
+     * @param _error    error of the upstream
+     */
+    @Override
+    public void onError(final Throwable _error)
+    {
+        this.error = Objects.requireNonNull(_error, "error");
+        this.done = true;
+        drain();
+    }
+
+    /**
+     * Receives the completion of the upstream. The completion is published
+     * to the downstream after all received requests are converted.
+     */
+    @Override
+    public void onComplete()
+    {
+        this.done = true;
+        drain();
+    }
+
+    /**
+     * Subscribes the subscriber of the results. Only one subscriber is
+     * supported; further subscribers get an {@link IllegalStateException}.
+     *
+     * @param _subscriber   subscriber of the results
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ConversionResult> _subscriber)
+    {
+        Objects.requireNonNull(_subscriber, "subscriber");
+        if (this.downstream.compareAndSet(null, _subscriber))  {
+            _subscriber.onSubscribe(new ResultSubscription());
+            drain();
+        } else  {
+            _subscriber.onSubscribe(new Flow.Subscription()
+            {
+                @Override
+                public void request(final long _count)
+                {
+                }
+
+                @Override
+                public void cancel()
+                {
+                }
+            });
+            _subscriber.onError(new IllegalStateException("the processor supports only one subscriber"));
+        }
+    }
+
+    /**
+     * Schedules the {@link #drainLoop()} on the executor if it is not
+     * already scheduled or running. If the executor rejects the drain, the
+     * processor fails and the drain runs on the calling thread to publish
+     * the failure.
+     */
+    private void drain()
+    {
+        if (this.wip.getAndIncrement() == 0)  {
+            try  {
+                this.executor.execute(this::drainLoop);
+            } catch (final RejectedExecutionException e)  {
+                this.failure = e;
+                cancelUpstream();
+                drainLoop();
+            }
+        }
+    }
+
+    /**
+     * Converts the received requests and publishes the results as long as
+     * drains are pending. The loop is never running in parallel.
+     */
+    private void drainLoop()
+    {
+        int missed = 1;
+        do  {
+            final Flow.Subscriber<? super ConversionResult> subscriber = this.downstream.get();
+            if (this.cancelled || this.terminated)  {
+                this.queue.clear();
+            } else if (subscriber != null)  {
+                emit(subscriber);
+            }
+            missed = this.wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Converts the received requests in batches and publishes the results
+     * as long as the downstream has demand. After the upstream completed and
+     * all requests are published, the terminal signal is published.
+     *
+     * @param _subscriber   subscriber of the results
+     */
+    private void emit(final Flow.Subscriber<? super ConversionResult> _subscriber)
+    {
+        final long demand = this.requested.get();
+        long emitted = 0;
+        while (emitted < demand && !this.cancelled && this.failure == null)  {
+            final int limit = (int) Math.min(this.batchSize, demand - emitted);
+            int count = 0;
+            ConversionRequest request;
+            while (count < limit && (request = this.queue.poll()) != null)  {
+                this.batch[count++] = request;
+            }
+            if (count == 0)  {
+                break;
+            }
+            try  {
+                for (int i = 0; i < count; i++)  {
+                    this.results[i] = convert(this.batch[i]);
+                    this.batch[i] = null;
+                }
+            } catch (final RuntimeException e)  {
+                this.failure = e;
+                cancelUpstream();
+                break;
+            }
+            for (int i = 0; i < count && !this.cancelled; i++)  {
+                final ConversionResult result = this.results[i];
+                this.results[i] = null;
+                _subscriber.onNext(result);
+            }
+            emitted += count;
+            this.consumed += count;
+            if (this.consumed >= this.replenish)  {
+                this.upstream.get().request(this.consumed);
+                this.consumed = 0;
+            }
+        }
+        if (emitted > 0 && demand != Long.MAX_VALUE)  {
+            this.requested.addAndGet(-emitted);
+        }
+        final Throwable fail = this.failure;
+        if (fail != null && !this.cancelled)  {
+            this.terminated = true;
+            this.queue.clear();
+            _subscriber.onError(fail);
+        } else if (this.done && this.queue.isEmpty() && !this.cancelled)  {
+            this.terminated = true;
+            final Throwable upstreamError = this.error;
+            if (upstreamError == null)  {
+                _subscriber.onComplete();
+            } else  {
+                _subscriber.onError(upstreamError);
+            }
+        }
+    }
+
+    /**
+     * Converts one request with the reused buffer. The converter of the last
+     * request is reused if the locale and the gender are the same.
+     *
+     * @param _request  request to convert
+     * @return result of the request
+     * @throws IllegalArgumentException if the language of the request is not
+     *                                  supported
+     */
+    private ConversionResult convert(final ConversionRequest _request)
+    {
+        if (!_request.getLocale().equals(this.converterLocale) || _request.getGender() != this.converterGender)  {
+            this.converter = Converter.getConverter(_request.getLocale(), _request.getGender());
+            if (this.converter == null)  {
+                throw new IllegalArgumentException("language of locale '" + _request.getLocale()
+                                + "' is not supported");
+            }
+            this.converterLocale = _request.getLocale();
+            this.converterGender = _request.getGender();
+        }
+        this.buffer.setLength(0);
+        return new ConversionResult(_request, this.converter.convertTo(_request.getNumber(), this.buffer).toString());
+    }
+
+    /**
+     * Cancels the subscription of the upstream if already subscribed.
+     */
+    private void cancelUpstream()
+    {
+        final Flow.Subscription subscription = this.upstream.get();
+        if (subscription != null)  {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Subscription of the downstream subscriber.
+     */
+    private final class ResultSubscription
+        implements Flow.Subscription
+    {
+        /**
+         * Adds the <code>_count</code> to the demand of the downstream. An
+         * invalid demand fails the processor.
+         *
+         * @param _count    number of additionally requested results
+         */
+        @Override
+        public void request(final long _count)
+        {
+            if (_count <= 0)  {
+                ConversionProcessor.this.failure = new IllegalArgumentException(
+                                "requested results must be greater than zero, but is " + _count);
+                cancelUpstream();
+            } else  {
+                ConversionProcessor.this.requested.getAndAccumulate(_count,
+                    (_current, _add) -> _current + _add < 0 ? Long.MAX_VALUE : _current + _add);
+            }
+            drain();
+        }
+
+        /**
+         * Cancels the conversion and the upstream.
+         */
+        @Override
+        public void cancel()
+        {
+            ConversionProcessor.this.cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+
+    /**
+     * Holder of the executor of virtual threads, so that the executor is
+     * only created if it is used.
+     */
+    private static final class VirtualThreads
+    {
+        /**
+         * Executor which starts a new virtual thread for each task or
+         * <code>null</code> if the runtime has no virtual threads.
+         */
+        private static final Executor EXECUTOR;
+
+        static  {
+            Executor executor;
+            try  {
+                executor = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (final ReflectiveOperationException e)  {
+                executor = null;
+            }
+            EXECUTOR = executor;
+        }
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private VirtualThreads()
+        {
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.util.Locale;
+
+/**
+ * Immutable request to convert one number into words of a language. The
+ * requests are the items consumed by a {@link ConversionProcessor}.
+ *
+ * @author The eFaps Team
+ * @see ConversionProcessor
+ */
+public final class ConversionRequest
+{
+    /**
+     * Number to convert.
+     */
+    private final long number;
+
+    /**
+     * Locale which defines the language of the words.
+     */
+    private final Locale locale;
+
+    /**
+     * Gender of the counted noun.
+     */
+    private final Gender gender;
+
+    /**
+     * Creates a request for male numbers.
+     *
+     * @param _number   number to convert
+     * @param _locale   locale which defines the language of the words
+     */
+    public ConversionRequest(final long _number,
+                             final Locale _locale)
+    {
+        this(_number, _locale, Gender.MALE);
+    }
+
+    /**
+     * Creates a request.
+     *
+     * @param _number   number to convert
+     * @param _locale   locale which defines the language of the words
+     * @param _gender   gender of the counted noun
+     */
+    public ConversionRequest(final long _number,
+                             final Locale _locale,
+                             final Gender _gender)
+    {
+        this.number = _number;
+        this.locale = _locale;
+        this.gender = _gender;
+    }
+
+    /**
+     * Returns the number to convert.
+     *
+     * @return number to convert
+     */
+    public long getNumber()
+    {
+        return this.number;
+    }
+
+    /**
+     * Returns the locale which defines the language of the words.
+     *
+     * @return locale of the words
+     */
+    public Locale getLocale()
+    {
+        return this.locale;
+    }
+
+    /**
+     * Returns the gender of the counted noun.
+     *
+     * @return gender of the counted noun
+     */
+    public Gender getGender()
+    {
+        return this.gender;
+    }
+
+    /**
+     * Returns the string representation of the request for debugging.
+     *
+     * @return number, locale and gender
+     */
+    @Override
+    public String toString()
+    {
+        return this.number + " (" + this.locale + ", " + this.gender + ")";
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+/**
+ * Immutable result of a {@link ConversionRequest}: the request itself and
+ * the converted words. The results are the items published by a
+ * {@link ConversionProcessor}.
+ *
+ * @author The eFaps Team
+ * @see ConversionProcessor
+ */
+public final class ConversionResult
+{
+    /**
+     * Converted request.
+     */
+    private final ConversionRequest request;
+
+    /**
+     * Words of the number.
+     */
+    private final String text;
+
+    /**
+     * Creates the result.
+     *
+     * @param _request  converted request
+     * @param _text     words of the number
+     */
+    public ConversionResult(final ConversionRequest _request,
+                            final String _text)
+    {
+        this.request = _request;
+        this.text = _text;
+    }
+
+    /**
+     * Returns the converted request.
+     *
+     * @return converted request
+     */
+    public ConversionRequest getRequest()
+    {
+        return this.request;
+    }
+
+    /**
+     * Returns the words of the number.
+     *
+     * @return words of the number
+     */
+    public String getText()
+    {
+        return this.text;
+    }
+
+    /**
+     * Returns the string representation of the result for debugging.
+     *
+     * @return request and words
+     */
+    @Override
+    public String toString()
+    {
+        return this.request + ": " + this.text;
+    }
+}
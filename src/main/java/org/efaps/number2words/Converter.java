@@ -19,14 +19,13 @@ package org.efaps.number2words;
 
 import java.util.Locale;
 
-import org.efaps.number2words.converters.English;
-import org.efaps.number2words.converters.German;
-import org.efaps.number2words.converters.Spanish;
+import org.efaps.number2words.converters.Roman;
 
 /**
  * <p>Main entry point to get language specific number to word converters.
  * Depending on the use case for what the converter will be used, the male
- * {@link #getMaleConverter(Locale)}, female or neuter static method should be
+ * {@link #getMaleConverter(Locale)}, {@link #getFemaleConverter(Locale) female}
+ * or {@link #getNeuterConverter(Locale) neuter} static method should be
  * called to get the converter instance.</p>
  *
  * <p><b>Example:</b><br/>
@@ -38,6 +37,17 @@ import org.efaps.number2words.converters.Spanish;
  * The result in <code>text</code> is &quot;ein hundert&quot;.
  * </p>
  *
+ * <p>The converters are discovered as {@link IConverterProvider providers}
+ * with the {@link java.util.ServiceLoader}. The returned converters are
+ * shared and thread-safe, so there is no need to cache them.</p>
+ *
+ * <p>If the {@link Instrumentation instrumentation} is enabled, the returned
+ * converters record their conversions in metrics of their language.</p>
+ *
+ * <p>Roman numerals do not depend on a language, so the
+ * {@link #getRomanConverter() Roman numeral converters} are returned without
+ * a locale.</p>
+ *
  */
 public final class Converter
 {
@@ -50,21 +60,140 @@ public final class Converter
 
     /**
      * Returns for a language defined with <code>_locale</code> the related
-     * text converter for male numbers.
+     * text converter for male numbers. If no converter exists for the
+     * country or variant of the <code>_locale</code>, the converter of the
+     * language is returned.
      *
      * @param _locale   locale which defines the language
-     * @return related converted for given <code>_locale</code>
+     * @return related shared converter for given <code>_locale</code> or
+     *         <code>null</code> if the language is not supported
      */
     public static IConverter getMaleConverter(final Locale _locale)
     {
-        IConverter converter = null;
-        if ("de".equals(_locale.getLanguage()))  {
-            converter = new German();
-        } else if ("en".equals(_locale.getLanguage()))  {
-            converter = new English();
-        } else if ("es".equals(_locale.getLanguage()))  {
-            converter = new Spanish();
+        return Instrumentation.instrument(ConverterRegistry.getProvider(_locale).getMaleConverter());
+    }
+
+    /**
+     * Returns for a language defined with <code>_locale</code> the related
+     * text converter for female numbers. For languages without female number
+     * words the male converter is returned.
+     *
+     * @param _locale   locale which defines the language
+     * @return related shared converter for given <code>_locale</code> or
+     *         <code>null</code> if the language is not supported
+     * @see #getMaleConverter(Locale)
+     */
+    public static IConverter getFemaleConverter(final Locale _locale)
+    {
+        return Instrumentation.instrument(ConverterRegistry.getProvider(_locale).getFemaleConverter());
+    }
+
+    /**
+     * Returns for a language defined with <code>_locale</code> the related
+     * text converter for neuter numbers. For languages without neuter number
+     * words the male converter is returned.
+     *
+     * @param _locale   locale which defines the language
+     * @return related shared converter for given <code>_locale</code> or
+     *         <code>null</code> if the language is not supported
+     * @see #getMaleConverter(Locale)
+     */
+    public static IConverter getNeuterConverter(final Locale _locale)
+    {
+        return Instrumentation.instrument(ConverterRegistry.getProvider(_locale).getNeuterConverter());
+    }
+
+    /**
+     * Returns for a language defined with <code>_locale</code> the related
+     * text converter for numbers of the <code>_gender</code>.
+     *
+     * @param _locale   locale which defines the language
+     * @param _gender   gender of the counted noun
+     * @return related shared converter for given <code>_locale</code> or
+     *         <code>null</code> if the language is not supported
+     */
+    public static IConverter getConverter(final Locale _locale,
+                                          final Gender _gender)
+    {
+        final IConverter ret;
+        switch (_gender)  {
+            case FEMALE:
+                ret = Converter.getFemaleConverter(_locale);
+                break;
+            case NEUTER:
+                ret = Converter.getNeuterConverter(_locale);
+                break;
+            default:
+                ret = Converter.getMaleConverter(_locale);
+                break;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the shared converter to Roman numerals in the
+     * {@link RomanNotation#STANDARD standard notation} (1 till 3999).
+     *
+     * @return shared Roman numeral converter
+     * @see #getRomanConverter(RomanNotation)
+     */
+    public static IConverter getRomanConverter()
+    {
+        return Converter.getRomanConverter(RomanNotation.STANDARD);
+    }
+
+    /**
+     * Returns the shared converter to Roman numerals in the
+     * <code>_notation</code>. The converter is not {@link IConverter#isDecimal()
+     * decimal} and throws an {@link IllegalArgumentException} for numbers
+     * out of the range of the notation.
+     *
+     * @param _notation notation of the numerals
+     * @return shared Roman numeral converter
+     */
+    public static IConverter getRomanConverter(final RomanNotation _notation)
+    {
+        return RomanHolder.CONVERTERS[_notation.ordinal()];
+    }
+
+    /**
+     * Returns for a language defined with <code>_locale</code> the related
+     * parser of the text representation of numbers.
+     *
+     * @param _locale   locale which defines the language
+     * @return related shared parser for given <code>_locale</code> or
+     *         <code>null</code> if the language is not supported
+     * @see IParser
+     */
+    public static IParser getParser(final Locale _locale)
+    {
+        return ConverterRegistry.getProvider(_locale).getParser();
+    }
+
+    /**
+     * Initialization-on-demand holder of the shared Roman numeral
+     * converters, so that the fragments are only precomputed if a Roman
+     * numeral converter is requested the first time.
+     */
+    private static final class RomanHolder
+    {
+        /**
+         * Shared Roman numeral converters with the ordinal of the notation as
+         * index.
+         */
+        private static final IConverter[] CONVERTERS = new IConverter[RomanNotation.values().length];
+
+        static  {
+            for (final RomanNotation notation : RomanNotation.values())  {
+                RomanHolder.CONVERTERS[notation.ordinal()] = new Roman(notation);
+            }
+        }
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private RomanHolder()
+        {
         }
-        return converter;
     }
 }
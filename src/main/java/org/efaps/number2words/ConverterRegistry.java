@@ -0,0 +1,157 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Thread-safe registry of the {@link IConverterProvider converter
+ * providers}. The providers are discovered lazily with the
+ * {@link ServiceLoader} the first time a converter is requested.</p>
+ * <p>A locale is resolved from the most specific to the most general
+ * provider (language with country and variant, language with country and
+ * only language). The resolved provider is cached for the locale. Unsupported
+ * locales are also cached, so that the resolution is done only once for each
+ * locale.</p>
+ *
+ * @author The eFaps Team
+ */
+final class ConverterRegistry
+{
+    /**
+     * Placeholder stored in the {@link #RESOLVED} cache for locales without
+     * provider, because a concurrent hash map could not store
+     * <code>null</code> values.
+     */
+    private static final IConverterProvider UNSUPPORTED = new IConverterProvider()
+    {
+        @Override
+        public Locale getLocale()
+        {
+            return Locale.ROOT;
+        }
+
+        @Override
+        public IConverter getMaleConverter()
+        {
+            return null;
+        }
+    };
+
+    /**
+     * Cache of the resolved providers depending on the locale.
+     */
+    private static final Map<Locale, IConverterProvider> RESOLVED = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to make a singleton.
+     */
+    private ConverterRegistry()
+    {
+    }
+
+    /**
+     * Returns the provider for the <code>_locale</code>. If no provider for
+     * the locale exists, the {@link #UNSUPPORTED} placeholder is returned.
+     *
+     * @param _locale   locale for which the provider is searched
+     * @return provider for the locale
+     */
+    static IConverterProvider getProvider(final Locale _locale)
+    {
+        IConverterProvider ret = ConverterRegistry.RESOLVED.get(_locale);
+        if (ret == null)  {
+            ret = ConverterRegistry.RESOLVED.computeIfAbsent(_locale, ConverterRegistry::resolve);
+        }
+        return ret;
+    }
+
+    /**
+     * Resolves the provider for the <code>_locale</code>. First the provider
+     * for language, country and variant is searched, then for language and
+     * country and at last only for the language.
+     *
+     * @param _locale   locale to resolve
+     * @return provider for the locale or {@link #UNSUPPORTED}
+     */
+    private static IConverterProvider resolve(final Locale _locale)
+    {
+        final Map<String, IConverterProvider> providers = Discovered.PROVIDERS;
+        IConverterProvider ret = providers.get(
+                        ConverterRegistry.key(_locale.getLanguage(), _locale.getCountry(), _locale.getVariant()));
+        if (ret == null)  {
+            ret = providers.get(ConverterRegistry.key(_locale.getLanguage(), _locale.getCountry(), ""));
+        }
+        if (ret == null)  {
+            ret = providers.get(ConverterRegistry.key(_locale.getLanguage(), "", ""));
+        }
+        return ret == null ? ConverterRegistry.UNSUPPORTED : ret;
+    }
+
+    /**
+     * Returns the key of the provider map for a locale.
+     *
+     * @param _language language of the locale
+     * @param _country  country of the locale
+     * @param _variant  variant of the locale
+     * @return key for the provider map
+     */
+    private static String key(final String _language,
+                              final String _country,
+                              final String _variant)
+    {
+        return _language + '_' + _country + '_' + _variant;
+    }
+
+    /**
+     * Holder of the discovered providers, so that the service loader is only
+     * used if a converter is requested the first time.
+     */
+    private static final class Discovered
+    {
+        /**
+         * Discovered providers depending on the key of their locale.
+         *
+         * @see ConverterRegistry#key(String, String, String)
+         */
+        private static final Map<String, IConverterProvider> PROVIDERS;
+        static  {
+            final Map<String, IConverterProvider> providers = new HashMap<>();
+            for (final IConverterProvider provider : ServiceLoader.load(IConverterProvider.class,
+                            ConverterRegistry.class.getClassLoader()))  {
+                final Locale locale = provider.getLocale();
+                providers.putIfAbsent(
+                                ConverterRegistry.key(locale.getLanguage(), locale.getCountry(), locale.getVariant()),
+                                provider);
+            }
+            PROVIDERS = Collections.unmodifiableMap(providers);
+        }
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private Discovered()
+        {
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>Immutable description of a currency used to convert amounts into words.
+ * The description defines the number of digits of the minor unit (e.g. two
+ * for cents) and for each language the singular and plural name of the
+ * currency unit.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * final CurrencyDescriptor gbp = new CurrencyDescriptor("GBP", 2)
+ *         .withNames(Locale.ENGLISH, "pound", "pounds");
+ * </pre>
+ * </p>
+ *
+ * @author The eFaps Team
+ * @see IConverter#convertMoney(long, CurrencyDescriptor)
+ */
+public final class CurrencyDescriptor
+{
+    /**
+     * US Dollar.
+     */
+    public static final CurrencyDescriptor USD = new CurrencyDescriptor("USD", 2)
+                    .withNames(Locale.ENGLISH, "dollar", "dollars")
+                    .withNames(Locale.GERMAN, "Dollar", "Dollar")
+                    .withNames(new Locale("es"), "d\u00F3lar", "d\u00F3lares")
+                    .withNames(Locale.FRENCH, "dollar", "dollars")
+                    .withNames(new Locale("da"), "dollar", "dollars");
+
+    /**
+     * Euro.
+     */
+    public static final CurrencyDescriptor EUR = new CurrencyDescriptor("EUR", 2)
+                    .withNames(Locale.ENGLISH, "euro", "euros")
+                    .withNames(Locale.GERMAN, "Euro", "Euro")
+                    .withNames(new Locale("es"), "euro", "euros")
+                    .withNames(Locale.FRENCH, "euro", "euros")
+                    .withNames(new Locale("da"), "euro", "euro");
+
+    /**
+     * Peruvian Sol.
+     */
+    public static final CurrencyDescriptor PEN = new CurrencyDescriptor("PEN", 2)
+                    .withNames(Locale.ENGLISH, "sol", "soles")
+                    .withNames(Locale.GERMAN, "Sol", "Soles")
+                    .withNames(new Locale("es"), "sol", "soles")
+                    .withNames(Locale.FRENCH, "sol", "soles")
+                    .withNames(new Locale("da"), "sol", "soles");
+
+    /**
+     * Danish Krone.
+     */
+    public static final CurrencyDescriptor DKK = new CurrencyDescriptor("DKK", 2)
+                    .withNames(Locale.ENGLISH, "krone", "kroner")
+                    .withNames(Locale.GERMAN, "Krone", "Kronen")
+                    .withNames(new Locale("es"), "corona", "coronas")
+                    .withNames(Locale.FRENCH, "couronne", "couronnes")
+                    .withNames(new Locale("da"), "krone", "kroner");
+
+    /**
+     * Code of the currency (e.g. ISO 4217 code).
+     */
+    private final String code;
+
+    /**
+     * Number of digits of the minor unit.
+     */
+    private final int minorDigits;
+
+    /**
+     * Number of minor units for one unit (<code>10^minorDigits</code>).
+     */
+    private final long minorFactor;
+
+    /**
+     * Names of the unit depending on the language. The value is an array with
+     * the singular and the plural name.
+     */
+    private final Map<String, String[]> names;
+
+    /**
+     * Creates a currency description without names.
+     *
+     * @param _code         code of the currency
+     * @param _minorDigits  number of digits of the minor unit (0 till 18)
+     */
+    public CurrencyDescriptor(final String _code,
+                              final int _minorDigits)
+    {
+        this(_code, _minorDigits, Collections.<String, String[]>emptyMap());
+    }
+
+    /**
+     * Private constructor used to copy the description with new names.
+     *
+     * @param _code         code of the currency
+     * @param _minorDigits  number of digits of the minor unit
+     * @param _names        names depending on the language
+     */
+    private CurrencyDescriptor(final String _code,
+                               final int _minorDigits,
+                               final Map<String, String[]> _names)
+    {
+        if (_minorDigits < 0 || _minorDigits > 18)  {
+            throw new IllegalArgumentException("minor digits must be between 0 and 18, but is " + _minorDigits);
+        }
+        this.code = _code;
+        this.minorDigits = _minorDigits;
+        long factor = 1;
+        for (int i = 0; i < _minorDigits; i++)  {
+            factor *= 10;
+        }
+        this.minorFactor = factor;
+        this.names = _names;
+    }
+
+    /**
+     * Returns a copy of this currency description with the names of the unit
+     * for the language of <code>_locale</code>.
+     *
+     * @param _locale   locale which defines the language
+     * @param _singular singular name of the unit
+     * @param _plural   plural name of the unit
+     * @return new currency description
+     */
+    public CurrencyDescriptor withNames(final Locale _locale,
+                                        final String _singular,
+                                        final String _plural)
+    {
+        final Map<String, String[]> newNames = new HashMap<>(this.names);
+        newNames.put(_locale.getLanguage(), new String[] {_singular, _plural});
+        return new CurrencyDescriptor(this.code, this.minorDigits, Collections.unmodifiableMap(newNames));
+    }
+
+    /**
+     * Returns the code of the currency.
+     *
+     * @return code of the currency
+     */
+    public String getCode()
+    {
+        return this.code;
+    }
+
+    /**
+     * Returns the number of digits of the minor unit.
+     *
+     * @return number of digits of the minor unit
+     */
+    public int getMinorDigits()
+    {
+        return this.minorDigits;
+    }
+
+    /**
+     * Returns the number of minor units for one unit.
+     *
+     * @return <code>10^minorDigits</code>
+     */
+    public long getMinorFactor()
+    {
+        return this.minorFactor;
+    }
+
+    /**
+     * Returns the name of the unit for the language of <code>_locale</code>.
+     *
+     * @param _locale   locale which defines the language
+     * @param _plural   <i>true</i> for the plural name, <i>false</i> for the
+     *                  singular name
+     * @return name of the unit
+     * @throws IllegalArgumentException if no names for the language are
+     *                                  defined
+     */
+    public String getName(final Locale _locale,
+                          final boolean _plural)
+    {
+        final String[] ret = this.names.get(_locale.getLanguage());
+        if (ret == null)  {
+            throw new IllegalArgumentException("no names for currency " + this.code
+                            + " in language '" + _locale.getLanguage() + "' defined");
+        }
+        return ret[_plural ? 1 : 0];
+    }
+
+    /**
+     * Returns the code of the currency.
+     *
+     * @return code of the currency
+     */
+    @Override
+    public String toString()
+    {
+        return this.code;
+    }
+}
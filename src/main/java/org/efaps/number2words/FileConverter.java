@@ -0,0 +1,481 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <p>Converts files with one number per line into files with the words of
+ * the numbers, one line per number. The input file is memory-mapped in
+ * segments and each segment is split at line boundaries into chunks. The
+ * chunks are parsed directly from the mapped bytes and converted in parallel
+ * into reused direct buffers with
+ * {@link IConverter#convertTo(long, ByteBuffer)}. The converted chunks are
+ * written in the order of the input file to a {@link FileChannel}.</p>
+ * <p>Only a bounded window of chunks is converted at the same time, so that
+ * the used memory does not depend on the size of the file and no strings
+ * are created for the numbers.</p>
+ * <p>Each line must contain a decimal number with an optional minus sign.
+ * Blanks around the number and carriage returns are ignored; empty lines are
+ * written as empty lines.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * final FileConverter converter = new FileConverter(Converter.getMaleConverter(Locale.ENGLISH));
+ * final long count = converter.convert(Paths.get("numbers.txt"), Paths.get("words.txt"));
+ * </pre>
+ * The file can also be converted from the command line with
+ * <code>java org.efaps.number2words.FileConverter en numbers.txt words.txt</code>.
+ * </p>
+ *
+ * @author The eFaps Team
+ */
+public final class FileConverter
+{
+    /**
+     * Default size in bytes of a chunk of the input file.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * Number of chunks of one mapped segment of the input file.
+     */
+    private static final int CHUNKS_PER_SEGMENT = 256;
+
+    /**
+     * Factor to estimate the size of the converted words of a chunk from the
+     * size of the chunk.
+     */
+    private static final int WORDS_PER_DIGIT = 8;
+
+    /**
+     * Converter used to convert the numbers.
+     */
+    private final IConverter converter;
+
+    /**
+     * Number of threads which convert the chunks.
+     */
+    private final int threads;
+
+    /**
+     * Size in bytes of a chunk of the input file.
+     */
+    private final int chunkSize;
+
+    /**
+     * Creates a file converter which uses one thread for each available
+     * processor and the {@link #DEFAULT_CHUNK_SIZE default chunk size}.
+     *
+     * @param _converter    converter used to convert the numbers
+     */
+    public FileConverter(final IConverter _converter)
+    {
+        this(_converter, Runtime.getRuntime().availableProcessors(), FileConverter.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a file converter.
+     *
+     * @param _converter    converter used to convert the numbers
+     * @param _threads      number of threads which convert the chunks (must
+     *                      be greater than zero)
+     * @param _chunkSize    size in bytes of a chunk of the input file (must
+     *                      be greater than zero); a chunk is extended to the
+     *                      end of its last line
+     */
+    public FileConverter(final IConverter _converter,
+                         final int _threads,
+                         final int _chunkSize)
+    {
+        if (_threads < 1)  {
+            throw new IllegalArgumentException("threads must be greater than zero, but is " + _threads);
+        }
+        if (_chunkSize < 1 || _chunkSize > Integer.MAX_VALUE / FileConverter.CHUNKS_PER_SEGMENT)  {
+            throw new IllegalArgumentException("chunk size is out of range: " + _chunkSize);
+        }
+        this.converter = _converter;
+        this.threads = _threads;
+        this.chunkSize = _chunkSize;
+    }
+
+    /**
+     * Converts the numbers of the <code>_input</code> file into words which
+     * are written to the <code>_output</code> file. An existing output file
+     * is overwritten.
+     *
+     * @param _input    file with one number per line
+     * @param _output   file to which the words are written
+     * @return number of converted numbers
+     * @throws IOException if the files could not be read or written or if a
+     *                     line does not contain a valid number
+     */
+    public long convert(final Path _input,
+                        final Path _output)
+        throws IOException
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+        final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+        final ArrayDeque<Future<Chunk>> window = new ArrayDeque<>();
+        final int windowSize = 2 * this.threads;
+        final int segmentSize = this.chunkSize * FileConverter.CHUNKS_PER_SEGMENT;
+        long ret = 0;
+        try (FileChannel in = FileChannel.open(_input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(_output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                             StandardOpenOption.TRUNCATE_EXISTING))  {
+            final long size = in.size();
+            long segmentStart = 0;
+            while (segmentStart < size)  {
+                final int segmentLength = (int) Math.min(size - segmentStart, segmentSize);
+                final MappedByteBuffer segment = in.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentLength);
+                int end = segmentLength;
+                if (segmentStart + segmentLength < size)  {
+                    end = FileConverter.lastLineEnd(segment, segmentLength);
+                    if (end == 0)  {
+                        throw new IOException("line at position " + segmentStart + " is longer than "
+                                        + segmentSize + " bytes");
+                    }
+                }
+                int chunkStart = 0;
+                while (chunkStart < end)  {
+                    final int chunkEnd = FileConverter.nextLineEnd(segment,
+                                    (int) Math.min(end, (long) chunkStart + this.chunkSize), end);
+                    final ByteBuffer chunk = segment.duplicate();
+                    chunk.position(chunkStart).limit(chunkEnd);
+                    if (window.size() >= windowSize)  {
+                        ret += FileConverter.write(window.poll(), out, buffers);
+                    }
+                    window.add(executor.submit(new ConvertChunk(chunk.slice(), segmentStart + chunkStart, buffers)));
+                    chunkStart = chunkEnd;
+                }
+                segmentStart += end;
+            }
+            while (!window.isEmpty())  {
+                ret += FileConverter.write(window.poll(), out, buffers);
+            }
+        } finally  {
+            executor.shutdownNow();
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the index behind the last line feed of the
+     * <code>_segment</code>.
+     *
+     * @param _segment  mapped segment
+     * @param _length   length of the segment
+     * @return index behind the last line feed; <code>0</code> if the segment
+     *         contains no line feed
+     */
+    private static int lastLineEnd(final ByteBuffer _segment,
+                                   final int _length)
+    {
+        int ret = _length;
+        while (ret > 0 && _segment.get(ret - 1) != '\n')  {
+            ret--;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the index behind the next line feed beginning with the index
+     * <code>_start - 1</code>, so that a chunk ends always with a complete
+     * line.
+     *
+     * @param _segment  mapped segment
+     * @param _start    minimum end of the chunk
+     * @param _end      end of the segment
+     * @return index behind the next line feed or <code>_end</code>
+     */
+    private static int nextLineEnd(final ByteBuffer _segment,
+                                   final int _start,
+                                   final int _end)
+    {
+        int ret = _start;
+        while (ret < _end && _segment.get(ret - 1) != '\n')  {
+            ret++;
+        }
+        return ret;
+    }
+
+    /**
+     * Waits for the conversion of a chunk and writes the converted words to
+     * the output channel. The buffer of the chunk is returned to the
+     * <code>_buffers</code> afterwards.
+     *
+     * @param _future   future of the converted chunk
+     * @param _out      output channel
+     * @param _buffers  reusable buffers
+     * @return number of converted numbers of the chunk
+     * @throws IOException if the chunk could not be converted or written
+     */
+    private static int write(final Future<Chunk> _future,
+                             final FileChannel _out,
+                             final Queue<ByteBuffer> _buffers)
+        throws IOException
+    {
+        final Chunk chunk;
+        try  {
+            chunk = _future.get();
+        } catch (final InterruptedException e)  {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("conversion of the file was interrupted");
+        } catch (final ExecutionException e)  {
+            if (e.getCause() instanceof IOException)  {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+        final ByteBuffer buffer = chunk.buffer;
+        buffer.flip();
+        while (buffer.hasRemaining())  {
+            _out.write(buffer);
+        }
+        buffer.clear();
+        _buffers.offer(buffer);
+        return chunk.count;
+    }
+
+    /**
+     * Converts the numbers of a file from the command line. The arguments are
+     * the language, the input file, the output file and optional the number
+     * of threads.
+     *
+     * @param _args     command line arguments
+     * @throws IOException if the file could not be converted
+     */
+    public static void main(final String[] _args)
+        throws IOException
+    {
+        if (_args.length < 3 || _args.length > 4)  {
+            System.err.println("usage: FileConverter <language> <input file> <output file> [threads]");
+            System.exit(2);
+        }
+        final IConverter converter = Converter.getMaleConverter(new Locale(_args[0]));
+        if (converter == null)  {
+            System.err.println("language '" + _args[0] + "' is not supported");
+            System.exit(2);
+        }
+        final int threads = _args.length > 3
+                        ? Integer.parseInt(_args[3])
+                        : Runtime.getRuntime().availableProcessors();
+        final Path input = Paths.get(_args[1]);
+        final long start = System.nanoTime();
+        final long count = new FileConverter(converter, threads, FileConverter.DEFAULT_CHUNK_SIZE)
+                        .convert(input, Paths.get(_args[2]));
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "converted %d numbers in %.2f s (%.1f MB/s input)%n", count, seconds,
+                        input.toFile().length() / seconds / (1 << 20));
+    }
+
+    /**
+     * Converted chunk.
+     */
+    private static final class Chunk
+    {
+        /**
+         * Buffer with the converted words.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Number of converted numbers.
+         */
+        private final int count;
+
+        /**
+         * Creates a converted chunk.
+         *
+         * @param _buffer   buffer with the converted words
+         * @param _count    number of converted numbers
+         */
+        Chunk(final ByteBuffer _buffer,
+              final int _count)
+        {
+            this.buffer = _buffer;
+            this.count = _count;
+        }
+    }
+
+    /**
+     * Task to convert the numbers of one chunk.
+     */
+    private final class ConvertChunk
+        implements Callable<Chunk>
+    {
+        /**
+         * Mapped bytes of the chunk.
+         */
+        private final ByteBuffer input;
+
+        /**
+         * Position of the chunk in the input file (used for error messages).
+         */
+        private final long offset;
+
+        /**
+         * Reusable buffers.
+         */
+        private final Queue<ByteBuffer> buffers;
+
+        /**
+         * Buffer for the converted words.
+         */
+        private ByteBuffer output;
+
+        /**
+         * Creates the task.
+         *
+         * @param _input    mapped bytes of the chunk
+         * @param _offset   position of the chunk in the input file
+         * @param _buffers  reusable buffers
+         */
+        ConvertChunk(final ByteBuffer _input,
+                     final long _offset,
+                     final Queue<ByteBuffer> _buffers)
+        {
+            this.input = _input;
+            this.offset = _offset;
+            this.buffers = _buffers;
+        }
+
+        /**
+         * Parses the numbers of the chunk and converts them into words.
+         *
+         * @return converted chunk
+         * @throws IOException if a line does not contain a valid number
+         */
+        @Override
+        public Chunk call()
+            throws IOException
+        {
+            this.output = this.buffers.poll();
+            if (this.output == null)  {
+                this.output = ByteBuffer.allocateDirect(
+                                Math.max(1024, FileConverter.WORDS_PER_DIGIT * this.input.remaining()));
+            }
+            int count = 0;
+            long value = 0;
+            boolean negative = false;
+            boolean digits = false;
+            boolean ended = false;
+            final int limit = this.input.limit();
+            for (int index = 0; index < limit; index++)  {
+                final byte ch = this.input.get(index);
+                if (ch >= '0' && ch <= '9' && !ended)  {
+                    // the value is accumulated negated, so that Long.MIN_VALUE could be read
+                    final int digit = ch - '0';
+                    if (value < (Long.MIN_VALUE + digit) / 10)  {
+                        throw new IOException("number at position " + (this.offset + index) + " is too large");
+                    }
+                    value = value * 10 - digit;
+                    digits = true;
+                } else if (ch == '-' && !digits && !negative)  {
+                    negative = true;
+                } else if (ch == '\n')  {
+                    count += writeLine(value, negative, digits, index);
+                    value = 0;
+                    negative = false;
+                    digits = false;
+                    ended = false;
+                } else if (ch == ' ' || ch == '\t' || ch == '\r')  {
+                    ended = digits || negative;
+                } else  {
+                    throw new IOException("invalid character at position " + (this.offset + index));
+                }
+            }
+            if (digits || negative)  {
+                count += writeLine(value, negative, digits, limit);
+            }
+            return new Chunk(this.output, count);
+        }
+
+        /**
+         * Writes the words of a number and a line feed.
+         *
+         * @param _value    parsed negated value
+         * @param _negative is the number negative?
+         * @param _digits   has the line digits?
+         * @param _index    index of the end of the line in the chunk
+         * @return number of written numbers (0 for empty lines, otherwise 1)
+         * @throws IOException if the line has only a minus sign or the
+         *                     positive number is too large
+         */
+        private int writeLine(final long _value,
+                              final boolean _negative,
+                              final boolean _digits,
+                              final int _index)
+            throws IOException
+        {
+            if (_negative && !_digits)  {
+                throw new IOException("minus without number at position " + (this.offset + _index));
+            }
+            if (!_negative && _value == Long.MIN_VALUE)  {
+                throw new IOException("number at position " + (this.offset + _index) + " is too large");
+            }
+            int ret = 0;
+            if (_digits)  {
+                final long number = _negative ? _value : -_value;
+                int written = FileConverter.this.converter.convertTo(number, this.output);
+                if (written < 0)  {
+                    grow(-written);
+                    written = FileConverter.this.converter.convertTo(number, this.output);
+                }
+                ret = 1;
+            }
+            if (!this.output.hasRemaining())  {
+                grow(1);
+            }
+            this.output.put((byte) '\n');
+            return ret;
+        }
+
+        /**
+         * Replaces the output buffer with a larger buffer.
+         *
+         * @param _needed   number of needed bytes
+         */
+        private void grow(final int _needed)
+        {
+            final ByteBuffer larger = ByteBuffer.allocateDirect(
+                            Math.max(2 * this.output.capacity(), this.output.position() + _needed + 1));
+            this.output.flip();
+            larger.put(this.output);
+            this.output = larger;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+/**
+ * Style in which the fraction digits of a decimal number are written.
+ *
+ * @author The eFaps Team
+ * @see IConverter#convert(java.math.BigDecimal, FractionStyle)
+ */
+public enum FractionStyle
+{
+    /**
+     * The fraction digits are written one by one after the decimal
+     * separator, e.g. &quot;three point one four&quot; or &quot;drei Komma
+     * eins vier&quot;.
+     */
+    DIGITS,
+
+    /**
+     * The fraction digits are written as number of tenths, hundredths,
+     * thousandths etc., e.g. &quot;three and fourteen hundredths&quot;.
+     */
+    FRACTION;
+}
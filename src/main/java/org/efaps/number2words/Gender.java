@@ -0,0 +1,42 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words;
+
+/**
+ * Grammatical gender of the noun which is counted with a converted number.
+ * Depending on the language some numbers are written differently for each
+ * gender (e.g. Spanish &quot;un&quot; / &quot;una&quot;, German
+ * &quot;ein&quot; / &quot;eine&quot; / &quot;eins&quot;).
+ *
+ * @author The eFaps Team
+ * @see Converter#getMaleConverter(java.util.Locale)
+ * @see Converter#getFemaleConverter(java.util.Locale)
+ * @see Converter#getNeuterConverter(java.util.Locale)
+ */
+public enum Gender
+{
+    /** Male (masculine) gender. */
+    MALE,
+
+    /** Female (feminine) gender. */
+    FEMALE,
+
+    /** Neuter gender. */
+    NEUTER;
+}
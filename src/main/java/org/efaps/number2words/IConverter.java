@@ -17,6 +17,18 @@
 
 package org.efaps.number2words;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
 /**
  * Interface description which must be implement for a language to convert
  * numbers to related text representation.
@@ -32,6 +44,463 @@ public interface IConverter
      */
     String convert(final long _number);
 
+    /**
+     * Converts the <code>_number</code> into the related text representation
+     * and appends the words directly to <code>_target</code>. No intermediate
+     * strings are created, so the only memory needed for the conversion is
+     * the memory of <code>_target</code> itself. The default implementation
+     * appends the words of {@link #convert(long)}, so that converters of
+     * other libraries are still source compatible.
+     *
+     * @param _number   number to convert
+     * @param _target   target to which the words are appended
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended to
+     *                     <code>_target</code>
+     */
+    default Appendable convertTo(final long _number,
+                                 final Appendable _target)
+        throws IOException
+    {
+        return _target.append(convert(_number));
+    }
+
+    /**
+     * Converts the <code>_number</code> into the related text representation
+     * and appends the words directly to the string builder
+     * <code>_target</code>. This is the fast path of
+     * {@link #convertTo(long, Appendable)} because a string builder never
+     * throws an {@link IOException}. The default implementation appends the
+     * words of {@link #convert(long)}.
+     *
+     * @param _number   number to convert
+     * @param _target   string builder to which the words are appended
+     * @return given <code>_target</code>
+     */
+    default StringBuilder convertTo(final long _number,
+                                    final StringBuilder _target)
+    {
+        return _target.append(convert(_number));
+    }
+
+    /**
+     * Converts the <code>_number</code> into the related text representation
+     * written with the <code>_options</code> (e.g. in upper case or with a
+     * conjunction after the hundreds), so that the text needs no
+     * post-processing.
+     *
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @return converted number
+     * @throws UnsupportedOperationException if the converter does not
+     *                                       support the options
+     * @see #convertTo(long, ConversionOptions, Appendable)
+     */
+    default String convert(final long _number,
+                           final ConversionOptions _options)
+    {
+        final StringBuilder ret = new StringBuilder();
+        try  {
+            convertTo(_number, _options, ret);
+        } catch (final IOException e)  {
+            // could not happen, because a string builder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Converts the <code>_number</code> into the related text representation
+     * written with the <code>_options</code> and appends the words directly
+     * to <code>_target</code>. The default implementation supports only the
+     * {@link ConversionOptions#DEFAULT default options}.
+     *
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @param _target   target to which the words are appended
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended to
+     *                     <code>_target</code>
+     * @throws UnsupportedOperationException if the converter does not
+     *                                       support the options
+     */
+    default Appendable convertTo(final long _number,
+                                 final ConversionOptions _options,
+                                 final Appendable _target)
+        throws IOException
+    {
+        if (!_options.isDefault())  {
+            throw new UnsupportedOperationException("conversion options " + _options + " are not supported");
+        }
+        return convertTo(_number, _target);
+    }
+
+    /**
+     * Converts the <code>_number</code> into the related text representation
+     * and writes the words encoded in UTF-8 into <code>_target</code>.
+     *
+     * @param _number   number to convert
+     * @param _target   buffer to which the encoded words are written
+     * @return number of written bytes; if the remaining space of
+     *         <code>_target</code> is too small, nothing is written and the
+     *         negative number of needed bytes is returned
+     * @see #convertTo(long, ByteBuffer, Charset)
+     */
+    default int convertTo(final long _number,
+                          final ByteBuffer _target)
+    {
+        return convertTo(_number, _target, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Converts the <code>_number</code> into the related text representation
+     * and writes the words encoded in <code>_charset</code> into
+     * <code>_target</code>. The default implementation encodes the result of
+     * {@link #convert(long)}.
+     *
+     * @param _number   number to convert
+     * @param _target   buffer to which the encoded words are written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes; if the remaining space of
+     *         <code>_target</code> is too small, nothing is written and the
+     *         negative number of needed bytes is returned
+     */
+    default int convertTo(final long _number,
+                          final ByteBuffer _target,
+                          final Charset _charset)
+    {
+        final byte[] bytes = convert(_number).getBytes(_charset);
+        final int ret;
+        if (_target.remaining() < bytes.length)  {
+            ret = -bytes.length;
+        } else  {
+            _target.put(bytes);
+            ret = bytes.length;
+        }
+        return ret;
+    }
+
+    /**
+     * Converts the <code>_number</code> into the related text representation
+     * and writes the words encoded in <code>_charset</code> into the stream
+     * <code>_target</code>. The default implementation encodes the result of
+     * {@link #convert(long)}.
+     *
+     * @param _number   number to convert
+     * @param _target   stream to which the encoded words are written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes
+     * @throws IOException if the bytes could not be written
+     */
+    default int convertTo(final long _number,
+                          final OutputStream _target,
+                          final Charset _charset)
+        throws IOException
+    {
+        final byte[] bytes = convert(_number).getBytes(_charset);
+        _target.write(bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Returns the length in characters of the text representation of the
+     * <code>_number</code>, which is always the same as the length of
+     * {@link #convert(long)}. The default implementation converts the
+     * number; converters with precomputed tables compute the length without
+     * writing the words (e.g. to layout columns or to presize buffers).
+     *
+     * @param _number   number to measure
+     * @return length of the words in characters
+     */
+    default int length(final long _number)
+    {
+        return convert(_number).length();
+    }
+
+    /**
+     * Returns the length in UTF-8 bytes of the text representation of the
+     * <code>_number</code>, which is always the number of bytes written by
+     * {@link #convertTo(long, ByteBuffer)}. The default implementation
+     * converts and encodes the number.
+     *
+     * @param _number   number to measure
+     * @return length of the UTF-8 encoded words in bytes
+     */
+    default int byteLength(final long _number)
+    {
+        return convert(_number).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Converts the <code>_number</code> of arbitrary size into the related
+     * text representation. The default implementation supports only numbers
+     * in the range of a long.
+     *
+     * @param _number   number to convert
+     * @return converted number
+     * @throws UnsupportedOperationException if the number is out of the
+     *                                       supported range
+     */
+    default String convert(final BigInteger _number)
+    {
+        return convertTo(_number, new StringBuilder()).toString();
+    }
+
+    /**
+     * Converts the <code>_number</code> of arbitrary size into the related
+     * text representation and appends the words to the string builder
+     * <code>_target</code>. The default implementation supports only numbers
+     * in the range of a long.
+     *
+     * @param _number   number to convert
+     * @param _target   string builder to which the words are appended
+     * @return given <code>_target</code>
+     * @throws UnsupportedOperationException if the number is out of the
+     *                                       supported range
+     */
+    default StringBuilder convertTo(final BigInteger _number,
+                                    final StringBuilder _target)
+    {
+        if (_number.bitLength() >= Long.SIZE)  {
+            throw new UnsupportedOperationException("number " + _number + " is out of the supported range");
+        }
+        return convertTo(_number.longValue(), _target);
+    }
+
+    /**
+     * Converts a decimal number into the related text representation with
+     * the fraction digits written one by one (e.g. &quot;three point one
+     * four&quot; for 3.14).
+     *
+     * @param _number   decimal number to convert
+     * @return converted number
+     * @throws ArithmeticException if the unscaled value is not in the range
+     *                             of a long or the scale is greater than 18
+     * @throws UnsupportedOperationException if the converter does not
+     *                                       support decimal numbers
+     * @see #convert(BigDecimal, FractionStyle)
+     */
+    default String convert(final BigDecimal _number)
+    {
+        return convert(_number, FractionStyle.DIGITS);
+    }
+
+    /**
+     * Converts a decimal number into the related text representation with
+     * the fraction digits written in the <code>_style</code> (e.g.
+     * &quot;three point one four&quot; or &quot;three and fourteen
+     * hundredths&quot; for 3.14).
+     *
+     * @param _number   decimal number to convert
+     * @param _style    style of the fraction digits
+     * @return converted number
+     * @throws ArithmeticException if the unscaled value is not in the range
+     *                             of a long or the scale is greater than 18
+     * @throws UnsupportedOperationException if the converter does not
+     *                                       support decimal numbers
+     */
+    default String convert(final BigDecimal _number,
+                           final FractionStyle _style)
+    {
+        final StringBuilder ret = new StringBuilder();
+        try  {
+            convertTo(_number, _style, ret);
+        } catch (final IOException e)  {
+            // could not happen, because a string builder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Converts a decimal number into the related text representation and
+     * appends the words directly to <code>_target</code>. The fraction digits
+     * are written in the <code>_style</code>; all fraction digits of the
+     * scale are written (e.g. 3.10 is &quot;three point one zero&quot;).
+     *
+     * @param _number   decimal number to convert
+     * @param _style    style of the fraction digits
+     * @param _target   target to which the words are appended
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended to
+     *                     <code>_target</code>
+     * @throws ArithmeticException if the unscaled value is not in the range
+     *                             of a long or the scale is greater than 18
+     * @throws UnsupportedOperationException if the converter does not
+     *                                       support decimal numbers
+     * @see #convert(BigDecimal, FractionStyle)
+     */
+    default Appendable convertTo(final BigDecimal _number,
+                                 final FractionStyle _style,
+                                 final Appendable _target)
+        throws IOException
+    {
+        throw new UnsupportedOperationException("decimal numbers are not supported");
+    }
+
+    /**
+     * <p>Converts an amount of money into the related text representation.
+     * The amount is given in minor units (e.g. cents), so that no
+     * {@link java.math.BigDecimal} is needed. The units are written in words
+     * followed by the name of the currency unit, the minor units are written
+     * as fraction (e.g. &quot;one hundred twenty-three dollars and
+     * 45/100&quot; for 12345 cents).</p>
+     *
+     * @param _minorUnits   amount in minor units
+     * @param _currency     description of the currency
+     * @return converted amount
+     * @throws UnsupportedOperationException if the converter does not
+     *                                       support amounts
+     */
+    default String convertMoney(final long _minorUnits,
+                                final CurrencyDescriptor _currency)
+    {
+        final StringBuilder ret = new StringBuilder();
+        try  {
+            convertMoneyTo(_minorUnits, _currency, ret);
+        } catch (final IOException e)  {
+            // could not happen, because a string builder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Converts an amount of money into the related text representation and
+     * appends the words directly to <code>_target</code>.
+     *
+     * @param _minorUnits   amount in minor units
+     * @param _currency     description of the currency
+     * @param _target       target to which the words are appended
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended to
+     *                     <code>_target</code>
+     * @throws UnsupportedOperationException if the converter does not
+     *                                       support amounts
+     * @see #convertMoney(long, CurrencyDescriptor)
+     */
+    default Appendable convertMoneyTo(final long _minorUnits,
+                                      final CurrencyDescriptor _currency,
+                                      final Appendable _target)
+        throws IOException
+    {
+        throw new UnsupportedOperationException("amounts are not supported");
+    }
+
+    /**
+     * Converts a number into the text representation of the related ordinal
+     * number (e.g. &quot;twenty-first&quot; for 21 or &quot;one thousand
+     * second&quot; for 1002).
+     *
+     * @param _number   number to convert (must be greater than zero)
+     * @return converted ordinal number
+     * @throws IllegalArgumentException if the number is not greater than
+     *                                  zero
+     * @throws UnsupportedOperationException if the converter does not
+     *                                       support ordinal numbers
+     */
+    default String convertOrdinal(final long _number)
+    {
+        final StringBuilder ret = new StringBuilder();
+        try  {
+            convertOrdinalTo(_number, ret);
+        } catch (final IOException e)  {
+            // could not happen, because a string builder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Converts a number into the text representation of the related ordinal
+     * number and appends the words directly to <code>_target</code>.
+     *
+     * @param _number   number to convert (must be greater than zero)
+     * @param _target   target to which the words are appended
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended to
+     *                     <code>_target</code>
+     * @throws IllegalArgumentException if the number is not greater than
+     *                                  zero
+     * @throws UnsupportedOperationException if the converter does not
+     *                                       support ordinal numbers
+     * @see #convertOrdinal(long)
+     */
+    default Appendable convertOrdinalTo(final long _number,
+                                        final Appendable _target)
+        throws IOException
+    {
+        throw new UnsupportedOperationException("ordinal numbers are not supported");
+    }
+
+    /**
+     * Returns a fingerprint of the words of the converter. The fingerprint
+     * changes if any word of a group of three digits, of a power, of zero or
+     * of minus changes, so that persisted words (e.g. a
+     * {@link SnapshotConverter snapshot}) could be checked against the
+     * converter. The default implementation computes a FNV-1a hash over the
+     * words of zero, minus one and all groups of all powers.
+     *
+     * @return fingerprint of the words
+     */
+    default long getFingerprint()
+    {
+        long ret = 0xCBF29CE484222325L;
+        long power = 1;
+        for (int exponent = 0; exponent < 7; exponent++)  {
+            for (long group = exponent == 0 ? -1 : 1; group < 1000 && group <= Long.MAX_VALUE / power; group++)  {
+                final String words = convert(group * power);
+                for (int i = 0; i < words.length(); i++)  {
+                    ret = (ret ^ words.charAt(i)) * 0x100000001B3L;
+                }
+                // separator between the words
+                ret = (ret ^ 0xFFFF) * 0x100000001B3L;
+            }
+            power *= 1000;
+        }
+        return ret;
+    }
+
+    /**
+     * Converts all <code>_numbers</code> into their text representation. The
+     * numbers are converted in parallel on the common fork join pool with a
+     * {@link BulkConverter}.
+     *
+     * @param _numbers  numbers to convert
+     * @return array with the converted numbers in the same order
+     * @see BulkConverter#convertAll(long[])
+     */
+    default String[] convertAll(final long[] _numbers)
+    {
+        return new BulkConverter(this).convertAll(_numbers);
+    }
+
+    /**
+     * Converts all <code>_numbers</code> of the stream into their text
+     * representation. The numbers are converted in parallel on the common
+     * fork join pool with a {@link BulkConverter}.
+     *
+     * @param _numbers  stream of the numbers to convert
+     * @return stream of the converted numbers in the same order
+     * @see BulkConverter#convert(LongStream)
+     */
+    default Stream<String> convert(final LongStream _numbers)
+    {
+        return new BulkConverter(this).convert(_numbers);
+    }
+
+    /**
+     * Returns the locale of the language of the converter. The default
+     * implementation returns {@link Locale#ROOT} for converters which do
+     * not define their language.
+     *
+     * @return locale of the converter
+     */
+    default Locale getLocale()
+    {
+        return Locale.ROOT;
+    }
+
     /**
      * Returns <i>true</i> in the case the converter from numbers to words uses
      * the decimal system. E.g. the converter for German language is using the
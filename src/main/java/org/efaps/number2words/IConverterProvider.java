@@ -0,0 +1,90 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.util.Locale;
+
+/**
+ * <p>Service provider interface for the converters of one language. The
+ * providers are discovered with the {@link java.util.ServiceLoader} and must
+ * be registered in
+ * <code>META-INF/services/org.efaps.number2words.IConverterProvider</code>.
+ * </p>
+ * <p>A provider must be cheap to instantiate: the related converter class
+ * should be loaded only if the converter is requested the first time (e.g.
+ * with an initialization-on-demand holder).</p>
+ *
+ * @author The eFaps Team
+ */
+public interface IConverterProvider
+{
+    /**
+     * Returns the locale for which the converters of this provider are
+     * defined. Typically only the language of the locale is set, but a
+     * provider could also be defined for a country or variant of a language.
+     *
+     * @return locale of the provider
+     */
+    Locale getLocale();
+
+    /**
+     * Returns the shared text converter for male numbers. The converter must
+     * be immutable and thread-safe, because the same instance is returned
+     * for all callers.
+     *
+     * @return shared converter for male numbers
+     */
+    IConverter getMaleConverter();
+
+    /**
+     * Returns the shared text converter for female numbers. The default
+     * implementation returns the {@link #getMaleConverter() male converter}
+     * for languages without female number words.
+     *
+     * @return shared converter for female numbers
+     */
+    default IConverter getFemaleConverter()
+    {
+        return getMaleConverter();
+    }
+
+    /**
+     * Returns the shared text converter for neuter numbers. The default
+     * implementation returns the {@link #getMaleConverter() male converter}
+     * for languages without neuter number words.
+     *
+     * @return shared converter for neuter numbers
+     */
+    default IConverter getNeuterConverter()
+    {
+        return getMaleConverter();
+    }
+
+    /**
+     * Returns the shared parser of the text representation of numbers. The
+     * parser must be immutable and thread-safe, because the same instance is
+     * returned for all callers. The default implementation returns
+     * <code>null</code> for languages without parser.
+     *
+     * @return shared parser or <code>null</code>
+     */
+    default IParser getParser()
+    {
+        return null;
+    }
+}
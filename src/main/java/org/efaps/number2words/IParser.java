@@ -0,0 +1,81 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+/**
+ * <p>Interface description which must be implemented for a language to parse
+ * the text representation of numbers back into numbers. It is the reverse
+ * of {@link IConverter#convert(long)}.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * final IParser parser = Converter.getParser(Locale.ENGLISH);
+ * final long number = parser.parse("two hundred forty-five thousand");
+ * </pre>
+ * The result in <code>number</code> is <code>245000</code>.
+ * </p>
+ *
+ * @author The eFaps Team
+ */
+public interface IParser
+{
+    /**
+     * Parses the text representation of a number.
+     *
+     * @param _text     text to parse
+     * @return parsed number
+     * @throws ParseException if the text is not a valid number of the
+     *                        language; the error offset is the position of
+     *                        the first unknown word
+     */
+    default long parse(final CharSequence _text)
+        throws ParseException
+    {
+        return parse(_text, 0, _text.length());
+    }
+
+    /**
+     * Parses the text representation of a number which is defined by the
+     * characters from <code>_start</code> (inclusive) till <code>_end</code>
+     * (exclusive) of <code>_text</code>. No sub sequence is created, so that
+     * the number could be parsed directly out of a larger text.
+     *
+     * @param _text     text with the number
+     * @param _start    index of the first character (inclusive)
+     * @param _end      index of the last character (exclusive)
+     * @return parsed number
+     * @throws ParseException if the text is not a valid number of the
+     *                        language; the error offset is the position of
+     *                        the first unknown word
+     */
+    long parse(final CharSequence _text,
+               final int _start,
+               final int _end)
+        throws ParseException;
+
+    /**
+     * Returns the locale of the language of the parser.
+     *
+     * @return locale of the parser
+     */
+    Locale getLocale();
+}
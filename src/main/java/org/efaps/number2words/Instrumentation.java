@@ -0,0 +1,292 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * <p>Opt-in instrumentation of the converters returned by {@link Converter}.
+ * While the instrumentation is enabled, the returned converters are
+ * {@link InstrumentedConverter instrumented converters} which record their
+ * conversions in the {@link ConversionMetrics metrics} of their language.
+ * The metrics could be pulled with {@link #getMetrics(Locale)} and are
+ * registered in the platform MBean server with the object name
+ * <code>org.efaps.number2words:type=ConversionMetrics,language=&lt;language&gt;</code>.
+ * Optionally the instrumented converters decorate a {@link CachingConverter
+ * cache}, so that the hit ratio is included in the metrics.</p>
+ * <p>While the instrumentation is disabled (the default), {@link Converter}
+ * returns the shared converters of the providers itself, so there is no
+ * overhead in the conversions. Converters which were requested while the
+ * instrumentation was enabled keep recording after it is disabled. The
+ * instrumentation could also be enabled with the system property
+ * <code>org.efaps.number2words.instrumentation=true</code> and the number of
+ * cached entries with
+ * <code>org.efaps.number2words.instrumentation.cache</code>.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * Instrumentation.enable();
+ * final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+ * final String text = converter.convert(100L);
+ * final long calls = Instrumentation.getMetrics(Locale.ENGLISH).getCallCount();
+ * </pre>
+ * </p>
+ *
+ * @author The eFaps Team
+ */
+public final class Instrumentation
+{
+    /**
+     * Domain and type of the object names of the registered metrics.
+     */
+    public static final String OBJECT_NAME = "org.efaps.number2words:type=ConversionMetrics";
+
+    /**
+     * Name of the system property to enable the instrumentation.
+     */
+    public static final String PROPERTY = "org.efaps.number2words.instrumentation";
+
+    /**
+     * Name of the system property of the number of cached entries of each
+     * instrumented converter.
+     */
+    public static final String PROPERTY_CACHE = "org.efaps.number2words.instrumentation.cache";
+
+    /**
+     * State of the enabled instrumentation or <code>null</code> if the
+     * instrumentation is disabled.
+     */
+    private static volatile State current;
+
+    static  {
+        if (Boolean.getBoolean(Instrumentation.PROPERTY))  {
+            Instrumentation.enable(Integer.getInteger(Instrumentation.PROPERTY_CACHE, 0));
+        }
+    }
+
+    /**
+     * Private constructor to make a singleton.
+     */
+    private Instrumentation()
+    {
+    }
+
+    /**
+     * Enables the instrumentation without caches.
+     *
+     * @see #enable(int)
+     */
+    public static void enable()
+    {
+        Instrumentation.enable(0);
+    }
+
+    /**
+     * Enables the instrumentation. If the instrumentation is already enabled,
+     * it is disabled first, so that all metrics start with zero.
+     *
+     * @param _cacheEntries maximum number of cached numbers of each
+     *                      instrumented converter; 0 for no cache
+     */
+    public static synchronized void enable(final int _cacheEntries)
+    {
+        if (_cacheEntries < 0)  {
+            throw new IllegalArgumentException("cache entries must not be negative, but is " + _cacheEntries);
+        }
+        Instrumentation.disable();
+        Instrumentation.current = new State(_cacheEntries);
+    }
+
+    /**
+     * Disables the instrumentation and unregisters the metrics from the
+     * platform MBean server.
+     */
+    public static synchronized void disable()
+    {
+        final State state = Instrumentation.current;
+        Instrumentation.current = null;
+        if (state != null)  {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (final String language : state.registered)  {
+                try  {
+                    server.unregisterMBean(Instrumentation.objectName(language));
+                } catch (final InstanceNotFoundException e)  {
+                    // already unregistered by someone else
+                } catch (final JMException e)  {
+                    throw new IllegalStateException("metrics of '" + language + "' could not be unregistered", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the instrumentation is enabled.
+     *
+     * @return <i>true</i> if the instrumentation is enabled
+     */
+    public static boolean isEnabled()
+    {
+        return Instrumentation.current != null;
+    }
+
+    /**
+     * Returns the metrics of the language of <code>_locale</code>.
+     *
+     * @param _locale   locale which defines the language
+     * @return metrics of the language or <code>null</code> if the
+     *         instrumentation is disabled or no converter of the language
+     *         was requested
+     */
+    public static ConversionMetrics getMetrics(final Locale _locale)
+    {
+        final State state = Instrumentation.current;
+        return state == null ? null : state.metrics.get(_locale.getLanguage());
+    }
+
+    /**
+     * Returns the metrics of all languages for which converters were
+     * requested.
+     *
+     * @return unmodifiable metrics; empty if the instrumentation is disabled
+     */
+    public static Collection<ConversionMetrics> getMetrics()
+    {
+        final State state = Instrumentation.current;
+        return state == null
+                        ? Collections.emptyList()
+                        : Collections.unmodifiableCollection(state.metrics.values());
+    }
+
+    /**
+     * Returns the instrumented converter for the <code>_converter</code> if
+     * the instrumentation is enabled. The instrumented converters are shared
+     * like the decorated converters.
+     *
+     * @param _converter    converter to instrument (could be
+     *                      <code>null</code>)
+     * @return instrumented converter; <code>_converter</code> itself if the
+     *         instrumentation is disabled or the converter is
+     *         <code>null</code>
+     */
+    static IConverter instrument(final IConverter _converter)
+    {
+        final State state = Instrumentation.current;
+        return state == null || _converter == null
+                        ? _converter
+                        : state.converters.computeIfAbsent(_converter, state::instrument);
+    }
+
+    /**
+     * Returns the object name of the metrics of a language.
+     *
+     * @param _language language of the metrics
+     * @return object name
+     * @throws JMException if the object name is malformed
+     */
+    private static ObjectName objectName(final String _language)
+        throws JMException
+    {
+        return new ObjectName(Instrumentation.OBJECT_NAME + ",language=" + ObjectName.quote(_language));
+    }
+
+    /**
+     * State of the enabled instrumentation.
+     */
+    private static final class State
+    {
+        /**
+         * Maximum number of cached numbers of each instrumented converter.
+         */
+        private final int cacheEntries;
+
+        /**
+         * Metrics depending on the language.
+         */
+        private final Map<String, ConversionMetrics> metrics = new ConcurrentHashMap<>();
+
+        /**
+         * Instrumented converters depending on the decorated converters.
+         */
+        private final Map<IConverter, IConverter> converters = new ConcurrentHashMap<>();
+
+        /**
+         * Languages of the metrics registered in the platform MBean server.
+         */
+        private final Set<String> registered = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Creates the state.
+         *
+         * @param _cacheEntries maximum number of cached numbers
+         */
+        State(final int _cacheEntries)
+        {
+            this.cacheEntries = _cacheEntries;
+        }
+
+        /**
+         * Creates the instrumented converter for a converter.
+         *
+         * @param _converter    converter to instrument
+         * @return instrumented converter
+         */
+        private IConverter instrument(final IConverter _converter)
+        {
+            final ConversionMetrics languageMetrics = this.metrics.computeIfAbsent(
+                            _converter.getLocale().getLanguage(), this::register);
+            return new InstrumentedConverter(this.cacheEntries > 0
+                            ? new CachingConverter(_converter, this.cacheEntries)
+                            : _converter, languageMetrics);
+        }
+
+        /**
+         * Creates the metrics of a language and registers them in the
+         * platform MBean server. If metrics of the language are already
+         * registered (e.g. from another class loader), the new metrics are
+         * not registered.
+         *
+         * @param _language language of the metrics
+         * @return new metrics
+         */
+        private ConversionMetrics register(final String _language)
+        {
+            final ConversionMetrics ret = new ConversionMetrics(_language);
+            try  {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(ret, Instrumentation.objectName(_language));
+                this.registered.add(_language);
+            } catch (final InstanceAlreadyExistsException e)  {
+                // the metrics are still available with the pull API
+            } catch (final JMException e)  {
+                throw new IllegalStateException("metrics of '" + _language + "' could not be registered", e);
+            }
+            return ret;
+        }
+    }
+}
@@ -0,0 +1,500 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+/**
+ * <p>Decorator for a {@link IConverter converter} which records each
+ * conversion in {@link ConversionMetrics metrics}: the latency, the length of
+ * the words and whether the conversion failed. The length of encoded words
+ * is recorded in bytes; for an {@link Appendable} which is no
+ * {@link CharSequence} the length is not known and only the latency is
+ * recorded.</p>
+ * <p>If the decorated converter is a {@link CachingConverter}, the hits and
+ * misses of the cache are included in the metrics.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * final ConversionMetrics metrics = new ConversionMetrics("en");
+ * final IConverter converter = new InstrumentedConverter(Converter.getMaleConverter(Locale.ENGLISH), metrics);
+ * final String text = converter.convert(100L);
+ * final long calls = metrics.getCallCount();
+ * </pre>
+ * </p>
+ *
+ * @author The eFaps Team
+ * @see Instrumentation
+ */
+public final class InstrumentedConverter
+    implements IConverter
+{
+    /**
+     * Decorated converter.
+     */
+    private final IConverter converter;
+
+    /**
+     * Metrics in which the conversions are recorded.
+     */
+    private final ConversionMetrics metrics;
+
+    /**
+     * Creates the instrumented decorator.
+     *
+     * @param _converter    converter to decorate
+     * @param _metrics      metrics in which the conversions are recorded
+     */
+    public InstrumentedConverter(final IConverter _converter,
+                                 final ConversionMetrics _metrics)
+    {
+        this.converter = _converter;
+        this.metrics = _metrics;
+        if (_converter instanceof CachingConverter)  {
+            _metrics.addCache((CachingConverter) _converter);
+        }
+    }
+
+    /**
+     * Converts the number with the decorated converter and records the
+     * conversion.
+     *
+     * @see IConverter#convert(long)
+     * @param _number   number to convert
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final long _number)
+    {
+        final long start = System.nanoTime();
+        try  {
+            final String ret = this.converter.convert(_number);
+            this.metrics.record(System.nanoTime() - start, ret.length());
+            return ret;
+        } catch (final RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the words of the number with the decorated converter and
+     * records the conversion.
+     *
+     * @see IConverter#convertTo(long, Appendable)
+     * @param _number   number to convert
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final long _number,
+                                final Appendable _target)
+        throws IOException
+    {
+        final int before = InstrumentedConverter.length(_target);
+        final long start = System.nanoTime();
+        try  {
+            final Appendable ret = this.converter.convertTo(_number, _target);
+            this.metrics.record(System.nanoTime() - start,
+                            before < 0 ? -1 : InstrumentedConverter.length(_target) - before);
+            return ret;
+        } catch (final IOException | RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the words of the number with the decorated converter to a
+     * string builder and records the conversion.
+     *
+     * @see IConverter#convertTo(long, StringBuilder)
+     * @param _number   number to convert
+     * @param _target   string builder to append the words
+     * @return given <code>_target</code>
+     */
+    @Override
+    public StringBuilder convertTo(final long _number,
+                                   final StringBuilder _target)
+    {
+        final int before = _target.length();
+        final long start = System.nanoTime();
+        try  {
+            final StringBuilder ret = this.converter.convertTo(_number, _target);
+            this.metrics.record(System.nanoTime() - start, _target.length() - before);
+            return ret;
+        } catch (final RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the encoded words of the number with the decorated converter
+     * and records the conversion. If the buffer is too small, the conversion
+     * is recorded without length.
+     *
+     * @see IConverter#convertTo(long, ByteBuffer, Charset)
+     * @param _number   number to convert
+     * @param _target   buffer to which the encoded words are written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes or the negative number of needed bytes
+     */
+    @Override
+    public int convertTo(final long _number,
+                         final ByteBuffer _target,
+                         final Charset _charset)
+    {
+        final long start = System.nanoTime();
+        try  {
+            final int ret = this.converter.convertTo(_number, _target, _charset);
+            this.metrics.record(System.nanoTime() - start, ret);
+            return ret;
+        } catch (final RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the encoded words of the number with the decorated converter
+     * and records the conversion.
+     *
+     * @see IConverter#convertTo(long, OutputStream, Charset)
+     * @param _number   number to convert
+     * @param _target   stream to which the encoded words are written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes
+     * @throws IOException if the bytes could not be written
+     */
+    @Override
+    public int convertTo(final long _number,
+                         final OutputStream _target,
+                         final Charset _charset)
+        throws IOException
+    {
+        final long start = System.nanoTime();
+        try  {
+            final int ret = this.converter.convertTo(_number, _target, _charset);
+            this.metrics.record(System.nanoTime() - start, ret);
+            return ret;
+        } catch (final IOException | RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Converts the number of arbitrary size with the decorated converter and
+     * records the conversion.
+     *
+     * @see IConverter#convert(BigInteger)
+     * @param _number   number to convert
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final BigInteger _number)
+    {
+        final long start = System.nanoTime();
+        try  {
+            final String ret = this.converter.convert(_number);
+            this.metrics.record(System.nanoTime() - start, ret.length());
+            return ret;
+        } catch (final RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the words of the number of arbitrary size with the decorated
+     * converter and records the conversion.
+     *
+     * @see IConverter#convertTo(BigInteger, StringBuilder)
+     * @param _number   number to convert
+     * @param _target   string builder to append the words
+     * @return given <code>_target</code>
+     */
+    @Override
+    public StringBuilder convertTo(final BigInteger _number,
+                                   final StringBuilder _target)
+    {
+        final int before = _target.length();
+        final long start = System.nanoTime();
+        try  {
+            final StringBuilder ret = this.converter.convertTo(_number, _target);
+            this.metrics.record(System.nanoTime() - start, _target.length() - before);
+            return ret;
+        } catch (final RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the words of the amount with the decorated converter and
+     * records the conversion.
+     *
+     * @see IConverter#convertMoneyTo(long, CurrencyDescriptor, Appendable)
+     * @param _minorUnits   amount in minor units
+     * @param _currency     description of the currency
+     * @param _target       target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertMoneyTo(final long _minorUnits,
+                                     final CurrencyDescriptor _currency,
+                                     final Appendable _target)
+        throws IOException
+    {
+        final int before = InstrumentedConverter.length(_target);
+        final long start = System.nanoTime();
+        try  {
+            final Appendable ret = this.converter.convertMoneyTo(_minorUnits, _currency, _target);
+            this.metrics.record(System.nanoTime() - start,
+                            before < 0 ? -1 : InstrumentedConverter.length(_target) - before);
+            return ret;
+        } catch (final IOException | RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the words of the decimal number with the decorated converter
+     * and records the conversion.
+     *
+     * @see IConverter#convertTo(BigDecimal, FractionStyle, Appendable)
+     * @param _number   decimal number to convert
+     * @param _style    style of the fraction digits
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final BigDecimal _number,
+                                final FractionStyle _style,
+                                final Appendable _target)
+        throws IOException
+    {
+        final int before = InstrumentedConverter.length(_target);
+        final long start = System.nanoTime();
+        try  {
+            final Appendable ret = this.converter.convertTo(_number, _style, _target);
+            this.metrics.record(System.nanoTime() - start,
+                            before < 0 ? -1 : InstrumentedConverter.length(_target) - before);
+            return ret;
+        } catch (final IOException | RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the words of the ordinal number with the decorated converter
+     * and records the conversion.
+     *
+     * @see IConverter#convertOrdinalTo(long, Appendable)
+     * @param _number   number to convert
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertOrdinalTo(final long _number,
+                                       final Appendable _target)
+        throws IOException
+    {
+        final int before = InstrumentedConverter.length(_target);
+        final long start = System.nanoTime();
+        try  {
+            final Appendable ret = this.converter.convertOrdinalTo(_number, _target);
+            this.metrics.record(System.nanoTime() - start,
+                            before < 0 ? -1 : InstrumentedConverter.length(_target) - before);
+            return ret;
+        } catch (final IOException | RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Converts the number with the <code>_options</code> with the decorated
+     * converter and records the conversion.
+     *
+     * @see IConverter#convert(long, ConversionOptions)
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final long _number,
+                          final ConversionOptions _options)
+    {
+        final long start = System.nanoTime();
+        try  {
+            final String ret = this.converter.convert(_number, _options);
+            this.metrics.record(System.nanoTime() - start, ret.length());
+            return ret;
+        } catch (final RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the words of the number with the <code>_options</code> with the
+     * decorated converter and records the conversion.
+     *
+     * @see IConverter#convertTo(long, ConversionOptions, Appendable)
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final long _number,
+                                final ConversionOptions _options,
+                                final Appendable _target)
+        throws IOException
+    {
+        final int before = InstrumentedConverter.length(_target);
+        final long start = System.nanoTime();
+        try  {
+            final Appendable ret = this.converter.convertTo(_number, _options, _target);
+            this.metrics.record(System.nanoTime() - start,
+                            before < 0 ? -1 : InstrumentedConverter.length(_target) - before);
+            return ret;
+        } catch (final IOException | RuntimeException e)  {
+            this.metrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the length of the words with the decorated converter.
+     *
+     * @see IConverter#length(long)
+     * @param _number   number to measure
+     * @return length of the words in characters
+     */
+    @Override
+    public int length(final long _number)
+    {
+        return this.converter.length(_number);
+    }
+
+    /**
+     * Returns the length of the UTF-8 encoded words with the decorated
+     * converter.
+     *
+     * @see IConverter#byteLength(long)
+     * @param _number   number to measure
+     * @return length of the UTF-8 encoded words in bytes
+     */
+    @Override
+    public int byteLength(final long _number)
+    {
+        return this.converter.byteLength(_number);
+    }
+
+    /**
+     * Returns the fingerprint of the decorated converter.
+     *
+     * @return fingerprint of the words of the decorated converter
+     */
+    @Override
+    public long getFingerprint()
+    {
+        return this.converter.getFingerprint();
+    }
+
+    /**
+     * Returns the locale of the decorated converter.
+     *
+     * @return locale of the decorated converter
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return this.converter.getLocale();
+    }
+
+    /**
+     * Returns the decimal flag of the decorated converter.
+     *
+     * @return <i>true</i> if the decorated converter uses the decimal system
+     */
+    @Override
+    public boolean isDecimal()
+    {
+        return this.converter.isDecimal();
+    }
+
+    /**
+     * Returns the short scale flag of the decorated converter.
+     *
+     * @return <i>true</i> if the decorated converter uses the short scale
+     */
+    @Override
+    public boolean usesShortScale()
+    {
+        return this.converter.usesShortScale();
+    }
+
+    /**
+     * Returns the decorated converter.
+     *
+     * @return decorated converter
+     */
+    public IConverter getConverter()
+    {
+        return this.converter;
+    }
+
+    /**
+     * Returns the metrics in which the conversions are recorded.
+     *
+     * @return metrics of the converter
+     */
+    public ConversionMetrics getMetrics()
+    {
+        return this.metrics;
+    }
+
+    /**
+     * Returns the current length of the <code>_target</code>.
+     *
+     * @param _target   target of a conversion
+     * @return length of the target or <code>-1</code> if the target is no
+     *         char sequence
+     */
+    private static int length(final Appendable _target)
+    {
+        return _target instanceof CharSequence ? ((CharSequence) _target).length() : -1;
+    }
+}
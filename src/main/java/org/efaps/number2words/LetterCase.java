@@ -0,0 +1,51 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+/**
+ * Letter case in which the words of a number are written.
+ *
+ * @author The eFaps Team
+ * @see ConversionOptions#withLetterCase(LetterCase)
+ */
+public enum LetterCase
+{
+    /**
+     * The words are written as defined by the language, e.g. &quot;zwei
+     * Millionen&quot; with the capitalized German nouns.
+     */
+    DEFAULT,
+
+    /**
+     * All words are written in lower case, e.g. &quot;zwei
+     * millionen&quot;.
+     */
+    LOWER,
+
+    /**
+     * All words are written in upper case, e.g. &quot;ONE HUNDRED&quot; for
+     * cheques.
+     */
+    UPPER,
+
+    /**
+     * The first letter of the text is written in upper case, all other
+     * letters as defined by the language, e.g. &quot;One hundred&quot;.
+     */
+    CAPITALIZED;
+}
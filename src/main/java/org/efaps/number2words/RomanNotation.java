@@ -0,0 +1,80 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+/**
+ * Notation of the numbers which are written with a
+ * {@link Converter#getRomanConverter(RomanNotation) Roman numeral converter}.
+ * The notations differ in the symbols for the thousands and therefore in the
+ * greatest number which could be written.
+ *
+ * @author The eFaps Team
+ * @see Converter#getRomanConverter(RomanNotation)
+ */
+public enum RomanNotation
+{
+    /**
+     * Standard notation with the symbols I, V, X, L, C, D and M for the
+     * numbers from 1 till 3999 (MMMCMXCIX).
+     */
+    STANDARD(3_999),
+
+    /**
+     * Vinculum notation: from 4000 on, the thousands are written with an
+     * overline (combining overline U+0305 after each symbol), which
+     * multiplies the value by one thousand, e.g. 4000 is I&#x305;V&#x305;.
+     * The numbers from 1 till 3,999,999 are supported; numbers less than
+     * 4000 are written in the standard notation.
+     */
+    VINCULUM(3_999_999),
+
+    /**
+     * Apostrophus notation: the thousands are written with the reversed C
+     * (U+2183), e.g. 1000 is CI&#x2183;, 5000 is I&#x2183;&#x2183; and
+     * 10,000 is CCI&#x2183;&#x2183;. The numbers from 1 till 399,999 are
+     * supported.
+     */
+    APOSTROPHUS(399_999);
+
+    /**
+     * Greatest number which could be written in the notation.
+     */
+    private final long maximum;
+
+    /**
+     * Creates the notation.
+     *
+     * @param _maximum  greatest number which could be written
+     */
+    RomanNotation(final long _maximum)
+    {
+        this.maximum = _maximum;
+    }
+
+    /**
+     * Returns the greatest number which could be written in the notation.
+     * The smallest number is always 1, because there are no Roman numerals
+     * for zero and negative numbers.
+     *
+     * @return greatest number
+     */
+    public long getMaximum()
+    {
+        return this.maximum;
+    }
+}
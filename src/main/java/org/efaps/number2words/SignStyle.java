@@ -0,0 +1,45 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+/**
+ * Style in which the sign of a negative number is written.
+ *
+ * @author The eFaps Team
+ * @see ConversionOptions#withSignStyle(SignStyle)
+ */
+public enum SignStyle
+{
+    /**
+     * The word of the language for minus is written in front of the number,
+     * e.g. &quot;minus five&quot;.
+     */
+    WORD,
+
+    /**
+     * The minus sign is written directly in front of the words, e.g.
+     * &quot;-five&quot;.
+     */
+    SYMBOL,
+
+    /**
+     * The sign is not written, so that the words of the absolute value are
+     * written, e.g. &quot;five&quot;.
+     */
+    NONE;
+}
@@ -0,0 +1,760 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * <p>Converter which serves the words of a dense range of numbers from a
+ * memory-mapped snapshot file and converts all other numbers with the
+ * decorated converter. The snapshot is {@link #write(IConverter, long, long,
+ * Path) written} once (e.g. at build time) and {@link #open(IConverter, Path)
+ * opened} at start-up, so that the first conversions neither need the
+ * compiled tables of the converter nor a warm JIT: a number of the range is
+ * only an offset lookup in the mapped file. The UTF-8 words are copied
+ * directly from the mapped file into byte buffers and streams; strings are
+ * only created for the string methods.</p>
+ * <p>The snapshot file has a fixed header (magic, format version,
+ * {@link IConverter#getFingerprint() fingerprint} of the words, first
+ * number, count of numbers, length of the words and language), the offsets
+ * of the words of all numbers and the concatenated UTF-8 words. A snapshot
+ * is only opened if the fingerprint and the language are the same as the
+ * fingerprint and the language of the decorated converter, so that a stale
+ * snapshot of changed words is rejected. The whole file is mapped at once,
+ * so that it must be smaller than 2 GB.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * final IConverter english = Converter.getMaleConverter(Locale.ENGLISH);
+ * SnapshotConverter.write(english, 0, 1_000_000, Paths.get("en.snapshot"));
+ * final IConverter converter = SnapshotConverter.open(english, Paths.get("en.snapshot"));
+ * </pre>
+ * The snapshot can also be written from the command line with
+ * <code>java org.efaps.number2words.SnapshotConverter en 0 1000000 en.snapshot</code>.
+ * </p>
+ *
+ * @author The eFaps Team
+ */
+public final class SnapshotConverter
+    implements IConverter
+{
+    /**
+     * Magic number at the start of a snapshot file (&quot;N2WS&quot;).
+     */
+    public static final int MAGIC = 0x4E325753;
+
+    /**
+     * Version of the format of the snapshot file.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * Size of the header in bytes.
+     */
+    private static final int HEADER_SIZE = 40;
+
+    /**
+     * Maximum length in bytes of the language in the header.
+     */
+    private static final int LANGUAGE_SIZE = 8;
+
+    /**
+     * Size of the buffer used to write the words.
+     */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Decorated converter used for all numbers outside of the range.
+     */
+    private final IConverter converter;
+
+    /**
+     * Mapped snapshot file; only absolute methods are used, so that the
+     * buffer is shared by all threads.
+     */
+    private final MappedByteBuffer snapshot;
+
+    /**
+     * First number of the range.
+     */
+    private final long first;
+
+    /**
+     * Number of numbers of the range.
+     */
+    private final int count;
+
+    /**
+     * Position of the words in the snapshot file.
+     */
+    private final int wordsStart;
+
+    /**
+     * Creates the converter for an opened snapshot.
+     *
+     * @param _converter    decorated converter
+     * @param _snapshot     mapped snapshot file
+     * @param _first        first number of the range
+     * @param _count        number of numbers of the range
+     */
+    private SnapshotConverter(final IConverter _converter,
+                              final MappedByteBuffer _snapshot,
+                              final long _first,
+                              final int _count)
+    {
+        this.converter = _converter;
+        this.snapshot = _snapshot;
+        this.first = _first;
+        this.count = _count;
+        this.wordsStart = SnapshotConverter.HEADER_SIZE + 4 * (_count + 1);
+    }
+
+    /**
+     * Writes the snapshot of the words of all numbers from
+     * <code>_first</code> to <code>_last</code> converted with
+     * <code>_converter</code>. The snapshot is written to a temporary file
+     * which replaces the <code>_file</code> atomically, so that a reader
+     * never maps a partially written snapshot.
+     *
+     * @param _converter    converter of the words
+     * @param _first        first number of the range (inclusive)
+     * @param _last         last number of the range (inclusive)
+     * @param _file         snapshot file
+     * @return size of the snapshot file in bytes
+     * @throws IOException if the snapshot could not be written or is larger
+     *                     than 2 GB
+     */
+    public static long write(final IConverter _converter,
+                             final long _first,
+                             final long _last,
+                             final Path _file)
+        throws IOException
+    {
+        final long range = _last - _first;
+        if (_last < _first || range < 0 || range >= (Integer.MAX_VALUE - SnapshotConverter.HEADER_SIZE) / 4 - 1)  {
+            throw new IllegalArgumentException("range " + _first + " till " + _last + " is not supported");
+        }
+        final String language = _converter.getLocale().getLanguage();
+        if (language.length() > SnapshotConverter.LANGUAGE_SIZE)  {
+            throw new IllegalArgumentException("language '" + language + "' is too long");
+        }
+        final int numbers = (int) range + 1;
+        final int[] offsets = new int[numbers + 1];
+        final long wordsStart = SnapshotConverter.HEADER_SIZE + 4L * (numbers + 1);
+        final Path parent = _file.toAbsolutePath().getParent();
+        final Path temp = Files.createTempFile(parent, _file.getFileName().toString(), ".tmp");
+        final long ret;
+        try  {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE))  {
+                out.position(wordsStart);
+                ByteBuffer buffer = ByteBuffer.allocateDirect(SnapshotConverter.WRITE_BUFFER_SIZE);
+                long offset = 0;
+                for (int i = 0; i < numbers; i++)  {
+                    offsets[i] = (int) offset;
+                    int length = _converter.convertTo(_first + i, buffer);
+                    if (length < 0)  {
+                        SnapshotConverter.flush(buffer, out);
+                        if (-length > buffer.capacity())  {
+                            buffer = ByteBuffer.allocateDirect(-length);
+                        }
+                        length = _converter.convertTo(_first + i, buffer);
+                    }
+                    offset += length;
+                    if (wordsStart + offset > Integer.MAX_VALUE)  {
+                        throw new IOException("snapshot of " + _first + " till " + _last + " is larger than 2 GB");
+                    }
+                }
+                offsets[numbers] = (int) offset;
+                SnapshotConverter.flush(buffer, out);
+
+                final ByteBuffer header = ByteBuffer.allocate((int) wordsStart);
+                header.putInt(SnapshotConverter.MAGIC)
+                    .putInt(SnapshotConverter.FORMAT_VERSION)
+                    .putLong(_converter.getFingerprint())
+                    .putLong(_first)
+                    .putInt(numbers)
+                    .putInt((int) offset)
+                    .put(language.getBytes(StandardCharsets.US_ASCII));
+                header.position(SnapshotConverter.HEADER_SIZE);
+                header.asIntBuffer().put(offsets);
+                header.position(header.capacity());
+                out.position(0);
+                SnapshotConverter.flush(header, out);
+                ret = wordsStart + offset;
+            }
+            Files.move(temp, _file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally  {
+            Files.deleteIfExists(temp);
+        }
+        return ret;
+    }
+
+    /**
+     * Writes the content of the <code>_buffer</code> (from the start till the
+     * current position) to the channel and clears the buffer.
+     *
+     * @param _buffer   buffer to write
+     * @param _out      channel to which the buffer is written
+     * @throws IOException if the buffer could not be written
+     */
+    private static void flush(final ByteBuffer _buffer,
+                              final FileChannel _out)
+        throws IOException
+    {
+        _buffer.flip();
+        while (_buffer.hasRemaining())  {
+            _out.write(_buffer);
+        }
+        _buffer.clear();
+    }
+
+    /**
+     * Opens the snapshot <code>_file</code> for the <code>_converter</code>.
+     * The file is mapped read-only; the mapping is released when the
+     * returned converter is garbage collected.
+     *
+     * @param _converter    converter for which the snapshot was written; the
+     *                      converter is used for all numbers outside of the
+     *                      range of the snapshot
+     * @param _file         snapshot file
+     * @return converter which serves the numbers of the range from the
+     *         snapshot
+     * @throws IOException if the file could not be read, is not a snapshot
+     *                     or is stale (written with other words or for
+     *                     another language)
+     */
+    public static SnapshotConverter open(final IConverter _converter,
+                                         final Path _file)
+        throws IOException
+    {
+        try (FileChannel in = FileChannel.open(_file, StandardOpenOption.READ))  {
+            final long size = in.size();
+            if (size < SnapshotConverter.HEADER_SIZE || size > Integer.MAX_VALUE)  {
+                throw new IOException("file " + _file + " is not a snapshot");
+            }
+            final MappedByteBuffer snapshot = in.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (snapshot.getInt(0) != SnapshotConverter.MAGIC)  {
+                throw new IOException("file " + _file + " is not a snapshot");
+            }
+            if (snapshot.getInt(4) != SnapshotConverter.FORMAT_VERSION)  {
+                throw new IOException("snapshot " + _file + " has the unsupported format version "
+                                + snapshot.getInt(4));
+            }
+            final byte[] languageBytes = new byte[SnapshotConverter.LANGUAGE_SIZE];
+            for (int i = 0; i < languageBytes.length; i++)  {
+                languageBytes[i] = snapshot.get(SnapshotConverter.HEADER_SIZE - SnapshotConverter.LANGUAGE_SIZE + i);
+            }
+            final String language = new String(languageBytes, StandardCharsets.US_ASCII).trim();
+            if (!language.equals(_converter.getLocale().getLanguage()))  {
+                throw new IOException("snapshot " + _file + " is written for the language '" + language + "'");
+            }
+            if (snapshot.getLong(8) != _converter.getFingerprint())  {
+                throw new IOException("snapshot " + _file + " is stale: the words of the converter have changed");
+            }
+            final int numbers = snapshot.getInt(24);
+            final int length = snapshot.getInt(28);
+            if (numbers < 0 || SnapshotConverter.HEADER_SIZE + 4L * (numbers + 1) + length != size)  {
+                throw new IOException("snapshot " + _file + " is truncated or corrupt");
+            }
+            return new SnapshotConverter(_converter, snapshot, snapshot.getLong(16), numbers);
+        }
+    }
+
+    /**
+     * Returns the index of the <code>_number</code> in the snapshot.
+     *
+     * @param _number   number to search
+     * @return index of the number; <code>-1</code> if the number is not in
+     *         the range of the snapshot
+     */
+    private int index(final long _number)
+    {
+        // an overflow of the difference is always outside of the range
+        final long ret = _number - this.first;
+        return ret >= 0 && ret < this.count ? (int) ret : -1;
+    }
+
+    /**
+     * Returns the position of the words of the number with the
+     * <code>_index</code> in the snapshot file.
+     *
+     * @param _index    index of the number
+     * @return position of the words
+     */
+    private int start(final int _index)
+    {
+        return this.wordsStart + this.snapshot.getInt(SnapshotConverter.HEADER_SIZE + 4 * _index);
+    }
+
+    /**
+     * Returns the position behind the words of the number with the
+     * <code>_index</code> in the snapshot file.
+     *
+     * @param _index    index of the number
+     * @return position behind the words
+     */
+    private int end(final int _index)
+    {
+        return start(_index + 1);
+    }
+
+    /**
+     * Appends the words of the number with the <code>_index</code> from the
+     * snapshot. ASCII bytes are appended directly; the words are only
+     * decoded if they contain other characters.
+     *
+     * @param _target   target to append the words
+     * @param _index    index of the number
+     * @throws IOException if the words could not be appended
+     */
+    private void append(final Appendable _target,
+                        final int _index)
+        throws IOException
+    {
+        final int end = end(_index);
+        int position = start(_index);
+        while (position < end && this.snapshot.get(position) >= 0)  {
+            _target.append((char) this.snapshot.get(position++));
+        }
+        if (position < end)  {
+            final ByteBuffer rest = this.snapshot.duplicate();
+            rest.position(position).limit(end);
+            _target.append(StandardCharsets.UTF_8.decode(rest));
+        }
+    }
+
+    /**
+     * Converts the number with the snapshot or with the decorated converter
+     * if the number is outside of the range.
+     *
+     * @see IConverter#convert(long)
+     * @param _number   number to convert
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final long _number)
+    {
+        final int index = index(_number);
+        final String ret;
+        if (index < 0)  {
+            ret = this.converter.convert(_number);
+        } else  {
+            final int start = start(index);
+            final byte[] bytes = new byte[end(index) - start];
+            final ByteBuffer words = this.snapshot.duplicate();
+            words.position(start);
+            words.get(bytes);
+            ret = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return ret;
+    }
+
+    /**
+     * Appends the words of the number with the snapshot or with the
+     * decorated converter if the number is outside of the range.
+     *
+     * @see IConverter#convertTo(long, Appendable)
+     * @param _number   number to convert
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final long _number,
+                                final Appendable _target)
+        throws IOException
+    {
+        final int index = index(_number);
+        if (index < 0)  {
+            this.converter.convertTo(_number, _target);
+        } else  {
+            append(_target, index);
+        }
+        return _target;
+    }
+
+    /**
+     * Appends the words of the number with the snapshot or with the
+     * decorated converter if the number is outside of the range.
+     *
+     * @see IConverter#convertTo(long, StringBuilder)
+     * @param _number   number to convert
+     * @param _target   string builder to append the words
+     * @return given <code>_target</code>
+     */
+    @Override
+    public StringBuilder convertTo(final long _number,
+                                   final StringBuilder _target)
+    {
+        final int index = index(_number);
+        if (index < 0)  {
+            this.converter.convertTo(_number, _target);
+        } else  {
+            try  {
+                append(_target, index);
+            } catch (final IOException e)  {
+                // could not happen, because a string builder does not throw
+                throw new IllegalStateException(e);
+            }
+        }
+        return _target;
+    }
+
+    /**
+     * Copies the UTF-8 words of the number from the snapshot into the buffer
+     * or converts the number with the decorated converter if the number is
+     * outside of the range or another charset is needed.
+     *
+     * @see IConverter#convertTo(long, ByteBuffer, Charset)
+     * @param _number   number to convert
+     * @param _target   buffer to which the encoded words are written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes; if the remaining space of
+     *         <code>_target</code> is too small, nothing is written and the
+     *         negative number of needed bytes is returned
+     */
+    @Override
+    public int convertTo(final long _number,
+                         final ByteBuffer _target,
+                         final Charset _charset)
+    {
+        final int index = StandardCharsets.UTF_8.equals(_charset) ? index(_number) : -1;
+        final int ret;
+        if (index < 0)  {
+            ret = this.converter.convertTo(_number, _target, _charset);
+        } else  {
+            final int start = start(index);
+            final int length = end(index) - start;
+            if (_target.remaining() < length)  {
+                ret = -length;
+            } else  {
+                final ByteBuffer words = this.snapshot.duplicate();
+                words.position(start).limit(start + length);
+                _target.put(words);
+                ret = length;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Writes the UTF-8 words of the number from the snapshot into the stream
+     * or converts the number with the decorated converter if the number is
+     * outside of the range or another charset is needed.
+     *
+     * @see IConverter#convertTo(long, OutputStream, Charset)
+     * @param _number   number to convert
+     * @param _target   stream to which the encoded words are written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes
+     * @throws IOException if the bytes could not be written
+     */
+    @Override
+    public int convertTo(final long _number,
+                         final OutputStream _target,
+                         final Charset _charset)
+        throws IOException
+    {
+        final int index = StandardCharsets.UTF_8.equals(_charset) ? index(_number) : -1;
+        final int ret;
+        if (index < 0)  {
+            ret = this.converter.convertTo(_number, _target, _charset);
+        } else  {
+            final int start = start(index);
+            final byte[] bytes = new byte[end(index) - start];
+            final ByteBuffer words = this.snapshot.duplicate();
+            words.position(start);
+            words.get(bytes);
+            _target.write(bytes);
+            ret = bytes.length;
+        }
+        return ret;
+    }
+
+    /**
+     * Converts the number with the decorated converter.
+     *
+     * @see IConverter#convert(BigInteger)
+     * @param _number   number to convert
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final BigInteger _number)
+    {
+        return _number.bitLength() < Long.SIZE ? convert(_number.longValue()) : this.converter.convert(_number);
+    }
+
+    /**
+     * Appends the words of the number with the decorated converter.
+     *
+     * @see IConverter#convertTo(BigInteger, StringBuilder)
+     * @param _number   number to convert
+     * @param _target   string builder to append the words
+     * @return given <code>_target</code>
+     */
+    @Override
+    public StringBuilder convertTo(final BigInteger _number,
+                                   final StringBuilder _target)
+    {
+        return _number.bitLength() < Long.SIZE
+                        ? convertTo(_number.longValue(), _target)
+                        : this.converter.convertTo(_number, _target);
+    }
+
+    /**
+     * Appends the words of the amount with the decorated converter.
+     *
+     * @see IConverter#convertMoneyTo(long, CurrencyDescriptor, Appendable)
+     * @param _minorUnits   amount in minor units
+     * @param _currency     description of the currency
+     * @param _target       target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertMoneyTo(final long _minorUnits,
+                                     final CurrencyDescriptor _currency,
+                                     final Appendable _target)
+        throws IOException
+    {
+        return this.converter.convertMoneyTo(_minorUnits, _currency, _target);
+    }
+
+    /**
+     * Appends the words of the decimal number with the decorated converter.
+     *
+     * @see IConverter#convertTo(BigDecimal, FractionStyle, Appendable)
+     * @param _number   decimal number to convert
+     * @param _style    style of the fraction digits
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final BigDecimal _number,
+                                final FractionStyle _style,
+                                final Appendable _target)
+        throws IOException
+    {
+        return this.converter.convertTo(_number, _style, _target);
+    }
+
+    /**
+     * Appends the words of the ordinal number with the decorated converter.
+     *
+     * @see IConverter#convertOrdinalTo(long, Appendable)
+     * @param _number   number to convert
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertOrdinalTo(final long _number,
+                                       final Appendable _target)
+        throws IOException
+    {
+        return this.converter.convertOrdinalTo(_number, _target);
+    }
+
+    /**
+     * Converts the number with the <code>_options</code>. The words of the
+     * {@link ConversionOptions#DEFAULT default options} are read from the
+     * snapshot, all other options are converted with the decorated converter.
+     *
+     * @see IConverter#convert(long, ConversionOptions)
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final long _number,
+                          final ConversionOptions _options)
+    {
+        return _options.isDefault() ? convert(_number) : this.converter.convert(_number, _options);
+    }
+
+    /**
+     * Appends the words of the number with the <code>_options</code>. The words
+     * of the {@link ConversionOptions#DEFAULT default options} are read from
+     * the snapshot.
+     *
+     * @see IConverter#convertTo(long, ConversionOptions, Appendable)
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final long _number,
+                                final ConversionOptions _options,
+                                final Appendable _target)
+        throws IOException
+    {
+        return _options.isDefault()
+                        ? convertTo(_number, _target)
+                        : this.converter.convertTo(_number, _options, _target);
+    }
+
+    /**
+     * Returns the length of the words with the decorated converter.
+     *
+     * @see IConverter#length(long)
+     * @param _number   number to measure
+     * @return length of the words in characters
+     */
+    @Override
+    public int length(final long _number)
+    {
+        return this.converter.length(_number);
+    }
+
+    /**
+     * Returns the length of the UTF-8 encoded words from the offsets of the
+     * snapshot or with the decorated converter if the number is outside of
+     * the range.
+     *
+     * @see IConverter#byteLength(long)
+     * @param _number   number to measure
+     * @return length of the UTF-8 encoded words in bytes
+     */
+    @Override
+    public int byteLength(final long _number)
+    {
+        final int index = index(_number);
+        return index < 0 ? this.converter.byteLength(_number) : end(index) - start(index);
+    }
+
+    /**
+     * Returns the fingerprint of the decorated converter which is the same
+     * as the fingerprint of the snapshot.
+     *
+     * @return fingerprint of the words
+     */
+    @Override
+    public long getFingerprint()
+    {
+        return this.converter.getFingerprint();
+    }
+
+    /**
+     * Returns the locale of the decorated converter.
+     *
+     * @return locale of the decorated converter
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return this.converter.getLocale();
+    }
+
+    /**
+     * Returns the decimal flag of the decorated converter.
+     *
+     * @return <i>true</i> if the decorated converter uses the decimal system
+     */
+    @Override
+    public boolean isDecimal()
+    {
+        return this.converter.isDecimal();
+    }
+
+    /**
+     * Returns the short scale flag of the decorated converter.
+     *
+     * @return <i>true</i> if the decorated converter uses the short scale
+     */
+    @Override
+    public boolean usesShortScale()
+    {
+        return this.converter.usesShortScale();
+    }
+
+    /**
+     * Returns the decorated converter.
+     *
+     * @return decorated converter
+     */
+    public IConverter getConverter()
+    {
+        return this.converter;
+    }
+
+    /**
+     * Returns the first number of the range of the snapshot.
+     *
+     * @return first number
+     */
+    public long getFirst()
+    {
+        return this.first;
+    }
+
+    /**
+     * Returns the last number of the range of the snapshot.
+     *
+     * @return last number
+     */
+    public long getLast()
+    {
+        return this.first + this.count - 1;
+    }
+
+    /**
+     * Writes a snapshot from the command line. The arguments are the
+     * language, the first and the last number of the range, the snapshot
+     * file and optional the gender (<code>MALE</code>, <code>FEMALE</code> or
+     * <code>NEUTER</code>).
+     *
+     * @param _args     command line arguments
+     * @throws IOException if the snapshot could not be written
+     */
+    public static void main(final String[] _args)
+        throws IOException
+    {
+        if (_args.length < 4 || _args.length > 5)  {
+            System.err.println("usage: SnapshotConverter <language> <first> <last> <snapshot file> [gender]");
+            System.exit(2);
+        }
+        final Gender gender = _args.length > 4 ? Gender.valueOf(_args[4].toUpperCase(Locale.ROOT)) : Gender.MALE;
+        final IConverter converter = Converter.getConverter(new Locale(_args[0]), gender);
+        if (converter == null)  {
+            System.err.println("language '" + _args[0] + "' is not supported");
+            System.exit(2);
+        }
+        final long start = System.nanoTime();
+        final long size = SnapshotConverter.write(converter, Long.parseLong(_args[1]), Long.parseLong(_args[2]),
+                        Paths.get(_args[3]));
+        System.out.printf(Locale.ROOT, "wrote snapshot of %.1f MB in %.2f s%n", size / (double) (1 << 20),
+                        (System.nanoTime() - start) / 1e9);
+    }
+}
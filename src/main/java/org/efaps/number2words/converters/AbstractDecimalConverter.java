@@ -17,8 +17,20 @@
 
 package org.efaps.number2words.converters;
 
-import java.text.DecimalFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.efaps.number2words.ConversionOptions;
+import org.efaps.number2words.CurrencyDescriptor;
+import org.efaps.number2words.FractionStyle;
 import org.efaps.number2words.IConverter;
 
 /**
@@ -31,42 +43,175 @@ public abstract class AbstractDecimalConverter
     implements IConverter
 {
     /**
-     * Mask used to format theAbstractDecimalConvertert in strings to extract the
-     * numbers depending on the power.
+     * Divisors used to extract the groups of three digits of a number
+     * depending on the power. The divisor with index <code>n</code> is
+     * <code>1000^(n + 1)</code>.
      *
-     * @see #convert(long)
+     * @see #appendWords(Appendable, long, boolean)
      */
-    private static final String FORMAT_MASK = "000000000000000000000";
+    private static final long[] POWER_DIVISORS = {
+        1_000L, 1_000_000L, 1_000_000_000L, 1_000_000_000_000L,
+        1_000_000_000_000_000L, 1_000_000_000_000_000_000L};
 
     /**
-     * Method to convert the numbers from 1 to 999. The last to digits
-     * (<code>_number modular 100</code>) are converted to words with
-     * {@link #convertLessThanOneHundred(int)} so that some special kinds for
-     * languages could be easy implemented.
+     * Powers of ten used to split a decimal number into the integer part and
+     * the fraction. The power with index <code>n</code> is
+     * <code>10^n</code>, so that the maximum supported scale is 18.
      *
-     * @param _number number less than one thousand to be converted
-     * @return return words for number
-     * @see #convertLessThanOneHundred(int)
+     * @see #convertTo(BigDecimal, FractionStyle, Appendable)
      */
-    protected String convertLessThanOneThousand(final int _number)
+    private static final long[] TEN_POWERS = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L};
+
+    /**
+     * Maximum number of {@link #optionTables tables derived for conversion
+     * options} which are cached in one converter.
+     */
+    private static final int MAX_OPTION_TABLES = 16;
+
+    /**
+     * Tables derived for {@link ConversionOptions conversion options} from
+     * the {@link #getTable() table} of this converter. The cache is bounded
+     * by {@link #MAX_OPTION_TABLES} and evicts with the CLOCK algorithm.
+     *
+     * @see #getTable(ConversionOptions)
+     */
+    private final Map<ConversionOptions, OptionTable> optionTables = new ConcurrentHashMap<>();
+
+    /**
+     * Is a thread evicting {@link #optionTables derived tables}? Only one
+     * thread evicts at the same time; the other threads do not wait.
+     *
+     * @see #evictOptionTables(ConversionOptions)
+     */
+    private final AtomicBoolean evictingOptionTables = new AtomicBoolean();
+
+    /**
+     * Method to append the words for the numbers from 1 to 999. The method
+     * is only used to compile the {@link #getTable() table} of precomputed
+     * fragments. The last two digits (<code>_number modular 100</code>) are
+     * converted to words with
+     * {@link #appendLessThanOneHundred(Appendable, boolean, int)} so that
+     * some special kinds for languages could be easy implemented.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @see #appendLessThanOneHundred(Appendable, boolean, int)
+     */
+    protected boolean appendLessThanOneThousand(final Appendable _target,
+                                                final boolean _separate,
+                                                final int _number)
+        throws IOException
     {
-        return new StringBuilder()
-                .append(getNumNames()[_number / 100])
-                .append(' ')
-                .append(getTensNames()[_number < 100 ? 0 : 10])
-                .append(' ')
-                .append(convertLessThanOneHundred(_number % 100))
-                .toString();
+        boolean separate = _separate;
+        if (_number >= 100)  {
+            separate = appendWord(_target, separate, getNumNames()[_number / 100]);
+            separate = appendWord(_target, separate, getTensNames()[10]);
+        }
+        return appendLessThanOneHundred(_target, separate, _number % 100);
     }
 
     /**
-     * The method converts the numbers from 1 to 99 into words. The method is
-     * used from {@link #convertLessThanOneThousand(int)}.
+     * Method to append the words for the last group of three digits (the
+     * numbers from 1 to 999 without power). The method is only used to
+     * compile the {@link #getTable() table} of precomputed fragments. The
+     * default implementation uses
+     * {@link #appendLessThanOneThousand(Appendable, boolean, int)}; languages
+     * with gender dependent number words overwrite the method, because only
+     * the last group agrees with the gender of the counted noun.
      *
-     * @param _number       number less than one hundred to convert
-     * @return converted <code>_number</code> in words
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
      */
-    protected abstract String convertLessThanOneHundred(final int _number);
+    protected boolean appendLastGroup(final Appendable _target,
+                                      final boolean _separate,
+                                      final int _number)
+        throws IOException
+    {
+        return appendLessThanOneThousand(_target, _separate, _number);
+    }
+
+    /**
+     * Method to append the words for the last group of three digits if the
+     * number is written in front of a noun (e.g. the name of a currency
+     * unit). The method is only used to compile the {@link #getTable() table}
+     * of precomputed fragments. The default implementation uses
+     * {@link #appendLastGroup(Appendable, boolean, int)}; languages which
+     * shorten the last word in front of a noun overwrite the method.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    protected boolean appendLastGroupBeforeNoun(final Appendable _target,
+                                                final boolean _separate,
+                                                final int _number)
+        throws IOException
+    {
+        return appendLastGroup(_target, _separate, _number);
+    }
+
+    /**
+     * The method appends the words for the numbers from 1 to 99. The method
+     * is used from {@link #appendLessThanOneThousand(Appendable, boolean, int)}.
+     * The default implementation takes the words from the table
+     * {@link #getLessThanOneHundredNames()}; languages with regular tens
+     * overwrite the method and compose the words from
+     * {@link #getNumNames()} and {@link #getTensNames()}.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one hundred to convert
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @throws UnsupportedOperationException if the language defines no
+     *                                       table of the words
+     */
+    protected boolean appendLessThanOneHundred(final Appendable _target,
+                                               final boolean _separate,
+                                               final int _number)
+        throws IOException
+    {
+        final String[] names = getLessThanOneHundredNames();
+        if (names == null)  {
+            throw new UnsupportedOperationException(getClass().getName()
+                            + " defines no words for the numbers less than one hundred");
+        }
+        return AbstractDecimalConverter.appendWord(_target, _separate, names[_number]);
+    }
+
+    /**
+     * Returns the words of all numbers from 0 till 99 (with an empty string
+     * for 0) for languages whose numbers less than one hundred could not be
+     * composed from regular tens and units (e.g. the vigesimal French
+     * &quot;quatre-vingt-dix-sept&quot; or the Danish
+     * &quot;halvfems&quot;). The table is normally built once at class
+     * initialization from the rules of the language. The default
+     * implementation returns <code>null</code> for languages with regular
+     * tens.
+     *
+     * @return array with the words of the numbers 0 till 99 or
+     *         <code>null</code>
+     * @see #appendLessThanOneHundred(Appendable, boolean, int)
+     */
+    protected String[] getLessThanOneHundredNames()
+    {
+        return null;
+    }
 
     /**
      * Returns the string array to define the conversion of numbers for 1 till
@@ -100,6 +245,25 @@ public abstract class AbstractDecimalConverter
      */
     protected abstract String[] getPowerNames();
 
+    /**
+     * Returns the word for the power number <code>1000^(_power + 1)</code>.
+     * The default implementation returns the word from
+     * {@link #getPowerNames()}. Languages which support numbers greater than
+     * quintillions must overwrite the method to extend the power names.
+     *
+     * @param _power    power of the number
+     * @return word for the power number
+     * @throws IllegalArgumentException if no word for the power is defined
+     */
+    protected String getPowerName(final int _power)
+    {
+        final String[] powerNames = getPowerNames();
+        if (_power >= powerNames.length)  {
+            throw new IllegalArgumentException("no power name defined for 1000^" + (_power + 1));
+        }
+        return powerNames[_power];
+    }
+
     /**
      * Returns the language specific word for the number 0.
      *
@@ -116,81 +280,1025 @@ public abstract class AbstractDecimalConverter
     protected abstract String getMinus();
 
     /**
-     * The method converts the given <code>_number</code> depending on the
-     * <code>_power</code> to words. The real number to convert is
-     * &quot;<code>_number * (10 ^ _power)</code>&quot;.
+     * Returns the language specific conjunction between the units and the
+     * minor units of an amount (e.g. &quot;and&quot; in &quot;ten dollars
+     * and 50/100&quot;).
+     *
+     * @return conjunction for amounts
+     * @see #convertMoneyTo(long, CurrencyDescriptor, Appendable)
+     */
+    protected abstract String getMoneyConjunction();
+
+    /**
+     * Returns the language specific conjunction which is written in front of
+     * a last group from 1 till 99 if higher groups are written in front of
+     * it (e.g. the Danish &quot;og&quot; of &quot;et tusind og en&quot;).
+     * The default implementation returns <code>null</code> (no
+     * conjunction).
+     *
+     * @return conjunction; <code>null</code> if no conjunction is written
+     * @see DecimalTable#getConjoinedFragment(int)
+     */
+    protected String getGroupConjunction()
+    {
+        return null;
+    }
+
+    /**
+     * Returns the language specific preposition which is written between the
+     * units of an amount and the name of the currency unit. The default
+     * implementation returns an empty string (no preposition).
      *
+     * @param _units    units of the amount (not negative)
+     * @return preposition; an empty string if no preposition is needed
+     * @see #convertMoneyTo(long, CurrencyDescriptor, Appendable)
+     */
+    protected String getMoneyPreposition(final long _units)
+    {
+        return "";
+    }
+
+    /**
+     * The method appends the words for the given <code>_number</code>
+     * depending on the <code>_power</code>. The real number to convert is
+     * &quot;<code>_number * (1000 ^ (_power + 1))</code>&quot;. The method is
+     * only used to compile the {@link #getTable() table} of precomputed
+     * fragments.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
      * @param _number   number to convert
      * @param _power    power of the number
-     * @return converted string
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
      */
-    protected String convertPower(final int _number,
+    protected boolean appendPower(final Appendable _target,
+                                  final boolean _separate,
+                                  final int _number,
                                   final int _power)
+        throws IOException
     {
-        final StringBuilder ret = new StringBuilder();
+        boolean separate = _separate;
         if (_number != 0)  {
-            ret.append(convertLessThanOneThousand(_number))
-                .append(' ')
-                .append(getPowerNames()[_power]);
+            separate = appendLessThanOneThousand(_target, separate, _number);
+            separate = appendWord(_target, separate, getPowerName(_power));
         }
-        return ret.toString();
+        return separate;
     }
 
     /**
-     * Method to convert a number into words.
+     * Method to append the ordinal words for the last group of three digits
+     * (the ordinal numbers from 1 to 999 without power). The method is only
+     * used to compile the {@link DecimalTable#getOrdinalFragment(int, int)
+     * ordinal fragments} of the table. The default implementation throws an
+     * exception, because not all languages support ordinal numbers.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @throws UnsupportedOperationException if the language has no ordinal
+     *                                       numbers
+     */
+    protected boolean appendOrdinalLastGroup(final Appendable _target,
+                                             final boolean _separate,
+                                             final int _number)
+        throws IOException
+    {
+        throw new UnsupportedOperationException("ordinal numbers are not supported");
+    }
+
+    /**
+     * Method to append the ordinal words for the <code>_number</code>
+     * multiplied with <code>1000 ^ (_power + 1)</code>. The method is only
+     * used to compile the {@link DecimalTable#getOrdinalFragment(int, int)
+     * ordinal fragments} of the table. The default implementation throws an
+     * exception, because not all languages support ordinal numbers.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number of the group to convert
+     * @param _power    power of the number
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @throws UnsupportedOperationException if the language has no ordinal
+     *                                       numbers
+     */
+    protected boolean appendOrdinalPower(final Appendable _target,
+                                         final boolean _separate,
+                                         final int _number,
+                                         final int _power)
+        throws IOException
+    {
+        throw new UnsupportedOperationException("ordinal numbers are not supported");
+    }
+
+    /**
+     * Returns the language specific word for the decimal separator which is
+     * written in front of the fraction digits (e.g. &quot;point&quot;). The
+     * default implementation throws an exception, because not all languages
+     * define the word.
+     *
+     * @return word for the decimal separator
+     * @throws UnsupportedOperationException if the language has no word for
+     *                                       the decimal separator
+     * @see FractionStyle#DIGITS
+     */
+    protected String getDecimalSeparator()
+    {
+        throw new UnsupportedOperationException("decimal numbers are not supported");
+    }
+
+    /**
+     * Returns the language specific word for a single fraction digit. The
+     * default implementation returns the {@link #getZero() zero} or the word
+     * from {@link #getNumNames()}; languages which write the digit one
+     * differently when it is counted on its own overwrite the method.
+     *
+     * @param _digit    digit (<code>0</code> till <code>9</code>)
+     * @return word for the digit
+     * @see FractionStyle#DIGITS
+     */
+    protected String getDigitName(final int _digit)
+    {
+        return _digit == 0 ? getZero() : getNumNames()[_digit];
+    }
+
+    /**
+     * Returns the language specific name of the fraction with the
+     * denominator <code>10^_scale</code> (e.g. &quot;hundredth&quot; or
+     * &quot;hundredths&quot; for the scale 2). The default implementation
+     * throws an exception, because not all languages define the names.
+     *
+     * @param _scale    scale of the fraction (<code>1</code> till
+     *                  <code>18</code>)
+     * @param _plural   is the plural needed (numerator is not one)?
+     * @return name of the fraction
+     * @throws UnsupportedOperationException if the language has no names for
+     *                                       fractions
+     * @see FractionStyle#FRACTION
+     * @see #getOrdinalPowerOfTen(int)
+     */
+    protected String getFractionName(final int _scale,
+                                     final boolean _plural)
+    {
+        throw new UnsupportedOperationException("fractions are not supported");
+    }
+
+    /**
+     * Returns the precomputed ordinal fragment of <code>10^_scale</code>
+     * (e.g. &quot;one hundredth&quot;). Languages which name the fractions
+     * with the ordinal numbers use the method to implement
+     * {@link #getFractionName(int, boolean)}.
+     *
+     * @param _scale    scale of the fraction (<code>1</code> till
+     *                  <code>18</code>)
+     * @return ordinal fragment
+     */
+    protected final String getOrdinalPowerOfTen(final int _scale)
+    {
+        return getTable().getOrdinalFragment(_scale / 3 - 1, (int) AbstractDecimalConverter.TEN_POWERS[_scale % 3]);
+    }
+
+    /**
+     * Returns whether all groups of three digits of an ordinal number are
+     * written in ordinal form (e.g. Spanish &quot;mil&eacute;simo primero&quot;).
+     * The default is that only the last group which is not zero is written in
+     * ordinal form and all groups in front are written as cardinal numbers
+     * (e.g. &quot;one thousand first&quot;).
+     *
+     * @return <i>true</i> if all groups are ordinal
+     */
+    protected boolean isOrdinalInAllGroups()
+    {
+        return false;
+    }
+
+    /**
+     * Appends the <code>_word</code> to the <code>_target</code>. If
+     * <code>_separate</code> is <i>true</i>, a blank is written in front of
+     * the word. Empty words are ignored so that no double blanks could be
+     * written.
+     *
+     * @param _target   target to append the word
+     * @param _separate must a separator be written before the word?
+     * @param _word     word to append
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the word could not be appended
+     */
+    protected static boolean appendWord(final Appendable _target,
+                                        final boolean _separate,
+                                        final CharSequence _word)
+        throws IOException
+    {
+        boolean ret = _separate;
+        if (_word.length() > 0)  {
+            if (_separate)  {
+                _target.append(' ');
+            }
+            _target.append(_word);
+            ret = true;
+        }
+        return ret;
+    }
+
+    /**
+     * Defines the words of the language for the {@link DecimalParser parser}.
+     * The default implementation defines the words of
+     * {@link #getNumNames()}, {@link #getTensNames()} (where the last word is
+     * &quot;hundred&quot;), the table {@link #getLessThanOneHundredNames()}
+     * (if defined) and the power names up to quintillions. Languages
+     * with more words (e.g. gender dependent words) must overwrite the method
+     * and call the super method.
+     *
+     * @param _builder  builder of the parser
+     */
+    protected void defineTokens(final DecimalParser.Builder _builder)
+    {
+        _builder.addNumber(getZero(), 0).addMinus(getMinus());
+        final String[] numNames = getNumNames();
+        for (int number = 1; number < numNames.length; number++)  {
+            _builder.addNumber(numNames[number], number);
+        }
+        final String[] tensNames = getTensNames();
+        for (int tens = 1; tens < 10; tens++)  {
+            _builder.addNumber(tensNames[tens], tens * 10);
+        }
+        if (tensNames.length > 10)  {
+            _builder.addHundred(tensNames[10]);
+        }
+        final String[] names = getLessThanOneHundredNames();
+        if (names != null)  {
+            for (int number = 1; number < names.length; number++)  {
+                _builder.addNumber(names[number], number);
+            }
+        }
+        for (int power = 0; power < AbstractDecimalConverter.POWER_DIVISORS.length; power++)  {
+            _builder.addPowerName(getPowerName(power), AbstractDecimalConverter.POWER_DIVISORS[power]);
+        }
+    }
+
+    /**
+     * Returns the table with the precomputed fragments of all groups of three
+     * digits. The table is compiled once from the hooks of the converter
+     * with {@link DecimalTable#compile(AbstractDecimalConverter)} and must be
+     * stored by the language specific converter in a static field. A
+     * subclass which changes the words of the hooks must therefore also
+     * return its own table.
+     *
+     * @return table of precomputed fragments
+     */
+    protected abstract DecimalTable getTable();
+
+    /**
+     * Returns the table for the <code>_options</code>. For the
+     * {@link ConversionOptions#DEFAULT default options} the
+     * {@link #getTable() table} of the language is returned, for all other
+     * options a table is {@link DecimalTable#compile(AbstractDecimalConverter,
+     * ConversionOptions) derived} once with the first use and cached in this
+     * converter. If the table of the language changes (e.g. a reloaded
+     * language pack), the table is derived again. At most
+     * {@link #MAX_OPTION_TABLES} derived tables are cached, so that options
+     * built for each conversion do not fill the memory.
+     *
+     * @param _options  conversion options
+     * @return table of precomputed fragments for the options
+     */
+    protected DecimalTable getTable(final ConversionOptions _options)
+    {
+        final DecimalTable table = getTable();
+        DecimalTable ret = table;
+        if (!_options.isDefault())  {
+            OptionTable entry = this.optionTables.get(_options);
+            if (entry != null && entry.table.isDerivedFrom(table))  {
+                entry.referenced = true;
+            } else  {
+                entry = this.optionTables.compute(_options, (_key, _current) -> _current != null
+                                && _current.table.isDerivedFrom(table)
+                                ? _current
+                                : new OptionTable(DecimalTable.compile(this, _key)));
+                if (this.optionTables.size() > AbstractDecimalConverter.MAX_OPTION_TABLES)  {
+                    evictOptionTables(_options);
+                }
+            }
+            ret = entry.table;
+        }
+        return ret;
+    }
+
+    /**
+     * Evicts derived tables with the CLOCK algorithm until at most
+     * {@link #MAX_OPTION_TABLES} tables are cached: the first not referenced
+     * table is removed while the marks of the passed tables are cleared.
+     * The eviction is guarded with a CAS instead of a lock: if another
+     * thread is already evicting, the method returns at once, so the cache
+     * could exceed the maximum until the next derived table.
+     *
+     * @param _keep options of the table which was just derived and is not
+     *              evicted
+     */
+    private void evictOptionTables(final ConversionOptions _keep)
+    {
+        if (this.evictingOptionTables.compareAndSet(false, true))  {
+            try  {
+                while (this.optionTables.size() > AbstractDecimalConverter.MAX_OPTION_TABLES)  {
+                    boolean evicted = false;
+                    for (final Map.Entry<ConversionOptions, OptionTable> entry : this.optionTables.entrySet())  {
+                        if (!entry.getKey().equals(_keep))  {
+                            if (entry.getValue().referenced)  {
+                                entry.getValue().referenced = false;
+                            } else if (this.optionTables.remove(entry.getKey(), entry.getValue()))  {
+                                evicted = true;
+                                break;
+                            }
+                        }
+                    }
+                    if (!evicted && this.optionTables.size() <= 1)  {
+                        break;
+                    }
+                }
+            } finally  {
+                this.evictingOptionTables.set(false);
+            }
+        }
+    }
+
+    /**
+     * Method to append the words of a number to the <code>_target</code>. The
+     * groups of three digits are extracted arithmetically and the words are
+     * taken from the precomputed {@link #getTable() table}, so that no
+     * intermediate strings are created.
+     *
+     * @param _target       target to append the words
+     * @param _number       number to convert
+     * @param _beforeNoun   is the number written in front of a noun (e.g.
+     *                      the name of a currency unit)? The last group is
+     *                      then taken from the
+     *                      {@link DecimalTable#getNounFragment(int) noun
+     *                      fragments}.
+     * @throws IOException if the words could not be appended
+     * @see #POWER_DIVISORS
+     */
+    protected void appendWords(final Appendable _target,
+                               final long _number,
+                               final boolean _beforeNoun)
+        throws IOException
+    {
+        AbstractDecimalConverter.appendWords(getTable(), _target, _number, _beforeNoun);
+    }
+
+    /**
+     * Method to append the words of a number with the fragments, the sign
+     * and the separators of the <code>_table</code> to the
+     * <code>_target</code>.
+     *
+     * @param _table        table of precomputed fragments
+     * @param _target       target to append the words
+     * @param _number       number to convert
+     * @param _beforeNoun   is the number written in front of a noun?
+     * @throws IOException if the words could not be appended
+     * @see #appendWords(Appendable, long, boolean)
+     */
+    private static void appendWords(final DecimalTable _table,
+                                    final Appendable _target,
+                                    final long _number,
+                                    final boolean _beforeNoun)
+        throws IOException
+    {
+        if (_number == 0)  {
+            _target.append(_table.getZero());
+        } else {
+            boolean capitalize = _table.isCapitalized();
+            // negative number?
+            if (_number < 0)  {
+                _target.append(_table.getSign());
+                capitalize = _table.isCapitalizedAfterSign();
+            }
+            // separator after the last written group; null if no group is
+            // written
+            String separator = null;
+            // power of the last written group
+            int lastPower = 0;
+            // the groups are taken from the negated number, because the absolute
+            // value of Long.MIN_VALUE is not a long
+            final long negated = _number < 0 ? _number : -_number;
+            for (int power = AbstractDecimalConverter.POWER_DIVISORS.length - 1; power >= 0; power--)  {
+                final int group = (int) -(negated / AbstractDecimalConverter.POWER_DIVISORS[power] % 1000);
+                if (group != 0)  {
+                    if (separator != null)  {
+                        _target.append(separator);
+                    }
+                    AbstractDecimalConverter.appendFragment(_target, _table.getFragment(power, group), capitalize);
+                    capitalize = false;
+                    separator = _table.getSeparator(power);
+                    lastPower = power;
+                }
+            }
+            final int group = (int) -(negated % 1000);
+            if (group != 0)  {
+                if (separator == null)  {
+                    AbstractDecimalConverter.appendFragment(_target,
+                                    _beforeNoun ? _table.getNounFragment(group) : _table.getFragment(-1, group),
+                                    capitalize);
+                } else  {
+                    _target.append(_table.getConjoinedSeparator(lastPower, group)).append(_beforeNoun
+                                    ? _table.getConjoinedNounFragment(group)
+                                    : _table.getConjoinedFragment(group));
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the <code>_fragment</code> to the <code>_target</code>. If
+     * <code>_capitalize</code> is <i>true</i>, the first letter is written in
+     * upper case without creating an intermediate string.
+     *
+     * @param _target       target to append the fragment
+     * @param _fragment     fragment to append
+     * @param _capitalize   must the first letter be written in upper case?
+     * @throws IOException if the fragment could not be appended
+     */
+    private static void appendFragment(final Appendable _target,
+                                       final String _fragment,
+                                       final boolean _capitalize)
+        throws IOException
+    {
+        if (_capitalize)  {
+            _target.append(Character.toUpperCase(_fragment.charAt(0))).append(_fragment, 1, _fragment.length());
+        } else  {
+            _target.append(_fragment);
+        }
+    }
+
+    /**
+     * Method to convert a number into words. The string builder is presized
+     * with the {@link #length(long) length} of the words, so that it never
+     * grows.
      *
      * @see IConverter#convert(long)
      * @param _number   number to convert
      * @return words representing the number
-     * @see #FORMAT_MASK
      */
     @Override
     public String convert(final long _number)
     {
-        final StringBuilder ret = new StringBuilder();
+        final StringBuilder ret = new StringBuilder(length(_number));
+        try  {
+            appendWords(ret, _number, false);
+        } catch (final IOException e)  {
+            // could not happen, because a string builder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Method to append the words of a number to an appendable.
+     *
+     * @see IConverter#convertTo(long, Appendable)
+     * @param _number   number to convert
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final long _number,
+                                final Appendable _target)
+        throws IOException
+    {
+        appendWords(_target, _number, false);
+        return _target;
+    }
+
+    /**
+     * Method to append the words of a number to a string builder. The
+     * capacity of the string builder is ensured for the {@link #length(long)
+     * length} of the words first, so that it grows at most once.
+     *
+     * @see IConverter#convertTo(long, StringBuilder)
+     * @param _number   number to convert
+     * @param _target   string builder to append the words
+     * @return given <code>_target</code>
+     */
+    @Override
+    public StringBuilder convertTo(final long _number,
+                                   final StringBuilder _target)
+    {
+        _target.ensureCapacity(_target.length() + length(_number));
+        try  {
+            appendWords(_target, _number, false);
+        } catch (final IOException e)  {
+            // could not happen, because a string builder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return _target;
+    }
+
+    /**
+     * Method to convert a number into words with the <code>_options</code>.
+     * The words are taken from the {@link #getTable(ConversionOptions) table
+     * of the options}, in which the fragments are already written with the
+     * options, so that the conversion is as fast as a conversion without
+     * options.
+     *
+     * @see IConverter#convert(long, ConversionOptions)
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final long _number,
+                          final ConversionOptions _options)
+    {
+        final DecimalTable table = getTable(_options);
+        final StringBuilder ret = new StringBuilder(AbstractDecimalConverter.getLength(table, _number, false));
+        try  {
+            AbstractDecimalConverter.appendWords(table, ret, _number, false);
+        } catch (final IOException e)  {
+            // could not happen, because a string builder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Method to append the words of a number with the <code>_options</code>
+     * to an appendable.
+     *
+     * @see IConverter#convertTo(long, ConversionOptions, Appendable)
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final long _number,
+                                final ConversionOptions _options,
+                                final Appendable _target)
+        throws IOException
+    {
+        AbstractDecimalConverter.appendWords(getTable(_options), _target, _number, false);
+        return _target;
+    }
+
+    /**
+     * Method to compute the length in characters of the words of a number
+     * from the precomputed {@link DecimalTable#getLength(int, int) lengths}
+     * of the table, so that no words are written.
+     *
+     * @see IConverter#length(long)
+     * @param _number   number to measure
+     * @return length of the words in characters
+     */
+    @Override
+    public int length(final long _number)
+    {
+        return AbstractDecimalConverter.getLength(getTable(), _number, false);
+    }
+
+    /**
+     * Method to compute the length in UTF-8 bytes of the words of a number
+     * from the precomputed {@link DecimalTable#getByteLength(int, int)
+     * lengths} of the table, so that no words are written or encoded.
+     *
+     * @see IConverter#byteLength(long)
+     * @param _number   number to measure
+     * @return length of the UTF-8 encoded words in bytes
+     */
+    @Override
+    public int byteLength(final long _number)
+    {
+        return AbstractDecimalConverter.getLength(getTable(), _number, true);
+    }
+
+    /**
+     * Returns the length of the words of <code>_number</code> in characters
+     * or in UTF-8 bytes. The groups of three digits are extracted in the
+     * same way as in {@link #appendWords(Appendable, long, boolean)}.
+     *
+     * @param _table    table with the precomputed lengths
+     * @param _number   number to measure
+     * @param _bytes    <i>true</i> for the length in UTF-8 bytes,
+     *                  <i>false</i> for the length in characters
+     * @return length of the words
+     */
+    private static int getLength(final DecimalTable _table,
+                                 final long _number,
+                                 final boolean _bytes)
+    {
+        int ret;
         if (_number == 0)  {
-            ret.append(getZero());
-        } else {
-            final long number = _number < 0 ? _number * -1 : _number;
-
-            // pad with "0"
-            final DecimalFormat df = new DecimalFormat(AbstractDecimalConverter.FORMAT_MASK);
-            final String snumber = df.format(number);
-
-            // XXXnnnnnnnnnnnnnnnnnn
-            final int quintillions = Integer.parseInt(snumber.substring(0, 3));
-            // nnnXXXnnnnnnnnnnnnnnn
-            final int quadrillions = Integer.parseInt(snumber.substring(3, 6));
-            // nnnnnnXXXnnnnnnnnnnnn
-            final int trillions = Integer.parseInt(snumber.substring(6, 9));
-            // nnnnnnnnnXXXnnnnnnnnn
-            final int billions = Integer.parseInt(snumber.substring(9, 12));
-            // nnnnnnnnnnnnXXXnnnnnn
-            final int millions = Integer.parseInt(snumber.substring(12, 15));
-            // nnnnnnnnnnnnnnnXXXnnn
-            final int thousands = Integer.parseInt(snumber.substring(15, 18));
-            // nnnnnnnnnnnnnnnnnnXXX
-            final int hundreds = Integer.parseInt(snumber.substring(18, 21));
-
-            final String result = new StringBuilder()
-                    .append(convertPower(quintillions, 5)).append(' ')
-                    .append(convertPower(quadrillions, 4)).append(' ')
-                    .append(convertPower(trillions, 3)).append(' ')
-                    .append(convertPower(billions, 2)).append(' ')
-                    .append(convertPower(millions, 1)).append(' ')
-                    .append(convertPower(thousands, 0)).append(' ')
-                    .append(convertLessThanOneThousand(hundreds))
-                    .toString();
+            ret = _bytes ? DecimalTable.utf8Length(_table.getZero()) : _table.getZero().length();
+        } else  {
+            final long negated = _number < 0 ? _number : -_number;
+            if (_number < 0)  {
+                ret = _bytes ? DecimalTable.utf8Length(_table.getSign()) : _table.getSign().length();
+            } else  {
+                ret = 0;
+            }
+            String separator = null;
+            // power of the last written group
+            int lastPower = 0;
+            for (int power = AbstractDecimalConverter.POWER_DIVISORS.length - 1; power >= 0; power--)  {
+                final int group = (int) -(negated / AbstractDecimalConverter.POWER_DIVISORS[power] % 1000);
+                if (group != 0)  {
+                    if (separator != null)  {
+                        ret += _bytes ? DecimalTable.utf8Length(separator) : separator.length();
+                    }
+                    ret += _bytes ? _table.getByteLength(power, group) : _table.getLength(power, group);
+                    separator = _table.getSeparator(power);
+                    lastPower = power;
+                }
+            }
+            final int group = (int) -(negated % 1000);
+            if (group != 0)  {
+                if (separator == null)  {
+                    ret += _bytes ? _table.getByteLength(-1, group) : _table.getLength(-1, group);
+                } else  {
+                    final String conjoinedSeparator = _table.getConjoinedSeparator(lastPower, group);
+                    ret += (_bytes ? DecimalTable.utf8Length(conjoinedSeparator) : conjoinedSeparator.length())
+                                    + (_bytes ? _table.getConjoinedByteLength(group)
+                                                    : _table.getConjoinedLength(group));
+                }
+            }
+        }
+        return ret;
+    }
 
-            // negative number?
+    /**
+     * Method to write the words of a number encoded in <code>_charset</code>
+     * into a byte buffer. For UTF-8 and ISO-8859-1 the bytes are copied from
+     * the {@link DecimalTable#getEncoded(Charset) encoded fragments} of the
+     * table, so that no characters are transcoded. Other charsets are
+     * written with the default implementation of the interface.
+     *
+     * @see IConverter#convertTo(long, ByteBuffer, Charset)
+     * @param _number   number to convert
+     * @param _target   buffer to which the encoded words are written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes; if the remaining space of
+     *         <code>_target</code> is too small, nothing is written and the
+     *         negative number of needed bytes is returned
+     */
+    @Override
+    public int convertTo(final long _number,
+                         final ByteBuffer _target,
+                         final Charset _charset)
+    {
+        final EncodedTable table = getTable().getEncoded(_charset);
+        final int ret;
+        if (table == null)  {
+            ret = IConverter.super.convertTo(_number, _target, _charset);
+        } else  {
+            final int length = AbstractDecimalConverter.getEncodedLength(table, _number);
+            if (_target.remaining() < length)  {
+                ret = -length;
+            } else if (_number == 0)  {
+                _target.put(table.getZero());
+                ret = length;
+            } else  {
+                if (_number < 0)  {
+                    _target.put(table.getMinus());
+                }
+                final long negated = _number < 0 ? _number : -_number;
+                boolean separate = _number < 0;
+                for (int power = AbstractDecimalConverter.POWER_DIVISORS.length - 1; power >= -1; power--)  {
+                    final int group = (int) (power < 0
+                                    ? -(negated % 1000)
+                                    : -(negated / AbstractDecimalConverter.POWER_DIVISORS[power] % 1000));
+                    if (group != 0)  {
+                        if (separate)  {
+                            _target.put((byte) ' ');
+                        }
+                        _target.put(power < 0 && negated <= -1000
+                                        ? table.getConjoinedFragment(group)
+                                        : table.getFragment(power, group));
+                        separate = true;
+                    }
+                }
+                ret = length;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Method to write the words of a number encoded in <code>_charset</code>
+     * into a stream. For UTF-8 and ISO-8859-1 the bytes are copied from the
+     * {@link DecimalTable#getEncoded(Charset) encoded fragments} of the
+     * table, so that no characters are transcoded.
+     *
+     * @see IConverter#convertTo(long, OutputStream, Charset)
+     * @param _number   number to convert
+     * @param _target   stream to which the encoded words are written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes
+     * @throws IOException if the bytes could not be written
+     */
+    @Override
+    public int convertTo(final long _number,
+                         final OutputStream _target,
+                         final Charset _charset)
+        throws IOException
+    {
+        final EncodedTable table = getTable().getEncoded(_charset);
+        final int ret;
+        if (table == null)  {
+            ret = IConverter.super.convertTo(_number, _target, _charset);
+        } else if (_number == 0)  {
+            _target.write(table.getZero());
+            ret = table.getZero().length;
+        } else  {
             if (_number < 0)  {
-                ret.append(getMinus()).append(' ');
+                _target.write(table.getMinus());
+            }
+            final long negated = _number < 0 ? _number : -_number;
+            boolean separate = _number < 0;
+            for (int power = AbstractDecimalConverter.POWER_DIVISORS.length - 1; power >= -1; power--)  {
+                final int group = (int) (power < 0
+                                ? -(negated % 1000)
+                                : -(negated / AbstractDecimalConverter.POWER_DIVISORS[power] % 1000));
+                if (group != 0)  {
+                    if (separate)  {
+                        _target.write(' ');
+                    }
+                    _target.write(power < 0 && negated <= -1000
+                                    ? table.getConjoinedFragment(group)
+                                    : table.getFragment(power, group));
+                    separate = true;
+                }
             }
+            ret = AbstractDecimalConverter.getEncodedLength(table, _number);
+        }
+        return ret;
+    }
 
-            // remove extra spaces!
-            ret.append(result.replaceAll("^\\s+", "").replaceAll("\\b\\s{2,}\\b", " ").trim());
+    /**
+     * Returns the number of bytes of the encoded words of
+     * <code>_number</code>.
+     *
+     * @param _table    encoded fragments
+     * @param _number   number to convert
+     * @return number of bytes
+     */
+    private static int getEncodedLength(final EncodedTable _table,
+                                        final long _number)
+    {
+        int ret;
+        if (_number == 0)  {
+            ret = _table.getZero().length;
+        } else  {
+            final long negated = _number < 0 ? _number : -_number;
+            ret = _number < 0 ? _table.getMinus().length : 0;
+            boolean separate = _number < 0;
+            for (int power = AbstractDecimalConverter.POWER_DIVISORS.length - 1; power >= -1; power--)  {
+                final int group = (int) (power < 0
+                                ? -(negated % 1000)
+                                : -(negated / AbstractDecimalConverter.POWER_DIVISORS[power] % 1000));
+                if (group != 0)  {
+                    ret += (power < 0 && negated <= -1000
+                                    ? _table.getConjoinedFragment(group)
+                                    : _table.getFragment(power, group)).length + (separate ? 1 : 0);
+                    separate = true;
+                }
+            }
         }
-        return ret.toString();
+        return ret;
+    }
+
+    /**
+     * Method to append the ordinal words of a number to an appendable. The
+     * groups of three digits are taken from the precomputed table; the last
+     * group which is not zero (or all groups if the language
+     * {@link #isOrdinalInAllGroups() writes all groups ordinal}) are taken
+     * from the {@link DecimalTable#getOrdinalFragment(int, int) ordinal
+     * fragments}.
+     *
+     * @see IConverter#convertOrdinalTo(long, Appendable)
+     * @param _number   number to convert (must be greater than zero)
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertOrdinalTo(final long _number,
+                                       final Appendable _target)
+        throws IOException
+    {
+        if (_number <= 0)  {
+            throw new IllegalArgumentException("ordinal numbers must be greater than zero, but is " + _number);
+        }
+        final DecimalTable table = getTable();
+        // power of the last group which is not zero
+        int last = -1;
+        for (long rest = _number; rest % 1000 == 0; rest /= 1000)  {
+            last++;
+        }
+        final boolean allOrdinal = isOrdinalInAllGroups();
+        boolean separate = false;
+        for (int power = AbstractDecimalConverter.POWER_DIVISORS.length - 1; power >= last; power--)  {
+            final int group = (int) (power < 0
+                            ? _number % 1000
+                            : _number / AbstractDecimalConverter.POWER_DIVISORS[power] % 1000);
+            if (group != 0)  {
+                if (separate)  {
+                    _target.append(' ');
+                }
+                _target.append(allOrdinal || power == last
+                                ? table.getOrdinalFragment(power, group)
+                                : table.getFragment(power, group));
+                separate = true;
+            }
+        }
+        return _target;
+    }
+
+    /**
+     * Method to append the words of a decimal number to an appendable. The
+     * unscaled value and the scale are read directly from the
+     * <code>_number</code> and split arithmetically into the integer part
+     * and the fraction; both are written with the precomputed
+     * {@link #getTable() table} into the <code>_target</code>, so that no
+     * intermediate strings are created. The fraction is written depending
+     * on the <code>_style</code>:
+     * <ul>
+     * <li>{@link FractionStyle#DIGITS}: the {@link #getDecimalSeparator()
+     *     decimal separator} and the {@link #getDigitName(int) digits} (e.g.
+     *     &quot;three point one four&quot;),</li>
+     * <li>{@link FractionStyle#FRACTION}: the
+     *     {@link #getMoneyConjunction() conjunction}, the fraction in front
+     *     of the noun and the {@link #getFractionName(int, boolean) name of
+     *     the fraction} (e.g. &quot;three and fourteen hundredths&quot;); an
+     *     integer part of zero and a fraction of zero are omitted.</li>
+     * </ul>
+     *
+     * @see IConverter#convertTo(BigDecimal, FractionStyle, Appendable)
+     * @param _number   decimal number to convert
+     * @param _style    style of the fraction digits
+     * @param _target   target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertTo(final BigDecimal _number,
+                                final FractionStyle _style,
+                                final Appendable _target)
+        throws IOException
+    {
+        final int scale = Math.max(0, _number.scale());
+        final BigInteger unscaledValue = _number.scale() < 0
+                        ? _number.setScale(0).unscaledValue()
+                        : _number.unscaledValue();
+        if (unscaledValue.bitLength() >= Long.SIZE || scale >= AbstractDecimalConverter.TEN_POWERS.length)  {
+            throw new ArithmeticException("decimal number " + _number + " is out of the supported range");
+        }
+        final long unscaled = unscaledValue.longValue();
+        final long divisor = AbstractDecimalConverter.TEN_POWERS[scale];
+        final long integer = unscaled / divisor;
+        final long fraction = Math.abs(unscaled % divisor);
+        final boolean digits = _style == FractionStyle.DIGITS;
+        // the integer part of e.g. -0.5 is zero, so that the sign is lost
+        if (unscaled < 0 && integer == 0)  {
+            _target.append(getTable().getMinus()).append(' ');
+        }
+        if (digits || integer != 0 || fraction == 0)  {
+            appendIntegerPart(_target, integer);
+            if (digits && scale > 0)  {
+                _target.append(' ').append(getDecimalSeparator());
+                for (long digit = divisor / 10; digit > 0; digit /= 10)  {
+                    _target.append(' ').append(getDigitName((int) (fraction / digit % 10)));
+                }
+            } else if (!digits && fraction != 0)  {
+                _target.append(' ').append(getMoneyConjunction()).append(' ');
+            }
+        }
+        if (!digits && fraction != 0)  {
+            appendWords(_target, fraction, true);
+            _target.append(' ').append(getFractionName(scale, fraction != 1));
+        }
+        return _target;
+    }
+
+    /**
+     * Appends the words of the integer part of a decimal number. The integer
+     * part is not written in front of a noun; languages with an own word
+     * for a number standing alone overwrite the method.
+     *
+     * @param _target   target to append the words
+     * @param _integer  integer part of the decimal number
+     * @throws IOException if the words could not be appended
+     * @see #convertTo(BigDecimal, FractionStyle, Appendable)
+     */
+    protected void appendIntegerPart(final Appendable _target,
+                                     final long _integer)
+        throws IOException
+    {
+        appendWords(_target, _integer, false);
+    }
+
+    /**
+     * Method to append the words of an amount of money to an appendable. The
+     * units are written in words followed by the optional
+     * {@link #getMoneyPreposition(long) preposition} and the singular or
+     * plural name of the currency unit. If the currency has a minor unit, the
+     * {@link #getMoneyConjunction() conjunction} and the minor units as
+     * fraction (e.g. &quot;05/100&quot;) are appended. The digits of the
+     * fraction are written directly, so that no intermediate strings are
+     * created.
+     *
+     * @see IConverter#convertMoneyTo(long, CurrencyDescriptor, Appendable)
+     * @param _minorUnits   amount in minor units
+     * @param _currency     description of the currency
+     * @param _target       target to append the words
+     * @return given <code>_target</code>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    public Appendable convertMoneyTo(final long _minorUnits,
+                                     final CurrencyDescriptor _currency,
+                                     final Appendable _target)
+        throws IOException
+    {
+        final String name = _currency.getName(getLocale(), false);
+        final long factor = _currency.getMinorFactor();
+        final long signedUnits = _minorUnits / factor;
+        if (_minorUnits < 0 && signedUnits == 0)  {
+            _target.append(getTable().getMinus()).append(' ');
+        }
+        appendWords(_target, signedUnits, true);
+        // the absolute value of Long.MIN_VALUE stays negative, which is
+        // neither one nor a multiple of a power
+        final long units = Math.abs(signedUnits);
+        appendWord(_target, true, getMoneyPreposition(units));
+        _target.append(' ').append(units == 1 ? name : _currency.getName(getLocale(), true));
+        if (_currency.getMinorDigits() > 0)  {
+            final long minor = Math.abs(_minorUnits % factor);
+            _target.append(' ').append(getMoneyConjunction()).append(' ');
+            for (long digit = factor / 10; digit > 0; digit /= 10)  {
+                _target.append((char) ('0' + minor / digit % 10));
+            }
+            _target.append("/1");
+            for (int i = 0; i < _currency.getMinorDigits(); i++)  {
+                _target.append('0');
+            }
+        }
+        return _target;
+    }
+
+    /**
+     * Method to convert a number of arbitrary size into words.
+     *
+     * @see IConverter#convert(BigInteger)
+     * @param _number   number to convert
+     * @return words representing the number
+     */
+    @Override
+    public String convert(final BigInteger _number)
+    {
+        return convertTo(_number, new StringBuilder()).toString();
+    }
+
+    /**
+     * Method to append the words of a number of arbitrary size to a string
+     * builder. Numbers in the range of a long are converted with
+     * {@link #convertTo(long, StringBuilder)}, greater numbers are split with
+     * a {@link BigIntegerConverter}.
+     *
+     * @see IConverter#convertTo(BigInteger, StringBuilder)
+     * @param _number   number to convert
+     * @param _target   string builder to append the words
+     * @return given <code>_target</code>
+     */
+    @Override
+    public StringBuilder convertTo(final BigInteger _number,
+                                   final StringBuilder _target)
+    {
+        if (_number.bitLength() < Long.SIZE)  {
+            convertTo(_number.longValue(), _target);
+        } else  {
+            new BigIntegerConverter(this).convertTo(_number, _target);
+        }
+        return _target;
+    }
+
+    /**
+     * Returns the precomputed {@link DecimalTable#getFingerprint() fingerprint}
+     * of the table.
+     *
+     * @see IConverter#getFingerprint()
+     * @return fingerprint of the words
+     */
+    @Override
+    public long getFingerprint()
+    {
+        return getTable().getFingerprint();
     }
 
     /**
@@ -217,4 +1325,31 @@ public abstract class AbstractDecimalConverter
     {
         return false;
     }
+
+    /**
+     * Table derived for conversion options with the reference mark of the
+     * CLOCK algorithm.
+     */
+    private static final class OptionTable
+    {
+        /**
+         * Derived table.
+         */
+        private final DecimalTable table;
+
+        /**
+         * Was the table used since the last pass of the eviction?
+         */
+        private volatile boolean referenced;
+
+        /**
+         * Creates the entry for a derived table.
+         *
+         * @param _table    derived table
+         */
+        OptionTable(final DecimalTable _table)
+        {
+            this.table = _table;
+        }
+    }
 }
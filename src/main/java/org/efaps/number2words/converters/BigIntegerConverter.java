@@ -0,0 +1,312 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.converters;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <p>Converts numbers of arbitrary size into words for an
+ * {@link AbstractDecimalConverter}. Instead of dividing the number repeatedly
+ * by 1000, the number is split recursively by the powers
+ * <code>1000^(2^k)</code> in a high and a low half. Because the division of
+ * {@link BigInteger} is sub-quadratic for large numbers, the run time stays
+ * well below quadratic also for numbers with thousands of digits.</p>
+ * <p>Halves with at least {@link #PARALLEL_GROUPS} groups of three digits
+ * are converted in parallel on the common {@link ForkJoinPool}.</p>
+ *
+ * @author The eFaps Team
+ */
+final class BigIntegerConverter
+{
+    /**
+     * Number of groups of three digits which are extracted from one long
+     * (<code>1000^4</code> fits always in a long).
+     */
+    private static final int LONG_GROUPS = 4;
+
+    /**
+     * Minimum number of groups of three digits for which the two halves are
+     * converted in parallel.
+     */
+    private static final int PARALLEL_GROUPS = 1024;
+
+    /**
+     * Cache of the split powers. The power with index <code>k</code> is
+     * <code>1000^(2^k)</code>. The array is only replaced and never changed,
+     * so that it could be read without locking.
+     */
+    private static volatile BigInteger[] POWERS = {BigInteger.valueOf(1000)};
+
+    /**
+     * Converter for which the numbers are converted.
+     */
+    private final AbstractDecimalConverter converter;
+
+    /**
+     * Table of the precomputed fragments of the {@link #converter}.
+     */
+    private final DecimalTable table;
+
+    /**
+     * Creates the converter for large numbers.
+     *
+     * @param _converter    converter for which the numbers are converted
+     */
+    BigIntegerConverter(final AbstractDecimalConverter _converter)
+    {
+        this.converter = _converter;
+        this.table = _converter.getTable();
+    }
+
+    /**
+     * Appends the words of the <code>_number</code> to the
+     * <code>_target</code>.
+     *
+     * @param _number   number to convert
+     * @param _target   target to append the words
+     */
+    void convertTo(final BigInteger _number,
+                   final StringBuilder _target)
+    {
+        if (_number.signum() == 0)  {
+            _target.append(this.table.getZero());
+        } else  {
+            boolean separate = false;
+            if (_number.signum() < 0)  {
+                _target.append(this.table.getMinus());
+                separate = true;
+            }
+            final BigInteger number = _number.abs();
+            // higher groups in front of the last group?
+            final boolean conjoined = number.compareTo(BigIntegerConverter.power(0)) >= 0;
+            int level = 0;
+            while (BigIntegerConverter.power(level).compareTo(number) <= 0)  {
+                level++;
+            }
+            if ((1 << level) >= BigIntegerConverter.PARALLEL_GROUPS)  {
+                final StringBuilder words = ForkJoinPool.commonPool().invoke(new Split(number, level, 0, conjoined));
+                if (separate)  {
+                    _target.append(' ');
+                }
+                _target.append(words);
+            } else  {
+                append(_target, separate, number, level, 0, conjoined);
+            }
+        }
+    }
+
+    /**
+     * Appends the words of <code>_number</code> which spans
+     * <code>2^_level</code> groups of three digits. The lowest group has the
+     * power <code>_offset - 1</code>.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number to convert (less than
+     *                  <code>1000^(2^_level)</code>)
+     * @param _level    level of the split
+     * @param _offset   index of the lowest group
+     * @param _conjoined are higher groups written in front of the last
+     *                  group of the whole number, so that the last group is
+     *                  taken from the {@link DecimalTable#getConjoinedFragment(int)
+     *                  conjoined fragments}?
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     */
+    private boolean append(final StringBuilder _target,
+                           final boolean _separate,
+                           final BigInteger _number,
+                           final int _level,
+                           final int _offset,
+                           final boolean _conjoined)
+    {
+        boolean ret = _separate;
+        if (_number.signum() != 0)  {
+            final int groups = 1 << _level;
+            if (groups <= BigIntegerConverter.LONG_GROUPS)  {
+                ret = appendGroups(_target, ret, _number.longValue(), groups, _offset, _conjoined);
+            } else  {
+                final BigInteger[] halves = _number.divideAndRemainder(BigIntegerConverter.power(_level - 1));
+                ret = append(_target, ret, halves[0], _level - 1, _offset + groups / 2, _conjoined);
+                ret = append(_target, ret, halves[1], _level - 1, _offset, _conjoined);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Appends the words for the <code>_groups</code> groups of three digits
+     * of <code>_number</code>. Groups up to quintillions are taken from the
+     * precomputed table, greater groups are composed with the hooks of the
+     * converter.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number with the groups
+     * @param _groups   number of groups
+     * @param _offset   index of the lowest group
+     * @param _conjoined are higher groups written in front of the last
+     *                  group of the whole number?
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     */
+    private boolean appendGroups(final StringBuilder _target,
+                                 final boolean _separate,
+                                 final long _number,
+                                 final int _groups,
+                                 final int _offset,
+                                 final boolean _conjoined)
+    {
+        boolean ret = _separate;
+        long divisor = 1;
+        for (int i = 1; i < _groups; i++)  {
+            divisor *= 1000;
+        }
+        for (int index = _groups - 1; index >= 0; index--, divisor /= 1000)  {
+            final int group = (int) (_number / divisor % 1000);
+            final int power = _offset + index - 1;
+            if (group != 0)  {
+                if (power < DecimalTable.GROUPS - 1)  {
+                    if (ret)  {
+                        _target.append(' ');
+                    }
+                    _target.append(power < 0 && _conjoined
+                                    ? this.table.getConjoinedFragment(group)
+                                    : this.table.getFragment(power, group));
+                    ret = true;
+                } else  {
+                    try  {
+                        ret = this.converter.appendPower(_target, ret, group, power);
+                    } catch (final IOException e)  {
+                        // could not happen, because a string builder does not throw
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the split power <code>1000^(2^_level)</code>. Missing powers
+     * are computed by squaring and the cache is replaced.
+     *
+     * @param _level    level of the power
+     * @return split power
+     */
+    private static BigInteger power(final int _level)
+    {
+        BigInteger[] powers = BigIntegerConverter.POWERS;
+        if (_level >= powers.length)  {
+            final int known = powers.length;
+            powers = Arrays.copyOf(powers, _level + 1);
+            for (int level = known; level <= _level; level++)  {
+                powers[level] = powers[level - 1].multiply(powers[level - 1]);
+            }
+            BigIntegerConverter.POWERS = powers;
+        }
+        return powers[_level];
+    }
+
+    /**
+     * Task to convert the two halves of a number in parallel.
+     */
+    private final class Split
+        extends RecursiveTask<StringBuilder>
+    {
+        /**
+         * Needed for serialization.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Number to convert.
+         */
+        private final BigInteger number;
+
+        /**
+         * Level of the split.
+         */
+        private final int level;
+
+        /**
+         * Index of the lowest group.
+         */
+        private final int offset;
+
+        /**
+         * Are higher groups written in front of the last group of the whole
+         * number?
+         */
+        private final boolean conjoined;
+
+        /**
+         * Creates the task.
+         *
+         * @param _number   number to convert
+         * @param _level    level of the split
+         * @param _offset   index of the lowest group
+         * @param _conjoined are higher groups written in front of the last
+         *                  group of the whole number?
+         */
+        Split(final BigInteger _number,
+              final int _level,
+              final int _offset,
+              final boolean _conjoined)
+        {
+            this.number = _number;
+            this.level = _level;
+            this.offset = _offset;
+            this.conjoined = _conjoined;
+        }
+
+        /**
+         * Converts the number. If the number has enough groups, the high
+         * half is converted in a forked task and the low half in the current
+         * task.
+         *
+         * @return words of the number
+         */
+        @Override
+        protected StringBuilder compute()
+        {
+            final StringBuilder ret = new StringBuilder();
+            final int groups = 1 << this.level;
+            if (groups < BigIntegerConverter.PARALLEL_GROUPS || this.number.signum() == 0)  {
+                append(ret, false, this.number, this.level, this.offset, this.conjoined);
+            } else  {
+                final BigInteger[] halves = this.number.divideAndRemainder(BigIntegerConverter.power(this.level - 1));
+                final Split high = new Split(halves[0], this.level - 1, this.offset + groups / 2, this.conjoined);
+                high.fork();
+                final StringBuilder low = new Split(halves[1], this.level - 1, this.offset, this.conjoined)
+                                .compute();
+                ret.append(high.join());
+                if (ret.length() > 0 && low.length() > 0)  {
+                    ret.append(' ');
+                }
+                ret.append(low);
+            }
+            return ret;
+        }
+    }
+}
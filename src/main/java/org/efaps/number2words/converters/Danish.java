@@ -0,0 +1,482 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.converters;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.efaps.number2words.Gender;
+
+/**
+ * <p>The class implements the conversion of numbers to Danish words. The
+ * tens from 50 till 90 are vigesimal (&quot;halvtreds&quot; = half third
+ * times twenty, &quot;halvfems&quot; = half fifth times twenty) and the
+ * units are written in front of the tens (&quot;enogtyve&quot; = one and
+ * twenty), so the words of all numbers less than one hundred are built once
+ * from the rules into the table {@link #getLessThanOneHundredNames()}.</p>
+ * <p>Hundreds are joined with &quot;og&quot; (&quot;et hundrede og
+ * tre&quot;). &quot;tusind&quot; is invariable, the higher powers are nouns
+ * of the long scale with plural (&quot;to millioner&quot;, &quot;en
+ * milliard&quot;). The number one is &quot;en&quot; for nouns of common
+ * gender and &quot;et&quot; for neuter nouns. The conjunction &quot;og&quot;
+ * is also written in front of a last group below one hundred after higher
+ * groups (&quot;et tusind og en&quot;, &quot;to millioner og en&quot;).</p>
+ *
+ * @author The eFaps Team
+ */
+public class Danish
+    extends AbstractDecimalConverter
+{
+    /**
+     * String array to define the conversion of numbers for 1 till 19.
+     *
+     * @see #getNumNames()
+     */
+    private static final String[] NUM_NAMES = {
+        "", "en", "to", "tre", "fire",
+        "fem", "seks", "syv", "otte", "ni",
+        "ti", "elleve", "tolv", "tretten", "fjorten",
+        "femten", "seksten", "sytten", "atten", "nitten"};
+
+    /**
+     * String array to define the conversion for the numbers 10, 20, 30, 40,
+     * 50, 60, 70, 80, 90 and 100.
+     *
+     * @see #getTensNames()
+     */
+    private static final String[] TENS_NAMES = {
+        "", "ti", "tyve", "tredive", "fyrre",
+        "halvtreds", "tres", "halvfjerds", "firs", "halvfems",
+        "hundrede"};
+
+    /**
+     * Words of all numbers from 0 till 99.
+     *
+     * @see #getLessThanOneHundredNames()
+     */
+    private static final String[] LESS_THAN_ONE_HUNDRED_NAMES = Danish.compileLessThanOneHundred();
+
+    /**
+     * String array to define the conversion of power numbers. The array
+     * contains the Danish words (plural) for
+     * <ul>
+     * <li>thousand</li>
+     * <li>million</li>
+     * <li>billion</li>
+     * <li>trillion</li>
+     * <li>quadrillion</li>
+     * <li>quintillion</li>
+     * </ul>
+     *
+     * @see #getPowerNames()
+     */
+    private static final String[] POWER_NAMES = {
+        "tusind", "millioner", "milliarder", "billioner", "billiarder", "trillioner"};
+
+    /**
+     * String array to define the conversion of power numbers with exact one.
+     *
+     * @see #appendPower(Appendable, boolean, int, int)
+     */
+    private static final String[] SINGLE_POWER_NAMES = {
+        "et tusind", "en million", "en milliard", "en billion", "en billiard", "en trillion"};
+
+    /**
+     * Table with the precomputed fragments of all groups of three digits. The
+     * table must be defined after all word arrays, because it is compiled
+     * from them at class initialization.
+     *
+     * @see #getTable()
+     */
+    private static final DecimalTable TABLE = DecimalTable.compile(new Danish());
+
+    /**
+     * Table with the precomputed fragments for neuter numbers.
+     *
+     * @see #getTable()
+     */
+    private static final DecimalTable NEUTER_TABLE = DecimalTable.compile(new Danish(Gender.NEUTER));
+
+    /**
+     * Gender of the counted noun.
+     */
+    private final Gender gender;
+
+    /**
+     * Creates the Danish converter for numbers of common gender.
+     */
+    public Danish()
+    {
+        this(Gender.MALE);
+    }
+
+    /**
+     * Creates the Danish converter for numbers of the <code>_gender</code>.
+     * Danish has only the common and the neuter gender, so male and female
+     * numbers are the same.
+     *
+     * @param _gender   gender of the counted noun
+     */
+    public Danish(final Gender _gender)
+    {
+        this.gender = _gender == Gender.NEUTER ? Gender.NEUTER : Gender.MALE;
+    }
+
+    /**
+     * Builds the words of all numbers from 0 till 99 from the rules of the
+     * Danish language: the units are written in front of the tens joined
+     * with &quot;og&quot;.
+     *
+     * @return words of the numbers 0 till 99
+     * @see #LESS_THAN_ONE_HUNDRED_NAMES
+     */
+    private static String[] compileLessThanOneHundred()
+    {
+        final String[] ret = new String[100];
+        System.arraycopy(Danish.NUM_NAMES, 0, ret, 0, 20);
+        for (int number = 20; number < 100; number++)  {
+            final int modTen = number % 10;
+            ret[number] = (modTen > 0 ? Danish.NUM_NAMES[modTen] + "og" : "") + Danish.TENS_NAMES[number / 10];
+        }
+        return ret;
+    }
+
+    /**
+     * Appends the words for the numbers from 1 to 999. The hundreds are
+     * joined with &quot;og&quot; to the rest of the group.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @param _neuter   must exact one at the end be written neuter?
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    private boolean appendGroup(final Appendable _target,
+                                final boolean _separate,
+                                final int _number,
+                                final boolean _neuter)
+        throws IOException
+    {
+        boolean separate = _separate;
+        final int hundreds = _number / 100;
+        final int modHundred = _number % 100;
+        if (hundreds > 0)  {
+            separate = AbstractDecimalConverter.appendWord(_target, separate,
+                            hundreds == 1 ? "et" : Danish.NUM_NAMES[hundreds]);
+            separate = AbstractDecimalConverter.appendWord(_target, separate, Danish.TENS_NAMES[10]);
+            if (modHundred > 0)  {
+                separate = AbstractDecimalConverter.appendWord(_target, separate, getMoneyConjunction());
+            }
+        }
+        return AbstractDecimalConverter.appendWord(_target, separate,
+                        _neuter && modHundred == 1 ? "et" : Danish.LESS_THAN_ONE_HUNDRED_NAMES[modHundred]);
+    }
+
+    /**
+     * Appends the words for the numbers from 1 to 999 of common gender.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendLessThanOneThousand(final Appendable _target,
+                                                final boolean _separate,
+                                                final int _number)
+        throws IOException
+    {
+        return appendGroup(_target, _separate, _number, false);
+    }
+
+    /**
+     * Appends the words of the last group of three digits. For neuter
+     * numbers exact one at the end is &quot;et&quot;.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendLastGroup(final Appendable _target,
+                                      final boolean _separate,
+                                      final int _number)
+        throws IOException
+    {
+        return appendGroup(_target, _separate, _number, this.gender == Gender.NEUTER);
+    }
+
+    /**
+     * The method appends the words for the given <code>_number</code>
+     * depending on the <code>_power</code>. The real number to convert is
+     * &quot;<code>_number * (1000 ^ (_power + 1))</code>&quot;. The neuter
+     * &quot;tusind&quot; is counted with neuter numbers (&quot;et hundrede
+     * og et tusind&quot;), the higher powers are nouns of common gender with
+     * plural.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number to convert
+     * @param _power    power of the number
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @see #SINGLE_POWER_NAMES
+     */
+    @Override
+    protected boolean appendPower(final Appendable _target,
+                                  final boolean _separate,
+                                  final int _number,
+                                  final int _power)
+        throws IOException
+    {
+        final boolean ret;
+        if (_number == 1)  {
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, getSinglePowerName(_power));
+        } else if (_power == 0 && _number != 0)  {
+            ret = AbstractDecimalConverter.appendWord(_target,
+                            appendGroup(_target, _separate, _number, true),
+                            getPowerName(_power));
+        } else  {
+            ret = super.appendPower(_target, _separate, _number, _power);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the Danish word for the decimal separator.
+     *
+     * @return always the text string &quot;komma&quot;
+     */
+    @Override
+    protected String getDecimalSeparator()
+    {
+        return "komma";
+    }
+
+    /**
+     * Returns the string array to define the conversion of numbers for 1 till
+     * 19.
+     *
+     * @return string array of numbers
+     * @see AbstractDecimalConverter#getNumNames()
+     * @see #NUM_NAMES
+     */
+    @Override
+    protected String[] getNumNames()
+    {
+        return Danish.NUM_NAMES;
+    }
+
+    /**
+     * Returns the string array for the numbers 10, 20, 30, 40, 50, 60, 70, 80,
+     * 90 and 100.
+     *
+     * @return string array of tens names
+     * @see AbstractDecimalConverter#getTensNames()
+     * @see #TENS_NAMES
+     */
+    @Override
+    protected String[] getTensNames()
+    {
+        return Danish.TENS_NAMES;
+    }
+
+    /**
+     * Returns the precomputed words of all numbers from 0 till 99.
+     *
+     * @return words of the numbers 0 till 99
+     * @see AbstractDecimalConverter#getLessThanOneHundredNames()
+     * @see #LESS_THAN_ONE_HUNDRED_NAMES
+     */
+    @Override
+    protected String[] getLessThanOneHundredNames()
+    {
+        return Danish.LESS_THAN_ONE_HUNDRED_NAMES;
+    }
+
+    /**
+     * Returns the string array for power numbers.
+     *
+     * @return string array of power numbers
+     * @see AbstractDecimalConverter#getPowerNames()
+     * @see #POWER_NAMES
+     */
+    @Override
+    protected String[] getPowerNames()
+    {
+        return Danish.POWER_NAMES;
+    }
+
+    /**
+     * Returns the Danish word (plural) for the power number
+     * <code>1000^(_power + 1)</code>. Beyond trillion the names are built
+     * with the Latin stems of the long scale (e.g. trilliarder,
+     * quadrillioner).
+     *
+     * @param _power    power of the number
+     * @return word for the power number
+     * @see LatinPowerNames
+     */
+    @Override
+    protected String getPowerName(final int _power)
+    {
+        return _power < Danish.POWER_NAMES.length
+                        ? Danish.POWER_NAMES[_power]
+                        : Danish.getLongScaleName(_power) + "er";
+    }
+
+    /**
+     * Returns the Danish word for the power number
+     * <code>1000^(_power + 1)</code> multiplied by exact one.
+     *
+     * @param _power    power of the number
+     * @return word for one times the power number
+     * @see #SINGLE_POWER_NAMES
+     */
+    protected String getSinglePowerName(final int _power)
+    {
+        return _power < Danish.SINGLE_POWER_NAMES.length
+                        ? Danish.SINGLE_POWER_NAMES[_power]
+                        : "en " + Danish.getLongScaleName(_power);
+    }
+
+    /**
+     * Returns the singular of the Danish long scale name for the power
+     * number <code>1000^(_power + 1)</code>. Odd powers are
+     * &quot;-illion&quot;, even powers &quot;-illiard&quot;.
+     *
+     * @param _power    power of the number (greater than zero)
+     * @return singular long scale name
+     */
+    private static String getLongScaleName(final int _power)
+    {
+        return LatinPowerNames.stem((_power + 1) / 2) + (_power % 2 == 1 ? "illion" : "illiard");
+    }
+
+    /**
+     * Returns the table with the precomputed Danish fragments of the gender.
+     *
+     * @return table of precomputed fragments
+     * @see AbstractDecimalConverter#getTable()
+     * @see #TABLE
+     * @see #NEUTER_TABLE
+     */
+    @Override
+    protected DecimalTable getTable()
+    {
+        return this.gender == Gender.NEUTER ? Danish.NEUTER_TABLE : Danish.TABLE;
+    }
+
+    /**
+     * Returns the related Danish word for the number zero ('0').
+     *
+     * @return always the text string &quot;nul&quot;
+     */
+    @Override
+    protected String getZero()
+    {
+        return "nul";
+    }
+
+    /**
+     * Returns the related Danish word for the conjunction between the units
+     * and the minor units of an amount and between the hundreds and the
+     * rest of a group.
+     *
+     * @return always the text string &quot;og&quot;
+     */
+    @Override
+    protected String getMoneyConjunction()
+    {
+        return "og";
+    }
+
+    /**
+     * Returns the related Danish word for the conjunction in front of a last
+     * group below one hundred after higher groups.
+     *
+     * @return always the text string &quot;og&quot;
+     */
+    @Override
+    protected String getGroupConjunction()
+    {
+        return getMoneyConjunction();
+    }
+
+    /**
+     * Returns the related Danish word for &quot;minus&quot; needed for
+     * negative numbers.
+     *
+     * @return always the text string &quot;minus&quot;
+     */
+    @Override
+    protected String getMinus()
+    {
+        return "minus";
+    }
+
+    /**
+     * Returns always <i>false</i> because the Danish language uses the long
+     * scale system (&quot;milliard&quot; for 10<sup>9</sup>).
+     *
+     * @return always <i>false</i>
+     */
+    @Override
+    public boolean usesShortScale()
+    {
+        return false;
+    }
+
+    /**
+     * Defines the Danish words for the parser. Additionally to the words of
+     * the converter the neuter &quot;et&quot;, the singular power names and
+     * the conjunction &quot;og&quot; are defined.
+     *
+     * @param _builder  builder of the parser
+     */
+    @Override
+    protected void defineTokens(final DecimalParser.Builder _builder)
+    {
+        super.defineTokens(_builder);
+        _builder.withUnitsBeforeTens().addIgnored(getMoneyConjunction()).addNumber("et", 1);
+        long scale = 1;
+        for (int power = 0; power < Danish.SINGLE_POWER_NAMES.length; power++)  {
+            scale *= 1000;
+            _builder.addPowerName(getSinglePowerName(power), scale);
+        }
+    }
+
+    /**
+     * Returns the locale of the Danish language.
+     *
+     * @return Danish locale
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return new Locale("da");
+    }
+}
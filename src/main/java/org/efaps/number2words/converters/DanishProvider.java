@@ -0,0 +1,122 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.converters;
+
+import java.util.Locale;
+
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.IConverterProvider;
+import org.efaps.number2words.IParser;
+
+/**
+ * Provider of the converters for the Danish language. The class
+ * {@link Danish} is loaded only if the converter is requested the first time.
+ *
+ * @author The eFaps Team
+ */
+public class DanishProvider
+    implements IConverterProvider
+{
+    /**
+     * Returns the locale for the Danish language.
+     *
+     * @return Danish locale
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return new Locale("da");
+    }
+
+    /**
+     * Returns the shared Danish converter for male numbers (common gender).
+     * The converter is also used for female numbers.
+     *
+     * @return Danish converter
+     */
+    @Override
+    public IConverter getMaleConverter()
+    {
+        return Holder.MALE;
+    }
+
+    /**
+     * Returns the shared Danish converter for neuter numbers.
+     *
+     * @return Danish neuter converter
+     */
+    @Override
+    public IConverter getNeuterConverter()
+    {
+        return Holder.NEUTER;
+    }
+
+    /**
+     * Returns the shared Danish parser.
+     *
+     * @return Danish parser
+     */
+    @Override
+    public IParser getParser()
+    {
+        return ParserHolder.PARSER;
+    }
+
+    /**
+     * Initialization-on-demand holder of the shared converters.
+     */
+    private static final class Holder
+    {
+        /**
+         * Shared Danish converter for numbers of common gender.
+         */
+        private static final IConverter MALE = new Danish();
+
+        /**
+         * Shared Danish converter for neuter numbers.
+         */
+        private static final IConverter NEUTER = new Danish(Gender.NEUTER);
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private Holder()
+        {
+        }
+    }
+
+    /**
+     * Initialization-on-demand holder of the shared parser, so that the
+     * parser is only compiled if it is requested the first time.
+     */
+    private static final class ParserHolder
+    {
+        /**
+         * Shared Danish parser.
+         */
+        private static final IParser PARSER = DecimalParser.compile(new Danish());
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private ParserHolder()
+        {
+        }
+    }
+}
@@ -0,0 +1,591 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.converters;
+
+import java.text.Normalizer;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.efaps.number2words.IParser;
+
+/**
+ * <p>Parser of the text representation of numbers for languages which use
+ * the decimal system. The words of a language are compiled into a trie
+ * (a deterministic automaton over the characters) from the same word arrays
+ * which are used by the related {@link AbstractDecimalConverter}, so that
+ * the parser always understands the words written by the converter.</p>
+ * <p>The text is parsed in one pass without any allocation. At each
+ * position the longest known word is taken, so that also compounds written
+ * without blanks (e.g. German &quot;zweiundzwanzig&quot;) are parsed.
+ * Upper and lower case and the accents of Latin letters are ignored.
+ * Blanks and hyphens between the words are skipped.</p>
+ * <p>The value is computed like a person reads a number: numbers are added
+ * to the current group, &quot;hundred&quot; multiplies the current group
+ * and a power word (e.g. &quot;thousand&quot;) multiplies the current group
+ * together with all lower already parsed groups. The last rule allows
+ * composed power words like the Spanish &quot;mil mill&oacute;nes&quot;.
+ * </p>
+ * <p>Malformed texts are rejected with the position of the offending word.
+ * Within a group the tens and the word for &quot;hundred&quot; are allowed
+ * only once, &quot;hundred&quot; only at the begin of the group or after a
+ * unit, and a unit only after tens (or in front of the tens for languages
+ * like German which write &quot;dreiundzwanzig&quot;). The groups of the
+ * power words must strictly decrease.</p>
+ *
+ * @author The eFaps Team
+ * @see AbstractDecimalConverter#defineTokens(DecimalParser.Builder)
+ */
+public final class DecimalParser
+    implements IParser
+{
+    /**
+     * Kind of a state which does not end a word.
+     */
+    private static final byte NONE = 0;
+
+    /**
+     * Kind of a word which is added to the current group.
+     */
+    private static final byte NUMBER = 1;
+
+    /**
+     * Kind of a word which multiplies the current group with hundred.
+     */
+    private static final byte HUNDRED = 2;
+
+    /**
+     * Kind of a word which multiplies the current and the lower groups with a
+     * power of one thousand.
+     */
+    private static final byte SCALE = 3;
+
+    /**
+     * Kind of a word which is ignored (e.g. a conjunction).
+     */
+    private static final byte IGNORE = 4;
+
+    /**
+     * Kind of the word for &quot;minus&quot;.
+     */
+    private static final byte MINUS = 5;
+
+    /**
+     * Characters below this limit could be part of a word; all other
+     * characters are unknown.
+     */
+    private static final int CHARACTERS = 0x180;
+
+    /**
+     * Folding of the characters: lower case without accents.
+     */
+    private static final char[] FOLDING = new char[DecimalParser.CHARACTERS];
+
+    static {
+        for (char ch = 0; ch < DecimalParser.CHARACTERS; ch++)  {
+            final char lower = Character.toLowerCase(ch);
+            final char base = Normalizer.normalize(String.valueOf(lower), Normalizer.Form.NFD).charAt(0);
+            DecimalParser.FOLDING[ch] = base < DecimalParser.CHARACTERS ? base : lower;
+        }
+    }
+
+    /**
+     * Locale of the parsed language.
+     */
+    private final Locale locale;
+
+    /**
+     * Column of the transition table for each character; <code>-1</code> if
+     * the character is not part of any word.
+     */
+    private final int[] columns;
+
+    /**
+     * Number of columns of the transition table.
+     */
+    private final int width;
+
+    /**
+     * Transition table of the trie. The next state of state <code>s</code>
+     * for the column <code>c</code> is stored at index
+     * <code>s * width + c</code>; <code>0</code> (the start state) means that
+     * no word continues with the character.
+     */
+    private final int[] transitions;
+
+    /**
+     * Kind of the word which ends in a state.
+     */
+    private final byte[] kinds;
+
+    /**
+     * Value of the word which ends in a state.
+     */
+    private final long[] values;
+
+    /**
+     * Are the units written in front of the tens (e.g. the German
+     * &quot;dreiundzwanzig&quot;)?
+     */
+    private final boolean unitsBeforeTens;
+
+    /**
+     * Private constructor used from {@link Builder#build()}.
+     *
+     * @param _locale       locale of the parsed language
+     * @param _columns      columns of the characters
+     * @param _width        number of columns
+     * @param _transitions  transition table
+     * @param _kinds        kinds of the states
+     * @param _values       values of the states
+     * @param _unitsBeforeTens are the units written in front of the tens?
+     */
+    private DecimalParser(final Locale _locale,
+                          final int[] _columns,
+                          final int _width,
+                          final int[] _transitions,
+                          final byte[] _kinds,
+                          final long[] _values,
+                          final boolean _unitsBeforeTens)
+    {
+        this.locale = _locale;
+        this.columns = _columns;
+        this.width = _width;
+        this.transitions = _transitions;
+        this.kinds = _kinds;
+        this.values = _values;
+        this.unitsBeforeTens = _unitsBeforeTens;
+    }
+
+    /**
+     * Parses the text representation of a number.
+     *
+     * @see IParser#parse(CharSequence, int, int)
+     * @param _text     text with the number
+     * @param _start    index of the first character (inclusive)
+     * @param _end      index of the last character (exclusive)
+     * @return parsed number
+     * @throws ParseException if the text is not a valid number
+     */
+    @Override
+    public long parse(final CharSequence _text,
+                      final int _start,
+                      final int _end)
+        throws ParseException
+    {
+        long total = 0;
+        long current = 0;
+        boolean negative = false;
+        boolean found = false;
+        // already parsed parts of the current group
+        boolean hundreds = false;
+        boolean tens = false;
+        boolean units = false;
+        boolean complete = false;
+        int pos = _start;
+        try  {
+            while (true)  {
+                while (pos < _end && DecimalParser.isSeparator(_text.charAt(pos)))  {
+                    pos++;
+                }
+                if (pos >= _end)  {
+                    break;
+                }
+                // longest known word beginning at the position
+                int state = 0;
+                int accepted = 0;
+                int acceptedEnd = pos;
+                for (int index = pos; index < _end; index++)  {
+                    final char ch = _text.charAt(index);
+                    final int column = ch < DecimalParser.CHARACTERS ? this.columns[ch] : -1;
+                    if (column < 0)  {
+                        break;
+                    }
+                    state = this.transitions[state * this.width + column];
+                    if (state == 0)  {
+                        break;
+                    }
+                    if (this.kinds[state] != DecimalParser.NONE)  {
+                        accepted = state;
+                        acceptedEnd = index + 1;
+                    }
+                }
+                boolean valid = true;
+                switch (this.kinds[accepted])  {
+                    case DecimalParser.NUMBER:
+                        final long value = this.values[accepted];
+                        if (value >= 100)  {
+                            // words of the hundreds (e.g. the Spanish "doscientos") begin a group
+                            valid = !hundreds && !tens && !units && !complete;
+                            hundreds = true;
+                        } else if (value >= 20 && value % 10 == 0)  {
+                            valid = !tens && !complete && (this.unitsBeforeTens || !units);
+                            tens = true;
+                        } else if (value >= 10)  {
+                            // teens and compounds (e.g. the Spanish "veintiuno")
+                            valid = !tens && !units && !complete;
+                            complete = true;
+                        } else  {
+                            valid = !units && !complete && (!this.unitsBeforeTens || !tens);
+                            units = true;
+                        }
+                        current = Math.addExact(current, value);
+                        found = true;
+                        break;
+                    case DecimalParser.HUNDRED:
+                        valid = !hundreds && !tens && !complete;
+                        hundreds = true;
+                        units = false;
+                        current = Math.multiplyExact(current == 0 ? 1 : current, 100);
+                        found = true;
+                        break;
+                    case DecimalParser.SCALE:
+                        final long scale = this.values[accepted];
+                        final long lower = total % scale;
+                        final long factor;
+                        if (lower == 0)  {
+                            factor = current == 0 ? 1 : current;
+                        } else  {
+                            // composed power word (e.g. the Spanish "mil millones")
+                            valid = current == 0;
+                            factor = lower;
+                        }
+                        final long group = Math.multiplyExact(factor, scale);
+                        valid &= DecimalParser.isAbove(total - lower, group);
+                        total = Math.addExact(total - lower, group);
+                        current = 0;
+                        hundreds = false;
+                        tens = false;
+                        units = false;
+                        complete = false;
+                        found = true;
+                        break;
+                    case DecimalParser.MINUS:
+                        if (found || negative)  {
+                            throw new ParseException("minus is only allowed in front of a number", pos);
+                        }
+                        negative = true;
+                        break;
+                    case DecimalParser.IGNORE:
+                        break;
+                    default:
+                        throw new ParseException("unknown word at position " + pos, pos);
+                }
+                if (!valid)  {
+                    throw new ParseException("unexpected word at position " + pos, pos);
+                }
+                pos = acceptedEnd;
+            }
+            if (!found)  {
+                throw new ParseException("no number found", _start);
+            }
+            // negative numbers are summed up negated, so that Long.MIN_VALUE
+            // could be parsed
+            return negative ? Math.subtractExact(-total, current) : Math.addExact(total, current);
+        } catch (final ArithmeticException e)  {
+            throw new ParseException("number is out of the range of a long", _start);
+        }
+    }
+
+    /**
+     * Returns the locale of the parsed language.
+     *
+     * @return locale of the parser
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return this.locale;
+    }
+
+    /**
+     * Returns the number of states of the compiled trie.
+     *
+     * @return number of states
+     */
+    public int getStateCount()
+    {
+        return this.kinds.length;
+    }
+
+    /**
+     * Checks that the <code>_higher</code> already parsed groups are above
+     * the <code>_group</code> of a power word, so that the groups strictly
+     * decrease.
+     *
+     * @param _higher   already parsed higher groups
+     * @param _group    value of the group with the power word
+     * @return <i>true</i> if the higher groups are above the group;
+     *         otherwise <i>false</i>
+     */
+    private static boolean isAbove(final long _higher,
+                                   final long _group)
+    {
+        long limit = 1000;
+        while (limit <= _group && limit <= Long.MAX_VALUE / 1000)  {
+            limit *= 1000;
+        }
+        return limit <= _group ? _higher == 0 : _higher % limit == 0;
+    }
+
+    /**
+     * Checks if the character separates two words.
+     *
+     * @param _char character to check
+     * @return <i>true</i> for blanks and hyphens; otherwise <i>false</i>
+     */
+    private static boolean isSeparator(final char _char)
+    {
+        return _char == '-' || Character.isWhitespace(_char) || Character.isSpaceChar(_char);
+    }
+
+    /**
+     * Folds the characters of a word to lower case without accents.
+     *
+     * @param _word word to fold
+     * @return folded word
+     */
+    private static String fold(final CharSequence _word)
+    {
+        final StringBuilder ret = new StringBuilder(_word.length());
+        for (int i = 0; i < _word.length(); i++)  {
+            final char ch = _word.charAt(i);
+            ret.append(ch < DecimalParser.CHARACTERS ? DecimalParser.FOLDING[ch] : ch);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Compiles the parser for the language of the given
+     * <code>_converter</code> from the words which are defined with
+     * {@link AbstractDecimalConverter#defineTokens(Builder)}.
+     *
+     * @param _converter    converter of the language
+     * @return compiled parser
+     */
+    public static DecimalParser compile(final AbstractDecimalConverter _converter)
+    {
+        final Builder builder = new Builder(_converter.getLocale());
+        _converter.defineTokens(builder);
+        return builder.build();
+    }
+
+    /**
+     * Builder to define the words of a language. The words are folded to
+     * lower case without accents. If a word is defined twice, the last
+     * definition wins.
+     */
+    public static final class Builder
+    {
+        /**
+         * Locale of the parsed language.
+         */
+        private final Locale locale;
+
+        /**
+         * Defined words with the kind and the value.
+         */
+        private final Map<String, long[]> words = new LinkedHashMap<>();
+
+        /**
+         * Are the units written in front of the tens?
+         */
+        private boolean unitsBeforeTens;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param _locale   locale of the parsed language
+         */
+        Builder(final Locale _locale)
+        {
+            this.locale = _locale;
+        }
+
+        /**
+         * Defines a word which is a number (e.g. &quot;twenty&quot;).
+         *
+         * @param _word     word
+         * @param _value    value of the word
+         * @return this builder
+         */
+        public Builder addNumber(final CharSequence _word,
+                                 final long _value)
+        {
+            return add(_word, DecimalParser.NUMBER, _value);
+        }
+
+        /**
+         * Defines the word for &quot;hundred&quot; which multiplies the
+         * current group.
+         *
+         * @param _word     word
+         * @return this builder
+         */
+        public Builder addHundred(final CharSequence _word)
+        {
+            return add(_word, DecimalParser.HUNDRED, 100);
+        }
+
+        /**
+         * Defines a power word (e.g. &quot;thousand&quot;).
+         *
+         * @param _word     word
+         * @param _scale    value of the power
+         * @return this builder
+         */
+        public Builder addScale(final CharSequence _word,
+                                final long _scale)
+        {
+            return add(_word, DecimalParser.SCALE, _scale);
+        }
+
+        /**
+         * Defines that the units are written in front of the tens (e.g. the
+         * German &quot;dreiundzwanzig&quot;); otherwise units are only
+         * allowed after the tens.
+         *
+         * @return this builder
+         */
+        public Builder withUnitsBeforeTens()
+        {
+            this.unitsBeforeTens = true;
+            return this;
+        }
+
+        /**
+         * Defines a word which is ignored (e.g. &quot;and&quot;).
+         *
+         * @param _word     word
+         * @return this builder
+         */
+        public Builder addIgnored(final CharSequence _word)
+        {
+            return add(_word, DecimalParser.IGNORE, 0);
+        }
+
+        /**
+         * Defines the word for &quot;minus&quot;.
+         *
+         * @param _word     word
+         * @return this builder
+         */
+        public Builder addMinus(final CharSequence _word)
+        {
+            return add(_word, DecimalParser.MINUS, 0);
+        }
+
+        /**
+         * Defines the power words of a power name which could consist of
+         * more than one word (e.g. &quot;mil mill&oacute;nes&quot;). The
+         * last word gets the value of the power divided by the already
+         * defined power words in front of it; all other words must be
+         * already defined.
+         *
+         * @param _name     power name
+         * @param _scale    value of the power
+         * @return this builder
+         */
+        public Builder addPowerName(final String _name,
+                                    final long _scale)
+        {
+            final String[] parts = _name.trim().split("\\s+");
+            long scale = _scale;
+            for (int i = 0; i < parts.length - 1; i++)  {
+                final long[] word = this.words.get(DecimalParser.fold(parts[i]));
+                if (word != null && word[0] == DecimalParser.SCALE)  {
+                    scale /= word[1];
+                }
+            }
+            return addScale(parts[parts.length - 1], scale);
+        }
+
+        /**
+         * Defines a word.
+         *
+         * @param _word     word
+         * @param _kind     kind of the word
+         * @param _value    value of the word
+         * @return this builder
+         */
+        private Builder add(final CharSequence _word,
+                            final byte _kind,
+                            final long _value)
+        {
+            final String word = DecimalParser.fold(_word).trim();
+            if (!word.isEmpty())  {
+                this.words.put(word, new long[] {_kind, _value});
+            }
+            return this;
+        }
+
+        /**
+         * Compiles the defined words into the trie.
+         *
+         * @return compiled parser
+         */
+        DecimalParser build()
+        {
+            final int[] columns = new int[DecimalParser.CHARACTERS];
+            Arrays.fill(columns, -1);
+            int width = 0;
+            int maxStates = 1;
+            for (final String word : this.words.keySet())  {
+                for (int i = 0; i < word.length(); i++)  {
+                    final char ch = word.charAt(i);
+                    if (ch >= DecimalParser.CHARACTERS)  {
+                        throw new IllegalArgumentException("character '" + ch + "' of word '" + word
+                                        + "' is not supported");
+                    }
+                    if (columns[ch] < 0)  {
+                        columns[ch] = width++;
+                    }
+                }
+                maxStates += word.length();
+            }
+            // all characters with the same folding get the same column
+            for (char ch = 0; ch < DecimalParser.CHARACTERS; ch++)  {
+                columns[ch] = columns[DecimalParser.FOLDING[ch]];
+            }
+            int[] transitions = new int[maxStates * width];
+            byte[] kinds = new byte[maxStates];
+            long[] values = new long[maxStates];
+            int states = 1;
+            for (final Map.Entry<String, long[]> entry : this.words.entrySet())  {
+                int state = 0;
+                for (final char ch : entry.getKey().toCharArray())  {
+                    final int index = state * width + columns[ch];
+                    if (transitions[index] == 0)  {
+                        transitions[index] = states++;
+                    }
+                    state = transitions[index];
+                }
+                kinds[state] = (byte) entry.getValue()[0];
+                values[state] = entry.getValue()[1];
+            }
+            transitions = Arrays.copyOf(transitions, states * width);
+            kinds = Arrays.copyOf(kinds, states);
+            values = Arrays.copyOf(values, states);
+            return new DecimalParser(this.locale, columns, width, transitions, kinds, values,
+                            this.unitsBeforeTens);
+        }
+    }
+}
@@ -0,0 +1,1117 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.converters;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.efaps.number2words.ConversionOptions;
+import org.efaps.number2words.LetterCase;
+import org.efaps.number2words.SignStyle;
+
+/**
+ * <p>Immutable table with the precomputed words of all groups of three digits
+ * for one language. For each power (including the last group without power)
+ * the words of all 1000 possible groups are composed once, so that a
+ * conversion of a number is only a lookup of at most seven fragments.</p>
+ * <p>The table is compiled from the hooks of an
+ * {@link AbstractDecimalConverter} and is normally stored in a static field
+ * of the language specific converter, so that it is built only once at class
+ * initialization. For the output into bytes the fragments are additionally
+ * held {@link #getEncoded(Charset) encoded} in UTF-8 and ISO-8859-1. The
+ * {@link #getLength(int, int) lengths} of all fragments in characters and in
+ * UTF-8 bytes are precomputed, so that the length of the words of a number
+ * is computed without writing the words. The
+ * {@link #getOrdinalFragment(int, int) ordinal fragments} are compiled with
+ * their first use, because most applications never write ordinal
+ * numbers.</p>
+ * <p>For {@link ConversionOptions conversion options} a table is
+ * {@link #compile(AbstractDecimalConverter, ConversionOptions) derived} from
+ * the table of the language, in which the fragments are already written with
+ * the case, the separators, the conjunctions and the compound mode of the
+ * options. Also the {@link #getSign() sign}, the
+ * {@link #getSeparator(int) separators between the groups} and the
+ * {@link #getConjoinedFragment(int) last groups after higher groups} are
+ * defined by the table, so that a conversion with options is the same
+ * lookup as a conversion with the default options.</p>
+ *
+ * @author The eFaps Team
+ */
+public final class DecimalTable
+{
+    /**
+     * Number of groups of three digits for which fragments are precomputed
+     * (the last group and the six powers thousand till quintillion).
+     */
+    public static final int GROUPS = 7;
+
+    /**
+     * Offset basis of the FNV-1a hash of the {@link #getFingerprint()
+     * fingerprint}.
+     */
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+
+    /**
+     * Prime of the FNV-1a hash of the {@link #getFingerprint() fingerprint}.
+     */
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    /**
+     * Precomputed fragments. The first index is the power plus one (so that
+     * index 0 is the last group without power), the second index is the
+     * number of the group. Fragments for group number 0 are empty.
+     */
+    private final String[][] fragments;
+
+    /**
+     * Precomputed fragments of the last group if the number is written in
+     * front of a noun. If the fragments are the same as the fragments of the
+     * last group, the array is shared with the first row of
+     * {@link #fragments}.
+     */
+    private final String[] nounFragments;
+
+    /**
+     * Precomputed fragments of the last group if higher groups are written
+     * in front of it (e.g. &quot;and five&quot; for &quot;one thousand and
+     * five&quot;). If no conjunction is written, the array is shared with
+     * the first row of {@link #fragments}.
+     */
+    private final String[] conjoinedFragments;
+
+    /**
+     * Precomputed fragments of the last group in front of a noun if higher
+     * groups are written in front of it. If no conjunction is written, the
+     * array is shared with {@link #nounFragments}.
+     */
+    private final String[] conjoinedNounFragments;
+
+    /**
+     * Lengths in characters of the {@link #fragments} with the same indexes.
+     */
+    private final short[][] lengths;
+
+    /**
+     * Lengths in UTF-8 bytes of the {@link #fragments} with the same indexes.
+     */
+    private final short[][] byteLengths;
+
+    /**
+     * Lengths in characters of the {@link #conjoinedFragments}.
+     */
+    private final short[] conjoinedLengths;
+
+    /**
+     * Lengths in UTF-8 bytes of the {@link #conjoinedFragments}.
+     */
+    private final short[] conjoinedByteLengths;
+
+    /**
+     * Word for the number 0.
+     */
+    private final String zero;
+
+    /**
+     * Word for &quot;minus&quot;.
+     */
+    private final String minus;
+
+    /**
+     * Text written in front of the words of a negative number including the
+     * separator to the words (e.g. &quot;minus &quot;).
+     */
+    private final String sign;
+
+    /**
+     * Separators written after the fragment of a group if another group
+     * follows, with the power plus one as index.
+     */
+    private final String[] separators;
+
+    /**
+     * Separators written after the fragment of a group if the last group
+     * below one hundred with a conjunction follows, with the power plus one
+     * as index. In compound mode the conjunction is its own word, so that
+     * the separator after the thousands is not empty; otherwise the array
+     * is shared with {@link #separators}.
+     */
+    private final String[] conjunctionSeparators;
+
+    /**
+     * Must the first letter of the text be written in upper case?
+     */
+    private final boolean capitalized;
+
+    /**
+     * Must the first letter of the words be written in upper case after the
+     * {@link #sign} (which is not capitalized itself)?
+     */
+    private final boolean capitalizedAfterSign;
+
+    /**
+     * Table from which this table was derived for conversion options; the
+     * table itself if it was compiled from the hooks of the converter.
+     */
+    private final DecimalTable base;
+
+    /**
+     * Time in nanoseconds needed to compile this table.
+     */
+    private final long compileNanos;
+
+    /**
+     * Fingerprint of the fragments (including the conjoined fragments of a
+     * language with a conjunction in front of the last group), of the word
+     * for zero and of the word for minus.
+     *
+     * @see #getFingerprint()
+     */
+    private final long fingerprint;
+
+    /**
+     * Fragments encoded in UTF-8; created with the first use.
+     *
+     * @see #getEncoded(Charset)
+     */
+    private volatile EncodedTable utf8;
+
+    /**
+     * Fragments encoded in ISO-8859-1; created with the first use.
+     *
+     * @see #getEncoded(Charset)
+     */
+    private volatile EncodedTable latin1;
+
+    /**
+     * Converter from which the table was compiled; needed to compile the
+     * ordinal fragments.
+     */
+    private final AbstractDecimalConverter converter;
+
+    /**
+     * Precomputed ordinal fragments with the same indexes as
+     * {@link #fragments}; created with the first use.
+     *
+     * @see #getOrdinalFragment(int, int)
+     */
+    private volatile String[][] ordinals;
+
+    /**
+     * Private constructor used from {@link #compile(AbstractDecimalConverter)}
+     * and {@link #compile(AbstractDecimalConverter, ConversionOptions)}.
+     *
+     * @param _fragments    precomputed fragments
+     * @param _nounFragments precomputed fragments of the last group in front
+     *                      of a noun
+     * @param _conjoinedFragments precomputed fragments of the last group
+     *                      after higher groups
+     * @param _conjoinedNounFragments precomputed fragments of the last group
+     *                      in front of a noun after higher groups
+     * @param _zero         word for zero
+     * @param _minus        word for minus
+     * @param _sign         text in front of negative numbers
+     * @param _separators   separators after the groups
+     * @param _conjunctionSeparators separators after the groups in front
+     *                      of the last group below one hundred
+     * @param _capitalized  must the first letter be written in upper case?
+     * @param _capitalizedAfterSign must the first letter after the sign be
+     *                      written in upper case?
+     * @param _compileNanos time needed to compile the table
+     * @param _converter    converter from which the table was compiled
+     * @param _base         table from which the table was derived or
+     *                      <code>null</code> if compiled from the hooks
+     */
+    private DecimalTable(final String[][] _fragments,
+                         final String[] _nounFragments,
+                         final String[] _conjoinedFragments,
+                         final String[] _conjoinedNounFragments,
+                         final String _zero,
+                         final String _minus,
+                         final String _sign,
+                         final String[] _separators,
+                         final String[] _conjunctionSeparators,
+                         final boolean _capitalized,
+                         final boolean _capitalizedAfterSign,
+                         final long _compileNanos,
+                         final AbstractDecimalConverter _converter,
+                         final DecimalTable _base)
+    {
+        this.fragments = _fragments;
+        this.nounFragments = _nounFragments;
+        this.conjoinedFragments = _conjoinedFragments;
+        this.conjoinedNounFragments = _conjoinedNounFragments;
+        this.zero = _zero;
+        this.minus = _minus;
+        this.sign = _sign;
+        this.separators = _separators;
+        this.conjunctionSeparators = _conjunctionSeparators;
+        this.capitalized = _capitalized;
+        this.capitalizedAfterSign = _capitalizedAfterSign;
+        this.compileNanos = _compileNanos;
+        this.converter = _converter;
+        this.base = _base == null ? this : _base;
+        this.lengths = new short[_fragments.length][_fragments[0].length];
+        this.byteLengths = new short[_fragments.length][_fragments[0].length];
+        for (int power = 0; power < _fragments.length; power++)  {
+            for (int number = 0; number < _fragments[power].length; number++)  {
+                this.lengths[power][number] = (short) _fragments[power][number].length();
+                this.byteLengths[power][number] = (short) DecimalTable.utf8Length(_fragments[power][number]);
+            }
+        }
+        if (_conjoinedFragments == _fragments[0])  {
+            this.conjoinedLengths = this.lengths[0];
+            this.conjoinedByteLengths = this.byteLengths[0];
+        } else  {
+            this.conjoinedLengths = new short[_conjoinedFragments.length];
+            this.conjoinedByteLengths = new short[_conjoinedFragments.length];
+            for (int number = 0; number < _conjoinedFragments.length; number++)  {
+                this.conjoinedLengths[number] = (short) _conjoinedFragments[number].length();
+                this.conjoinedByteLengths[number] = (short) DecimalTable.utf8Length(_conjoinedFragments[number]);
+            }
+        }
+        long hash = DecimalTable.hash(DecimalTable.hash(DecimalTable.FNV_OFFSET, _zero), _minus);
+        for (final String[] row : _fragments)  {
+            for (final String fragment : row)  {
+                hash = DecimalTable.hash(hash, fragment);
+            }
+        }
+        if (_conjoinedFragments != _fragments[0])  {
+            for (final String fragment : _conjoinedFragments)  {
+                hash = DecimalTable.hash(hash, fragment);
+            }
+        }
+        this.fingerprint = hash;
+    }
+
+    /**
+     * Returns the fragment for the group <code>_number</code> of three
+     * digits multiplied with <code>1000 ^ (_power + 1)</code>. The power
+     * <code>-1</code> defines the last group without any power name.
+     *
+     * @param _power    power of the group (<code>-1</code> till
+     *                  <code>5</code>)
+     * @param _number   number of the group (<code>0</code> till
+     *                  <code>999</code>)
+     * @return precomputed fragment; an empty string for <code>0</code>
+     */
+    public String getFragment(final int _power,
+                              final int _number)
+    {
+        return this.fragments[_power + 1][_number];
+    }
+
+    /**
+     * Returns the length in characters of the
+     * {@link #getFragment(int, int) fragment} for the group
+     * <code>_number</code> of three digits multiplied with
+     * <code>1000 ^ (_power + 1)</code>.
+     *
+     * @param _power    power of the group (<code>-1</code> till
+     *                  <code>5</code>)
+     * @param _number   number of the group (<code>0</code> till
+     *                  <code>999</code>)
+     * @return length of the fragment in characters
+     */
+    public int getLength(final int _power,
+                         final int _number)
+    {
+        return this.lengths[_power + 1][_number];
+    }
+
+    /**
+     * Returns the length in UTF-8 bytes of the
+     * {@link #getFragment(int, int) fragment} for the group
+     * <code>_number</code> of three digits multiplied with
+     * <code>1000 ^ (_power + 1)</code>.
+     *
+     * @param _power    power of the group (<code>-1</code> till
+     *                  <code>5</code>)
+     * @param _number   number of the group (<code>0</code> till
+     *                  <code>999</code>)
+     * @return length of the encoded fragment in bytes
+     */
+    public int getByteLength(final int _power,
+                             final int _number)
+    {
+        return this.byteLengths[_power + 1][_number];
+    }
+
+    /**
+     * Returns the fragment for the last group <code>_number</code> of three
+     * digits if the number is written in front of a noun (e.g. Spanish
+     * &quot;veinti&uacute;n&quot; instead of &quot;veintiuno&quot;).
+     *
+     * @param _number   number of the group (<code>0</code> till
+     *                  <code>999</code>)
+     * @return precomputed fragment; an empty string for <code>0</code>
+     */
+    public String getNounFragment(final int _number)
+    {
+        return this.nounFragments[_number];
+    }
+
+    /**
+     * Returns the fragment for the last group <code>_number</code> of three
+     * digits if higher groups are written in front of it. The fragment
+     * differs from the {@link #getFragment(int, int) fragment of the last
+     * group} only if a conjunction is written in front of last groups below
+     * one hundred (e.g. &quot;and five&quot;).
+     *
+     * @param _number   number of the group (<code>0</code> till
+     *                  <code>999</code>)
+     * @return precomputed fragment; an empty string for <code>0</code>
+     * @see ConversionOptions#withConjunction(String)
+     */
+    public String getConjoinedFragment(final int _number)
+    {
+        return this.conjoinedFragments[_number];
+    }
+
+    /**
+     * Returns the fragment for the last group <code>_number</code> of three
+     * digits in front of a noun if higher groups are written in front of
+     * it.
+     *
+     * @param _number   number of the group (<code>0</code> till
+     *                  <code>999</code>)
+     * @return precomputed fragment; an empty string for <code>0</code>
+     * @see #getConjoinedFragment(int)
+     * @see #getNounFragment(int)
+     */
+    public String getConjoinedNounFragment(final int _number)
+    {
+        return this.conjoinedNounFragments[_number];
+    }
+
+    /**
+     * Returns the length in characters of the
+     * {@link #getConjoinedFragment(int) conjoined fragment} for the last
+     * group <code>_number</code>.
+     *
+     * @param _number   number of the group (<code>0</code> till
+     *                  <code>999</code>)
+     * @return length of the fragment in characters
+     */
+    public int getConjoinedLength(final int _number)
+    {
+        return this.conjoinedLengths[_number];
+    }
+
+    /**
+     * Returns the length in UTF-8 bytes of the
+     * {@link #getConjoinedFragment(int) conjoined fragment} for the last
+     * group <code>_number</code>.
+     *
+     * @param _number   number of the group (<code>0</code> till
+     *                  <code>999</code>)
+     * @return length of the encoded fragment in bytes
+     */
+    public int getConjoinedByteLength(final int _number)
+    {
+        return this.conjoinedByteLengths[_number];
+    }
+
+    /**
+     * Returns the ordinal fragment for the group <code>_number</code> of
+     * three digits multiplied with <code>1000 ^ (_power + 1)</code> (e.g.
+     * &quot;twenty-first&quot; or &quot;two thousandth&quot;). The ordinal
+     * fragments are compiled with the first use. Concurrent first uses could
+     * compile the fragments twice, but all threads get equal fragments.
+     *
+     * @param _power    power of the group (<code>-1</code> till
+     *                  <code>5</code>)
+     * @param _number   number of the group (<code>1</code> till
+     *                  <code>999</code>)
+     * @return precomputed ordinal fragment
+     * @throws UnsupportedOperationException if the language has no ordinal
+     *                                       numbers
+     */
+    public String getOrdinalFragment(final int _power,
+                                     final int _number)
+    {
+        String[][] ret = this.ordinals;
+        if (ret == null)  {
+            ret = DecimalTable.compileOrdinals(this.converter);
+            this.ordinals = ret;
+        }
+        return ret[_power + 1][_number];
+    }
+
+    /**
+     * Returns the fragments encoded in the <code>_charset</code>. Encoded
+     * fragments are only held for UTF-8 and ISO-8859-1; they are encoded
+     * with the first use. Concurrent first uses could encode the fragments
+     * twice, but all threads get equal fragments.
+     *
+     * @param _charset  charset of the bytes
+     * @return encoded fragments or <code>null</code> if the charset is not
+     *         UTF-8 or ISO-8859-1
+     */
+    EncodedTable getEncoded(final Charset _charset)
+    {
+        EncodedTable ret = null;
+        if (StandardCharsets.UTF_8.equals(_charset))  {
+            ret = this.utf8;
+            if (ret == null)  {
+                ret = new EncodedTable(this, _charset);
+                this.utf8 = ret;
+            }
+        } else if (StandardCharsets.ISO_8859_1.equals(_charset))  {
+            ret = this.latin1;
+            if (ret == null)  {
+                ret = new EncodedTable(this, _charset);
+                this.latin1 = ret;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the word for the number 0.
+     *
+     * @return word for zero
+     */
+    public String getZero()
+    {
+        return this.zero;
+    }
+
+    /**
+     * Returns the word for &quot;minus&quot;.
+     *
+     * @return word for minus
+     */
+    public String getMinus()
+    {
+        return this.minus;
+    }
+
+    /**
+     * Returns the text written in front of the words of a negative number
+     * including the separator to the words (e.g. &quot;minus &quot; or
+     * &quot;-&quot;).
+     *
+     * @return sign of negative numbers
+     * @see ConversionOptions#withSignStyle(org.efaps.number2words.SignStyle)
+     */
+    public String getSign()
+    {
+        return this.sign;
+    }
+
+    /**
+     * Returns the separator written after the fragment of a group with the
+     * <code>_power</code> if another group follows. In the compound mode the
+     * separator after the thousands is empty.
+     *
+     * @param _power    power of the group (<code>0</code> till
+     *                  <code>5</code>)
+     * @return separator after the group
+     */
+    public String getSeparator(final int _power)
+    {
+        return this.separators[_power + 1];
+    }
+
+    /**
+     * Returns the separator written after the fragment of a group with the
+     * <code>_power</code> if the last group <code>_number</code> follows.
+     * The separator differs from the {@link #getSeparator(int) separator
+     * between the groups} only in the compound mode in front of a last group
+     * below one hundred with a conjunction, because the conjunction is not
+     * joined with the thousands (e.g. &quot;tretusind og en&quot;).
+     *
+     * @param _power    power of the group (<code>0</code> till
+     *                  <code>5</code>)
+     * @param _number   number of the last group (<code>1</code> till
+     *                  <code>999</code>)
+     * @return separator in front of the last group
+     * @see #getConjoinedFragment(int)
+     */
+    public String getConjoinedSeparator(final int _power,
+                                        final int _number)
+    {
+        return _number < 100 ? this.conjunctionSeparators[_power + 1] : this.separators[_power + 1];
+    }
+
+    /**
+     * Returns whether the first letter of the text must be written in upper
+     * case. The letter is not capitalized in the fragments itself, because
+     * each fragment could be the first one.
+     *
+     * @return <i>true</i> if the first letter must be written in upper case
+     * @see LetterCase#CAPITALIZED
+     */
+    public boolean isCapitalized()
+    {
+        return this.capitalized;
+    }
+
+    /**
+     * Returns whether the first letter of the words after the
+     * {@link #getSign() sign} of a negative number must be written in upper
+     * case. This is the case if the text is capitalized and the sign is not
+     * a word (e.g. &quot;-Five&quot;).
+     *
+     * @return <i>true</i> if the first letter after the sign must be written
+     *         in upper case
+     */
+    public boolean isCapitalizedAfterSign()
+    {
+        return this.capitalizedAfterSign;
+    }
+
+    /**
+     * Returns whether the table was derived from the <code>_table</code>.
+     * Derived tables of converters whose table changes (e.g. a reloaded
+     * language pack) must be derived again.
+     *
+     * @param _table    table to check
+     * @return <i>true</i> if this table was derived from the table (or is
+     *         the table itself)
+     */
+    boolean isDerivedFrom(final DecimalTable _table)
+    {
+        return this.base == _table;
+    }
+
+    /**
+     * Returns the time in nanoseconds needed to compile this table.
+     *
+     * @return compile time in nanoseconds
+     */
+    public long getCompileNanos()
+    {
+        return this.compileNanos;
+    }
+
+    /**
+     * Returns the fingerprint of the table. The fingerprint is a FNV-1a hash
+     * over the words for zero and minus and all fragments, so that it
+     * changes if any word of the table changes.
+     *
+     * @return fingerprint of the table
+     */
+    public long getFingerprint()
+    {
+        return this.fingerprint;
+    }
+
+    /**
+     * Returns the estimated retained heap size of the table in bytes. The
+     * estimation assumes a 64 bit JVM with compressed object pointers and
+     * compact (Latin-1) strings.
+     *
+     * @return estimated heap size in bytes
+     */
+    public long getFootprint()
+    {
+        long ret = DecimalTable.align(16 + 4 * this.fragments.length);
+        for (final String[] row : this.fragments)  {
+            ret += DecimalTable.footprint(row);
+        }
+        if (this.nounFragments != this.fragments[0])  {
+            ret += DecimalTable.footprint(this.nounFragments);
+        }
+        if (this.conjoinedFragments != this.fragments[0])  {
+            ret += DecimalTable.footprint(this.conjoinedFragments)
+                            + 2 * DecimalTable.align(16 + 2 * this.conjoinedLengths.length);
+        }
+        if (this.conjoinedNounFragments != this.nounFragments)  {
+            ret += DecimalTable.footprint(this.conjoinedNounFragments);
+        }
+        // both length tables
+        ret += 2 * DecimalTable.align(16 + 4 * this.lengths.length)
+                        + 2 * this.lengths.length * DecimalTable.align(16 + 2 * this.lengths[0].length);
+        final String[][] ordinalFragments = this.ordinals;
+        if (ordinalFragments != null)  {
+            ret += DecimalTable.align(16 + 4 * ordinalFragments.length);
+            for (final String[] row : ordinalFragments)  {
+                ret += DecimalTable.footprint(row);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the estimated heap size of one row of fragments.
+     *
+     * @param _row  row of fragments
+     * @return estimated heap size in bytes
+     */
+    private static long footprint(final String[] _row)
+    {
+        long ret = DecimalTable.align(16 + 4 * _row.length);
+        for (final String fragment : _row)  {
+            ret += 24 + DecimalTable.align(16 + fragment.length());
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the number of bytes of the <code>_word</code> encoded in UTF-8
+     * without encoding the word.
+     *
+     * @param _word word to measure
+     * @return number of UTF-8 bytes
+     */
+    static int utf8Length(final String _word)
+    {
+        int ret = 0;
+        for (int i = 0; i < _word.length(); i++)  {
+            final char ch = _word.charAt(i);
+            if (ch < 0x80)  {
+                ret++;
+            } else if (ch < 0x800)  {
+                ret += 2;
+            } else if (Character.isSurrogate(ch))  {
+                // a surrogate pair is encoded in four bytes
+                ret += 2;
+            } else  {
+                ret += 3;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Adds the characters of the <code>_word</code> and a separator to the
+     * FNV-1a <code>_hash</code>.
+     *
+     * @param _hash hash so far
+     * @param _word word to add
+     * @return new hash
+     */
+    private static long hash(final long _hash,
+                             final String _word)
+    {
+        long ret = _hash;
+        for (int i = 0; i < _word.length(); i++)  {
+            ret = (ret ^ _word.charAt(i)) * DecimalTable.FNV_PRIME;
+        }
+        return (ret ^ 0xFFFF) * DecimalTable.FNV_PRIME;
+    }
+
+    /**
+     * Aligns the <code>_size</code> of an object to eight bytes.
+     *
+     * @param _size size to align
+     * @return aligned size
+     */
+    private static long align(final long _size)
+    {
+        return (_size + 7) & ~7L;
+    }
+
+    /**
+     * Compiles the table for the given <code>_converter</code> by running the
+     * language hooks for all groups and powers.
+     *
+     * @param _converter    converter for which the table is compiled
+     * @return compiled table
+     */
+    public static DecimalTable compile(final AbstractDecimalConverter _converter)
+    {
+        final long start = System.nanoTime();
+        final String[][] fragments = new String[DecimalTable.GROUPS][1000];
+        final String[] nounFragments = new String[1000];
+        boolean sameNounFragments = true;
+        final StringBuilder buffer = new StringBuilder();
+        try  {
+            for (int number = 0; number < 1000; number++)  {
+                buffer.setLength(0);
+                _converter.appendLastGroup(buffer, false, number);
+                fragments[0][number] = buffer.toString();
+                buffer.setLength(0);
+                _converter.appendLastGroupBeforeNoun(buffer, false, number);
+                nounFragments[number] = buffer.toString();
+                sameNounFragments &= nounFragments[number].equals(fragments[0][number]);
+                for (int power = 0; power < DecimalTable.GROUPS - 1; power++)  {
+                    buffer.setLength(0);
+                    _converter.appendPower(buffer, false, number, power);
+                    fragments[power + 1][number] = buffer.toString();
+                }
+            }
+        } catch (final IOException e)  {
+            // could not happen, because a string builder does not throw
+            throw new UncheckedIOException(e);
+        }
+        final String groupConjunction = _converter.getGroupConjunction();
+        String[] conjoinedFragments = fragments[0];
+        String[] conjoinedNounFragments = sameNounFragments ? fragments[0] : nounFragments;
+        if (groupConjunction != null)  {
+            conjoinedFragments = DecimalTable.conjoinBelowHundred(fragments[0], groupConjunction);
+            conjoinedNounFragments = sameNounFragments
+                            ? conjoinedFragments
+                            : DecimalTable.conjoinBelowHundred(nounFragments, groupConjunction);
+        }
+        final String[] separators = new String[DecimalTable.GROUPS];
+        Arrays.fill(separators, " ");
+        return new DecimalTable(fragments, sameNounFragments ? fragments[0] : nounFragments,
+                        conjoinedFragments, conjoinedNounFragments,
+                        _converter.getZero(), _converter.getMinus(), _converter.getMinus() + " ", separators,
+                        separators, false, false, System.nanoTime() - start, _converter, null);
+    }
+
+    /**
+     * Returns the fragments of the last group after higher groups: the
+     * <code>_conjunction</code> is written in front of the groups from 1
+     * till 99 (e.g. the Danish &quot;og en&quot; of &quot;et tusind og
+     * en&quot;), all other groups are the same.
+     *
+     * @param _fragments    fragments of the last group
+     * @param _conjunction  conjunction in front of the groups below one
+     *                      hundred
+     * @return conjoined fragments
+     */
+    private static String[] conjoinBelowHundred(final String[] _fragments,
+                                                final String _conjunction)
+    {
+        final String[] ret = _fragments.clone();
+        for (int number = 1; number < 100; number++)  {
+            ret[number] = _conjunction + " " + _fragments[number];
+        }
+        return ret;
+    }
+
+    /**
+     * Derives the table for the <code>_options</code> from the
+     * {@link AbstractDecimalConverter#getTable() table} of the
+     * <code>_converter</code>. Each fragment is written once with the
+     * conjunction after the hundreds, the letter case, the hyphen and the
+     * separator (or in compound mode without separators in the number
+     * words, so that only the power nouns from the million on are
+     * separated). The position of the conjunction is found by comparing
+     * the fragment with the fragment of a group with the same hundreds, so
+     * that no language specific hooks are needed: the words which both
+     * fragments have in common are the hundreds.
+     *
+     * @param _converter    converter for which the table is derived
+     * @param _options      options of the derived table
+     * @return derived table
+     */
+    public static DecimalTable compile(final AbstractDecimalConverter _converter,
+                                       final ConversionOptions _options)
+    {
+        final long start = System.nanoTime();
+        final DecimalTable table = _converter.getTable();
+        final Locale locale = _converter.getLocale();
+        final String conjunction = _options.getConjunction();
+        final String languageConjunction = _converter.getMoneyConjunction();
+        final String[][] fragments = new String[DecimalTable.GROUPS][1000];
+        final String[] nounFragments = new String[1000];
+        // the language writes a conjunction in front of the last group
+        final boolean languageConjoined = !table.getConjoinedFragment(1).equals(table.getFragment(-1, 1));
+        final String[] conjoinedFragments = conjunction == null && !languageConjoined
+                        ? fragments[0]
+                        : new String[1000];
+        final String[] conjoinedNounFragments = conjunction == null && !languageConjoined
+                        ? nounFragments
+                        : new String[1000];
+        // number of words of the power nouns (e.g. "Millionen") from the million on
+        final int[] nounWords = new int[DecimalTable.GROUPS];
+        for (int power = 1; power < DecimalTable.GROUPS - 1; power++)  {
+            nounWords[power + 1] = DecimalTable.commonTrailingWords(table.getFragment(power, 2),
+                            table.getFragment(power, 3));
+        }
+        for (int number = 0; number < 1000; number++)  {
+            // the group with the same hundreds to find the hundreds words
+            final int other = number - number % 100 + (number % 100 == 1 ? 2 : 1);
+            for (int power = -1; power < DecimalTable.GROUPS - 1; power++)  {
+                String fragment = table.getFragment(power, number);
+                if (conjunction != null && number > 100 && number % 100 != 0)  {
+                    fragment = DecimalTable.conjoin(fragment, table.getFragment(power, other), conjunction,
+                                    languageConjunction);
+                }
+                fragments[power + 1][number] = power < 1 || !_options.isCompound()
+                                ? DecimalTable.format(fragment, _options, locale, power < 1)
+                                : DecimalTable.formatCompound(fragment, nounWords[power + 1], _options, locale);
+            }
+            String nounFragment = table.getNounFragment(number);
+            if (conjunction != null && number > 100 && number % 100 != 0)  {
+                nounFragment = DecimalTable.conjoin(nounFragment, table.getNounFragment(other), conjunction,
+                                languageConjunction);
+            }
+            nounFragments[number] = DecimalTable.format(nounFragment, _options, locale, true);
+            if (conjunction == null && languageConjoined)  {
+                conjoinedFragments[number] = DecimalTable.formatConjoined(table.getConjoinedFragment(number),
+                                table.getFragment(-1, number), _options, locale);
+                conjoinedNounFragments[number] = DecimalTable.formatConjoined(
+                                table.getConjoinedNounFragment(number), table.getNounFragment(number), _options,
+                                locale);
+            } else if (conjunction != null)  {
+                conjoinedFragments[number] = number == 0 || number >= 100
+                                ? fragments[0][number]
+                                : DecimalTable.formatConjoined(conjunction + " " + table.getFragment(-1, number),
+                                                table.getFragment(-1, number), _options, locale);
+                conjoinedNounFragments[number] = number == 0 || number >= 100
+                                ? nounFragments[number]
+                                : DecimalTable.formatConjoined(conjunction + " " + table.getNounFragment(number),
+                                                table.getNounFragment(number), _options, locale);
+            }
+        }
+        final boolean capitalized = _options.getLetterCase() == LetterCase.CAPITALIZED;
+        final String minus = DecimalTable.format(table.getMinus(), _options, locale, false);
+        final String sign;
+        switch (_options.getSignStyle())  {
+            case SYMBOL:
+                sign = "-";
+                break;
+            case NONE:
+                sign = "";
+                break;
+            default:
+                sign = (capitalized ? DecimalTable.capitalize(minus) : minus) + _options.getSeparator();
+                break;
+        }
+        final String zero = DecimalTable.format(table.getZero(), _options, locale, false);
+        final String[] separators = new String[DecimalTable.GROUPS];
+        Arrays.fill(separators, _options.getSeparator());
+        String[] conjunctionSeparators = separators;
+        if (_options.isCompound())  {
+            separators[1] = "";
+            // the conjunction in front of the last group is its own word
+            if (conjunction != null || languageConjoined)  {
+                conjunctionSeparators = new String[DecimalTable.GROUPS];
+                Arrays.fill(conjunctionSeparators, _options.getSeparator());
+            }
+        }
+        return new DecimalTable(fragments, nounFragments, conjoinedFragments, conjoinedNounFragments,
+                        capitalized ? DecimalTable.capitalize(zero) : zero, minus, sign, separators,
+                        conjunctionSeparators,
+                        capitalized, capitalized && _options.getSignStyle() != SignStyle.WORD,
+                        System.nanoTime() - start, _converter, table);
+    }
+
+    /**
+     * Writes the <code>_conjunction</code> after the hundreds of the
+     * <code>_fragment</code>. The hundreds are the words which the fragment
+     * has in common with the fragment <code>_other</code> of a group with
+     * the same hundreds. If the hundreds end with the conjunction of the
+     * language (e.g. the Danish &quot;et hundrede og&quot;), the conjunction
+     * of the language is replaced.
+     *
+     * @param _fragment     fragment of a group with hundreds and a rest
+     * @param _other        fragment of a group with the same hundreds and
+     *                      another rest
+     * @param _conjunction  conjunction to write
+     * @param _languageConjunction conjunction of the language
+     * @return fragment with the conjunction; the fragment itself if no
+     *         hundreds words were found
+     */
+    private static String conjoin(final String _fragment,
+                                  final String _other,
+                                  final String _conjunction,
+                                  final String _languageConjunction)
+    {
+        // end of the last word which both fragments have in common
+        int end = -1;
+        for (int index = 0; index < _fragment.length() && index < _other.length()
+                        && _fragment.charAt(index) == _other.charAt(index); index++)  {
+            if (_fragment.charAt(index) == ' ')  {
+                end = index;
+            }
+        }
+        final String ret;
+        if (end < 0)  {
+            ret = _fragment;
+        } else  {
+            final String hundreds = _fragment.substring(0, end);
+            final String rest = _fragment.substring(end + 1);
+            if (hundreds.endsWith(" " + _languageConjunction))  {
+                ret = hundreds.substring(0, hundreds.length() - _languageConjunction.length()) + _conjunction
+                                + " " + rest;
+            } else  {
+                ret = hundreds + " " + _conjunction + " " + rest;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Writes the <code>_conjoined</code> fragment of the last group after
+     * higher groups. The conjunction in front of the <code>_fragment</code>
+     * of the group is written as its own word, so that in compound mode
+     * only the number words of the group are joined (e.g. &quot;og en&quot;
+     * and not &quot;ogen&quot;).
+     *
+     * @param _conjoined    fragment of the last group with the conjunction
+     * @param _fragment     fragment of the last group without conjunction
+     * @param _options      options of the format
+     * @param _locale       locale of the language for the letter case
+     * @return formatted fragment
+     */
+    private static String formatConjoined(final String _conjoined,
+                                          final String _fragment,
+                                          final ConversionOptions _options,
+                                          final Locale _locale)
+    {
+        final int split = _conjoined.length() - _fragment.length() - 1;
+        return split <= 0 || !_conjoined.endsWith(_fragment) || _conjoined.charAt(split) != ' '
+                        ? DecimalTable.format(_conjoined, _options, _locale, true)
+                        : DecimalTable.format(_conjoined.substring(0, split), _options, _locale, false)
+                                        + _options.getSeparator()
+                                        + DecimalTable.format(_fragment, _options, _locale, true);
+    }
+
+    /**
+     * Returns the number of trailing words which both fragments have in
+     * common, e.g. 1 for &quot;zwei Millionen&quot; and &quot;drei
+     * Millionen&quot;.
+     *
+     * @param _fragment first fragment
+     * @param _other    second fragment
+     * @return number of common trailing words
+     */
+    private static int commonTrailingWords(final String _fragment,
+                                           final String _other)
+    {
+        int ret = 0;
+        for (int index = 1; index <= _fragment.length() && index <= _other.length()
+                        && _fragment.charAt(_fragment.length() - index) == _other.charAt(_other.length() - index);
+                        index++)  {
+            if (_fragment.charAt(_fragment.length() - index) == ' ')  {
+                ret++;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Writes the <code>_fragment</code> of a group from the million on in
+     * compound mode: the number words are written as one word and only the
+     * power noun (e.g. &quot;Millionen&quot;) is separated, e.g.
+     * &quot;einhundertdreiundzwanzig Millionen&quot;.
+     *
+     * @param _fragment     fragment of the group with the power noun
+     * @param _nounWords    number of words of the power noun
+     * @param _options      options of the format
+     * @param _locale       locale of the language for the letter case
+     * @return formatted fragment
+     */
+    private static String formatCompound(final String _fragment,
+                                         final int _nounWords,
+                                         final ConversionOptions _options,
+                                         final Locale _locale)
+    {
+        int split = _fragment.length();
+        for (int words = 0; words < _nounWords && split >= 0; words++)  {
+            split = _fragment.lastIndexOf(' ', split - 1);
+        }
+        return split <= 0
+                        ? DecimalTable.format(_fragment, _options, _locale, false)
+                        : DecimalTable.format(_fragment.substring(0, split), _options, _locale, true)
+                                        + DecimalTable.format(_fragment.substring(split), _options, _locale, false);
+    }
+
+    /**
+     * Writes the <code>_words</code> with the letter case, the hyphen and the
+     * separator of the <code>_options</code>. The first letter of
+     * {@link LetterCase#CAPITALIZED capitalized} texts is written while the
+     * words are converted, so the case of the words is not changed here.
+     *
+     * @param _words    words to format
+     * @param _options  options of the format
+     * @param _locale   locale of the language for the letter case
+     * @param _belowMillion are the words part of a number below one
+     *                  million, which is written as one word in compound
+     *                  mode?
+     * @return formatted words
+     */
+    private static String format(final String _words,
+                                 final ConversionOptions _options,
+                                 final Locale _locale,
+                                 final boolean _belowMillion)
+    {
+        final String words;
+        switch (_options.getLetterCase())  {
+            case LOWER:
+                words = _words.toLowerCase(_locale);
+                break;
+            case UPPER:
+                words = _words.toUpperCase(_locale);
+                break;
+            default:
+                words = _words;
+                break;
+        }
+        final String separator = _options.isCompound() && _belowMillion ? "" : _options.getSeparator();
+        final StringBuilder ret = new StringBuilder(words.length());
+        for (int index = 0; index < words.length(); index++)  {
+            final char ch = words.charAt(index);
+            if (ch == ' ')  {
+                ret.append(separator);
+            } else if (ch == '-')  {
+                ret.append(_options.getHyphen());
+            } else  {
+                ret.append(ch);
+            }
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Returns the <code>_text</code> with the first letter in upper case.
+     *
+     * @param _text text to capitalize
+     * @return capitalized text
+     */
+    static String capitalize(final String _text)
+    {
+        return _text.isEmpty() ? _text : Character.toUpperCase(_text.charAt(0)) + _text.substring(1);
+    }
+
+    /**
+     * Compiles the ordinal fragments for the given <code>_converter</code>
+     * by running the ordinal language hooks for all groups and powers. The
+     * fragments for group number 0 are empty.
+     *
+     * @param _converter    converter for which the fragments are compiled
+     * @return compiled ordinal fragments
+     * @throws UnsupportedOperationException if the language has no ordinal
+     *                                       numbers
+     */
+    private static String[][] compileOrdinals(final AbstractDecimalConverter _converter)
+    {
+        final String[][] ret = new String[DecimalTable.GROUPS][1000];
+        final StringBuilder buffer = new StringBuilder();
+        try  {
+            for (int power = -1; power < DecimalTable.GROUPS - 1; power++)  {
+                ret[power + 1][0] = "";
+            }
+            for (int number = 1; number < 1000; number++)  {
+                buffer.setLength(0);
+                _converter.appendOrdinalLastGroup(buffer, false, number);
+                ret[0][number] = buffer.toString();
+                for (int power = 0; power < DecimalTable.GROUPS - 1; power++)  {
+                    buffer.setLength(0);
+                    _converter.appendOrdinalPower(buffer, false, number, power);
+                    ret[power + 1][number] = buffer.toString();
+                }
+            }
+        } catch (final IOException e)  {
+            // could not happen, because a string builder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return ret;
+    }
+}
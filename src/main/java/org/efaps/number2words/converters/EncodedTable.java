@@ -0,0 +1,136 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.converters;
+
+import java.nio.charset.Charset;
+
+/**
+ * <p>Immutable copy of a {@link DecimalTable} with all fragments encoded
+ * into bytes of one charset. With the encoded fragments a number is written
+ * directly into a byte buffer or stream by copying the bytes, without any
+ * transcoding of characters into bytes.</p>
+ *
+ * @author The eFaps Team
+ * @see DecimalTable#getEncoded(Charset)
+ */
+final class EncodedTable
+{
+    /**
+     * Encoded fragments with the same indexes as the fragments of the
+     * {@link DecimalTable}.
+     */
+    private final byte[][][] fragments;
+
+    /**
+     * Encoded fragments of the last group after higher groups; shared with
+     * the first row of {@link #fragments} if the language writes no
+     * conjunction in front of the last group.
+     *
+     * @see DecimalTable#getConjoinedFragment(int)
+     */
+    private final byte[][] conjoinedFragments;
+
+    /**
+     * Encoded word for the number 0.
+     */
+    private final byte[] zero;
+
+    /**
+     * Encoded word for &quot;minus&quot;.
+     */
+    private final byte[] minus;
+
+    /**
+     * Encodes the fragments of the <code>_table</code>.
+     *
+     * @param _table    table to encode
+     * @param _charset  charset of the bytes
+     */
+    EncodedTable(final DecimalTable _table,
+                 final Charset _charset)
+    {
+        this.fragments = new byte[DecimalTable.GROUPS][1000][];
+        for (int power = -1; power < DecimalTable.GROUPS - 1; power++)  {
+            for (int number = 0; number < 1000; number++)  {
+                this.fragments[power + 1][number] = _table.getFragment(power, number).getBytes(_charset);
+            }
+        }
+        if (_table.getConjoinedFragment(1).equals(_table.getFragment(-1, 1)))  {
+            this.conjoinedFragments = this.fragments[0];
+        } else  {
+            this.conjoinedFragments = new byte[1000][];
+            for (int number = 0; number < 1000; number++)  {
+                this.conjoinedFragments[number] = _table.getConjoinedFragment(number).getBytes(_charset);
+            }
+        }
+        this.zero = _table.getZero().getBytes(_charset);
+        this.minus = _table.getMinus().getBytes(_charset);
+    }
+
+    /**
+     * Returns the encoded fragment for the group <code>_number</code> of
+     * three digits multiplied with <code>1000 ^ (_power + 1)</code>.
+     *
+     * @param _power    power of the group (<code>-1</code> till
+     *                  <code>5</code>)
+     * @param _number   number of the group (<code>0</code> till
+     *                  <code>999</code>)
+     * @return encoded fragment; an empty array for <code>0</code>
+     * @see DecimalTable#getFragment(int, int)
+     */
+    byte[] getFragment(final int _power,
+                       final int _number)
+    {
+        return this.fragments[_power + 1][_number];
+    }
+
+    /**
+     * Returns the encoded fragment for the last group <code>_number</code> of
+     * three digits if higher groups are written in front of it.
+     *
+     * @param _number   number of the group (<code>0</code> till
+     *                  <code>999</code>)
+     * @return encoded fragment; an empty array for <code>0</code>
+     * @see DecimalTable#getConjoinedFragment(int)
+     */
+    byte[] getConjoinedFragment(final int _number)
+    {
+        return this.conjoinedFragments[_number];
+    }
+
+    /**
+     * Returns the encoded word for the number 0.
+     *
+     * @return encoded word for zero
+     */
+    byte[] getZero()
+    {
+        return this.zero;
+    }
+
+    /**
+     * Returns the encoded word for &quot;minus&quot;.
+     *
+     * @return encoded word for minus
+     */
+    byte[] getMinus()
+    {
+        return this.minus;
+    }
+}
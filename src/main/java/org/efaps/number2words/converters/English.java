@@ -17,6 +17,9 @@
 
 package org.efaps.number2words.converters;
 
+import java.io.IOException;
+import java.util.Locale;
+
 /**
  * The class implements the conversion of numbers to English words.
  *
@@ -57,24 +60,159 @@ public class English
         "thousand", "million", "billion", "trillion", "quadrillion", "quintillion"};
 
     /**
-     * The method converts the numbers from 1 to 99 into words. The method is
-     * used from {@link AbstractDecimalConverter#convertLessThanOneThousand(int)}.
+     * Cardinal words with irregular ordinal forms; all other words get the
+     * suffix &quot;th&quot; (and the tens ending with &quot;y&quot; the
+     * suffix &quot;ieth&quot;).
+     *
+     * @see #toOrdinal(CharSequence)
+     */
+    private static final String[][] IRREGULAR_ORDINALS = {
+        {"one", "first"}, {"two", "second"}, {"three", "third"}, {"five", "fifth"},
+        {"eight", "eighth"}, {"nine", "ninth"}, {"twelve", "twelfth"}};
+
+    /**
+     * Table with the precomputed fragments of all groups of three digits. The
+     * table must be defined after all word arrays, because it is compiled
+     * from them at class initialization.
      *
-     * @param _number       number less than one hundred to convert
-     * @return converted <code>_number</code> in words
+     * @see #getTable()
+     */
+    private static final DecimalTable TABLE = DecimalTable.compile(new English());
+
+    /**
+     * The method appends the words for the numbers from 1 to 99. The method
+     * is used from
+     * {@link AbstractDecimalConverter#appendLessThanOneThousand(Appendable, boolean, int)}.
+     * The tens and the units are concatenated with an hyphen, e.g.
+     * &quot;twenty-one&quot;.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one hundred to convert
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
      */
     @Override
-    protected String convertLessThanOneHundred(final int _number)
+    protected boolean appendLessThanOneHundred(final Appendable _target,
+                                               final boolean _separate,
+                                               final int _number)
+        throws IOException
     {
-        final StringBuilder ret = new StringBuilder();
+        final boolean ret;
         if (_number < 20)  {
-            ret.append(getNumNames()[_number]);
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, getNumNames()[_number]);
         } else  {
-            ret.append(getTensNames()[_number / 10])
-                .append('-')
-                .append(getNumNames()[_number % 10]);
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, getTensNames()[_number / 10]);
+            final int modTen = _number % 10;
+            if (modTen > 0)  {
+                _target.append('-').append(getNumNames()[modTen]);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Appends the ordinal words for the numbers from 1 to 999. Only the last
+     * word of the cardinal number is changed, e.g. &quot;twenty-first&quot;
+     * or &quot;one hundredth&quot;.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendOrdinalLastGroup(final Appendable _target,
+                                             final boolean _separate,
+                                             final int _number)
+        throws IOException
+    {
+        final StringBuilder cardinal = new StringBuilder();
+        appendLessThanOneThousand(cardinal, false, _number);
+        return AbstractDecimalConverter.appendWord(_target, _separate, English.toOrdinal(cardinal));
+    }
+
+    /**
+     * Appends the ordinal words for the <code>_number</code> multiplied with
+     * <code>1000 ^ (_power + 1)</code>, e.g. &quot;two thousandth&quot;.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number of the group to convert
+     * @param _power    power of the number
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendOrdinalPower(final Appendable _target,
+                                         final boolean _separate,
+                                         final int _number,
+                                         final int _power)
+        throws IOException
+    {
+        final StringBuilder cardinal = new StringBuilder();
+        appendPower(cardinal, false, _number, _power);
+        return AbstractDecimalConverter.appendWord(_target, _separate, English.toOrdinal(cardinal));
+    }
+
+    /**
+     * Converts the last word of a cardinal number into the ordinal word.
+     *
+     * @param _cardinal cardinal number
+     * @return ordinal number
+     * @see #IRREGULAR_ORDINALS
+     */
+    private static String toOrdinal(final CharSequence _cardinal)
+    {
+        final String cardinal = _cardinal.toString();
+        final int start = Math.max(cardinal.lastIndexOf(' '), cardinal.lastIndexOf('-')) + 1;
+        final String last = cardinal.substring(start);
+        String ordinal = null;
+        for (final String[] irregular : English.IRREGULAR_ORDINALS)  {
+            if (irregular[0].equals(last))  {
+                ordinal = irregular[1];
+            }
         }
-        return ret.toString();
+        if (ordinal == null)  {
+            ordinal = last.endsWith("y")
+                            ? last.substring(0, last.length() - 1) + "ieth"
+                            : last + "th";
+        }
+        return cardinal.substring(0, start) + ordinal;
+    }
+
+    /**
+     * Returns the English word for the decimal separator.
+     *
+     * @return always the text string &quot;point&quot;
+     */
+    @Override
+    protected String getDecimalSeparator()
+    {
+        return "point";
+    }
+
+    /**
+     * Returns the English name of the fraction with the denominator
+     * <code>10^_scale</code>. The name is the ordinal number without the
+     * leading &quot;one&quot; and with hyphens between the words, e.g.
+     * &quot;hundredths&quot; or &quot;ten-thousandths&quot;.
+     *
+     * @param _scale    scale of the fraction
+     * @param _plural   is the plural needed?
+     * @return name of the fraction
+     */
+    @Override
+    protected String getFractionName(final int _scale,
+                                     final boolean _plural)
+    {
+        final String ordinal = getOrdinalPowerOfTen(_scale);
+        final String name = (ordinal.startsWith("one ") ? ordinal.substring(4) : ordinal).replace(' ', '-');
+        return _plural ? name + "s" : name;
     }
 
     /**
@@ -119,6 +257,37 @@ public class English
         return English.POWER_NAMES;
     }
 
+    /**
+     * Returns the English word for the power number
+     * <code>1000^(_power + 1)</code>. Beyond quintillion the names are
+     * built with the Latin stems of the short scale (e.g. sextillion,
+     * decillion, centillion).
+     *
+     * @param _power    power of the number
+     * @return word for the power number
+     * @see LatinPowerNames
+     */
+    @Override
+    protected String getPowerName(final int _power)
+    {
+        return _power < English.POWER_NAMES.length
+                        ? English.POWER_NAMES[_power]
+                        : LatinPowerNames.stem(_power) + "illion";
+    }
+
+    /**
+     * Returns the table with the precomputed English fragments.
+     *
+     * @return table of precomputed fragments
+     * @see AbstractDecimalConverter#getTable()
+     * @see #TABLE
+     */
+    @Override
+    protected DecimalTable getTable()
+    {
+        return English.TABLE;
+    }
+
     /**
      * Returns the related English word for the number zero ('0').
      *
@@ -130,6 +299,18 @@ public class English
         return "zero";
     }
 
+    /**
+     * Returns the related English word for the conjunction between the units
+     * and the minor units of an amount.
+     *
+     * @return always the text string &quot;and&quot;
+     */
+    @Override
+    protected String getMoneyConjunction()
+    {
+        return "and";
+    }
+
     /**
      * Returns the related English word for &quot;minus&quot; needed for
      * negative numbers.
@@ -155,4 +336,29 @@ public class English
     {
         return true;
     }
+
+    /**
+     * Defines the English words for the parser. Additionally to the words of
+     * the converter the conjunction &quot;and&quot; of the British English
+     * (e.g. &quot;one hundred and five&quot;) is ignored.
+     *
+     * @param _builder  builder of the parser
+     */
+    @Override
+    protected void defineTokens(final DecimalParser.Builder _builder)
+    {
+        super.defineTokens(_builder);
+        _builder.addIgnored("and");
+    }
+
+    /**
+     * Returns the locale of the English language.
+     *
+     * @return {@link Locale#ENGLISH}
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return Locale.ENGLISH;
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.converters;
+
+import java.util.Locale;
+
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.IConverterProvider;
+import org.efaps.number2words.IParser;
+
+/**
+ * Provider of the converters for the English language. The class
+ * {@link English} is loaded only if the converter is requested the first time.
+ *
+ * @author The eFaps Team
+ */
+public class EnglishProvider
+    implements IConverterProvider
+{
+    /**
+     * Returns the locale for the English language.
+     *
+     * @return English locale
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return Locale.ENGLISH;
+    }
+
+    /**
+     * Returns the shared English converter for male numbers.
+     *
+     * @return English converter
+     */
+    @Override
+    public IConverter getMaleConverter()
+    {
+        return Holder.MALE;
+    }
+
+    /**
+     * Returns the shared English parser.
+     *
+     * @return English parser
+     */
+    @Override
+    public IParser getParser()
+    {
+        return ParserHolder.PARSER;
+    }
+
+    /**
+     * Initialization-on-demand holder of the shared converters.
+     */
+    private static final class Holder
+    {
+        /**
+         * Shared English converter for male numbers.
+         */
+        private static final IConverter MALE = new English();
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private Holder()
+        {
+        }
+    }
+
+    /**
+     * Initialization-on-demand holder of the shared parser, so that the
+     * parser is only compiled if it is requested the first time.
+     */
+    private static final class ParserHolder
+    {
+        /**
+         * Shared English parser.
+         */
+        private static final IParser PARSER = DecimalParser.compile(new English());
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private ParserHolder()
+        {
+        }
+    }
+}
@@ -0,0 +1,537 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.converters;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.efaps.number2words.Gender;
+
+/**
+ * <p>The class implements the conversion of numbers to French words. The
+ * numbers from 70 till 99 are vigesimal (&quot;soixante-dix&quot; = 60 + 10,
+ * &quot;quatre-vingt-dix-sept&quot; = 4 &times; 20 + 17), so the words of
+ * all numbers less than one hundred are built once from the rules into the
+ * table {@link #getLessThanOneHundredNames()}. The traditional spelling is
+ * used: hyphens between tens and units, &quot;et&quot; for 21, 31, 41, 51,
+ * 61 and 71 and blanks between all other words.</p>
+ * <p>&quot;vingt&quot; and &quot;cent&quot; get the plural &quot;s&quot;
+ * only if they are multiplied and end the number (&quot;quatre-vingts&quot;,
+ * &quot;deux cents&quot;, but &quot;deux cent mille&quot;).
+ * &quot;mille&quot; is invariable and written without &quot;un&quot;. The
+ * higher powers are nouns of the long scale with plural (&quot;deux
+ * millions&quot;, &quot;un milliard&quot;). The number one at the end of a
+ * number depends on the gender of the counted noun (&quot;un&quot; or
+ * &quot;une&quot;).</p>
+ *
+ * @author The eFaps Team
+ */
+public class French
+    extends AbstractDecimalConverter
+{
+    /**
+     * String array to define the conversion of numbers for 1 till 19.
+     *
+     * @see #getNumNames()
+     */
+    private static final String[] NUM_NAMES = {
+        "", "un", "deux", "trois", "quatre",
+        "cinq", "six", "sept", "huit", "neuf",
+        "dix", "onze", "douze", "treize", "quatorze",
+        "quinze", "seize", "dix-sept", "dix-huit", "dix-neuf"};
+
+    /**
+     * String array to define the conversion for the numbers 10, 20, 30, 40,
+     * 50, 60, 70, 80, 90 and 100. The vigesimal tens 70, 80 and 90 are only
+     * used by the parser; the converter takes the words from
+     * {@link #LESS_THAN_ONE_HUNDRED_NAMES}.
+     *
+     * @see #getTensNames()
+     */
+    private static final String[] TENS_NAMES = {
+        "", "dix", "vingt", "trente", "quarante",
+        "cinquante", "soixante", "soixante-dix", "quatre-vingt", "quatre-vingt-dix",
+        "cent"};
+
+    /**
+     * Words of all numbers from 0 till 99 for male nouns.
+     *
+     * @see #getLessThanOneHundredNames()
+     */
+    private static final String[] LESS_THAN_ONE_HUNDRED_NAMES = French.compileLessThanOneHundred();
+
+    /**
+     * Words of all numbers from 0 till 99 at the end of a female number; the
+     * words ending with &quot;un&quot; end with &quot;une&quot;.
+     *
+     * @see #appendLastGroup(Appendable, boolean, int)
+     */
+    private static final String[] FEMALE_LESS_THAN_ONE_HUNDRED_NAMES = French.toFemale(
+                    French.LESS_THAN_ONE_HUNDRED_NAMES);
+
+    /**
+     * String array to define the conversion of power numbers. The array
+     * contains the French words (plural) for
+     * <ul>
+     * <li>thousand</li>
+     * <li>million</li>
+     * <li>billion</li>
+     * <li>trillion</li>
+     * <li>quadrillion</li>
+     * <li>quintillion</li>
+     * </ul>
+     *
+     * @see #getPowerNames()
+     */
+    private static final String[] POWER_NAMES = {
+        "mille", "millions", "milliards", "billions", "billiards", "trillions"};
+
+    /**
+     * String array to define the conversion of power numbers with exact one.
+     *
+     * @see #appendPower(Appendable, boolean, int, int)
+     */
+    private static final String[] SINGLE_POWER_NAMES = {
+        "mille", "un million", "un milliard", "un billion", "un billiard", "un trillion"};
+
+    /**
+     * Table with the precomputed fragments of all groups of three digits. The
+     * table must be defined after all word arrays, because it is compiled
+     * from them at class initialization.
+     *
+     * @see #getTable()
+     */
+    private static final DecimalTable TABLE = DecimalTable.compile(new French());
+
+    /**
+     * Table with the precomputed fragments for female numbers.
+     *
+     * @see #getTable()
+     */
+    private static final DecimalTable FEMALE_TABLE = DecimalTable.compile(new French(Gender.FEMALE));
+
+    /**
+     * Gender of the counted noun.
+     */
+    private final Gender gender;
+
+    /**
+     * Creates the French converter for male numbers.
+     */
+    public French()
+    {
+        this(Gender.MALE);
+    }
+
+    /**
+     * Creates the French converter for numbers of the <code>_gender</code>.
+     * French has no neuter numbers, so neuter numbers are written as male
+     * numbers.
+     *
+     * @param _gender   gender of the counted noun
+     */
+    public French(final Gender _gender)
+    {
+        this.gender = _gender == Gender.FEMALE ? Gender.FEMALE : Gender.MALE;
+    }
+
+    /**
+     * Builds the words of all numbers from 0 till 99 from the rules of the
+     * French language.
+     *
+     * @return words of the numbers 0 till 99
+     * @see #LESS_THAN_ONE_HUNDRED_NAMES
+     */
+    private static String[] compileLessThanOneHundred()
+    {
+        final String[] ret = new String[100];
+        System.arraycopy(French.NUM_NAMES, 0, ret, 0, 20);
+        for (int number = 20; number < 100; number++)  {
+            final int tens = number / 10;
+            final int modTen = number % 10;
+            if (number < 70)  {
+                ret[number] = French.TENS_NAMES[tens]
+                                + (modTen == 1 ? " et un" : modTen > 0 ? "-" + French.NUM_NAMES[modTen] : "");
+            } else if (number < 80)  {
+                // 60 + 10 till 60 + 19
+                ret[number] = French.TENS_NAMES[6] + (number == 71 ? " et " : "-") + ret[number - 60];
+            } else if (number == 80)  {
+                ret[number] = French.TENS_NAMES[8] + "s";
+            } else  {
+                // 4 x 20 + 1 till 4 x 20 + 19
+                ret[number] = French.TENS_NAMES[8] + "-" + ret[number - 80];
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the female words of the numbers: the word &quot;un&quot; at
+     * the end is replaced by &quot;une&quot;.
+     *
+     * @param _names    male words
+     * @return female words
+     */
+    private static String[] toFemale(final String[] _names)
+    {
+        final String[] ret = new String[_names.length];
+        for (int number = 0; number < _names.length; number++)  {
+            ret[number] = _names[number].equals("un") || _names[number].endsWith(" un")
+                            || _names[number].endsWith("-un")
+                            ? _names[number] + "e"
+                            : _names[number];
+        }
+        return ret;
+    }
+
+    /**
+     * Appends the words for the numbers from 1 to 999 with the words of the
+     * numbers less than one hundred from <code>_names</code>. Hundred is
+     * written without &quot;un&quot; and gets the plural &quot;s&quot; if
+     * it is multiplied and ends the group.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @param _names    words of the numbers less than one hundred
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    private boolean appendGroup(final Appendable _target,
+                                final boolean _separate,
+                                final int _number,
+                                final String[] _names)
+        throws IOException
+    {
+        boolean separate = _separate;
+        final int hundreds = _number / 100;
+        final int modHundred = _number % 100;
+        if (hundreds > 1)  {
+            separate = AbstractDecimalConverter.appendWord(_target, separate, French.NUM_NAMES[hundreds]);
+        }
+        if (hundreds > 0)  {
+            separate = AbstractDecimalConverter.appendWord(_target, separate,
+                            hundreds > 1 && modHundred == 0 ? French.TENS_NAMES[10] + "s" : French.TENS_NAMES[10]);
+        }
+        return AbstractDecimalConverter.appendWord(_target, separate, _names[modHundred]);
+    }
+
+    /**
+     * Appends the words for the numbers from 1 to 999.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendLessThanOneThousand(final Appendable _target,
+                                                final boolean _separate,
+                                                final int _number)
+        throws IOException
+    {
+        return appendGroup(_target, _separate, _number, French.LESS_THAN_ONE_HUNDRED_NAMES);
+    }
+
+    /**
+     * Appends the words of the last group of three digits with the words of
+     * the gender.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @see #FEMALE_LESS_THAN_ONE_HUNDRED_NAMES
+     */
+    @Override
+    protected boolean appendLastGroup(final Appendable _target,
+                                      final boolean _separate,
+                                      final int _number)
+        throws IOException
+    {
+        return appendGroup(_target, _separate, _number, this.gender == Gender.FEMALE
+                        ? French.FEMALE_LESS_THAN_ONE_HUNDRED_NAMES
+                        : French.LESS_THAN_ONE_HUNDRED_NAMES);
+    }
+
+    /**
+     * The method appends the words for the given <code>_number</code>
+     * depending on the <code>_power</code>. The real number to convert is
+     * &quot;<code>_number * (1000 ^ (_power + 1))</code>&quot;. In front of
+     * the invariable &quot;mille&quot; the words &quot;vingts&quot; and
+     * &quot;cents&quot; lose their plural &quot;s&quot; and one thousand is
+     * only &quot;mille&quot;; the higher powers are nouns with plural.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number to convert
+     * @param _power    power of the number
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @see #SINGLE_POWER_NAMES
+     */
+    @Override
+    protected boolean appendPower(final Appendable _target,
+                                  final boolean _separate,
+                                  final int _number,
+                                  final int _power)
+        throws IOException
+    {
+        final boolean ret;
+        if (_number == 1)  {
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, getSinglePowerName(_power));
+        } else if (_power == 0 && _number != 0)  {
+            final StringBuilder group = new StringBuilder();
+            appendLessThanOneThousand(group, false, _number);
+            if (group.length() > 5 && (group.lastIndexOf("vingts") == group.length() - 6
+                            || group.lastIndexOf("cents") == group.length() - 5))  {
+                group.setLength(group.length() - 1);
+            }
+            ret = AbstractDecimalConverter.appendWord(_target,
+                            AbstractDecimalConverter.appendWord(_target, _separate, group),
+                            getPowerName(_power));
+        } else  {
+            ret = super.appendPower(_target, _separate, _number, _power);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the French word for the decimal separator.
+     *
+     * @return always the text string &quot;virgule&quot;
+     */
+    @Override
+    protected String getDecimalSeparator()
+    {
+        return "virgule";
+    }
+
+    /**
+     * Returns the string array to define the conversion of numbers for 1 till
+     * 19.
+     *
+     * @return string array of numbers
+     * @see AbstractDecimalConverter#getNumNames()
+     * @see #NUM_NAMES
+     */
+    @Override
+    protected String[] getNumNames()
+    {
+        return French.NUM_NAMES;
+    }
+
+    /**
+     * Returns the string array for the numbers 10, 20, 30, 40, 50, 60, 70, 80,
+     * 90 and 100.
+     *
+     * @return string array of tens names
+     * @see AbstractDecimalConverter#getTensNames()
+     * @see #TENS_NAMES
+     */
+    @Override
+    protected String[] getTensNames()
+    {
+        return French.TENS_NAMES;
+    }
+
+    /**
+     * Returns the precomputed words of all numbers from 0 till 99.
+     *
+     * @return words of the numbers 0 till 99
+     * @see AbstractDecimalConverter#getLessThanOneHundredNames()
+     * @see #LESS_THAN_ONE_HUNDRED_NAMES
+     */
+    @Override
+    protected String[] getLessThanOneHundredNames()
+    {
+        return French.LESS_THAN_ONE_HUNDRED_NAMES;
+    }
+
+    /**
+     * Returns the string array for power numbers.
+     *
+     * @return string array of power numbers
+     * @see AbstractDecimalConverter#getPowerNames()
+     * @see #POWER_NAMES
+     */
+    @Override
+    protected String[] getPowerNames()
+    {
+        return French.POWER_NAMES;
+    }
+
+    /**
+     * Returns the French word (plural) for the power number
+     * <code>1000^(_power + 1)</code>. Beyond trillion the names are built
+     * with the Latin stems of the long scale (e.g. trilliards,
+     * quadrillions).
+     *
+     * @param _power    power of the number
+     * @return word for the power number
+     * @see LatinPowerNames
+     */
+    @Override
+    protected String getPowerName(final int _power)
+    {
+        return _power < French.POWER_NAMES.length
+                        ? French.POWER_NAMES[_power]
+                        : French.getLongScaleName(_power) + "s";
+    }
+
+    /**
+     * Returns the French word for the power number
+     * <code>1000^(_power + 1)</code> multiplied by exact one.
+     *
+     * @param _power    power of the number
+     * @return word for one times the power number
+     * @see #SINGLE_POWER_NAMES
+     */
+    protected String getSinglePowerName(final int _power)
+    {
+        return _power < French.SINGLE_POWER_NAMES.length
+                        ? French.SINGLE_POWER_NAMES[_power]
+                        : "un " + French.getLongScaleName(_power);
+    }
+
+    /**
+     * Returns the singular of the French long scale name for the power
+     * number <code>1000^(_power + 1)</code>. Odd powers are
+     * &quot;-illion&quot;, even powers &quot;-illiard&quot;.
+     *
+     * @param _power    power of the number (greater than zero)
+     * @return singular long scale name
+     */
+    private static String getLongScaleName(final int _power)
+    {
+        return LatinPowerNames.stem((_power + 1) / 2) + (_power % 2 == 1 ? "illion" : "illiard");
+    }
+
+    /**
+     * Returns the table with the precomputed French fragments of the gender.
+     *
+     * @return table of precomputed fragments
+     * @see AbstractDecimalConverter#getTable()
+     * @see #TABLE
+     * @see #FEMALE_TABLE
+     */
+    @Override
+    protected DecimalTable getTable()
+    {
+        return this.gender == Gender.FEMALE ? French.FEMALE_TABLE : French.TABLE;
+    }
+
+    /**
+     * Returns the related French word for the number zero ('0').
+     *
+     * @return always the text string &quot;z&eacute;ro&quot;
+     */
+    @Override
+    protected String getZero()
+    {
+        return "z\u00E9ro";
+    }
+
+    /**
+     * Returns the related French word for the conjunction between the units
+     * and the minor units of an amount.
+     *
+     * @return always the text string &quot;et&quot;
+     */
+    @Override
+    protected String getMoneyConjunction()
+    {
+        return "et";
+    }
+
+    /**
+     * Returns the French preposition &quot;de&quot; for amounts with whole
+     * millions (e.g. &quot;un million de dollars&quot;).
+     *
+     * @param _units    units of the amount (not negative)
+     * @return &quot;de&quot; for whole millions; otherwise an empty string
+     */
+    @Override
+    protected String getMoneyPreposition(final long _units)
+    {
+        return _units != 0 && _units % 1_000_000 == 0 ? "de" : "";
+    }
+
+    /**
+     * Returns the related French word for &quot;minus&quot; needed for
+     * negative numbers.
+     *
+     * @return always the text string &quot;moins&quot;
+     */
+    @Override
+    protected String getMinus()
+    {
+        return "moins";
+    }
+
+    /**
+     * Returns always <i>false</i> because the French language uses the long
+     * scale system (&quot;milliard&quot; for 10<sup>9</sup>).
+     *
+     * @return always <i>false</i>
+     */
+    @Override
+    public boolean usesShortScale()
+    {
+        return false;
+    }
+
+    /**
+     * Defines the French words for the parser. Additionally to the words of
+     * the converter the female words, the singular power names, the plural
+     * of &quot;cent&quot; and the conjunction &quot;et&quot; are defined.
+     *
+     * @param _builder  builder of the parser
+     */
+    @Override
+    protected void defineTokens(final DecimalParser.Builder _builder)
+    {
+        super.defineTokens(_builder);
+        _builder.addIgnored("et").addHundred(French.TENS_NAMES[10] + "s");
+        for (int number = 1; number < 100; number++)  {
+            _builder.addNumber(French.FEMALE_LESS_THAN_ONE_HUNDRED_NAMES[number], number);
+        }
+        long scale = 1;
+        for (int power = 0; power < French.SINGLE_POWER_NAMES.length; power++)  {
+            scale *= 1000;
+            _builder.addPowerName(getSinglePowerName(power), scale);
+        }
+    }
+
+    /**
+     * Returns the locale of the French language.
+     *
+     * @return {@link Locale#FRENCH}
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return Locale.FRENCH;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.converters;
+
+import java.util.Locale;
+
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.IConverterProvider;
+import org.efaps.number2words.IParser;
+
+/**
+ * Provider of the converters for the French language. The class
+ * {@link French} is loaded only if the converter is requested the first time.
+ *
+ * @author The eFaps Team
+ */
+public class FrenchProvider
+    implements IConverterProvider
+{
+    /**
+     * Returns the locale for the French language.
+     *
+     * @return French locale
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return Locale.FRENCH;
+    }
+
+    /**
+     * Returns the shared French converter for male numbers.
+     *
+     * @return French converter
+     */
+    @Override
+    public IConverter getMaleConverter()
+    {
+        return Holder.MALE;
+    }
+
+    /**
+     * Returns the shared French converter for female numbers.
+     *
+     * @return French female converter
+     */
+    @Override
+    public IConverter getFemaleConverter()
+    {
+        return Holder.FEMALE;
+    }
+
+    /**
+     * Returns the shared French parser.
+     *
+     * @return French parser
+     */
+    @Override
+    public IParser getParser()
+    {
+        return ParserHolder.PARSER;
+    }
+
+    /**
+     * Initialization-on-demand holder of the shared converters.
+     */
+    private static final class Holder
+    {
+        /**
+         * Shared French converter for male numbers.
+         */
+        private static final IConverter MALE = new French();
+
+        /**
+         * Shared French converter for female numbers.
+         */
+        private static final IConverter FEMALE = new French(Gender.FEMALE);
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private Holder()
+        {
+        }
+    }
+
+    /**
+     * Initialization-on-demand holder of the shared parser, so that the
+     * parser is only compiled if it is requested the first time.
+     */
+    private static final class ParserHolder
+    {
+        /**
+         * Shared French parser.
+         */
+        private static final IParser PARSER = DecimalParser.compile(new French());
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private ParserHolder()
+        {
+        }
+    }
+}
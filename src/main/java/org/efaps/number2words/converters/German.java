@@ -17,8 +17,16 @@
 
 package org.efaps.number2words.converters;
 
+import java.io.IOException;
+import java.util.Locale;
+
+import org.efaps.number2words.Gender;
+
 /**
- * The class implements the conversion of numbers to German words.
+ * The class implements the conversion of numbers to German words. The number
+ * one at the end of a number depends on the gender of the counted noun
+ * (&quot;ein&quot;, &quot;eine&quot; or &quot;eins&quot;), all other words
+ * are the same for all genders.
  *
  * @author The eFaps Team
  */
@@ -36,6 +44,30 @@ public class German
         "zehn", "elf", "zw\u00F6lf", "dreizehn", "vierzehn",
         "f\u00FCnfzehn", "sechzehn", "siebzehn", "achtzehn", "neunzehn"};
 
+    /**
+     * String array to define the conversion of numbers for 1 till 19 at the
+     * end of a female number.
+     *
+     * @see #appendLastGroup(Appendable, boolean, int)
+     */
+    private static final String[] FEMALE_NUM_NAMES = {
+        "", "eine", "zwei", "drei", "vier",
+        "f\u00FCnf", "sechs", "sieben", "acht", "neun",
+        "zehn", "elf", "zw\u00F6lf", "dreizehn", "vierzehn",
+        "f\u00FCnfzehn", "sechzehn", "siebzehn", "achtzehn", "neunzehn"};
+
+    /**
+     * String array to define the conversion of numbers for 1 till 19 at the
+     * end of a neuter number.
+     *
+     * @see #appendLastGroup(Appendable, boolean, int)
+     */
+    private static final String[] NEUTER_NUM_NAMES = {
+        "", "eins", "zwei", "drei", "vier",
+        "f\u00FCnf", "sechs", "sieben", "acht", "neun",
+        "zehn", "elf", "zw\u00F6lf", "dreizehn", "vierzehn",
+        "f\u00FCnfzehn", "sechzehn", "siebzehn", "achtzehn", "neunzehn"};
+
     /**
      * String array to define the conversion for the numbers 10, 20, 30, 40,
      * 50, 60, 70, 80, 90 and 100.
@@ -76,16 +108,139 @@ public class German
      * <li>one quintillion</li>
      * </ul>
      *
-     * @see #convertPower(int, int)
+     * @see #appendPower(Appendable, boolean, int, int)
      */
     private static final String[] SINGLE_POWER_NAMES = {
         "ein tausend", "eine Million", "eine Milliarde", "eine Billion", "eine Billiarde", "eine Trillion"};
 
     /**
-     * <p>Converts number less than one hundred into German words. The original
-     * method was override because in German language the convert is done using
-     * first the last digit (one, two, ...) and then the 'ten' digit (twenty,
-     * thirty, ...) concatenated by an 'and'.</p>
+     * String array to define the ordinal numbers for 1 till 19.
+     *
+     * @see #appendOrdinalLastGroup(Appendable, boolean, int)
+     */
+    private static final String[] ORDINAL_NUM_NAMES = {
+        "", "erste", "zweite", "dritte", "vierte",
+        "f\u00FCnfte", "sechste", "siebte", "achte", "neunte",
+        "zehnte", "elfte", "zw\u00F6lfte", "dreizehnte", "vierzehnte",
+        "f\u00FCnfzehnte", "sechzehnte", "siebzehnte", "achtzehnte", "neunzehnte"};
+
+    /**
+     * String array to define the ordinal power numbers (thousandth till
+     * quintillionth).
+     *
+     * @see #appendOrdinalPower(Appendable, boolean, int, int)
+     */
+    private static final String[] ORDINAL_POWER_NAMES = {
+        "tausendste", "millionste", "milliardste", "billionste", "billiardste", "trillionste"};
+
+    /**
+     * String array to define the names of the fractions tenth and
+     * hundredth.
+     *
+     * @see #getFractionName(int, boolean)
+     */
+    private static final String[] FRACTION_NAMES = {"", "zehntel", "hundertstel"};
+
+    /**
+     * String array to define the prefixes of the fraction names for ten and
+     * hundred times a power (e.g. &quot;Zehntausendstel&quot;).
+     *
+     * @see #getFractionName(int, boolean)
+     */
+    private static final String[] FRACTION_PREFIXES = {"", "zehn", "hundert"};
+
+    /**
+     * String array to define the names of the fractions thousandth till
+     * quintillionth.
+     *
+     * @see #getFractionName(int, boolean)
+     */
+    private static final String[] FRACTION_POWER_NAMES = {
+        "tausendstel", "millionstel", "milliardstel", "billionstel", "billiardstel", "trillionstel"};
+
+    /**
+     * Table with the precomputed fragments of all groups of three digits. The
+     * table must be defined after all word arrays, because it is compiled
+     * from them at class initialization.
+     *
+     * @see #getTable()
+     */
+    private static final DecimalTable TABLE = DecimalTable.compile(new German());
+
+    /**
+     * Table with the precomputed fragments for female numbers.
+     *
+     * @see #getTable()
+     */
+    private static final DecimalTable FEMALE_TABLE = DecimalTable.compile(new German(Gender.FEMALE));
+
+    /**
+     * Table with the precomputed fragments for neuter numbers.
+     *
+     * @see #getTable()
+     */
+    private static final DecimalTable NEUTER_TABLE = DecimalTable.compile(new German(Gender.NEUTER));
+
+    /**
+     * Gender of the counted noun.
+     */
+    private final Gender gender;
+
+    /**
+     * Creates the German converter for male numbers.
+     */
+    public German()
+    {
+        this(Gender.MALE);
+    }
+
+    /**
+     * Creates the German converter for numbers of the <code>_gender</code>.
+     *
+     * @param _gender   gender of the counted noun
+     */
+    public German(final Gender _gender)
+    {
+        this.gender = _gender;
+    }
+
+    /**
+     * Appends the words of the last group of three digits. If the last two
+     * digits are less than twenty, the gender specific words from
+     * {@link #FEMALE_NUM_NAMES} or {@link #NEUTER_NUM_NAMES} are used.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendLastGroup(final Appendable _target,
+                                      final boolean _separate,
+                                      final int _number)
+        throws IOException
+    {
+        final boolean ret;
+        final int modHundred = _number % 100;
+        if (this.gender == Gender.MALE || modHundred >= 20)  {
+            ret = appendLessThanOneThousand(_target, _separate, _number);
+        } else  {
+            ret = AbstractDecimalConverter.appendWord(_target,
+                            appendLessThanOneThousand(_target, _separate, _number - modHundred),
+                            this.gender == Gender.FEMALE
+                                            ? German.FEMALE_NUM_NAMES[modHundred]
+                                            : German.NEUTER_NUM_NAMES[modHundred]);
+        }
+        return ret;
+    }
+
+    /**
+     * <p>Appends the words for numbers less than one hundred in German. The
+     * original method was override because in German language the convert is
+     * done using first the last digit (one, two, ...) and then the 'ten' digit
+     * (twenty, thirty, ...) concatenated by an 'and'.</p>
      * <p><b>Examples:</b><br/>
      * <ul>
      * <li>22: twenty-and-two (German: zwei-und-zwanzig)</li>
@@ -93,44 +248,204 @@ public class German
      * </ul>
      * </p>
      *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
      * @param _number   number less than one hundred to convert to German words
-     * @return converted German words for <code>_number</code>
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
      */
     @Override
-    protected String convertLessThanOneHundred(final int _number)
+    protected boolean appendLessThanOneHundred(final Appendable _target,
+                                               final boolean _separate,
+                                               final int _number)
+        throws IOException
     {
-        final StringBuilder ret = new StringBuilder();
-        if (_number < 20)  {
-            ret.append(getNumNames()[_number]);
+        final boolean ret;
+        final int modTen = _number % 10;
+        if (_number < 20 || modTen == 0)  {
+            ret = AbstractDecimalConverter.appendWord(_target, _separate,
+                            _number < 20 ? getNumNames()[_number] : getTensNames()[_number / 10]);
         } else  {
-            final int modTen = _number % 10;
-            if (modTen > 0)  {
-                ret.append(getNumNames()[_number % 10]).append("und");
-            }
-            ret.append(getTensNames()[_number / 10]);
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, getNumNames()[modTen]);
+            _target.append("und").append(getTensNames()[_number / 10]);
         }
-        return ret.toString();
+        return ret;
     }
 
     /**
-     * The method converts the given <code>_number</code> depending on the
-     * <code>_power</code> to words. The real number to convert is
-     * &quot;<code>_number * (10 ^ _power)</code>&quot;. The original method is
-     * overwritten because if <code>_number</code> is equal one, the values
-     * from {@link #SINGLE_POWER_NAMES} must be used.
+     * The method appends the words for the given <code>_number</code>
+     * depending on the <code>_power</code>. The real number to convert is
+     * &quot;<code>_number * (1000 ^ (_power + 1))</code>&quot;. The original
+     * method is overwritten because if <code>_number</code> is equal one, the
+     * values from {@link #SINGLE_POWER_NAMES} must be used.
      *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
      * @param _number   number to convert
      * @param _power    power of the number
-     * @return converted string
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
      * @see #SINGLE_POWER_NAMES
      */
     @Override
-    protected String convertPower(final int _number,
+    protected boolean appendPower(final Appendable _target,
+                                  final boolean _separate,
+                                  final int _number,
                                   final int _power)
+        throws IOException
     {
         return _number == 1
-               ? German.SINGLE_POWER_NAMES[_power]
-               : super.convertPower(_number, _power);
+               ? AbstractDecimalConverter.appendWord(_target, _separate, getSinglePowerName(_power))
+               : super.appendPower(_target, _separate, _number, _power);
+    }
+
+    /**
+     * Appends the ordinal words for the numbers from 1 to 999. The numbers
+     * below twenty have own ordinal words (e.g. &quot;erste&quot;,
+     * &quot;dritte&quot;), all others get the suffix &quot;ste&quot; (e.g.
+     * &quot;einundzwanzigste&quot;, &quot;ein hundertste&quot;). The ordinal
+     * words are the same for all genders.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @see #ORDINAL_NUM_NAMES
+     */
+    @Override
+    protected boolean appendOrdinalLastGroup(final Appendable _target,
+                                             final boolean _separate,
+                                             final int _number)
+        throws IOException
+    {
+        final boolean ret;
+        final int modHundred = _number % 100;
+        if (modHundred > 0 && modHundred < 20)  {
+            ret = AbstractDecimalConverter.appendWord(_target,
+                            appendLessThanOneThousand(_target, _separate, _number - modHundred),
+                            German.ORDINAL_NUM_NAMES[modHundred]);
+        } else  {
+            ret = appendLessThanOneThousand(_target, _separate, _number);
+            _target.append("ste");
+        }
+        return ret;
+    }
+
+    /**
+     * Appends the ordinal words for the <code>_number</code> multiplied with
+     * <code>1000 ^ (_power + 1)</code>, e.g. &quot;zwei tausendste&quot;.
+     * From the million on a single power is written without number word
+     * (e.g. &quot;millionste&quot;) and a multiplied power is written as one
+     * word (e.g. &quot;zweimillionste&quot;).
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number of the group to convert
+     * @param _power    power of the number
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @see #ORDINAL_POWER_NAMES
+     */
+    @Override
+    protected boolean appendOrdinalPower(final Appendable _target,
+                                         final boolean _separate,
+                                         final int _number,
+                                         final int _power)
+        throws IOException
+    {
+        final boolean ret;
+        if (_power == 0)  {
+            ret = AbstractDecimalConverter.appendWord(_target,
+                            appendLessThanOneThousand(_target, _separate, _number),
+                            German.ORDINAL_POWER_NAMES[_power]);
+        } else if (_number == 1)  {
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, German.ORDINAL_POWER_NAMES[_power]);
+        } else  {
+            final StringBuilder words = new StringBuilder();
+            appendLessThanOneThousand(words, false, _number);
+            ret = AbstractDecimalConverter.appendWord(_target, _separate,
+                            words.toString().replace(" ", "") + German.ORDINAL_POWER_NAMES[_power]);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the German word for the decimal separator.
+     *
+     * @return always the text string &quot;Komma&quot;
+     */
+    @Override
+    protected String getDecimalSeparator()
+    {
+        return "Komma";
+    }
+
+    /**
+     * Appends the words of the integer part of a decimal number. An integer
+     * part of exactly one stands alone and is written as &quot;eins&quot;
+     * for all genders (e.g. &quot;eins Komma f\u00FCnf&quot;).
+     *
+     * @param _target   target to append the words
+     * @param _integer  integer part of the decimal number
+     * @throws IOException if the words could not be appended
+     * @see #NEUTER_NUM_NAMES
+     */
+    @Override
+    protected void appendIntegerPart(final Appendable _target,
+                                     final long _integer)
+        throws IOException
+    {
+        if (_integer == 1 || _integer == -1)  {
+            if (_integer < 0)  {
+                _target.append(getTable().getSign());
+            }
+            _target.append(German.NEUTER_NUM_NAMES[1]);
+        } else  {
+            super.appendIntegerPart(_target, _integer);
+        }
+    }
+
+    /**
+     * Returns the German word for a single fraction digit. The digit one is
+     * written as &quot;eins&quot;.
+     *
+     * @param _digit    digit
+     * @return word for the digit
+     * @see #NEUTER_NUM_NAMES
+     */
+    @Override
+    protected String getDigitName(final int _digit)
+    {
+        return _digit == 0 ? getZero() : German.NEUTER_NUM_NAMES[_digit];
+    }
+
+    /**
+     * Returns the German name of the fraction with the denominator
+     * <code>10^_scale</code>, e.g. &quot;Zehntel&quot;,
+     * &quot;Hundertstel&quot; or &quot;Zehntausendstel&quot;. The name is
+     * the same for singular and plural.
+     *
+     * @param _scale    scale of the fraction
+     * @param _plural   is the plural needed?
+     * @return name of the fraction
+     * @see #FRACTION_NAMES
+     * @see #FRACTION_PREFIXES
+     * @see #FRACTION_POWER_NAMES
+     */
+    @Override
+    protected String getFractionName(final int _scale,
+                                     final boolean _plural)
+    {
+        final String name = _scale < 3
+                        ? German.FRACTION_NAMES[_scale]
+                        : German.FRACTION_PREFIXES[_scale % 3] + German.FRACTION_POWER_NAMES[_scale / 3 - 1];
+        // fractions are nouns
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
     }
 
     /**
@@ -175,6 +490,83 @@ public class German
         return German.POWER_NAMES;
     }
 
+    /**
+     * Returns the German word for the power number
+     * <code>1000^(_power + 1)</code>. Beyond Trillionen the names are built
+     * with the Latin stems of the long scale (e.g. Trilliarden,
+     * Quadrillionen, Quadrilliarden).
+     *
+     * @param _power    power of the number
+     * @return word for the power number
+     * @see LatinPowerNames
+     */
+    @Override
+    protected String getPowerName(final int _power)
+    {
+        return _power < German.POWER_NAMES.length
+                        ? German.POWER_NAMES[_power]
+                        : German.getLongScaleName(_power) + (_power % 2 == 1 ? "en" : "n");
+    }
+
+    /**
+     * Returns the German word for the power number
+     * <code>1000^(_power + 1)</code> multiplied by exact one.
+     *
+     * @param _power    power of the number
+     * @return word for one times the power number
+     * @see #SINGLE_POWER_NAMES
+     */
+    protected String getSinglePowerName(final int _power)
+    {
+        return _power < German.SINGLE_POWER_NAMES.length
+                        ? German.SINGLE_POWER_NAMES[_power]
+                        : "eine " + German.getLongScaleName(_power);
+    }
+
+    /**
+     * Returns the singular of the German long scale name for the power number
+     * <code>1000^(_power + 1)</code>. Odd powers are &quot;-illion&quot;,
+     * even powers &quot;-illiarde&quot;. The Latin &quot;c&quot; of
+     * &quot;dec&quot; and &quot;cent&quot; is written as &quot;z&quot;
+     * (e.g. Dezillion, Zentillion).
+     *
+     * @param _power    power of the number (greater than zero)
+     * @return singular long scale name
+     */
+    private static String getLongScaleName(final int _power)
+    {
+        final String stem = LatinPowerNames.stem((_power + 1) / 2).replace("dec", "dez").replace("cent", "zent");
+        return Character.toUpperCase(stem.charAt(0)) + stem.substring(1)
+                        + (_power % 2 == 1 ? "illion" : "illiarde");
+    }
+
+    /**
+     * Returns the table with the precomputed German fragments of the gender.
+     *
+     * @return table of precomputed fragments
+     * @see AbstractDecimalConverter#getTable()
+     * @see #TABLE
+     * @see #FEMALE_TABLE
+     * @see #NEUTER_TABLE
+     */
+    @Override
+    protected DecimalTable getTable()
+    {
+        final DecimalTable ret;
+        switch (this.gender)  {
+            case FEMALE:
+                ret = German.FEMALE_TABLE;
+                break;
+            case NEUTER:
+                ret = German.NEUTER_TABLE;
+                break;
+            default:
+                ret = German.TABLE;
+                break;
+        }
+        return ret;
+    }
+
     /**
      * Returns the related English word for the number zero ('0').
      *
@@ -186,6 +578,18 @@ public class German
         return "null";
     }
 
+    /**
+     * Returns the related German word for the conjunction between the units
+     * and the minor units of an amount.
+     *
+     * @return always the text string &quot;und&quot;
+     */
+    @Override
+    protected String getMoneyConjunction()
+    {
+        return "und";
+    }
+
     /**
      * Returns the related German word for &quot;minus&quot; needed for
      * negative numbers.
@@ -197,4 +601,36 @@ public class German
     {
         return "minus";
     }
+
+    /**
+     * Defines the German words for the parser. Additionally to the words of
+     * the converter the female and neuter words, the singular power names
+     * and the infix &quot;und&quot; are defined.
+     *
+     * @param _builder  builder of the parser
+     */
+    @Override
+    protected void defineTokens(final DecimalParser.Builder _builder)
+    {
+        super.defineTokens(_builder);
+        _builder.withUnitsBeforeTens().addIgnored("und")
+                        .addNumber(German.FEMALE_NUM_NAMES[1], 1)
+                        .addNumber(German.NEUTER_NUM_NAMES[1], 1);
+        long scale = 1;
+        for (int power = 0; power < German.SINGLE_POWER_NAMES.length; power++)  {
+            scale *= 1000;
+            _builder.addPowerName(getSinglePowerName(power), scale);
+        }
+    }
+
+    /**
+     * Returns the locale of the German language.
+     *
+     * @return {@link Locale#GERMAN}
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return Locale.GERMAN;
+    }
 }
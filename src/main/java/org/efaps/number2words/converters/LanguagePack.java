@@ -0,0 +1,757 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.converters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+
+import org.efaps.number2words.Gender;
+
+/**
+ * <p>Immutable language pack which defines the words and rules of a language
+ * as data instead of a hand-written converter class. A pack is read from a
+ * properties resource and compiled at load time into the
+ * {@link DecimalTable tables} of all genders, so that converting a number
+ * with a pack is as fast as with a hand-written converter.</p>
+ * <p>The properties of a pack are:
+ * <table border="1">
+ * <tr><th>Key</th><th>Description</th></tr>
+ * <tr><td><code>locale</code></td><td>language tag of the pack (e.g.
+ *      <code>en</code>)</td></tr>
+ * <tr><td><code>scale</code></td><td><code>short</code> or
+ *      <code>long</code> (default)</td></tr>
+ * <tr><td><code>zero</code>, <code>minus</code></td><td>words for zero and
+ *      minus</td></tr>
+ * <tr><td><code>numbers</code></td><td>words of the irregular numbers
+ *      beginning with zero (an empty entry), e.g. 0 till 19</td></tr>
+ * <tr><td><code>numbers.male</code>, <code>numbers.female</code>,
+ *      <code>numbers.neuter</code></td><td>gender forms of the numbers at
+ *      the end of a number; only the given (not empty) entries replace the
+ *      entries of <code>numbers</code>; genders without forms use the
+ *      male forms</td></tr>
+ * <tr><td><code>tens</code></td><td>words of 0, 10, 20, ... 90</td></tr>
+ * <tr><td><code>compound</code></td><td>template for the other numbers
+ *      less than one hundred with the placeholders <code>{tens}</code> and
+ *      <code>{unit}</code></td></tr>
+ * <tr><td><code>compound.forms</code></td><td><code>true</code> if the unit
+ *      of a compound at the end of a number uses the gender forms</td></tr>
+ * <tr><td><code>hundred</code></td><td>word for hundred written after the
+ *      number of hundreds</td></tr>
+ * <tr><td><code>hundreds</code>, <code>hundreds.male</code>,
+ *      <code>hundreds.female</code>, <code>hundreds.neuter</code></td><td>
+ *      words of 0, 100, 200, ... 900 instead of <code>hundred</code> and
+ *      their gender forms</td></tr>
+ * <tr><td><code>hundred.exact</code></td><td>word for exactly one
+ *      hundred</td></tr>
+ * <tr><td><code>powers</code></td><td>words of thousand till
+ *      quintillion</td></tr>
+ * <tr><td><code>powers.one</code></td><td>words of one thousand till one
+ *      quintillion</td></tr>
+ * <tr><td><code>forms.beforeNoun</code></td><td>genders whose forms are
+ *      also used in front of a noun (default all genders)</td></tr>
+ * <tr><td><code>forms.thousands</code></td><td>genders whose forms are also
+ *      used for the thousands (default none)</td></tr>
+ * <tr><td><code>money.conjunction</code></td><td>conjunction between units
+ *      and minor units of an amount</td></tr>
+ * <tr><td><code>money.preposition</code>,
+ *      <code>money.preposition.divisor</code></td><td>preposition in front
+ *      of the currency name for units which are a multiple of the
+ *      divisor</td></tr>
+ * <tr><td><code>parser.ignored</code></td><td>words ignored by the
+ *      parser</td></tr>
+ * </table>
+ * Lists are separated by commas. As for all properties files non Latin-1
+ * characters must be written as unicode escapes.</p>
+ *
+ * @author The eFaps Team
+ * @see LanguagePackProvider
+ */
+public final class LanguagePack
+{
+    /**
+     * Placeholder of the tens in the compound template.
+     */
+    private static final String TENS = "{tens}";
+
+    /**
+     * Placeholder of the unit in the compound template.
+     */
+    private static final String UNIT = "{unit}";
+
+    /**
+     * Locale of the language.
+     */
+    private final Locale locale;
+
+    /**
+     * Does the language use the short scale?
+     */
+    private final boolean shortScale;
+
+    /**
+     * Word for zero.
+     */
+    private final String zero;
+
+    /**
+     * Word for minus.
+     */
+    private final String minus;
+
+    /**
+     * Words of the irregular numbers.
+     */
+    private final String[] numbers;
+
+    /**
+     * Gender forms of the irregular numbers (index is the ordinal of the
+     * gender); <code>null</code> if neither the gender nor the male gender
+     * has own forms.
+     */
+    private final String[][] numberForms;
+
+    /**
+     * Words of 0, 10, ... 90 and as last word the word for hundred.
+     */
+    private final String[] tens;
+
+    /**
+     * Compound template.
+     */
+    private final String compound;
+
+    /**
+     * Does the unit of a compound use the gender forms?
+     */
+    private final boolean compoundForms;
+
+    /**
+     * Word for hundred; <code>null</code> if the words of the hundreds are
+     * defined.
+     */
+    private final String hundred;
+
+    /**
+     * Words of the hundreds; <code>null</code> if defined with the word for
+     * hundred.
+     */
+    private final String[] hundreds;
+
+    /**
+     * Gender forms of the hundreds (index is the ordinal of the gender);
+     * <code>null</code> if neither the gender nor the male gender has own
+     * forms.
+     */
+    private final String[][] hundredForms;
+
+    /**
+     * Word for exactly one hundred; <code>null</code> if not defined.
+     */
+    private final String hundredExact;
+
+    /**
+     * Words of the powers.
+     */
+    private final String[] powers;
+
+    /**
+     * Words of one times the powers; <code>null</code> if not defined.
+     */
+    private final String[] singlePowers;
+
+    /**
+     * Genders whose forms are used in front of a noun.
+     */
+    private final Set<Gender> beforeNoun;
+
+    /**
+     * Genders whose forms are used for the thousands.
+     */
+    private final Set<Gender> thousands;
+
+    /**
+     * Conjunction of amounts.
+     */
+    private final String moneyConjunction;
+
+    /**
+     * Preposition of amounts.
+     */
+    private final String moneyPreposition;
+
+    /**
+     * Divisor of the units for which the preposition is written.
+     */
+    private final long moneyPrepositionDivisor;
+
+    /**
+     * Words ignored by the parser.
+     */
+    private final String[] ignored;
+
+    /**
+     * Compiled tables (index is the ordinal of the gender). Genders without
+     * own forms share the table of the male gender.
+     */
+    private final DecimalTable[] tables;
+
+    /**
+     * Time in nanoseconds needed to read and compile the pack.
+     */
+    private final long loadNanos;
+
+    /**
+     * Parser of the pack; created with the first use.
+     *
+     * @see #getParser()
+     */
+    private volatile DecimalParser parser;
+
+    /**
+     * Reads the words and rules from the <code>_properties</code> and
+     * compiles the tables.
+     *
+     * @param _properties   properties of the pack
+     * @param _start        start time of the load in nanoseconds
+     */
+    private LanguagePack(final Properties _properties,
+                         final long _start)
+    {
+        this.locale = Locale.forLanguageTag(LanguagePack.required(_properties, "locale"));
+        this.shortScale = "short".equals(_properties.getProperty("scale", "long").trim());
+        this.zero = LanguagePack.required(_properties, "zero");
+        this.minus = LanguagePack.required(_properties, "minus");
+        this.numbers = LanguagePack.list(_properties, "numbers", 10, 100);
+        this.numberForms = new String[Gender.values().length][];
+        this.hundredForms = new String[Gender.values().length][];
+        final String hundredsValue = _properties.getProperty("hundreds");
+        this.hundreds = hundredsValue == null ? null : LanguagePack.list(_properties, "hundreds", 10, 10);
+        for (final Gender gender : Gender.values())  {
+            final String key = gender.name().toLowerCase(Locale.ROOT);
+            this.numberForms[gender.ordinal()] = LanguagePack.forms(_properties, "numbers." + key, this.numbers);
+            if (this.hundreds != null)  {
+                this.hundredForms[gender.ordinal()] = LanguagePack.forms(_properties, "hundreds." + key,
+                                this.hundreds);
+            }
+            // genders without own forms use the forms of the male gender
+            if (this.numberForms[gender.ordinal()] == null)  {
+                this.numberForms[gender.ordinal()] = this.numberForms[Gender.MALE.ordinal()];
+            }
+            if (this.hundredForms[gender.ordinal()] == null)  {
+                this.hundredForms[gender.ordinal()] = this.hundredForms[Gender.MALE.ordinal()];
+            }
+        }
+        this.hundred = this.hundreds == null ? LanguagePack.required(_properties, "hundred") : null;
+        this.hundredExact = _properties.getProperty("hundred.exact");
+        this.tens = Arrays.copyOf(LanguagePack.list(_properties, "tens", 10, 10), 11);
+        this.tens[10] = this.hundreds == null ? this.hundred : this.hundreds[1];
+        this.compound = LanguagePack.required(_properties, "compound");
+        if (!this.compound.contains(LanguagePack.TENS) || !this.compound.contains(LanguagePack.UNIT))  {
+            throw new IllegalArgumentException("compound '" + this.compound + "' must contain "
+                            + LanguagePack.TENS + " and " + LanguagePack.UNIT);
+        }
+        this.compoundForms = Boolean.parseBoolean(_properties.getProperty("compound.forms", "false").trim());
+        this.powers = LanguagePack.list(_properties, "powers", 6, 6);
+        this.singlePowers = _properties.getProperty("powers.one") == null
+                        ? null
+                        : LanguagePack.list(_properties, "powers.one", 6, 6);
+        this.beforeNoun = LanguagePack.genders(_properties, "forms.beforeNoun", EnumSet.allOf(Gender.class));
+        this.thousands = LanguagePack.genders(_properties, "forms.thousands", EnumSet.noneOf(Gender.class));
+        this.moneyConjunction = LanguagePack.required(_properties, "money.conjunction");
+        this.moneyPreposition = _properties.getProperty("money.preposition", "").trim();
+        this.moneyPrepositionDivisor = Long.parseLong(
+                        _properties.getProperty("money.preposition.divisor", "1").trim());
+        this.ignored = _properties.getProperty("parser.ignored") == null
+                        ? new String[0]
+                        : LanguagePack.list(_properties, "parser.ignored", 1, Integer.MAX_VALUE);
+        this.tables = new DecimalTable[Gender.values().length];
+        this.tables[Gender.MALE.ordinal()] = DecimalTable.compile(new PackConverter(this, Gender.MALE));
+        for (final Gender gender : Gender.values())  {
+            if (gender != Gender.MALE)  {
+                this.tables[gender.ordinal()] = hasForms(gender)
+                                ? DecimalTable.compile(new PackConverter(this, gender))
+                                : this.tables[Gender.MALE.ordinal()];
+            }
+        }
+        this.loadNanos = System.nanoTime() - _start;
+    }
+
+    /**
+     * Reads a language pack from the properties of the
+     * <code>_stream</code> and compiles it. The stream is not closed.
+     *
+     * @param _stream   stream of the properties
+     * @return compiled language pack
+     * @throws IOException if the properties could not be read
+     * @throws IllegalArgumentException if the pack is not valid
+     */
+    public static LanguagePack load(final InputStream _stream)
+        throws IOException
+    {
+        final long start = System.nanoTime();
+        final Properties properties = new Properties();
+        properties.load(_stream);
+        return new LanguagePack(properties, start);
+    }
+
+    /**
+     * Compiles a language pack from the <code>_properties</code>.
+     *
+     * @param _properties   properties of the pack
+     * @return compiled language pack
+     * @throws IllegalArgumentException if the pack is not valid
+     */
+    public static LanguagePack compile(final Properties _properties)
+    {
+        return new LanguagePack(_properties, System.nanoTime());
+    }
+
+    /**
+     * Returns the value of a required property.
+     *
+     * @param _properties   properties of the pack
+     * @param _key          key of the property
+     * @return trimmed value
+     * @throws IllegalArgumentException if the property is not defined
+     */
+    private static String required(final Properties _properties,
+                                   final String _key)
+    {
+        final String ret = _properties.getProperty(_key);
+        if (ret == null)  {
+            throw new IllegalArgumentException("language pack property '" + _key + "' is not defined");
+        }
+        return ret.trim();
+    }
+
+    /**
+     * Returns the entries of a comma separated list.
+     *
+     * @param _properties   properties of the pack
+     * @param _key          key of the property
+     * @param _min          minimum number of entries
+     * @param _max          maximum number of entries
+     * @return trimmed entries
+     * @throws IllegalArgumentException if the property is not defined or
+     *                                  has a wrong number of entries
+     */
+    private static String[] list(final Properties _properties,
+                                 final String _key,
+                                 final int _min,
+                                 final int _max)
+    {
+        final String[] ret = LanguagePack.required(_properties, _key).split(",", -1);
+        if (ret.length < _min || ret.length > _max)  {
+            throw new IllegalArgumentException("language pack property '" + _key + "' must have "
+                            + (_min == _max ? String.valueOf(_min) : _min + " till " + _max)
+                            + " entries, but has " + ret.length);
+        }
+        for (int i = 0; i < ret.length; i++)  {
+            ret[i] = ret[i].trim();
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the gender forms of a list. Not empty entries of the property
+     * replace the entries of <code>_base</code>.
+     *
+     * @param _properties   properties of the pack
+     * @param _key          key of the property
+     * @param _base         base words
+     * @return gender forms; <code>null</code> if the property is not defined
+     */
+    private static String[] forms(final Properties _properties,
+                                  final String _key,
+                                  final String[] _base)
+    {
+        String[] ret = null;
+        if (_properties.getProperty(_key) != null)  {
+            final String[] forms = LanguagePack.list(_properties, _key, 1, _base.length);
+            ret = _base.clone();
+            for (int i = 0; i < forms.length; i++)  {
+                if (!forms[i].isEmpty())  {
+                    ret[i] = forms[i];
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the genders of a comma separated list.
+     *
+     * @param _properties   properties of the pack
+     * @param _key          key of the property
+     * @param _default      genders if the property is not defined
+     * @return genders
+     * @throws IllegalArgumentException if a gender is unknown
+     */
+    private static Set<Gender> genders(final Properties _properties,
+                                       final String _key,
+                                       final Set<Gender> _default)
+    {
+        Set<Gender> ret = _default;
+        if (_properties.getProperty(_key) != null)  {
+            ret = EnumSet.noneOf(Gender.class);
+            for (final String gender : LanguagePack.list(_properties, _key, 0, Gender.values().length))  {
+                if (!gender.isEmpty())  {
+                    ret.add(Gender.valueOf(gender.toUpperCase(Locale.ROOT)));
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Has the <code>_gender</code> other number or hundred forms than the
+     * male gender?
+     *
+     * @param _gender   gender to check
+     * @return <i>true</i> if other forms are defined; otherwise <i>false</i>
+     */
+    private boolean hasForms(final Gender _gender)
+    {
+        return this.numberForms[_gender.ordinal()] != this.numberForms[Gender.MALE.ordinal()]
+                        || this.hundredForms[_gender.ordinal()] != this.hundredForms[Gender.MALE.ordinal()];
+    }
+
+    /**
+     * Returns the locale of the language.
+     *
+     * @return locale
+     */
+    public Locale getLocale()
+    {
+        return this.locale;
+    }
+
+    /**
+     * Does the language use the short scale?
+     *
+     * @return <i>true</i> for the short scale; otherwise <i>false</i>
+     */
+    boolean isShortScale()
+    {
+        return this.shortScale;
+    }
+
+    /**
+     * Returns the word for zero.
+     *
+     * @return word for zero
+     */
+    String getZero()
+    {
+        return this.zero;
+    }
+
+    /**
+     * Returns the word for minus.
+     *
+     * @return word for minus
+     */
+    String getMinus()
+    {
+        return this.minus;
+    }
+
+    /**
+     * Returns the words of the irregular numbers.
+     *
+     * @return words of the numbers
+     */
+    String[] getNumbers()
+    {
+        return this.numbers;
+    }
+
+    /**
+     * Returns the words of the irregular numbers at the end of a number of
+     * the <code>_gender</code>.
+     *
+     * @param _gender   gender of the counted noun
+     * @return gender forms or the base words
+     */
+    String[] getNumbers(final Gender _gender)
+    {
+        final String[] ret = this.numberForms[_gender.ordinal()];
+        return ret == null ? this.numbers : ret;
+    }
+
+    /**
+     * Returns the words of 0, 10, ... 90 and as last word the word for
+     * hundred.
+     *
+     * @return words of the tens
+     */
+    String[] getTens()
+    {
+        return this.tens;
+    }
+
+    /**
+     * Returns the compound of <code>_tens</code> and <code>_unit</code>.
+     *
+     * @param _tens     word of the tens
+     * @param _unit     word of the unit
+     * @return compound
+     */
+    String getCompound(final String _tens,
+                       final String _unit)
+    {
+        return this.compound.replace(LanguagePack.TENS, _tens).replace(LanguagePack.UNIT, _unit);
+    }
+
+    /**
+     * Is the unit of a compound written in front of the tens (e.g. the
+     * German &quot;{unit}und{tens}&quot;)?
+     *
+     * @return <i>true</i> if the unit is written in front of the tens
+     */
+    boolean isUnitBeforeTens()
+    {
+        return this.compound.indexOf(LanguagePack.UNIT) < this.compound.indexOf(LanguagePack.TENS);
+    }
+
+    /**
+     * Does the unit of a compound use the gender forms?
+     *
+     * @return <i>true</i> if the gender forms are used
+     */
+    boolean isCompoundForms()
+    {
+        return this.compoundForms;
+    }
+
+    /**
+     * Returns the word for hundred.
+     *
+     * @return word for hundred; <code>null</code> if the words of the
+     *         hundreds are defined
+     */
+    String getHundred()
+    {
+        return this.hundred;
+    }
+
+    /**
+     * Returns the words of the hundreds of the <code>_gender</code>.
+     *
+     * @param _gender   gender of the counted noun; <code>null</code> for the
+     *                  base words
+     * @return words of the hundreds; <code>null</code> if defined with the
+     *         word for hundred
+     */
+    String[] getHundreds(final Gender _gender)
+    {
+        final String[] ret = _gender == null ? null : this.hundredForms[_gender.ordinal()];
+        return ret == null ? this.hundreds : ret;
+    }
+
+    /**
+     * Returns the word for exactly one hundred.
+     *
+     * @return word; <code>null</code> if not defined
+     */
+    String getHundredExact()
+    {
+        return this.hundredExact;
+    }
+
+    /**
+     * Returns the words of the powers.
+     *
+     * @return words of thousand till quintillion
+     */
+    String[] getPowers()
+    {
+        return this.powers;
+    }
+
+    /**
+     * Returns the words of one times the powers.
+     *
+     * @return words; <code>null</code> if not defined
+     */
+    String[] getSinglePowers()
+    {
+        return this.singlePowers;
+    }
+
+    /**
+     * Are the forms of the <code>_gender</code> used in front of a noun?
+     *
+     * @param _gender   gender of the counted noun
+     * @return <i>true</i> if the forms are used
+     */
+    boolean isFormsBeforeNoun(final Gender _gender)
+    {
+        return this.beforeNoun.contains(_gender);
+    }
+
+    /**
+     * Are the forms of the <code>_gender</code> used for the thousands?
+     *
+     * @param _gender   gender of the counted noun
+     * @return <i>true</i> if the forms are used
+     */
+    boolean isFormsForThousands(final Gender _gender)
+    {
+        return this.thousands.contains(_gender);
+    }
+
+    /**
+     * Returns the conjunction of amounts.
+     *
+     * @return conjunction
+     */
+    String getMoneyConjunction()
+    {
+        return this.moneyConjunction;
+    }
+
+    /**
+     * Returns the preposition in front of the currency name.
+     *
+     * @param _units    units of the amount (not negative)
+     * @return preposition; an empty string if no preposition is needed
+     */
+    String getMoneyPreposition(final long _units)
+    {
+        return _units != 0 && _units % this.moneyPrepositionDivisor == 0 ? this.moneyPreposition : "";
+    }
+
+    /**
+     * Returns the words ignored by the parser.
+     *
+     * @return ignored words
+     */
+    String[] getIgnored()
+    {
+        return this.ignored;
+    }
+
+    /**
+     * Returns the compiled table of the <code>_gender</code>.
+     *
+     * @param _gender   gender of the counted noun
+     * @return compiled table
+     */
+    public DecimalTable getTable(final Gender _gender)
+    {
+        return this.tables[_gender.ordinal()];
+    }
+
+    /**
+     * Returns the parser of the pack. The parser is compiled with the first
+     * use; concurrent first uses could compile the parser twice, but all
+     * threads get equal parsers.
+     *
+     * @return parser
+     */
+    DecimalParser getParser()
+    {
+        DecimalParser ret = this.parser;
+        if (ret == null)  {
+            ret = DecimalParser.compile(new PackConverter(this, Gender.MALE));
+            this.parser = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the time in nanoseconds needed to read the properties and to
+     * compile all tables of the pack.
+     *
+     * @return load time in nanoseconds
+     */
+    public long getLoadNanos()
+    {
+        return this.loadNanos;
+    }
+
+    /**
+     * Returns the time in nanoseconds needed to compile the tables of the
+     * pack.
+     *
+     * @return compile time in nanoseconds
+     * @see DecimalTable#getCompileNanos()
+     */
+    public long getCompileNanos()
+    {
+        long ret = 0;
+        for (int i = 0; i < this.tables.length; i++)  {
+            if (isOwnTable(i))  {
+                ret += this.tables[i].getCompileNanos();
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the estimated retained heap size of the compiled tables of the
+     * pack in bytes. Tables shared by more than one gender are counted once.
+     *
+     * @return estimated heap size in bytes
+     * @see DecimalTable#getFootprint()
+     */
+    public long getFootprint()
+    {
+        long ret = 0;
+        for (int i = 0; i < this.tables.length; i++)  {
+            if (isOwnTable(i))  {
+                ret += this.tables[i].getFootprint();
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Is the table with the <code>_index</code> not shared with a table with
+     * a lower index?
+     *
+     * @param _index    index of the table
+     * @return <i>true</i> if the table is not shared with a previous table
+     */
+    private boolean isOwnTable(final int _index)
+    {
+        boolean ret = true;
+        for (int i = 0; i < _index && ret; i++)  {
+            ret = this.tables[i] != this.tables[_index];
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the language of the pack.
+     *
+     * @return string representation of the pack
+     */
+    @Override
+    public String toString()
+    {
+        return "LanguagePack[" + this.locale.toLanguageTag() + "]";
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.converters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.text.ParseException;
+import java.util.Locale;
+
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.IConverterProvider;
+import org.efaps.number2words.IParser;
+
+/**
+ * <p>Provider of the converters and the parser of a {@link LanguagePack}.
+ * The pack could be {@link #reload() reloaded} from its source or
+ * {@link #setPack(LanguagePack) replaced} while conversions are running:
+ * the new pack is completely read and compiled before it is published with
+ * one volatile write, so that the converters never see a partially compiled
+ * pack and the conversions need no locking.</p>
+ *
+ * <p><b>Example:</b><br/>
+ * <pre>
+ * final LanguagePackProvider provider = LanguagePackProvider.forLocale(Locale.ENGLISH);
+ * final IConverter converter = provider.getMaleConverter();
+ * ...
+ * provider.reload();
+ * </pre>
+ * The converter uses the reloaded pack for all following conversions.
+ * </p>
+ *
+ * @author The eFaps Team
+ */
+public final class LanguagePackProvider
+    implements IConverterProvider
+{
+    /**
+     * Path of the language packs shipped as resources. The name of a pack is
+     * the language of the locale followed by <code>.properties</code>.
+     */
+    public static final String RESOURCE_PATH = "org/efaps/number2words/packs/";
+
+    /**
+     * Source of the pack used for reloads.
+     */
+    private final URL source;
+
+    /**
+     * Locale of the provider (the locale of the first pack).
+     */
+    private final Locale locale;
+
+    /**
+     * Current language pack.
+     */
+    private volatile LanguagePack pack;
+
+    /**
+     * Converter for male numbers.
+     */
+    private final IConverter male = new PackConverter(this::getPack, Gender.MALE);
+
+    /**
+     * Converter for female numbers.
+     */
+    private final IConverter female = new PackConverter(this::getPack, Gender.FEMALE);
+
+    /**
+     * Converter for neuter numbers.
+     */
+    private final IConverter neuter = new PackConverter(this::getPack, Gender.NEUTER);
+
+    /**
+     * Parser which uses the parser of the current pack.
+     */
+    private final IParser parser = new IParser()
+    {
+        @Override
+        public long parse(final CharSequence _text,
+                          final int _start,
+                          final int _end)
+            throws ParseException
+        {
+            return getPack().getParser().parse(_text, _start, _end);
+        }
+
+        @Override
+        public Locale getLocale()
+        {
+            return LanguagePackProvider.this.locale;
+        }
+    };
+
+    /**
+     * Creates a provider and loads the pack from <code>_source</code>.
+     *
+     * @param _source   source of the language pack
+     * @throws IOException if the pack could not be read
+     * @throws IllegalArgumentException if the pack is not valid
+     */
+    public LanguagePackProvider(final URL _source)
+        throws IOException
+    {
+        this.source = _source;
+        this.pack = LanguagePackProvider.load(_source);
+        this.locale = this.pack.getLocale();
+    }
+
+    /**
+     * Creates a provider for the language pack of the <code>_locale</code>
+     * which is shipped as resource in {@link #RESOURCE_PATH}.
+     *
+     * @param _locale   locale which defines the language
+     * @return provider of the language pack
+     * @throws IOException if the pack could not be read
+     * @throws IllegalArgumentException if no pack for the language exists
+     *                                  or if the pack is not valid
+     */
+    public static LanguagePackProvider forLocale(final Locale _locale)
+        throws IOException
+    {
+        final String name = LanguagePackProvider.RESOURCE_PATH + _locale.getLanguage() + ".properties";
+        final URL url = LanguagePackProvider.class.getClassLoader().getResource(name);
+        if (url == null)  {
+            throw new IllegalArgumentException("no language pack for language '" + _locale.getLanguage()
+                            + "' found");
+        }
+        return new LanguagePackProvider(url);
+    }
+
+    /**
+     * Reads and compiles the language pack from <code>_source</code>.
+     *
+     * @param _source   source of the language pack
+     * @return compiled language pack
+     * @throws IOException if the pack could not be read
+     */
+    private static LanguagePack load(final URL _source)
+        throws IOException
+    {
+        try (InputStream stream = _source.openStream())  {
+            return LanguagePack.load(stream);
+        }
+    }
+
+    /**
+     * Reads and compiles the language pack again from its source and
+     * replaces the current pack. If the pack could not be read or is not
+     * valid, the current pack is kept.
+     *
+     * @return new language pack
+     * @throws IOException if the pack could not be read
+     * @throws IllegalArgumentException if the pack is not valid
+     */
+    public LanguagePack reload()
+        throws IOException
+    {
+        final LanguagePack ret = LanguagePackProvider.load(this.source);
+        setPack(ret);
+        return ret;
+    }
+
+    /**
+     * Replaces the current language pack.
+     *
+     * @param _pack     new language pack
+     * @throws IllegalArgumentException if the language of the new pack is
+     *                                  not the language of the provider
+     */
+    public void setPack(final LanguagePack _pack)
+    {
+        if (!this.locale.equals(_pack.getLocale()))  {
+            throw new IllegalArgumentException("language pack for " + _pack.getLocale()
+                            + " could not replace the pack for " + this.locale);
+        }
+        this.pack = _pack;
+    }
+
+    /**
+     * Returns the current language pack.
+     *
+     * @return current language pack
+     */
+    public LanguagePack getPack()
+    {
+        return this.pack;
+    }
+
+    /**
+     * Returns the locale of the language pack.
+     *
+     * @return locale of the provider
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return this.locale;
+    }
+
+    /**
+     * Returns the converter of the current pack for male numbers.
+     *
+     * @return male converter
+     */
+    @Override
+    public IConverter getMaleConverter()
+    {
+        return this.male;
+    }
+
+    /**
+     * Returns the converter of the current pack for female numbers.
+     *
+     * @return female converter
+     */
+    @Override
+    public IConverter getFemaleConverter()
+    {
+        return this.female;
+    }
+
+    /**
+     * Returns the converter of the current pack for neuter numbers.
+     *
+     * @return neuter converter
+     */
+    @Override
+    public IConverter getNeuterConverter()
+    {
+        return this.neuter;
+    }
+
+    /**
+     * Returns the parser of the current pack.
+     *
+     * @return parser
+     */
+    @Override
+    public IParser getParser()
+    {
+        return this.parser;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.converters;
+
+/**
+ * <p>Builds the Latin stems of the &quot;-illion&quot; power names with the
+ * system of John Horton Conway and Allan Wechsler. The stem for
+ * <code>n</code> is the name of the n-th &quot;-illion&quot; without the
+ * ending, e.g. &quot;m&quot; for million (<code>n = 1</code>),
+ * &quot;quadr&quot; for quadrillion (<code>n = 4</code>), &quot;undec&quot;
+ * for undecillion (<code>n = 11</code>) or &quot;millin&quot; for
+ * millinillion (<code>n = 1000</code>).</p>
+ * <p>The stems are used by the converters to extend their power names beyond
+ * the fixed names up to quintillion.</p>
+ *
+ * @author The eFaps Team
+ */
+final class LatinPowerNames
+{
+    /**
+     * Stems for the numbers 0 till 9 if they are used alone.
+     */
+    private static final String[] SMALL = {
+        "n", "m", "b", "tr", "quadr", "quint", "sext", "sept", "oct", "non"};
+
+    /**
+     * Latin prefixes for the units.
+     */
+    private static final String[] UNITS = {
+        "", "un", "duo", "tre", "quattuor", "quin", "se", "septe", "octo", "nove"};
+
+    /**
+     * Latin prefixes for the tens.
+     */
+    private static final String[] TENS = {
+        "", "deci", "viginti", "triginta", "quadraginta", "quinquaginta",
+        "sexaginta", "septuaginta", "octoginta", "nonaginta"};
+
+    /**
+     * Latin prefixes for the hundreds.
+     */
+    private static final String[] HUNDREDS = {
+        "", "centi", "ducenti", "trecenti", "quadringenti", "quingenti",
+        "sescenti", "septingenti", "octingenti", "nongenti"};
+
+    /**
+     * Assimilation marks of the tens. The marks define which letter is added
+     * to the preceding unit prefix (&quot;tre&quot;, &quot;se&quot;,
+     * &quot;septe&quot;, &quot;nove&quot;).
+     */
+    private static final String[] TENS_MARKS = {"", "n", "ms", "ns", "ns", "ns", "n", "n", "mx", ""};
+
+    /**
+     * Assimilation marks of the hundreds.
+     *
+     * @see #TENS_MARKS
+     */
+    private static final String[] HUNDREDS_MARKS = {"", "nx", "n", "ns", "ns", "ns", "n", "n", "mx", ""};
+
+    /**
+     * Private constructor to make a utility class.
+     */
+    private LatinPowerNames()
+    {
+    }
+
+    /**
+     * Returns the stem of the n-th &quot;-illion&quot;. For numbers from
+     * 1000 the groups of three digits are concatenated with
+     * &quot;illi&quot;.
+     *
+     * @param _number   number of the &quot;-illion&quot; (greater than zero)
+     * @return stem of the power name
+     */
+    static String stem(final int _number)
+    {
+        final StringBuilder ret = new StringBuilder();
+        int divisor = 1;
+        while (divisor <= _number / 1000)  {
+            divisor *= 1000;
+        }
+        for (; divisor > 0; divisor /= 1000)  {
+            if (ret.length() > 0)  {
+                ret.append("illi");
+            }
+            LatinPowerNames.appendGroup(ret, _number / divisor % 1000);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Appends the stem for one group of three digits.
+     *
+     * @param _target   target to append the stem
+     * @param _group    group of three digits
+     */
+    private static void appendGroup(final StringBuilder _target,
+                                    final int _group)
+    {
+        if (_group < 10)  {
+            _target.append(LatinPowerNames.SMALL[_group]);
+        } else  {
+            final int units = _group % 10;
+            final int tens = _group / 10 % 10;
+            final int hundreds = _group / 100;
+            final String marks = tens > 0 ? LatinPowerNames.TENS_MARKS[tens] : LatinPowerNames.HUNDREDS_MARKS[hundreds];
+            final int start = _target.length();
+            _target.append(LatinPowerNames.UNITS[units]);
+            if (units == 3 && (marks.indexOf('s') >= 0 || marks.indexOf('x') >= 0))  {
+                _target.append('s');
+            } else if (units == 6 && marks.indexOf('x') >= 0)  {
+                _target.append('x');
+            } else if (units == 6 && marks.indexOf('s') >= 0)  {
+                _target.append('s');
+            } else if ((units == 7 || units == 9) && marks.indexOf('m') >= 0)  {
+                _target.append('m');
+            } else if ((units == 7 || units == 9) && marks.indexOf('n') >= 0)  {
+                _target.append('n');
+            }
+            _target.append(LatinPowerNames.TENS[tens]).append(LatinPowerNames.HUNDREDS[hundreds]);
+            // the last vowel is removed before the ending is appended
+            final char last = _target.charAt(_target.length() - 1);
+            if (_target.length() > start && (last == 'a' || last == 'i'))  {
+                _target.setLength(_target.length() - 1);
+            }
+        }
+    }
+}
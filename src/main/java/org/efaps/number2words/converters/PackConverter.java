@@ -0,0 +1,435 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.converters;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.efaps.number2words.Gender;
+
+/**
+ * <p>Converter which takes the words and rules from a
+ * {@link LanguagePack}. The hooks of the converter are only used to compile
+ * the tables of the pack; the conversions itself use the precomputed
+ * tables.</p>
+ * <p>The pack is read from a supplier with each conversion, so that a
+ * {@link LanguagePackProvider} could swap the pack while conversions are
+ * running. Each conversion uses the table of exactly one pack.</p>
+ *
+ * @author The eFaps Team
+ */
+final class PackConverter
+    extends AbstractDecimalConverter
+{
+    /**
+     * Supplier of the current language pack.
+     */
+    private final Supplier<LanguagePack> source;
+
+    /**
+     * Gender of the counted noun.
+     */
+    private final Gender gender;
+
+    /**
+     * Creates a converter for a fixed language pack.
+     *
+     * @param _pack     language pack
+     * @param _gender   gender of the counted noun
+     */
+    PackConverter(final LanguagePack _pack,
+                  final Gender _gender)
+    {
+        this(() -> _pack, _gender);
+    }
+
+    /**
+     * Creates a converter for the current language pack of a supplier.
+     *
+     * @param _source   supplier of the current language pack
+     * @param _gender   gender of the counted noun
+     */
+    PackConverter(final Supplier<LanguagePack> _source,
+                  final Gender _gender)
+    {
+        this.source = _source;
+        this.gender = _gender;
+    }
+
+    /**
+     * Appends the words for the numbers from 1 to 999 with the base words of
+     * the pack.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendLessThanOneThousand(final Appendable _target,
+                                                final boolean _separate,
+                                                final int _number)
+        throws IOException
+    {
+        return appendLessThanOneThousand(_target, _separate, _number, null);
+    }
+
+    /**
+     * Appends the words for the numbers from 1 to 99 with the base words of
+     * the pack.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one hundred to convert
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendLessThanOneHundred(final Appendable _target,
+                                               final boolean _separate,
+                                               final int _number)
+        throws IOException
+    {
+        return appendLessThanOneHundred(_target, _separate, _number, null);
+    }
+
+    /**
+     * Appends the words of the last group of three digits with the gender
+     * forms of the pack.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendLastGroup(final Appendable _target,
+                                      final boolean _separate,
+                                      final int _number)
+        throws IOException
+    {
+        return appendLessThanOneThousand(_target, _separate, _number, this.gender);
+    }
+
+    /**
+     * Appends the words of the last group of three digits in front of a
+     * noun. The gender forms are only used if the pack defines it for the
+     * gender.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendLastGroupBeforeNoun(final Appendable _target,
+                                                final boolean _separate,
+                                                final int _number)
+        throws IOException
+    {
+        return this.source.get().isFormsBeforeNoun(this.gender)
+                        ? appendLastGroup(_target, _separate, _number)
+                        : appendLessThanOneThousand(_target, _separate, _number);
+    }
+
+    /**
+     * Appends the words for the numbers from 1 to 999.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @param _gender   gender whose forms are used; <code>null</code> for the
+     *                  base words
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    private boolean appendLessThanOneThousand(final Appendable _target,
+                                              final boolean _separate,
+                                              final int _number,
+                                              final Gender _gender)
+        throws IOException
+    {
+        final LanguagePack pack = this.source.get();
+        final boolean ret;
+        if (_number == 100 && pack.getHundredExact() != null)  {
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, pack.getHundredExact());
+        } else  {
+            boolean separate = _separate;
+            if (_number >= 100)  {
+                final String[] hundreds = pack.getHundreds(_gender);
+                if (hundreds == null)  {
+                    separate = AbstractDecimalConverter.appendWord(_target, separate,
+                                    pack.getNumbers()[_number / 100]);
+                    separate = AbstractDecimalConverter.appendWord(_target, separate, pack.getHundred());
+                } else  {
+                    separate = AbstractDecimalConverter.appendWord(_target, separate, hundreds[_number / 100]);
+                }
+            }
+            ret = appendLessThanOneHundred(_target, separate, _number % 100, _gender);
+        }
+        return ret;
+    }
+
+    /**
+     * Appends the words for the numbers from 1 to 99. Irregular numbers are
+     * taken from the number words, all other numbers are the tens or the
+     * compound of tens and unit.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one hundred to convert
+     * @param _gender   gender whose forms are used; <code>null</code> for the
+     *                  base words
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    private boolean appendLessThanOneHundred(final Appendable _target,
+                                             final boolean _separate,
+                                             final int _number,
+                                             final Gender _gender)
+        throws IOException
+    {
+        final LanguagePack pack = this.source.get();
+        final String[] numbers = _gender == null ? pack.getNumbers() : pack.getNumbers(_gender);
+        final boolean ret;
+        if (_number < numbers.length)  {
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, numbers[_number]);
+        } else if (_number % 10 == 0)  {
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, pack.getTens()[_number / 10]);
+        } else  {
+            final String[] units = pack.isCompoundForms() ? numbers : pack.getNumbers();
+            ret = AbstractDecimalConverter.appendWord(_target, _separate,
+                            pack.getCompound(pack.getTens()[_number / 10], units[_number % 10]));
+        }
+        return ret;
+    }
+
+    /**
+     * Appends the words for the given <code>_number</code> depending on the
+     * <code>_power</code>. If <code>_number</code> is equal one and the pack
+     * defines the words of one times the powers, these words are used. The
+     * thousands use the gender forms if the pack defines it for the gender.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number to convert
+     * @param _power    power of the number
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendPower(final Appendable _target,
+                                  final boolean _separate,
+                                  final int _number,
+                                  final int _power)
+        throws IOException
+    {
+        final LanguagePack pack = this.source.get();
+        final boolean ret;
+        if (_number == 1 && pack.getSinglePowers() != null && _power < pack.getSinglePowers().length)  {
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, pack.getSinglePowers()[_power]);
+        } else if (_number != 0 && _power == 0 && pack.isFormsForThousands(this.gender))  {
+            ret = AbstractDecimalConverter.appendWord(_target, appendLastGroup(_target, _separate, _number),
+                            getPowerName(_power));
+        } else  {
+            ret = super.appendPower(_target, _separate, _number, _power);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the base words of the irregular numbers of the pack.
+     *
+     * @return string array of numbers
+     * @see AbstractDecimalConverter#getNumNames()
+     */
+    @Override
+    protected String[] getNumNames()
+    {
+        return this.source.get().getNumbers();
+    }
+
+    /**
+     * Returns the words of the tens and of hundred of the pack.
+     *
+     * @return string array of tens names
+     * @see AbstractDecimalConverter#getTensNames()
+     */
+    @Override
+    protected String[] getTensNames()
+    {
+        return this.source.get().getTens();
+    }
+
+    /**
+     * Returns the words of the powers of the pack.
+     *
+     * @return string array of power numbers
+     * @see AbstractDecimalConverter#getPowerNames()
+     */
+    @Override
+    protected String[] getPowerNames()
+    {
+        return this.source.get().getPowers();
+    }
+
+    /**
+     * Returns the table of the current pack for the gender.
+     *
+     * @return table of precomputed fragments
+     * @see AbstractDecimalConverter#getTable()
+     */
+    @Override
+    protected DecimalTable getTable()
+    {
+        return this.source.get().getTable(this.gender);
+    }
+
+    /**
+     * Returns the word for zero of the pack.
+     *
+     * @return word for zero
+     */
+    @Override
+    protected String getZero()
+    {
+        return this.source.get().getZero();
+    }
+
+    /**
+     * Returns the word for minus of the pack.
+     *
+     * @return word for minus
+     */
+    @Override
+    protected String getMinus()
+    {
+        return this.source.get().getMinus();
+    }
+
+    /**
+     * Returns the conjunction of amounts of the pack.
+     *
+     * @return conjunction for amounts
+     */
+    @Override
+    protected String getMoneyConjunction()
+    {
+        return this.source.get().getMoneyConjunction();
+    }
+
+    /**
+     * Returns the preposition of amounts of the pack.
+     *
+     * @param _units    units of the amount (not negative)
+     * @return preposition; an empty string if no preposition is needed
+     */
+    @Override
+    protected String getMoneyPreposition(final long _units)
+    {
+        return this.source.get().getMoneyPreposition(_units);
+    }
+
+    /**
+     * Defines the words of the pack for the parser. Additionally to the base
+     * words the gender forms, the words of the hundreds, the words of one
+     * times the powers and the ignored words are defined.
+     *
+     * @param _builder  builder of the parser
+     */
+    @Override
+    protected void defineTokens(final DecimalParser.Builder _builder)
+    {
+        final LanguagePack pack = this.source.get();
+        _builder.addNumber(pack.getZero(), 0).addMinus(pack.getMinus());
+        if (pack.isUnitBeforeTens())  {
+            _builder.withUnitsBeforeTens();
+        }
+        for (final Gender form : Gender.values())  {
+            final String[] numbers = pack.getNumbers(form);
+            for (int number = 1; number < numbers.length; number++)  {
+                _builder.addNumber(pack.getNumbers()[number], number).addNumber(numbers[number], number);
+            }
+        }
+        for (int tens = 1; tens < 10; tens++)  {
+            _builder.addNumber(pack.getTens()[tens], tens * 10);
+        }
+        if (pack.getHundred() == null)  {
+            for (final Gender form : Gender.values())  {
+                for (int hundreds = 1; hundreds < 10; hundreds++)  {
+                    _builder.addNumber(pack.getHundreds(null)[hundreds], hundreds * 100)
+                                    .addNumber(pack.getHundreds(form)[hundreds], hundreds * 100);
+                }
+            }
+        } else  {
+            _builder.addHundred(pack.getHundred());
+        }
+        if (pack.getHundredExact() != null)  {
+            _builder.addNumber(pack.getHundredExact(), 100);
+        }
+        for (final String word : pack.getIgnored())  {
+            _builder.addIgnored(word);
+        }
+        long scale = 1;
+        for (int power = 0; power < pack.getPowers().length; power++)  {
+            scale *= 1000;
+            _builder.addPowerName(pack.getPowers()[power], scale);
+        }
+        if (pack.getSinglePowers() != null)  {
+            scale = 1;
+            for (int power = 0; power < pack.getSinglePowers().length; power++)  {
+                scale *= 1000;
+                _builder.addPowerName(pack.getSinglePowers()[power], scale);
+            }
+        }
+    }
+
+    /**
+     * Returns the scale of the pack.
+     *
+     * @return <i>true</i> if the pack uses the short scale
+     */
+    @Override
+    public boolean usesShortScale()
+    {
+        return this.source.get().isShortScale();
+    }
+
+    /**
+     * Returns the locale of the pack.
+     *
+     * @return locale of the pack
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return this.source.get().getLocale();
+    }
+}
@@ -0,0 +1,579 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.converters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.efaps.number2words.ConversionOptions;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.LetterCase;
+import org.efaps.number2words.RomanNotation;
+
+/**
+ * <p>The class implements the conversion of numbers to Roman numerals. For
+ * each decimal digit position the fragments of all ten digits are
+ * precomputed (e.g. &quot;XC&quot; for the digit 9 of the tens), so that a
+ * conversion is only a lookup of one fragment per digit which is appended
+ * to the target without any intermediate strings. For the output into
+ * bytes the fragments are additionally held encoded in UTF-8.</p>
+ * <p>Roman numerals are not written in the decimal system with powers of
+ * one thousand, so the converter is {@link #isDecimal() not decimal}. Only
+ * the numbers from 1 till the {@link RomanNotation#getMaximum() maximum of
+ * the notation} could be written; other numbers throw an
+ * {@link IllegalArgumentException}.</p>
+ *
+ * @author The eFaps Team
+ * @see org.efaps.number2words.Converter#getRomanConverter(RomanNotation)
+ */
+public class Roman
+    implements IConverter
+{
+    /**
+     * Combining overline which multiplies the preceding symbol with one
+     * thousand in the {@link RomanNotation#VINCULUM vinculum notation}.
+     */
+    private static final char OVERLINE = '\u0305';
+
+    /**
+     * Reversed C of the {@link RomanNotation#APOSTROPHUS apostrophus
+     * notation}.
+     */
+    private static final String APOSTROPHUS = "\u2183";
+
+    /**
+     * Powers of ten for the digit positions.
+     */
+    private static final long[] POWERS = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+
+    /**
+     * Fragments of the standard notation: the first index is the digit
+     * position, the second index the digit.
+     */
+    private static final String[][] STANDARD = {
+        Roman.digits("I", "V", "X"),
+        Roman.digits("X", "L", "C"),
+        Roman.digits("C", "D", "M"),
+        Roman.repeat("M")};
+
+    /**
+     * Fragments of {@link #STANDARD} in lower case.
+     */
+    private static final String[][] STANDARD_LOWER = Roman.lower(Roman.STANDARD);
+
+    /**
+     * Notation of the numerals.
+     */
+    private final RomanNotation notation;
+
+    /**
+     * Fragments of the notation with the same indexes as {@link #STANDARD}.
+     */
+    private final String[][] fragments;
+
+    /**
+     * Fragments of {@link #fragments} in lower case.
+     */
+    private final String[][] lowerFragments;
+
+    /**
+     * Fragments of {@link #fragments} encoded in UTF-8.
+     */
+    private final byte[][][] utf8;
+
+    /**
+     * Fragments of {@link #STANDARD} encoded in UTF-8.
+     */
+    private final byte[][][] standardUtf8;
+
+    /**
+     * Creates the converter for a notation and precomputes the fragments.
+     *
+     * @param _notation notation of the numerals
+     */
+    public Roman(final RomanNotation _notation)
+    {
+        this.notation = _notation;
+        switch (_notation)  {
+            case VINCULUM:
+                this.fragments = new String[][] {
+                    Roman.STANDARD[0],
+                    Roman.STANDARD[1],
+                    Roman.STANDARD[2],
+                    Roman.digits(Roman.overline("I"), Roman.overline("V"), Roman.overline("X")),
+                    Roman.digits(Roman.overline("X"), Roman.overline("L"), Roman.overline("C")),
+                    Roman.digits(Roman.overline("C"), Roman.overline("D"), Roman.overline("M")),
+                    Roman.repeat(Roman.overline("M"))};
+                break;
+            case APOSTROPHUS:
+                final String thousand = "CI" + Roman.APOSTROPHUS;
+                final String fiveThousand = "I" + Roman.APOSTROPHUS + Roman.APOSTROPHUS;
+                final String tenThousand = "C" + thousand + Roman.APOSTROPHUS;
+                final String fiftyThousand = fiveThousand + Roman.APOSTROPHUS;
+                final String hundredThousand = "C" + tenThousand + Roman.APOSTROPHUS;
+                this.fragments = new String[][] {
+                    Roman.STANDARD[0],
+                    Roman.STANDARD[1],
+                    Roman.digits("C", "D", thousand),
+                    Roman.digits(thousand, fiveThousand, tenThousand),
+                    Roman.digits(tenThousand, fiftyThousand, hundredThousand),
+                    Roman.repeat(hundredThousand)};
+                break;
+            default:
+                this.fragments = Roman.STANDARD;
+                break;
+        }
+        this.lowerFragments = this.fragments == Roman.STANDARD ? Roman.STANDARD_LOWER : Roman.lower(this.fragments);
+        this.utf8 = Roman.encode(this.fragments);
+        this.standardUtf8 = this.fragments == Roman.STANDARD ? this.utf8 : Roman.encode(Roman.STANDARD);
+    }
+
+    /**
+     * Returns the fragments of the ten digits of one digit position.
+     *
+     * @param _one  symbol for one
+     * @param _five symbol for five
+     * @param _ten  symbol for ten
+     * @return fragments of the digits 0 till 9
+     */
+    private static String[] digits(final String _one,
+                                   final String _five,
+                                   final String _ten)
+    {
+        return new String[] {
+            "", _one, _one + _one, _one + _one + _one, _one + _five,
+            _five, _five + _one, _five + _one + _one, _five + _one + _one + _one, _one + _ten};
+    }
+
+    /**
+     * Returns the fragments of the highest digit position which has no
+     * symbol for five, so that only the digits 0 till 3 could be written.
+     *
+     * @param _one  symbol for one
+     * @return fragments of the digits 0 till 3
+     */
+    private static String[] repeat(final String _one)
+    {
+        return new String[] {"", _one, _one + _one, _one + _one + _one};
+    }
+
+    /**
+     * Returns the <code>_symbols</code> with an overline over each symbol.
+     *
+     * @param _symbols  symbols to overline
+     * @return overlined symbols
+     */
+    private static String overline(final String _symbols)
+    {
+        final StringBuilder ret = new StringBuilder(2 * _symbols.length());
+        for (int i = 0; i < _symbols.length(); i++)  {
+            ret.append(_symbols.charAt(i)).append(Roman.OVERLINE);
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Returns the <code>_fragments</code> in lower case (e.g. &quot;xc&quot;
+     * for &quot;XC&quot;; the reversed C of the apostrophus notation has its
+     * own lower case letter).
+     *
+     * @param _fragments    fragments in upper case
+     * @return fragments in lower case with the same indexes
+     */
+    private static String[][] lower(final String[][] _fragments)
+    {
+        final String[][] ret = new String[_fragments.length][];
+        for (int position = 0; position < _fragments.length; position++)  {
+            ret[position] = new String[_fragments[position].length];
+            for (int digit = 0; digit < _fragments[position].length; digit++)  {
+                ret[position][digit] = _fragments[position][digit].toLowerCase(Locale.ROOT);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Encodes the <code>_fragments</code> in UTF-8.
+     *
+     * @param _fragments    fragments to encode
+     * @return encoded fragments with the same indexes
+     */
+    private static byte[][][] encode(final String[][] _fragments)
+    {
+        final byte[][][] ret = new byte[_fragments.length][][];
+        for (int position = 0; position < _fragments.length; position++)  {
+            ret[position] = new byte[_fragments[position].length][];
+            for (int digit = 0; digit < _fragments[position].length; digit++)  {
+                ret[position][digit] = _fragments[position][digit].getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Checks that the <code>_number</code> could be written in the notation.
+     *
+     * @param _number   number to check
+     * @throws IllegalArgumentException if the number is less than 1 or
+     *                                  greater than the maximum of the
+     *                                  notation
+     */
+    private void check(final long _number)
+    {
+        if (_number < 1 || _number > this.notation.getMaximum())  {
+            throw new IllegalArgumentException("number " + _number + " is out of the range 1 till "
+                            + this.notation.getMaximum() + " of the Roman numerals in "
+                            + this.notation.name().toLowerCase(Locale.ROOT) + " notation");
+        }
+    }
+
+    /**
+     * Returns the fragments used for the <code>_number</code>. In the
+     * vinculum notation the numbers less than 4000 are written in the
+     * standard notation.
+     *
+     * @param _number   number to convert
+     * @return fragments
+     */
+    private String[][] getFragments(final long _number)
+    {
+        return _number <= RomanNotation.STANDARD.getMaximum() && this.notation == RomanNotation.VINCULUM
+                        ? Roman.STANDARD
+                        : this.fragments;
+    }
+
+    /**
+     * Method to convert a number into a Roman numeral. The string builder is
+     * presized with the {@link #length(long) length} of the numeral.
+     *
+     * @see IConverter#convert(long)
+     * @param _number   number to convert
+     * @return Roman numeral
+     * @throws IllegalArgumentException if the number is out of the range of
+     *                                  the notation
+     */
+    @Override
+    public String convert(final long _number)
+    {
+        return convertTo(_number, new StringBuilder(length(_number))).toString();
+    }
+
+    /**
+     * Method to append the Roman numeral of a number to an appendable.
+     *
+     * @see IConverter#convertTo(long, Appendable)
+     * @param _number   number to convert
+     * @param _target   target to append the numeral
+     * @return given <code>_target</code>
+     * @throws IOException if the numeral could not be appended
+     * @throws IllegalArgumentException if the number is out of the range of
+     *                                  the notation
+     */
+    @Override
+    public Appendable convertTo(final long _number,
+                                final Appendable _target)
+        throws IOException
+    {
+        check(_number);
+        return Roman.append(getFragments(_number), _number, _target);
+    }
+
+    /**
+     * Method to append the Roman numeral of a number to an appendable with
+     * <code>_options</code>. Roman numerals have no separators, no
+     * conjunctions and no sign, so only the {@link LetterCase#LOWER lower
+     * case} is taken into account; all other letter cases write the
+     * numerals in upper case. The lower case fragments are precomputed like
+     * the upper case fragments.
+     *
+     * @see IConverter#convertTo(long, ConversionOptions, Appendable)
+     * @param _number   number to convert
+     * @param _options  conversion options
+     * @param _target   target to append the numeral
+     * @return given <code>_target</code>
+     * @throws IOException if the numeral could not be appended
+     * @throws IllegalArgumentException if the number is out of the range of
+     *                                  the notation
+     */
+    @Override
+    public Appendable convertTo(final long _number,
+                                final ConversionOptions _options,
+                                final Appendable _target)
+        throws IOException
+    {
+        check(_number);
+        final String[][] table = getFragments(_number);
+        return Roman.append(_options.getLetterCase() != LetterCase.LOWER
+                        ? table
+                        : table == Roman.STANDARD ? Roman.STANDARD_LOWER : this.lowerFragments,
+                        _number, _target);
+    }
+
+    /**
+     * Appends the fragments of all digits of the <code>_number</code>.
+     *
+     * @param _table    fragments of the notation
+     * @param _number   number to convert
+     * @param _target   target to append the numeral
+     * @return given <code>_target</code>
+     * @throws IOException if the numeral could not be appended
+     */
+    private static Appendable append(final String[][] _table,
+                                     final long _number,
+                                     final Appendable _target)
+        throws IOException
+    {
+        for (int position = _table.length - 1; position >= 0; position--)  {
+            _target.append(_table[position][(int) (_number / Roman.POWERS[position] % 10)]);
+        }
+        return _target;
+    }
+
+    /**
+     * Method to append the Roman numeral of a number to a string builder.
+     * The capacity of the string builder is ensured for the
+     * {@link #length(long) length} of the numeral first.
+     *
+     * @see IConverter#convertTo(long, StringBuilder)
+     * @param _number   number to convert
+     * @param _target   string builder to append the numeral
+     * @return given <code>_target</code>
+     * @throws IllegalArgumentException if the number is out of the range of
+     *                                  the notation
+     */
+    @Override
+    public StringBuilder convertTo(final long _number,
+                                   final StringBuilder _target)
+    {
+        _target.ensureCapacity(_target.length() + length(_number));
+        try  {
+            convertTo(_number, (Appendable) _target);
+        } catch (final IOException e)  {
+            // could not happen, because a string builder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return _target;
+    }
+
+    /**
+     * Method to write the Roman numeral of a number encoded in
+     * <code>_charset</code> into a byte buffer. For UTF-8 the bytes are
+     * copied from the precomputed encoded fragments; other charsets are
+     * written with the default implementation of the interface.
+     *
+     * @see IConverter#convertTo(long, ByteBuffer, Charset)
+     * @param _number   number to convert
+     * @param _target   buffer to which the encoded numeral is written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes; if the remaining space of
+     *         <code>_target</code> is too small, nothing is written and the
+     *         negative number of needed bytes is returned
+     * @throws IllegalArgumentException if the number is out of the range of
+     *                                  the notation
+     */
+    @Override
+    public int convertTo(final long _number,
+                         final ByteBuffer _target,
+                         final Charset _charset)
+    {
+        final int ret;
+        if (StandardCharsets.UTF_8.equals(_charset))  {
+            final int length = byteLength(_number);
+            if (_target.remaining() < length)  {
+                ret = -length;
+            } else  {
+                final byte[][][] table = getEncoded(_number);
+                for (int position = table.length - 1; position >= 0; position--)  {
+                    _target.put(table[position][(int) (_number / Roman.POWERS[position] % 10)]);
+                }
+                ret = length;
+            }
+        } else  {
+            ret = IConverter.super.convertTo(_number, _target, _charset);
+        }
+        return ret;
+    }
+
+    /**
+     * Method to write the Roman numeral of a number encoded in
+     * <code>_charset</code> into a stream. For UTF-8 the bytes are copied
+     * from the precomputed encoded fragments.
+     *
+     * @see IConverter#convertTo(long, OutputStream, Charset)
+     * @param _number   number to convert
+     * @param _target   stream to which the encoded numeral is written
+     * @param _charset  charset of the bytes
+     * @return number of written bytes
+     * @throws IOException if the bytes could not be written
+     * @throws IllegalArgumentException if the number is out of the range of
+     *                                  the notation
+     */
+    @Override
+    public int convertTo(final long _number,
+                         final OutputStream _target,
+                         final Charset _charset)
+        throws IOException
+    {
+        final int ret;
+        if (StandardCharsets.UTF_8.equals(_charset))  {
+            check(_number);
+            final byte[][][] table = getEncoded(_number);
+            int length = 0;
+            for (int position = table.length - 1; position >= 0; position--)  {
+                final byte[] fragment = table[position][(int) (_number / Roman.POWERS[position] % 10)];
+                _target.write(fragment);
+                length += fragment.length;
+            }
+            ret = length;
+        } else  {
+            ret = IConverter.super.convertTo(_number, _target, _charset);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the encoded fragments used for the <code>_number</code>.
+     *
+     * @param _number   number to convert
+     * @return encoded fragments
+     * @see #getFragments(long)
+     */
+    private byte[][][] getEncoded(final long _number)
+    {
+        return getFragments(_number) == Roman.STANDARD ? this.standardUtf8 : this.utf8;
+    }
+
+    /**
+     * Method to compute the length in characters of the Roman numeral of a
+     * number from the lengths of the precomputed fragments.
+     *
+     * @see IConverter#length(long)
+     * @param _number   number to measure
+     * @return length of the numeral in characters
+     * @throws IllegalArgumentException if the number is out of the range of
+     *                                  the notation
+     */
+    @Override
+    public int length(final long _number)
+    {
+        check(_number);
+        final String[][] table = getFragments(_number);
+        int ret = 0;
+        for (int position = table.length - 1; position >= 0; position--)  {
+            ret += table[position][(int) (_number / Roman.POWERS[position] % 10)].length();
+        }
+        return ret;
+    }
+
+    /**
+     * Method to compute the length in UTF-8 bytes of the Roman numeral of a
+     * number from the lengths of the precomputed encoded fragments.
+     *
+     * @see IConverter#byteLength(long)
+     * @param _number   number to measure
+     * @return length of the UTF-8 encoded numeral in bytes
+     * @throws IllegalArgumentException if the number is out of the range of
+     *                                  the notation
+     */
+    @Override
+    public int byteLength(final long _number)
+    {
+        check(_number);
+        final byte[][][] table = getEncoded(_number);
+        int ret = 0;
+        for (int position = table.length - 1; position >= 0; position--)  {
+            ret += table[position][(int) (_number / Roman.POWERS[position] % 10)].length;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the fingerprint of the numerals. The fingerprint is a FNV-1a
+     * hash over all fragments of the notation.
+     *
+     * @see IConverter#getFingerprint()
+     * @return fingerprint of the numerals
+     */
+    @Override
+    public long getFingerprint()
+    {
+        long ret = 0xCBF29CE484222325L;
+        for (final String[][] table : new String[][][] {Roman.STANDARD, this.fragments})  {
+            for (final String[] position : table)  {
+                for (final String fragment : position)  {
+                    for (int i = 0; i < fragment.length(); i++)  {
+                        ret = (ret ^ fragment.charAt(i)) * 0x100000001B3L;
+                    }
+                    // separator between the fragments
+                    ret = (ret ^ 0xFFFF) * 0x100000001B3L;
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the notation of the numerals.
+     *
+     * @return notation
+     */
+    public RomanNotation getNotation()
+    {
+        return this.notation;
+    }
+
+    /**
+     * Roman numerals do not depend on a language, so the root locale is
+     * returned.
+     *
+     * @return root locale
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return Locale.ROOT;
+    }
+
+    /**
+     * Roman numerals do not use the decimal system with powers of one
+     * thousand.
+     *
+     * @return always <i>false</i>
+     */
+    @Override
+    public boolean isDecimal()
+    {
+        return false;
+    }
+
+    /**
+     * Roman numerals have no scale.
+     *
+     * @return always <i>false</i>
+     */
+    @Override
+    public boolean usesShortScale()
+    {
+        return false;
+    }
+}
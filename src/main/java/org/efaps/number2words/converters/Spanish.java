@@ -17,11 +17,27 @@
 
 package org.efaps.number2words.converters;
 
+import java.io.IOException;
+import java.text.Normalizer;
+import java.util.Locale;
+
+import org.efaps.number2words.Gender;
+
 /**
  * The class implements the conversion of numbers to Spanish words.<br/>
- * The number "one" has a special treatment: It is registered in arrays as "un",
- * but if the number acual end in "1" an "o" will be added converting a "un" in
- * "uno".
+ * The number "one" has a special treatment: In front of a noun (also in front
+ * of &quot;mil&quot; and &quot;mill&oacute;n&quot;) the apocopated form
+ * &quot;un&quot; / &quot;veinti&uacute;n&quot; is used, only at the end of a
+ * number the full form &quot;uno&quot; / &quot;veintiuno&quot; is written.
+ * Both forms are precomputed in the {@link DecimalTable table}.<br/>
+ * For female numbers the last group of three digits and the thousands are
+ * written with the female words (e.g. &quot;una&quot;,
+ * &quot;veintiuna&quot;, &quot;doscientas&quot;). Millions and greater
+ * powers are nouns and are therefore always male.<br/>
+ * Ordinal numbers are written with ordinal words in all groups of three
+ * digits (e.g. &quot;dosmil&eacute;simo vig&eacute;simo primero&quot;);
+ * female ordinal numbers end all words with &quot;a&quot; instead of
+ * &quot;o&quot;.
  *
  * @author The eFaps Team
  */
@@ -29,17 +45,48 @@ public class Spanish
     extends AbstractDecimalConverter
 {
     /**
-     * String array to define the Spanish conversion of numbers for 1 till 29.
+     * String array to define the Spanish conversion of numbers for 1 till 29
+     * in front of a noun (apocopated &quot;un&quot; and
+     * &quot;veinti&uacute;n&quot;).
      *
      * @see #getNumNames()
-     * @see #convertLessThanOneThousand(int)
+     * @see #appendLessThanOneThousand(Appendable, boolean, int)
      */
     private static final String[] NUM_NAMES = {
         "", "un", "dos", "tres", "cuatro", "cinco",
         "seis", "siete", "ocho", "nueve",
         "diez", "once", "doce", "trece", "catorce",
         "quince", "diecis\u00E9is", "diecisiete", "dieciocho", "diecinueve", "veinte",
-        "veintiun", "veintid\u00F3s", "veintitr\u00E9s", "veinticuatro", "veinticinco",
+        "veinti\u00FAn", "veintid\u00F3s", "veintitr\u00E9s", "veinticuatro", "veinticinco",
+        "veintis\u00E9is", "veintisiete", "veintiocho", "veintinueve"};
+
+    /**
+     * String array to define the Spanish conversion of numbers for 1 till 29
+     * at the end of a number (full form &quot;uno&quot; and
+     * &quot;veintiuno&quot;).
+     *
+     * @see #appendLastGroup(Appendable, boolean, int)
+     */
+    private static final String[] FULL_NUM_NAMES = {
+        "", "uno", "dos", "tres", "cuatro", "cinco",
+        "seis", "siete", "ocho", "nueve",
+        "diez", "once", "doce", "trece", "catorce",
+        "quince", "diecis\u00E9is", "diecisiete", "dieciocho", "diecinueve", "veinte",
+        "veintiuno", "veintid\u00F3s", "veintitr\u00E9s", "veinticuatro", "veinticinco",
+        "veintis\u00E9is", "veintisiete", "veintiocho", "veintinueve"};
+
+    /**
+     * String array to define the Spanish conversion of female numbers for 1
+     * till 29.
+     *
+     * @see #appendLastGroup(Appendable, boolean, int)
+     */
+    private static final String[] FEMALE_NUM_NAMES = {
+        "", "una", "dos", "tres", "cuatro", "cinco",
+        "seis", "siete", "ocho", "nueve",
+        "diez", "once", "doce", "trece", "catorce",
+        "quince", "diecis\u00E9is", "diecisiete", "dieciocho", "diecinueve", "veinte",
+        "veintiuna", "veintid\u00F3s", "veintitr\u00E9s", "veinticuatro", "veinticinco",
         "veintis\u00E9is", "veintisiete", "veintiocho", "veintinueve"};
 
     /**
@@ -47,7 +94,7 @@ public class Spanish
      * 50, 60, 70, 80 and 90.
      *
      * @see #getTensNames()
-     * @see #convertLessThanOneThousand(int)
+     * @see #appendLessThanOneThousand(Appendable, boolean, int)
      */
     private static final String[] TENS_NAMES = {
         "", "diez", "veinte", "treinta", "cuarenta", "cincuenta",
@@ -58,12 +105,22 @@ public class Spanish
      * 300, 400, 500, 600, 700, 800 and 900. In Spanish for some hundred
      * numbers exists special wordings.
      *
-     * @see #convertLessThanOneThousand(int)
+     * @see #appendLessThanOneThousand(Appendable, boolean, int)
      */
     private static final String[] HUNDREDS_NAMES = {
         "", "ciento", "doscientos", "trescientos", "cuatrocientos", "quinientos",
         "seiscientos", "setecientos", "ochocientos", "novecientos"};
 
+    /**
+     * String array to define the conversion for the female hundred numbers
+     * 100, 200, 300, 400, 500, 600, 700, 800 and 900.
+     *
+     * @see #appendLastGroup(Appendable, boolean, int)
+     */
+    private static final String[] FEMALE_HUNDREDS_NAMES = {
+        "", "ciento", "doscientas", "trescientas", "cuatrocientas", "quinientas",
+        "seiscientas", "setecientas", "ochocientas", "novecientas"};
+
     /**
      * String array to define the conversion for the log numbers 100,
      * 1&nbsp;000, 1&nbsp;000&nbsp;000 and 1&nbsp;000&nbsp;000&nbsp;000.
@@ -85,78 +142,424 @@ public class Spanish
      * <li>one quintillion</li>
      * </ul>
      *
-     * @see #convertPower(int, int)
+     * @see #appendPower(Appendable, boolean, int, int)
      */
     private static final String[] SINGLE_POWER_NAMES = {
         "un mil", "un mill\u00F3n", "mil mill\u00F3nes", "un bill\u00F3n", "mil bill\u00F3nes", "un trill\u00F3n"};
 
     /**
-     * Method to convert the numbers from 1 to 999. The original method must be
-     * overwritten because of some specialties of the Spanish languages for
-     * numbers below 30 and for all hundred numbers (100, 200, ...).
+     * String array to define the ordinal numbers for 1 till 19.
+     *
+     * @see #appendOrdinalLastGroup(Appendable, boolean, int)
+     */
+    private static final String[] ORDINAL_NUM_NAMES = {
+        "", "primero", "segundo", "tercero", "cuarto",
+        "quinto", "sexto", "s\u00E9ptimo", "octavo", "noveno",
+        "d\u00E9cimo", "und\u00E9cimo", "duod\u00E9cimo", "decimotercero", "decimocuarto",
+        "decimoquinto", "decimosexto", "decimos\u00E9ptimo", "decimoctavo", "decimonoveno"};
+
+    /**
+     * String array to define the ordinal numbers for 10, 20, 30, 40, 50, 60,
+     * 70, 80 and 90.
      *
-     * @param _number number to be converted
-     * @return return words for number
+     * @see #appendOrdinalLastGroup(Appendable, boolean, int)
+     */
+    private static final String[] ORDINAL_TENS_NAMES = {
+        "", "d\u00E9cimo", "vig\u00E9simo", "trig\u00E9simo", "cuadrag\u00E9simo", "quincuag\u00E9simo",
+        "sexag\u00E9simo", "septuag\u00E9simo", "octog\u00E9simo", "nonag\u00E9simo"};
+
+    /**
+     * String array to define the ordinal numbers for 100, 200, 300, 400, 500,
+     * 600, 700, 800 and 900.
+     *
+     * @see #appendOrdinalLastGroup(Appendable, boolean, int)
+     */
+    private static final String[] ORDINAL_HUNDREDS_NAMES = {
+        "", "cent\u00E9simo", "ducent\u00E9simo", "tricent\u00E9simo", "cuadringent\u00E9simo",
+        "quingent\u00E9simo", "sexcent\u00E9simo", "septingent\u00E9simo", "octingent\u00E9simo",
+        "noningent\u00E9simo"};
+
+    /**
+     * String array to define the ordinal power numbers (thousandth till
+     * quintillionth).
+     *
+     * @see #appendOrdinalPower(Appendable, boolean, int, int)
+     */
+    private static final String[] ORDINAL_POWER_NAMES = {
+        "mil\u00E9simo", "millon\u00E9simo", "milmillon\u00E9simo", "billon\u00E9simo", "milbillon\u00E9simo",
+        "trillon\u00E9simo"};
+
+    /**
+     * Table with the precomputed fragments of all groups of three digits. The
+     * table must be defined after all word arrays, because it is compiled
+     * from them at class initialization.
+     *
+     * @see #getTable()
+     */
+    private static final DecimalTable TABLE = DecimalTable.compile(new Spanish());
+
+    /**
+     * Table with the precomputed fragments for female numbers.
+     *
+     * @see #getTable()
+     */
+    private static final DecimalTable FEMALE_TABLE = DecimalTable.compile(new Spanish(Gender.FEMALE));
+
+    /**
+     * Gender of the counted noun. Spanish has no neuter numbers, so that
+     * neuter numbers are written as male numbers.
+     */
+    private final Gender gender;
+
+    /**
+     * Creates the Spanish converter for male numbers.
+     */
+    public Spanish()
+    {
+        this(Gender.MALE);
+    }
+
+    /**
+     * Creates the Spanish converter for numbers of the <code>_gender</code>.
+     *
+     * @param _gender   gender of the counted noun
+     */
+    public Spanish(final Gender _gender)
+    {
+        this.gender = _gender;
+    }
+
+    /**
+     * Method to append the words for the numbers from 1 to 999. The original
+     * method must be overwritten because of some specialties of the Spanish
+     * languages for numbers below 30 and for all hundred numbers (100, 200,
+     * ...).
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendLessThanOneThousand(final Appendable _target,
+                                                final boolean _separate,
+                                                final int _number)
+        throws IOException
+    {
+        return Spanish.appendLessThanOneThousand(_target, _separate, _number,
+                        Spanish.HUNDREDS_NAMES, Spanish.NUM_NAMES);
+    }
+
+    /**
+     * The method appends the words for the numbers from 1 to 99. The method
+     * is used from {@link #appendLessThanOneThousand(Appendable, boolean, int)}.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one hundred to convert
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    @Override
+    protected boolean appendLessThanOneHundred(final Appendable _target,
+                                               final boolean _separate,
+                                               final int _number)
+        throws IOException
+    {
+        return Spanish.appendLessThanOneHundred(_target, _separate, _number, Spanish.NUM_NAMES);
+    }
+
+    /**
+     * Appends the words of the last group of three digits at the end of a
+     * number. Male numbers use the full forms of {@link #FULL_NUM_NAMES},
+     * female numbers the female words.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @see #FULL_NUM_NAMES
+     * @see #FEMALE_NUM_NAMES
+     * @see #FEMALE_HUNDREDS_NAMES
+     */
+    @Override
+    protected boolean appendLastGroup(final Appendable _target,
+                                      final boolean _separate,
+                                      final int _number)
+        throws IOException
+    {
+        return this.gender == Gender.FEMALE
+                        ? Spanish.appendLessThanOneThousand(_target, _separate, _number,
+                                        Spanish.FEMALE_HUNDREDS_NAMES, Spanish.FEMALE_NUM_NAMES)
+                        : Spanish.appendLessThanOneThousand(_target, _separate, _number,
+                                        Spanish.HUNDREDS_NAMES, Spanish.FULL_NUM_NAMES);
+    }
+
+    /**
+     * Appends the words of the last group of three digits in front of a
+     * noun. Male numbers use the apocopated forms of {@link #NUM_NAMES},
+     * female numbers the female words.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @see #NUM_NAMES
      */
     @Override
-    protected String convertLessThanOneThousand(final int _number)
+    protected boolean appendLastGroupBeforeNoun(final Appendable _target,
+                                                final boolean _separate,
+                                                final int _number)
+        throws IOException
     {
-        final StringBuilder ret = new StringBuilder();
+        return this.gender == Gender.FEMALE
+                        ? appendLastGroup(_target, _separate, _number)
+                        : appendLessThanOneThousand(_target, _separate, _number);
+    }
+
+    /**
+     * Appends the words for the numbers from 1 to 999 with the given word
+     * arrays.
+     *
+     * @param _target           target to append the words
+     * @param _separate         must a separator be written before the next
+     *                          word?
+     * @param _number           number to be converted
+     * @param _hundredsNames    words for the hundred numbers
+     * @param _numNames         words for the numbers 1 till 29
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     */
+    private static boolean appendLessThanOneThousand(final Appendable _target,
+                                                     final boolean _separate,
+                                                     final int _number,
+                                                     final String[] _hundredsNames,
+                                                     final String[] _numNames)
+        throws IOException
+    {
+        final boolean ret;
         if (_number == 100)  {
-            ret.append("cien");
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, "cien");
         } else  {
-            ret.append(Spanish.HUNDREDS_NAMES[_number / 100])
-                .append(' ')
-                .append(convertLessThanOneHundred(_number % 100));
+            ret = Spanish.appendLessThanOneHundred(_target,
+                            AbstractDecimalConverter.appendWord(_target, _separate, _hundredsNames[_number / 100]),
+                            _number % 100, _numNames);
         }
-        return ret.toString();
+        return ret;
     }
 
     /**
-     * The method converts the numbers from 1 to 99 into words. The method is
-     * used from {@link AbstractDecimalConverter#convertLessThanOneThousand(int)}.
+     * Appends the words for the numbers from 1 to 99 with the given word
+     * array.
      *
-     * @param _number       number less than one hundred to convert
-     * @return converted <code>_number</code> in words
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one hundred to convert
+     * @param _numNames words for the numbers 1 till 29
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
      */
-    @Override
-    protected String convertLessThanOneHundred(final int _number)
+    private static boolean appendLessThanOneHundred(final Appendable _target,
+                                                    final boolean _separate,
+                                                    final int _number,
+                                                    final String[] _numNames)
+        throws IOException
     {
-        final StringBuilder ret = new StringBuilder();
-
+        boolean ret;
         // between 1 and 29
         if (_number < 30) {
-            ret.append(" ").append(Spanish.NUM_NAMES[_number]);
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, _numNames[_number]);
         // all others
         } else  {
-            ret.append(" ").append(Spanish.TENS_NAMES[_number / 10]);
-            final String num = Spanish.NUM_NAMES[_number % 10];
-            if (!"".equals(num))  {
-                ret.append(" y ").append(Spanish.NUM_NAMES[_number % 10]);
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, Spanish.TENS_NAMES[_number / 10]);
+            if (_number % 10 > 0)  {
+                ret = AbstractDecimalConverter.appendWord(_target, ret, "y");
+                ret = AbstractDecimalConverter.appendWord(_target, ret, _numNames[_number % 10]);
             }
         }
-        return ret.toString();
+        return ret;
     }
 
     /**
-     * The method converts the given <code>_number</code> depending on the
-     * <code>_power</code> to words. The real number to convert is
-     * &quot;<code>_number * (10 ^ _power)</code>&quot;. The original method is
-     * overwritten because if <code>_number</code> is equal one, the values
-     * from {@link #SINGLE_POWER_NAMES} must be used.
+     * The method appends the words for the given <code>_number</code>
+     * depending on the <code>_power</code>. The real number to convert is
+     * &quot;<code>_number * (1000 ^ (_power + 1))</code>&quot;. The original
+     * method is overwritten because if <code>_number</code> is equal one, the
+     * values from {@link #SINGLE_POWER_NAMES} must be used. The thousands of
+     * female numbers are written with the female words (e.g.
+     * &quot;doscientas mil&quot;).
      *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
      * @param _number   number to convert
      * @param _power    power of the number
-     * @return converted string
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
      * @see #SINGLE_POWER_NAMES
      */
     @Override
-    protected String convertPower(final int _number,
+    protected boolean appendPower(final Appendable _target,
+                                  final boolean _separate,
+                                  final int _number,
                                   final int _power)
+        throws IOException
+    {
+        final boolean ret;
+        if (_number == 1)  {
+            ret = AbstractDecimalConverter.appendWord(_target, _separate, getSinglePowerName(_power));
+        } else if (_number != 0 && _power == 0 && this.gender == Gender.FEMALE)  {
+            ret = AbstractDecimalConverter.appendWord(_target, appendLastGroup(_target, _separate, _number),
+                            getPowerName(_power));
+        } else  {
+            ret = super.appendPower(_target, _separate, _number, _power);
+        }
+        return ret;
+    }
+
+    /**
+     * Appends the ordinal words for the numbers from 1 to 999, e.g.
+     * &quot;cent&eacute;simo vig&eacute;simo primero&quot;.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number less than one thousand to be converted
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @see #ORDINAL_NUM_NAMES
+     * @see #ORDINAL_TENS_NAMES
+     * @see #ORDINAL_HUNDREDS_NAMES
+     */
+    @Override
+    protected boolean appendOrdinalLastGroup(final Appendable _target,
+                                             final boolean _separate,
+                                             final int _number)
+        throws IOException
     {
-        return _number == 1
-                        ? Spanish.SINGLE_POWER_NAMES[_power]
-                        : super.convertPower(_number, _power);
+        final StringBuilder ordinal = new StringBuilder();
+        boolean separate = AbstractDecimalConverter.appendWord(ordinal, false,
+                        Spanish.ORDINAL_HUNDREDS_NAMES[_number / 100]);
+        final int modHundred = _number % 100;
+        if (modHundred < 20)  {
+            AbstractDecimalConverter.appendWord(ordinal, separate, Spanish.ORDINAL_NUM_NAMES[modHundred]);
+        } else  {
+            separate = AbstractDecimalConverter.appendWord(ordinal, separate,
+                            Spanish.ORDINAL_TENS_NAMES[modHundred / 10]);
+            AbstractDecimalConverter.appendWord(ordinal, separate, Spanish.ORDINAL_NUM_NAMES[modHundred % 10]);
+        }
+        return AbstractDecimalConverter.appendWord(_target, _separate, inflectOrdinal(ordinal));
+    }
+
+    /**
+     * Appends the ordinal word for the <code>_number</code> multiplied with
+     * <code>1000 ^ (_power + 1)</code>. The cardinal number is written
+     * together with the ordinal power name without accents, e.g.
+     * &quot;dosmil&eacute;simo&quot; or &quot;veintiunmillon&eacute;simo&quot;;
+     * for exact one only the ordinal power name is written.
+     *
+     * @param _target   target to append the words
+     * @param _separate must a separator be written before the next word?
+     * @param _number   number of the group to convert
+     * @param _power    power of the number
+     * @return <i>true</i> if a separator must be written before the next
+     *         word; otherwise <i>false</i>
+     * @throws IOException if the words could not be appended
+     * @see #ORDINAL_POWER_NAMES
+     */
+    @Override
+    protected boolean appendOrdinalPower(final Appendable _target,
+                                         final boolean _separate,
+                                         final int _number,
+                                         final int _power)
+        throws IOException
+    {
+        final StringBuilder ordinal = new StringBuilder();
+        if (_number > 1)  {
+            appendLessThanOneThousand(ordinal, false, _number);
+        }
+        final String prefix = Normalizer.normalize(ordinal, Normalizer.Form.NFD)
+                        .replaceAll("\\p{M}", "").replace(" ", "");
+        return AbstractDecimalConverter.appendWord(_target, _separate,
+                        inflectOrdinal(prefix + Spanish.ORDINAL_POWER_NAMES[_power]));
+    }
+
+    /**
+     * Returns whether all groups are written as ordinal numbers.
+     *
+     * @return always <i>true</i>
+     */
+    @Override
+    protected boolean isOrdinalInAllGroups()
+    {
+        return true;
+    }
+
+    /**
+     * Inflects the ordinal words for the gender of this converter. All
+     * ordinal words of female numbers end with &quot;a&quot; instead of
+     * &quot;o&quot;.
+     *
+     * @param _ordinal  male ordinal words
+     * @return ordinal words of the gender
+     */
+    private String inflectOrdinal(final CharSequence _ordinal)
+    {
+        return this.gender == Gender.FEMALE
+                        ? _ordinal.toString().replaceAll("o\\b", "a")
+                        : _ordinal.toString();
+    }
+
+    /**
+     * Returns the Spanish word for the decimal separator.
+     *
+     * @return always the text string &quot;coma&quot;
+     */
+    @Override
+    protected String getDecimalSeparator()
+    {
+        return "coma";
+    }
+
+    /**
+     * Returns the Spanish word for a single fraction digit. The digit one is
+     * written with the full form &quot;uno&quot;.
+     *
+     * @param _digit    digit
+     * @return word for the digit
+     * @see #FULL_NUM_NAMES
+     */
+    @Override
+    protected String getDigitName(final int _digit)
+    {
+        return _digit == 0 ? getZero() : Spanish.FULL_NUM_NAMES[_digit];
+    }
+
+    /**
+     * Returns the Spanish name of the fraction with the denominator
+     * <code>10^_scale</code>. The name is the ordinal number of the gender,
+     * e.g. &quot;cent&eacute;simos&quot; or
+     * &quot;diezmil&eacute;simas&quot;.
+     *
+     * @param _scale    scale of the fraction
+     * @param _plural   is the plural needed?
+     * @return name of the fraction
+     */
+    @Override
+    protected String getFractionName(final int _scale,
+                                     final boolean _plural)
+    {
+        final String name = getOrdinalPowerOfTen(_scale);
+        return _plural ? name + "s" : name;
     }
 
     /**
@@ -201,6 +604,77 @@ public class Spanish
         return Spanish.POWER_NAMES;
     }
 
+    /**
+     * Returns the Spanish word for the power number
+     * <code>1000^(_power + 1)</code>. Beyond trill&oacute;nes the names are
+     * built with the Latin stems of the long scale (e.g. mil trill&oacute;nes,
+     * cuatrill&oacute;nes).
+     *
+     * @param _power    power of the number
+     * @return word for the power number
+     * @see LatinPowerNames
+     */
+    @Override
+    protected String getPowerName(final int _power)
+    {
+        final String ret;
+        if (_power < Spanish.POWER_NAMES.length)  {
+            ret = Spanish.POWER_NAMES[_power];
+        } else if (_power % 2 == 1)  {
+            ret = Spanish.getStem(_power) + "ill\u00F3nes";
+        } else  {
+            ret = "mil " + Spanish.getStem(_power) + "ill\u00F3nes";
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the Spanish word for the power number
+     * <code>1000^(_power + 1)</code> multiplied by exact one.
+     *
+     * @param _power    power of the number
+     * @return word for one times the power number
+     * @see #SINGLE_POWER_NAMES
+     */
+    protected String getSinglePowerName(final int _power)
+    {
+        final String ret;
+        if (_power < Spanish.SINGLE_POWER_NAMES.length)  {
+            ret = Spanish.SINGLE_POWER_NAMES[_power];
+        } else if (_power % 2 == 1)  {
+            ret = "un " + Spanish.getStem(_power) + "ill\u00F3n";
+        } else  {
+            ret = getPowerName(_power);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the Spanish Latin stem for the power number
+     * <code>1000^(_power + 1)</code> of the long scale.
+     *
+     * @param _power    power of the number (greater than zero)
+     * @return Spanish stem
+     */
+    private static String getStem(final int _power)
+    {
+        return LatinPowerNames.stem((_power + 1) / 2).replace("quadr", "cuatr").replace("quattuor", "cuatuor");
+    }
+
+    /**
+     * Returns the table with the precomputed Spanish fragments of the gender.
+     *
+     * @return table of precomputed fragments
+     * @see AbstractDecimalConverter#getTable()
+     * @see #TABLE
+     * @see #FEMALE_TABLE
+     */
+    @Override
+    protected DecimalTable getTable()
+    {
+        return this.gender == Gender.FEMALE ? Spanish.FEMALE_TABLE : Spanish.TABLE;
+    }
+
     /**
      * Returns the related Spanish word for the number zero ('0').
      *
@@ -212,6 +686,18 @@ public class Spanish
         return "cero";
     }
 
+    /**
+     * Returns the related Spanish word for the conjunction between the units
+     * and the minor units of an amount.
+     *
+     * @return always the text string &quot;con&quot;
+     */
+    @Override
+    protected String getMoneyConjunction()
+    {
+        return "con";
+    }
+
     /**
      * Returns the related Spanish word for &quot;minus&quot; needed for
      * negative numbers.
@@ -225,16 +711,53 @@ public class Spanish
     }
 
     /**
-     * {@inheritDoc}
+     * Returns the Spanish preposition &quot;de&quot; for amounts with whole
+     * millions (e.g. &quot;un mill\u00F3n de soles&quot;).
+     *
+     * @param _units    units of the amount (not negative)
+     * @return &quot;de&quot; for whole millions; otherwise an empty string
      */
     @Override
-    public String convert(final long _number)
+    protected String getMoneyPreposition(final long _units)
     {
-        final StringBuilder ret = new StringBuilder();
-        ret.append(super.convert(_number));
-        if (Long.valueOf(_number).toString().endsWith("1") && _number!=11 && _number!=-11) {
-            ret.append("o");
+        return _units != 0 && _units % 1_000_000 == 0 ? "de" : "";
+    }
+
+    /**
+     * Defines the Spanish words for the parser. Additionally to the words of
+     * the converter the full and female forms, the hundred numbers, the
+     * singular power names and the conjunction &quot;y&quot; are defined.
+     *
+     * @param _builder  builder of the parser
+     */
+    @Override
+    protected void defineTokens(final DecimalParser.Builder _builder)
+    {
+        super.defineTokens(_builder);
+        _builder.addIgnored("y").addNumber("cien", 100);
+        for (int number = 1; number < Spanish.FULL_NUM_NAMES.length; number++)  {
+            _builder.addNumber(Spanish.FULL_NUM_NAMES[number], number)
+                            .addNumber(Spanish.FEMALE_NUM_NAMES[number], number);
         }
-        return ret.toString();
+        for (int hundreds = 1; hundreds < Spanish.HUNDREDS_NAMES.length; hundreds++)  {
+            _builder.addNumber(Spanish.HUNDREDS_NAMES[hundreds], hundreds * 100)
+                            .addNumber(Spanish.FEMALE_HUNDREDS_NAMES[hundreds], hundreds * 100);
+        }
+        long scale = 1;
+        for (int power = 0; power < Spanish.SINGLE_POWER_NAMES.length; power++)  {
+            scale *= 1000;
+            _builder.addPowerName(getSinglePowerName(power), scale);
+        }
+    }
+
+    /**
+     * Returns the locale of the Spanish language.
+     *
+     * @return <code>new Locale(&quot;es&quot;)</code>
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return new Locale("es");
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.converters;
+
+import java.util.Locale;
+
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.IConverterProvider;
+import org.efaps.number2words.IParser;
+
+/**
+ * Provider of the converters for the Spanish language. The class
+ * {@link Spanish} is loaded only if the converter is requested the first time.
+ *
+ * @author The eFaps Team
+ */
+public class SpanishProvider
+    implements IConverterProvider
+{
+    /**
+     * Returns the locale for the Spanish language.
+     *
+     * @return Spanish locale
+     */
+    @Override
+    public Locale getLocale()
+    {
+        return new Locale("es");
+    }
+
+    /**
+     * Returns the shared Spanish converter for male numbers.
+     *
+     * @return Spanish converter
+     */
+    @Override
+    public IConverter getMaleConverter()
+    {
+        return Holder.MALE;
+    }
+
+    /**
+     * Returns the shared Spanish converter for female numbers.
+     *
+     * @return Spanish female converter
+     */
+    @Override
+    public IConverter getFemaleConverter()
+    {
+        return Holder.FEMALE;
+    }
+
+    /**
+     * Returns the shared Spanish parser.
+     *
+     * @return Spanish parser
+     */
+    @Override
+    public IParser getParser()
+    {
+        return ParserHolder.PARSER;
+    }
+
+    /**
+     * Initialization-on-demand holder of the shared converters.
+     */
+    private static final class Holder
+    {
+        /**
+         * Shared Spanish converter for male numbers.
+         */
+        private static final IConverter MALE = new Spanish();
+
+        /**
+         * Shared Spanish converter for female numbers.
+         */
+        private static final IConverter FEMALE = new Spanish(Gender.FEMALE);
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private Holder()
+        {
+        }
+    }
+
+    /**
+     * Initialization-on-demand holder of the shared parser, so that the
+     * parser is only compiled if it is requested the first time.
+     */
+    private static final class ParserHolder
+    {
+        /**
+         * Shared Spanish parser.
+         */
+        private static final IParser PARSER = DecimalParser.compile(new Spanish());
+
+        /**
+         * Private constructor to make a holder.
+         */
+        private ParserHolder()
+        {
+        }
+    }
+}
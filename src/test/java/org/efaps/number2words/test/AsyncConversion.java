@@ -0,0 +1,463 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.efaps.number2words.ConversionProcessor;
+import org.efaps.number2words.ConversionRequest;
+import org.efaps.number2words.ConversionResult;
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.Gender;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the asynchronous conversion with the
+ * {@link ConversionProcessor}.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class AsyncConversion
+{
+    /**
+     * Locales and genders of the requests.
+     */
+    private static final Object[][] LANGUAGES = {
+        {Locale.ENGLISH, Gender.MALE},
+        {Locale.GERMAN, Gender.NEUTER},
+        {new Locale("es"), Gender.FEMALE}};
+
+    /**
+     * Test the conversion on an executor with a slow subscriber: all results
+     * are published in the order of the requests and the demand of both
+     * sides is honoured.
+     *
+     * @throws Exception if the conversion failed
+     */
+    @Test
+    public void convert()
+        throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try  {
+            AsyncConversion.assertConversion(new ConversionProcessor(executor, 64), 10_000, 100);
+        } finally  {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test the conversion on the common pool with an unbounded demand.
+     *
+     * @throws Exception if the conversion failed
+     */
+    @Test
+    public void unbounded()
+        throws Exception
+    {
+        AsyncConversion.assertConversion(new ConversionProcessor(), 5_000, Long.MAX_VALUE);
+    }
+
+    /**
+     * Test the conversion on virtual threads if the runtime supports them.
+     *
+     * @throws Exception if the conversion failed
+     */
+    @Test
+    public void virtualThreads()
+        throws Exception
+    {
+        if (ConversionProcessor.isVirtualThreadsSupported())  {
+            AsyncConversion.assertConversion(ConversionProcessor.withVirtualThreads(32), 5_000, 10);
+        } else  {
+            Assert.assertThrows(UnsupportedOperationException.class, () -> ConversionProcessor.withVirtualThreads(32));
+        }
+    }
+
+    /**
+     * Test that a request for an unsupported language fails the processor
+     * and cancels the upstream.
+     *
+     * @throws Exception if the test was interrupted
+     */
+    @Test
+    public void unsupportedLanguage()
+        throws Exception
+    {
+        final ConversionProcessor processor = new ConversionProcessor();
+        final RequestPublisher publisher = new RequestPublisher(new ConversionRequest(1, Locale.ENGLISH),
+                        new ConversionRequest(2, new Locale("xx")), new ConversionRequest(3, Locale.ENGLISH));
+        final ResultCollector collector = new ResultCollector(10);
+        publisher.subscribe(processor);
+        processor.subscribe(collector);
+        AsyncConversion.assertFailure(collector, IllegalArgumentException.class);
+        Assert.assertTrue(publisher.cancelled.get(), "test upstream cancelled");
+    }
+
+    /**
+     * Test that an invalid demand of the subscriber fails the processor.
+     *
+     * @throws Exception if the test was interrupted
+     */
+    @Test
+    public void invalidDemand()
+        throws Exception
+    {
+        final ConversionProcessor processor = new ConversionProcessor();
+        final RequestPublisher publisher = AsyncConversion.requests(10);
+        final ResultCollector collector = new ResultCollector(0);
+        publisher.subscribe(processor);
+        processor.subscribe(collector);
+        AsyncConversion.assertFailure(collector, IllegalArgumentException.class);
+        Assert.assertTrue(publisher.cancelled.get(), "test upstream cancelled");
+    }
+
+    /**
+     * Test that only one subscriber is supported.
+     *
+     * @throws Exception if the test was interrupted
+     */
+    @Test
+    public void secondSubscriber()
+        throws Exception
+    {
+        final ConversionProcessor processor = new ConversionProcessor();
+        processor.subscribe(new ResultCollector(1));
+        final ResultCollector second = new ResultCollector(1);
+        processor.subscribe(second);
+        AsyncConversion.assertFailure(second, IllegalStateException.class);
+    }
+
+    /**
+     * Test that the cancellation of the subscriber cancels the upstream.
+     *
+     * @throws Exception if the test was interrupted
+     */
+    @Test
+    public void cancel()
+        throws Exception
+    {
+        final ConversionProcessor processor = new ConversionProcessor(Runnable::run, 8);
+        final RequestPublisher publisher = AsyncConversion.requests(1_000);
+        final ResultCollector collector = new ResultCollector(5, 5);
+        publisher.subscribe(processor);
+        processor.subscribe(collector);
+        collector.subscription.cancel();
+        Assert.assertTrue(publisher.cancelled.get(), "test upstream cancelled");
+        Assert.assertEquals(collector.results.size(), 5, "test only requested results");
+        Assert.assertFalse(collector.future.isDone(), "test no terminal signal");
+    }
+
+    /**
+     * Converts <code>_count</code> requests with the <code>_processor</code>
+     * and checks the results and the demand.
+     *
+     * @param _processor    processor to test
+     * @param _count        number of requests
+     * @param _chunk        number of results requested at once by the
+     *                      subscriber
+     * @throws Exception if the conversion failed
+     */
+    private static void assertConversion(final ConversionProcessor _processor,
+                                         final int _count,
+                                         final long _chunk)
+        throws Exception
+    {
+        final RequestPublisher publisher = AsyncConversion.requests(_count);
+        final ResultCollector collector = new ResultCollector(_chunk);
+        publisher.subscribe(_processor);
+        _processor.subscribe(collector);
+        final List<ConversionResult> results = collector.future.get(60, TimeUnit.SECONDS);
+        Assert.assertEquals(results.size(), _count, "test all results");
+        for (int i = 0; i < _count; i++)  {
+            final ConversionRequest request = results.get(i).getRequest();
+            Assert.assertSame(request, publisher.requests[i], "test order");
+            Assert.assertEquals(results.get(i).getText(),
+                            Converter.getConverter(request.getLocale(), request.getGender())
+                                            .convert(request.getNumber()),
+                            "test '" + request + "'");
+        }
+        Assert.assertFalse(collector.overflow.get(), "test downstream demand");
+        Assert.assertTrue(publisher.maxOutstanding.get() <= _processor.getBatchSize(),
+                        "test upstream demand " + publisher.maxOutstanding.get());
+    }
+
+    /**
+     * Waits for the failure of the <code>_collector</code> and checks the
+     * class of the error.
+     *
+     * @param _collector    collector which must fail
+     * @param _errorClass   expected class of the error
+     * @throws Exception if the test was interrupted
+     */
+    private static void assertFailure(final ResultCollector _collector,
+                                      final Class<? extends Throwable> _errorClass)
+        throws Exception
+    {
+        try  {
+            _collector.future.get(60, TimeUnit.SECONDS);
+            Assert.fail("the conversion must fail");
+        } catch (final ExecutionException e)  {
+            Assert.assertEquals(e.getCause().getClass(), _errorClass);
+        }
+    }
+
+    /**
+     * Returns a publisher of <code>_count</code> requests with all
+     * languages.
+     *
+     * @param _count    number of requests
+     * @return publisher of the requests
+     */
+    private static RequestPublisher requests(final int _count)
+    {
+        final ConversionRequest[] requests = new ConversionRequest[_count];
+        for (int i = 0; i < _count; i++)  {
+            final Object[] language = AsyncConversion.LANGUAGES[i % AsyncConversion.LANGUAGES.length];
+            requests[i] = new ConversionRequest((long) i * i * 7919 - i, (Locale) language[0], (Gender) language[1]);
+        }
+        return new RequestPublisher(requests);
+    }
+
+    /**
+     * Publisher of requests which emits on demand and records the maximum of
+     * the outstanding demand.
+     */
+    private static final class RequestPublisher
+        implements Flow.Publisher<ConversionRequest>
+    {
+        /**
+         * Requests to publish.
+         */
+        private final ConversionRequest[] requests;
+
+        /**
+         * Total number of demanded requests.
+         */
+        private final AtomicLong demanded = new AtomicLong();
+
+        /**
+         * Number of published requests.
+         */
+        private final AtomicLong published = new AtomicLong();
+
+        /**
+         * Maximum number of demanded but not yet published requests.
+         */
+        private final AtomicLong maxOutstanding = new AtomicLong();
+
+        /**
+         * Counter of pending emits.
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * Is the subscription cancelled?
+         */
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        /**
+         * Creates the publisher.
+         *
+         * @param _requests requests to publish
+         */
+        RequestPublisher(final ConversionRequest... _requests)
+        {
+            this.requests = _requests;
+        }
+
+        /**
+         * Subscribes the subscriber of the requests.
+         *
+         * @param _subscriber   subscriber of the requests
+         */
+        @Override
+        public void subscribe(final Flow.Subscriber<? super ConversionRequest> _subscriber)
+        {
+            _subscriber.onSubscribe(new Flow.Subscription()
+            {
+                @Override
+                public void request(final long _count)
+                {
+                    final long outstanding = RequestPublisher.this.demanded.addAndGet(_count)
+                                    - RequestPublisher.this.published.get();
+                    RequestPublisher.this.maxOutstanding.accumulateAndGet(outstanding, Math::max);
+                    RequestPublisher.this.emit(_subscriber);
+                }
+
+                @Override
+                public void cancel()
+                {
+                    RequestPublisher.this.cancelled.set(true);
+                }
+            });
+        }
+
+        /**
+         * Publishes the requests while there is demand.
+         *
+         * @param _subscriber   subscriber of the requests
+         */
+        private void emit(final Flow.Subscriber<? super ConversionRequest> _subscriber)
+        {
+            if (this.wip.getAndIncrement() == 0)  {
+                do  {
+                    while (!this.cancelled.get() && this.published.get() < this.demanded.get()
+                                    && this.published.get() < this.requests.length)  {
+                        _subscriber.onNext(this.requests[(int) this.published.getAndIncrement()]);
+                    }
+                    if (!this.cancelled.get() && this.published.get() == this.requests.length)  {
+                        this.cancelled.set(true);
+                        _subscriber.onComplete();
+                    }
+                } while (this.wip.decrementAndGet() != 0);
+            }
+        }
+    }
+
+    /**
+     * Subscriber which collects the results and requests them in chunks up
+     * to a limit.
+     */
+    private static final class ResultCollector
+        implements Flow.Subscriber<ConversionResult>
+    {
+        /**
+         * Number of results requested at once.
+         */
+        private final long chunk;
+
+        /**
+         * Maximum number of requested results.
+         */
+        private final long limit;
+
+        /**
+         * Collected results.
+         */
+        private final List<ConversionResult> results = new ArrayList<>();
+
+        /**
+         * Completed with the results or with the error.
+         */
+        private final CompletableFuture<List<ConversionResult>> future = new CompletableFuture<>();
+
+        /**
+         * Was more published than requested?
+         */
+        private final AtomicBoolean overflow = new AtomicBoolean();
+
+        /**
+         * Total number of requested results.
+         */
+        private long requested;
+
+        /**
+         * Subscription of the processor.
+         */
+        private Flow.Subscription subscription;
+
+        /**
+         * Creates the collector without limit.
+         *
+         * @param _chunk    number of results requested at once
+         */
+        ResultCollector(final long _chunk)
+        {
+            this(_chunk, Long.MAX_VALUE);
+        }
+
+        /**
+         * Creates the collector.
+         *
+         * @param _chunk    number of results requested at once
+         * @param _limit    maximum number of requested results
+         */
+        ResultCollector(final long _chunk,
+                        final long _limit)
+        {
+            this.chunk = _chunk;
+            this.limit = _limit;
+        }
+
+        /**
+         * Requests the first chunk.
+         *
+         * @param _subscription subscription of the processor
+         */
+        @Override
+        public void onSubscribe(final Flow.Subscription _subscription)
+        {
+            this.subscription = _subscription;
+            this.requested = this.chunk;
+            _subscription.request(this.chunk);
+        }
+
+        /**
+         * Collects the result and requests the next chunk if the last chunk
+         * is completely received and the limit is not reached.
+         *
+         * @param _result   result to collect
+         */
+        @Override
+        public void onNext(final ConversionResult _result)
+        {
+            this.results.add(_result);
+            if (this.results.size() > this.requested)  {
+                this.overflow.set(true);
+            }
+            if (this.results.size() == this.requested && this.requested < this.limit)  {
+                this.requested += this.chunk;
+                this.subscription.request(this.chunk);
+            }
+        }
+
+        /**
+         * Completes the future with the error.
+         *
+         * @param _error    error of the processor
+         */
+        @Override
+        public void onError(final Throwable _error)
+        {
+            this.future.completeExceptionally(_error);
+        }
+
+        /**
+         * Completes the future with the results.
+         */
+        @Override
+        public void onComplete()
+        {
+            this.future.complete(this.results);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.Random;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the conversion of numbers of arbitrary size.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class BigNumbers
+{
+    /**
+     * Test the convert of big numbers.
+     *
+     * @param _locale   locale of the converter
+     * @param _number   number to check
+     * @param _text     expected conversion
+     */
+    @Test(dataProvider = "bigNumbers")
+    public void convert(final Locale _locale,
+                        final BigInteger _number,
+                        final String _text)
+    {
+        final IConverter converter = Converter.getMaleConverter(_locale);
+        Assert.assertEquals(converter.convert(_number), _text, "test '" + _number + "'");
+        Assert.assertEquals(converter.convert(_number.negate()), converter.convert(-1L).replaceAll(" .*", "")
+                        + " " + _text, "test '-" + _number + "'");
+    }
+
+    /**
+     * Test that numbers in the range of long are converted like longs.
+     *
+     * @param _locale   locale of the converter
+     */
+    @Test(dataProvider = "locales")
+    public void convertLongRange(final Locale _locale)
+    {
+        final IConverter converter = Converter.getMaleConverter(_locale);
+        final Random random = new Random(4711);
+        for (int i = 0; i < 1000; i++)  {
+            final long number = random.nextLong() >> random.nextInt(63);
+            Assert.assertEquals(converter.convert(BigInteger.valueOf(number)), converter.convert(number),
+                            "test '" + number + "'");
+        }
+    }
+
+    /**
+     * Test that a number with thousands of digits (converted in parallel)
+     * is the same as the concatenation of the words of each group of three
+     * digits.
+     *
+     * @param _locale   locale of the converter
+     */
+    @Test(dataProvider = "locales")
+    public void convertHuge(final Locale _locale)
+    {
+        final IConverter converter = Converter.getMaleConverter(_locale);
+        final BigInteger number = new BigInteger(20_000, new Random(4711));
+        final StringBuilder expected = new StringBuilder();
+        final BigInteger thousand = BigInteger.valueOf(1000);
+        BigInteger rest = number;
+        for (int power = 0; rest.signum() > 0; power++)  {
+            final BigInteger[] division = rest.divideAndRemainder(thousand);
+            if (division[1].signum() != 0)  {
+                final String group = converter.convert(division[1].multiply(thousand.pow(power)));
+                expected.insert(0, expected.length() > 0 ? group + " " : group);
+            }
+            rest = division[0];
+        }
+        Assert.assertEquals(converter.convert(number), expected.toString(), "test huge number");
+    }
+
+    /**
+     * Returns the locales of the converters to test.
+     *
+     * @return locale test data
+     */
+    @DataProvider(name = "locales")
+    public Object[][] localesTestData()
+    {
+        return new Object[][] {
+            {Locale.ENGLISH},
+            {Locale.GERMAN},
+            {new Locale("es")},
+            {Locale.FRENCH},
+            {new Locale("da")},
+        };
+    }
+
+    /**
+     * Returns the test data of big numbers and the expected converted text.
+     *
+     * @return big numbers test data
+     */
+    @DataProvider(name = "bigNumbers")
+    public Object[][] bigNumbersTestData()
+    {
+        return new Object[][] {
+            {Locale.ENGLISH, BigInteger.TEN.pow(21), "one sextillion"},
+            {Locale.ENGLISH, BigInteger.TEN.pow(33).multiply(BigInteger.valueOf(42)), "forty-two decillion"},
+            {Locale.ENGLISH, BigInteger.TEN.pow(36), "one undecillion"},
+            {Locale.ENGLISH, BigInteger.TEN.pow(303), "one centillion"},
+            {Locale.ENGLISH, BigInteger.TEN.pow(3003), "one millinillion"},
+            {Locale.ENGLISH, new BigInteger("12345678901234567890123"), "twelve sextillion "
+                            + "three hundred forty-five quintillion "
+                            + "six hundred seventy-eight quadrillion "
+                            + "nine hundred one trillion "
+                            + "two hundred thirty-four billion "
+                            + "five hundred sixty-seven million "
+                            + "eight hundred ninety thousand "
+                            + "one hundred twenty-three"},
+            {Locale.GERMAN, BigInteger.TEN.pow(21), "eine Trilliarde"},
+            {Locale.GERMAN, BigInteger.TEN.pow(21).multiply(BigInteger.valueOf(2)), "zwei Trilliarden"},
+            {Locale.GERMAN, BigInteger.TEN.pow(24), "eine Quadrillion"},
+            {Locale.GERMAN, BigInteger.TEN.pow(24).multiply(BigInteger.valueOf(7)).add(BigInteger.ONE),
+                "sieben Quadrillionen ein"},
+            {Locale.GERMAN, BigInteger.TEN.pow(60), "eine Dezillion"},
+            {new Locale("es"), BigInteger.TEN.pow(21), "mil trill\u00F3nes"},
+            {new Locale("es"), BigInteger.TEN.pow(24), "un cuatrill\u00F3n"},
+            {new Locale("es"), BigInteger.TEN.pow(24).multiply(BigInteger.valueOf(2)).add(BigInteger.valueOf(21)),
+                "dos cuatrill\u00F3nes veintiuno"},
+            {new Locale("es"), BigInteger.TEN.pow(27).multiply(BigInteger.valueOf(5)), "cinco mil cuatrill\u00F3nes"},
+            {Locale.FRENCH, BigInteger.TEN.pow(21), "un trilliard"},
+            {Locale.FRENCH, BigInteger.TEN.pow(24).multiply(BigInteger.valueOf(80)), "quatre-vingts quadrillions"},
+            {new Locale("da"), BigInteger.TEN.pow(21), "en trilliard"},
+            {new Locale("da"), BigInteger.TEN.pow(24).multiply(BigInteger.valueOf(2)).add(BigInteger.ONE),
+                "to quadrillioner og en"},
+        };
+    }
+}
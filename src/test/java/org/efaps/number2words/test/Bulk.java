@@ -0,0 +1,117 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.efaps.number2words.BulkConverter;
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the bulk conversion of numbers to words.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Bulk
+{
+    /**
+     * Test that the bulk conversion of an array returns the same words in
+     * the same order as the conversion of each number.
+     *
+     * @param _locale   locale of the converter to test
+     */
+    @Test(dataProvider = "locales")
+    public void convertAll(final Locale _locale)
+    {
+        final IConverter converter = Converter.getMaleConverter(_locale);
+        final long[] numbers = new Random(4711).longs(10_000, -1_000_000_000_000L, 1_000_000_000_000L).toArray();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try  {
+            final String[] texts = new BulkConverter(converter, pool, 100).convertAll(numbers);
+            Assert.assertEquals(texts.length, numbers.length, "test length for '" + _locale + "'");
+            for (int i = 0; i < numbers.length; i++)  {
+                Assert.assertEquals(texts[i], converter.convert(numbers[i]), "test '" + numbers[i] + "'");
+            }
+        } finally  {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test that the bulk conversion of a stream keeps the order.
+     *
+     * @param _locale   locale of the converter to test
+     */
+    @Test(dataProvider = "locales")
+    public void convertStream(final Locale _locale)
+    {
+        final IConverter converter = Converter.getMaleConverter(_locale);
+        Assert.assertEquals(converter.convert(LongStream.rangeClosed(-5_000, 5_000)).collect(Collectors.toList()),
+                        LongStream.rangeClosed(-5_000, 5_000).mapToObj(converter::convert)
+                                        .collect(Collectors.toList()),
+                        "test stream for '" + _locale + "'");
+    }
+
+    /**
+     * Test that the stream is converted lazily, so that also an unbounded
+     * stream could be converted, and that chunks bigger than the threshold
+     * keep the order.
+     */
+    @Test
+    public void convertUnboundedStream()
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try  {
+            final BulkConverter bulk = new BulkConverter(converter, pool, 16);
+            Assert.assertEquals(bulk.convert(LongStream.iterate(0, number -> number + 1)).skip(100).limit(3)
+                            .collect(Collectors.toList()),
+                            LongStream.range(100, 103).mapToObj(converter::convert).collect(Collectors.toList()),
+                            "test unbounded stream");
+            Assert.assertEquals(bulk.convert(LongStream.range(0, 1_000)).collect(Collectors.toList()),
+                            LongStream.range(0, 1_000).mapToObj(converter::convert).collect(Collectors.toList()),
+                            "test chunks");
+        } finally  {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the locales of the converters to test.
+     *
+     * @return locale test data
+     */
+    @DataProvider(name = "locales")
+    public Object[][] localesTestData()
+    {
+        return new Object[][] {
+            {Locale.ENGLISH},
+            {Locale.GERMAN},
+            {new Locale("es")},
+        };
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import org.efaps.number2words.CachingConverter;
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the conversion of numbers to encoded bytes.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Bytes
+{
+    /**
+     * Test that the written bytes are the same as the encoded words.
+     *
+     * @param _locale   locale of the converter to test
+     * @param _charset  charset of the bytes
+     * @throws IOException if the bytes could not be written
+     */
+    @Test(dataProvider = "charsets")
+    public void sameBytes(final Locale _locale,
+                          final Charset _charset)
+        throws IOException
+    {
+        final IConverter converter = Converter.getMaleConverter(_locale);
+        final ByteBuffer heap = ByteBuffer.allocate(512);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(512);
+        final Random random = new Random(4711);
+        for (int i = 0; i < 20_000; i++)  {
+            final long number = i < 3_000 ? i - 1_500 : random.nextLong() >> random.nextInt(63);
+            if (number == Long.MIN_VALUE)  {
+                continue;
+            }
+            final byte[] expected = converter.convert(number).getBytes(_charset);
+            for (final ByteBuffer buffer : new ByteBuffer[] {heap, direct})  {
+                buffer.clear();
+                Assert.assertEquals(converter.convertTo(number, buffer, _charset), expected.length,
+                                "test length '" + number + "'");
+                buffer.flip();
+                final byte[] written = new byte[buffer.remaining()];
+                buffer.get(written);
+                Assert.assertTrue(Arrays.equals(written, expected), "test bytes '" + number + "'");
+            }
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            Assert.assertEquals(converter.convertTo(number, stream, _charset), expected.length,
+                            "test stream length '" + number + "'");
+            Assert.assertTrue(Arrays.equals(stream.toByteArray(), expected), "test stream '" + number + "'");
+        }
+    }
+
+    /**
+     * Test that nothing is written if the buffer is too small and the
+     * needed size is returned.
+     */
+    @Test
+    public void bufferTooSmall()
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.GERMAN);
+        final byte[] expected = "f\u00FCnf".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocate(expected.length - 1);
+        Assert.assertEquals(converter.convertTo(5, buffer), -expected.length);
+        Assert.assertEquals(buffer.position(), 0);
+        final ByteBuffer larger = ByteBuffer.allocate(-converter.convertTo(5, buffer));
+        Assert.assertEquals(converter.convertTo(5, larger), expected.length);
+        Assert.assertTrue(Arrays.equals(larger.array(), expected));
+    }
+
+    /**
+     * Test that the caching converter writes the same bytes.
+     */
+    @Test
+    public void caching()
+    {
+        final IConverter converter = new CachingConverter(Converter.getMaleConverter(new Locale("es")), 16);
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        Assert.assertEquals(converter.convertTo(16, buffer, StandardCharsets.ISO_8859_1), 9);
+        Assert.assertEquals(new String(buffer.array(), 0, 9, StandardCharsets.ISO_8859_1), "diecis\u00E9is");
+    }
+
+    /**
+     * Returns the locales of the converters with the charsets to test.
+     *
+     * @return charset test data
+     */
+    @DataProvider(name = "charsets")
+    public Object[][] charsetsTestData()
+    {
+        final Locale spanish = new Locale("es");
+        return new Object[][] {
+            {Locale.ENGLISH, StandardCharsets.UTF_8},
+            {Locale.GERMAN, StandardCharsets.UTF_8},
+            {spanish, StandardCharsets.UTF_8},
+            {Locale.GERMAN, StandardCharsets.ISO_8859_1},
+            {spanish, StandardCharsets.ISO_8859_1},
+            {Locale.GERMAN, StandardCharsets.UTF_16BE},
+        };
+    }
+}
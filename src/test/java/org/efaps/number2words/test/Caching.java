@@ -0,0 +1,223 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.efaps.number2words.CachingConverter;
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the caching decorator of the converters.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Caching
+{
+    /**
+     * Test that the cached words are the same as the words of the decorated
+     * converter also if entries are evicted.
+     *
+     * @param _locale   locale of the converter to test
+     */
+    @Test(dataProvider = "locales")
+    public void sameWords(final Locale _locale)
+    {
+        final IConverter converter = Converter.getMaleConverter(_locale);
+        final CachingConverter cache = new CachingConverter(converter, 64);
+        final Random random = new Random(4711);
+        for (int i = 0; i < 10_000; i++)  {
+            final long number = random.nextInt(500) - 250;
+            Assert.assertEquals(cache.convert(number), converter.convert(number), "test '" + number + "'");
+            Assert.assertEquals(cache.convertTo(number, new StringBuilder()).toString(), converter.convert(number),
+                            "test builder '" + number + "'");
+        }
+        Assert.assertTrue(cache.getEvictionCount() > 0, "test evictions");
+        Assert.assertTrue(cache.size() <= cache.getCapacity(), "test size");
+        Assert.assertEquals(cache.getCapacity(), 64, "test capacity");
+    }
+
+    /**
+     * Test the hit and miss counters.
+     */
+    @Test
+    public void counters()
+    {
+        final CachingConverter cache = new CachingConverter(Converter.getMaleConverter(Locale.ENGLISH), 1024);
+        Assert.assertEquals(cache.getHitRate(), 0.0);
+        cache.convert(42);
+        cache.convert(42);
+        cache.convert(42);
+        cache.convert(4711);
+        Assert.assertEquals(cache.getMissCount(), 2, "test misses");
+        Assert.assertEquals(cache.getHitCount(), 2, "test hits");
+        Assert.assertEquals(cache.getEvictionCount(), 0, "test evictions");
+        Assert.assertEquals(cache.getHitRate(), 0.5, "test hit rate");
+        Assert.assertEquals(cache.size(), 2, "test size");
+    }
+
+    /**
+     * Test that concurrent threads get always the right words.
+     *
+     * @throws Exception if a thread failed
+     */
+    @Test
+    public void concurrent()
+        throws Exception
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.GERMAN);
+        final CachingConverter cache = new CachingConverter(converter, 128);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try  {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++)  {
+                final long seed = thread;
+                futures.add(executor.submit(() -> {
+                    final Random random = new Random(seed);
+                    for (int i = 0; i < 20_000; i++)  {
+                        final long number = random.nextInt(1000);
+                        Assert.assertEquals(cache.convert(number), converter.convert(number));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures)  {
+                future.get();
+            }
+        } finally  {
+            executor.shutdown();
+        }
+        Assert.assertEquals(cache.getHitCount() + cache.getMissCount(), 80_000, "test counters");
+    }
+
+    /**
+     * Test that concurrent misses of the same numbers store each number only
+     * once.
+     *
+     * @throws Exception if a thread failed
+     */
+    @Test
+    public void concurrentSameNumbers()
+        throws Exception
+    {
+        final CachingConverter cache = new CachingConverter(Converter.getMaleConverter(Locale.ENGLISH), 4096);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try  {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++)  {
+                futures.add(executor.submit(() -> {
+                    for (long number = 0; number < 100; number++)  {
+                        cache.convert(number);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures)  {
+                future.get();
+            }
+        } finally  {
+            executor.shutdown();
+        }
+        Assert.assertEquals(cache.size(), 100, "test size");
+    }
+
+    /**
+     * Test that the capacity is rounded up to a power of two.
+     */
+    @Test
+    public void capacity()
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+        Assert.assertEquals(new CachingConverter(converter, 1500).getCapacity(), 2048, "test rounded up");
+        Assert.assertEquals(new CachingConverter(converter, 1024).getCapacity(), 1024, "test power of two");
+        Assert.assertEquals(new CachingConverter(converter, 1).getCapacity(), 8, "test probe window");
+    }
+
+    /**
+     * Test that a converter which implements only the abstract methods of
+     * the interface (like converters written for former versions) gets the
+     * default methods and could be decorated.
+     *
+     * @throws IOException if the words could not be appended
+     */
+    @Test
+    public void minimalConverter()
+        throws IOException
+    {
+        final IConverter minimal = new IConverter()
+        {
+            @Override
+            public String convert(final long _number)
+            {
+                return "#" + _number;
+            }
+
+            @Override
+            public boolean isDecimal()
+            {
+                return true;
+            }
+
+            @Override
+            public boolean usesShortScale()
+            {
+                return true;
+            }
+        };
+        Assert.assertEquals(minimal.convertTo(42, new StringBuilder(">")).toString(), ">#42", "test builder");
+        Assert.assertEquals(minimal.convertTo(42, (Appendable) new StringBuilder(">")).toString(), ">#42",
+                        "test appendable");
+        Assert.assertEquals(minimal.getLocale(), Locale.ROOT, "test locale");
+        Assert.assertEquals(new CachingConverter(minimal, 16).convert(42), "#42", "test cached");
+    }
+
+    /**
+     * Test that a cache without entries is rejected.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidSize()
+    {
+        new CachingConverter(Converter.getMaleConverter(Locale.ENGLISH), 0);
+    }
+
+    /**
+     * Returns the locales of the converters to test.
+     *
+     * @return locale test data
+     */
+    @DataProvider(name = "locales")
+    public Object[][] localesTestData()
+    {
+        return new Object[][] {
+            {Locale.ENGLISH},
+            {Locale.GERMAN},
+            {new Locale("es")},
+        };
+    }
+}
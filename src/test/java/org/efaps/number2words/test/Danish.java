@@ -0,0 +1,188 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.util.Locale;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for Danish conversion of numbers to words.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Danish
+{
+    /**
+     * Tests the convert for Danish language.
+     *
+     * @param _number   Danish number to check
+     * @param _text     expected conversion
+     */
+    @Test(dataProvider = "danish")
+    public void danishPositive(final long _number,
+                               final String _text)
+    {
+        final IConverter converter = Converter.getMaleConverter(new Locale("da"));
+        Assert.assertEquals(converter.convert(_number), _text, "test '" + _number + "'");
+        Assert.assertEquals(converter.usesShortScale(), false, "check Danish uses long scale");
+        Assert.assertEquals(converter.isDecimal(), true, "check Danish uses decimal system");
+    }
+
+    /**
+     * Test the convert for Danish language where the <code>_number</code> is
+     * interpreted as negative number.
+     *
+     * @param _number   Danish number to check
+     * @param _text     expected conversion
+     */
+    @Test(dataProvider = "danish")
+    public void danishNegative(final long _number,
+                               final String _text)
+    {
+        final IConverter converter = Converter.getMaleConverter(new Locale("da"));
+        if (_number > 0)  {
+            Assert.assertEquals(converter.convert(-1 * _number), "minus " + _text, "test '-" + _number + "'");
+        } else  {
+            Assert.assertEquals(converter.convert(_number), _text, "test '" + _number + "'");
+        }
+    }
+
+    /**
+     * Tests the full range from 21 till 99: the units are written in front
+     * of the tens joined with &quot;og&quot;.
+     */
+    @Test
+    public void danishUnitsBeforeTens()
+    {
+        final IConverter converter = Converter.getMaleConverter(new Locale("da"));
+        for (int number = 21; number < 100; number++)  {
+            if (number % 10 != 0)  {
+                Assert.assertEquals(converter.convert(number),
+                                converter.convert(number % 10) + "og" + converter.convert(number - number % 10),
+                                "test '" + number + "'");
+            }
+        }
+    }
+
+    /**
+     * Tests the convert of neuter numbers for Danish language.
+     *
+     * @param _number   number to check
+     * @param _text     expected conversion in Danish words
+     */
+    @Test(dataProvider = "danishNeuter")
+    public void danishNeuter(final long _number,
+                             final String _text)
+    {
+        Assert.assertEquals(Converter.getNeuterConverter(new Locale("da")).convert(_number), _text,
+                        "test '" + _number + "'");
+    }
+
+    /**
+     * Tests that Danish female numbers are written as male numbers (common
+     * gender).
+     */
+    @Test
+    public void danishFemale()
+    {
+        Assert.assertSame(Converter.getFemaleConverter(new Locale("da")),
+                        Converter.getMaleConverter(new Locale("da")));
+    }
+
+    /**
+     * Returns the Danish test data as an array of an array of integer and the
+     * related converted text.
+     *
+     * @return Danish test data
+     */
+    @DataProvider(name = "danish")
+    public Object[][] danishTestData()
+    {
+        return new Object[][] {
+            {0L, "nul"},
+            {1L, "en"},
+            {2L, "to"},
+            {11L, "elleve"},
+            {20L, "tyve"},
+            {21L, "enogtyve"},
+            {30L, "tredive"},
+            {40L, "fyrre"},
+            {50L, "halvtreds"},
+            {55L, "femoghalvtreds"},
+            {60L, "tres"},
+            {70L, "halvfjerds"},
+            {80L, "firs"},
+            {90L, "halvfems"},
+            {99L, "nioghalvfems"},
+            {100L, "et hundrede"},
+            {101L, "et hundrede og en"},
+            {199L, "et hundrede og nioghalvfems"},
+            {200L, "to hundrede"},
+            {1000L, "et tusind"},
+            {1001L, "et tusind og en"},
+            {1099L, "et tusind og nioghalvfems"},
+            {1100L, "et tusind et hundrede"},
+            {1101L, "et tusind et hundrede og en"},
+            {2000L, "to tusind"},
+            {21000L, "enogtyve tusind"},
+            {101000L, "et hundrede og et tusind"},
+            {1000000L, "en million"},
+            {1000001L, "en million og en"},
+            {2000000L, "to millioner"},
+            {2000021L, "to millioner og enogtyve"},
+            {1000000000L, "en milliard"},
+            {3000000000L, "tre milliarder"},
+            {1000000000000L, "en billion"},
+            {1000000000000000L, "en billiard"},
+            {1000000000000000000L, "en trillion"},
+            {9221371031854775807L, "ni trillioner "
+                                + "to hundrede og enogtyve billiarder "
+                                + "tre hundrede og enoghalvfjerds billioner "
+                                + "enogtredive milliarder "
+                                + "otte hundrede og fireoghalvtreds millioner "
+                                + "syv hundrede og femoghalvfjerds tusind "
+                                + "otte hundrede og syv"},
+        };
+    }
+
+    /**
+     * Returns the Danish test data for neuter numbers.
+     *
+     * @return Danish neuter test data
+     */
+    @DataProvider(name = "danishNeuter")
+    public Object[][] danishNeuterTestData()
+    {
+        return new Object[][] {
+            {1, "et"},
+            {11, "elleve"},
+            {21, "enogtyve"},
+            {101, "et hundrede og et"},
+            {1001, "et tusind og et"},
+            {1_000_000, "en million"},
+            {-1, "minus et"},
+            {0, "nul"},
+        };
+    }
+}
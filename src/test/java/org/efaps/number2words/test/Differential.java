@@ -0,0 +1,202 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.text.ParseException;
+import java.util.Locale;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.CurrencyDescriptor;
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.IParser;
+import org.efaps.number2words.converters.GeneratedEnglish;
+import org.efaps.number2words.converters.GeneratedGerman;
+import org.efaps.number2words.converters.GeneratedSpanish;
+import org.efaps.number2words.converters.LanguagePackProvider;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the differential test cases which compare the hand-written
+ * converters, the converters of the language packs and the generated
+ * converters with the frozen {@link ReferenceConverter reference
+ * implementation}.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Differential
+{
+    /**
+     * Test all numbers from 0 to one million.
+     *
+     * @param _locale   locale of the converters
+     * @param _gender   gender of the converters
+     * @throws IOException if the language pack could not be read
+     */
+    @Test(dataProvider = "converters")
+    public void exhaustive(final Locale _locale,
+                           final Gender _gender)
+        throws IOException
+    {
+        Assert.assertEquals(Differential.getHarness(_locale, _gender).compare(
+                        DifferentialHarness.range(0, 1_000_000)).toString(), "[]");
+    }
+
+    /**
+     * Test the boundaries of all powers of one thousand including
+     * {@link Long#MIN_VALUE}.
+     *
+     * @param _locale   locale of the converters
+     * @param _gender   gender of the converters
+     * @throws IOException if the language pack could not be read
+     */
+    @Test(dataProvider = "converters")
+    public void boundaries(final Locale _locale,
+                           final Gender _gender)
+        throws IOException
+    {
+        Assert.assertEquals(Differential.getHarness(_locale, _gender).compare(
+                        DifferentialHarness.boundaries()).toString(), "[]");
+    }
+
+    /**
+     * Test seeded random 64-bit values.
+     *
+     * @param _locale   locale of the converters
+     * @param _gender   gender of the converters
+     * @throws IOException if the language pack could not be read
+     */
+    @Test(dataProvider = "converters")
+    public void random(final Locale _locale,
+                       final Gender _gender)
+        throws IOException
+    {
+        Assert.assertEquals(Differential.getHarness(_locale, _gender).compare(
+                        DifferentialHarness.random(4711, 200_000)).toString(), "[]");
+    }
+
+    /**
+     * Test that the words of the boundaries and of random values are parsed
+     * back to the numbers, also for {@link Long#MIN_VALUE}.
+     *
+     * @param _locale   locale of the converters
+     * @param _gender   gender of the converters
+     * @throws ParseException if the words could not be parsed
+     */
+    @Test(dataProvider = "converters")
+    public void parse(final Locale _locale,
+                      final Gender _gender)
+        throws ParseException
+    {
+        final ReferenceConverter reference = new ReferenceConverter(_locale, _gender);
+        final IParser parser = Converter.getParser(_locale);
+        for (final long[] numbers : new long[][] {DifferentialHarness.boundaries(),
+                        DifferentialHarness.random(42, 10_000)})  {
+            for (final long number : numbers)  {
+                Assert.assertEquals(parser.parse(reference.convert(number)), number, "test '" + number + "'");
+            }
+        }
+    }
+
+    /**
+     * Test the conversion of {@link Long#MIN_VALUE} with the other methods of
+     * the converters.
+     */
+    @Test
+    public void minValue()
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+        final String expected = "minus nine quintillion two hundred twenty-three quadrillion"
+                        + " three hundred seventy-two trillion thirty-six billion eight hundred fifty-four million"
+                        + " seven hundred seventy-five thousand eight hundred eight";
+        Assert.assertEquals(converter.convert(Long.MIN_VALUE), expected);
+        Assert.assertEquals(converter.convert(BigInteger.valueOf(Long.MIN_VALUE)), expected);
+        final CurrencyDescriptor yen = new CurrencyDescriptor("JPY", 0).withNames(Locale.ENGLISH, "yen", "yen");
+        Assert.assertEquals(converter.convertMoney(Long.MIN_VALUE, yen), expected + " yen");
+        Assert.assertEquals(converter.convertMoney(Long.MIN_VALUE + 1, CurrencyDescriptor.USD),
+                        "minus ninety-two quadrillion two hundred thirty-three trillion seven hundred twenty billion"
+                        + " three hundred sixty-eight million five hundred forty-seven thousand seven hundred"
+                        + " fifty-eight dollars and 07/100");
+    }
+
+    /**
+     * Returns the harness which compares the converters of the language and
+     * gender with the reference.
+     *
+     * @param _locale   locale of the converters
+     * @param _gender   gender of the converters
+     * @return harness
+     * @throws IOException if the language pack could not be read
+     */
+    private static DifferentialHarness getHarness(final Locale _locale,
+                                                  final Gender _gender)
+        throws IOException
+    {
+        final LanguagePackProvider pack = LanguagePackProvider.forLocale(_locale);
+        final IConverter packConverter;
+        final IConverter generated;
+        switch (_gender)  {
+            case FEMALE:
+                packConverter = pack.getFemaleConverter();
+                break;
+            case NEUTER:
+                packConverter = pack.getNeuterConverter();
+                break;
+            default:
+                packConverter = pack.getMaleConverter();
+                break;
+        }
+        switch (_locale.getLanguage())  {
+            case "de":
+                generated = new GeneratedGerman(_gender);
+                break;
+            case "es":
+                generated = new GeneratedSpanish(_gender);
+                break;
+            default:
+                generated = new GeneratedEnglish(_gender);
+                break;
+        }
+        return new DifferentialHarness(new ReferenceConverter(_locale, _gender),
+                        Converter.getConverter(_locale, _gender), packConverter, generated);
+    }
+
+    /**
+     * Returns the locales with the genders to test. English has no gender
+     * dependent words and Spanish has no neuter words, so they are only
+     * tested once.
+     *
+     * @return locales and genders
+     */
+    @DataProvider(name = "converters")
+    public static Object[][] converters()
+    {
+        return new Object[][] {
+            {Locale.ENGLISH, Gender.MALE},
+            {Locale.GERMAN, Gender.MALE},
+            {Locale.GERMAN, Gender.FEMALE},
+            {Locale.GERMAN, Gender.NEUTER},
+            {new Locale("es"), Gender.MALE},
+            {new Locale("es"), Gender.FEMALE}};
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.efaps.number2words.IConverter;
+
+/**
+ * <p>Differential test harness which compares converters with the frozen
+ * {@link ReferenceConverter reference implementation}. For each number the
+ * words of {@link IConverter#convert(long)}, of
+ * {@link IConverter#convertTo(long, StringBuilder)} (appended to a not empty
+ * builder) and the UTF-8 bytes of
+ * {@link IConverter#convertTo(long, ByteBuffer)} must be the same as the
+ * words of the reference.</p>
+ * <p>The numbers are split into slices which are compared in parallel on
+ * the common fork join pool, so that all cores are used. The number sets
+ * are:
+ * <ul>
+ * <li>{@link #range(long, long) exhaustive ranges},</li>
+ * <li>the {@link #boundaries() boundaries} of all powers of one thousand
+ *     (including {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE}),</li>
+ * <li>{@link #random(long, int) seeded random} 64-bit values with all
+ *     magnitudes.</li>
+ * </ul>
+ * </p>
+ *
+ * @author The eFaps Team
+ */
+public final class DifferentialHarness
+{
+    /**
+     * Maximum number of reported mismatches.
+     */
+    private static final int MAX_MISMATCHES = 20;
+
+    /**
+     * Numbers of one slice which is compared by one task.
+     */
+    private static final int SLICE = 4096;
+
+    /**
+     * Reference implementation.
+     */
+    private final ReferenceConverter reference;
+
+    /**
+     * Converters to compare with the reference.
+     */
+    private final List<IConverter> converters;
+
+    /**
+     * Creates the harness.
+     *
+     * @param _reference    reference implementation
+     * @param _converters   converters to compare with the reference
+     */
+    public DifferentialHarness(final ReferenceConverter _reference,
+                               final IConverter... _converters)
+    {
+        this.reference = _reference;
+        this.converters = Arrays.asList(_converters);
+    }
+
+    /**
+     * Compares all converters with the reference for the
+     * <code>_numbers</code>.
+     *
+     * @param _numbers  numbers to compare
+     * @return descriptions of the first mismatches; empty if all converters
+     *         are the same as the reference
+     */
+    public List<String> compare(final long[] _numbers)
+    {
+        final Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+        final AtomicInteger count = new AtomicInteger();
+        IntStream.range(0, (_numbers.length + DifferentialHarness.SLICE - 1) / DifferentialHarness.SLICE)
+            .parallel()
+            .forEach(slice -> {
+                final StringBuilder builder = new StringBuilder();
+                ByteBuffer bytes = ByteBuffer.allocate(1024);
+                final int end = Math.min(_numbers.length, (slice + 1) * DifferentialHarness.SLICE);
+                for (int i = slice * DifferentialHarness.SLICE; i < end; i++)  {
+                    final long number = _numbers[i];
+                    final String expected = this.reference.convert(number);
+                    final byte[] expectedBytes = expected.getBytes(StandardCharsets.UTF_8);
+                    if (bytes.capacity() < expectedBytes.length)  {
+                        bytes = ByteBuffer.allocate(expectedBytes.length);
+                    }
+                    for (final IConverter converter : this.converters)  {
+                        builder.setLength(0);
+                        builder.append('>');
+                        bytes.clear();
+                        final String words = converter.convert(number);
+                        final String appended = converter.convertTo(number, builder).substring(1);
+                        final int length = converter.convertTo(number, bytes);
+                        final byte[] written = Arrays.copyOf(bytes.array(), Math.max(0, length));
+                        String mismatch = null;
+                        if (!expected.equals(words))  {
+                            mismatch = "convert '" + words + "'";
+                        } else if (!expected.equals(appended))  {
+                            mismatch = "convertTo builder '" + appended + "'";
+                        } else if (!Arrays.equals(expectedBytes, written))  {
+                            mismatch = "convertTo bytes '" + new String(written, StandardCharsets.UTF_8) + "'";
+                        }
+                        if (mismatch != null && count.incrementAndGet() <= DifferentialHarness.MAX_MISMATCHES)  {
+                            mismatches.add(converter.getClass().getSimpleName() + " " + number + ": " + mismatch
+                                            + " instead of '" + expected + "'");
+                        }
+                    }
+                }
+            });
+        return new ArrayList<>(mismatches);
+    }
+
+    /**
+     * Returns all numbers of a range.
+     *
+     * @param _from first number (inclusive)
+     * @param _to   last number (inclusive)
+     * @return numbers of the range
+     */
+    public static long[] range(final long _from,
+                               final long _to)
+    {
+        return LongStream.rangeClosed(_from, _to).toArray();
+    }
+
+    /**
+     * Returns the boundaries of all powers of one thousand: for each power
+     * the numbers around some multiples of the power and their
+     * negations. Also {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE} and
+     * their neighbours are included.
+     *
+     * @return boundary numbers
+     */
+    public static long[] boundaries()
+    {
+        final LongStream.Builder ret = LongStream.builder();
+        ret.add(0).add(Long.MIN_VALUE).add(Long.MIN_VALUE + 1).add(Long.MAX_VALUE).add(Long.MAX_VALUE - 1);
+        long power = 1;
+        for (int exponent = 1; exponent <= 6; exponent++)  {
+            power *= 1000;
+            for (final long factor : new long[] {1, 2, 21, 100, 101, 999})  {
+                if (factor <= Long.MAX_VALUE / power)  {
+                    final long number = factor * power;
+                    for (long delta = -1; delta <= 1; delta++)  {
+                        ret.add(number + delta).add(-(number + delta));
+                    }
+                }
+            }
+        }
+        return ret.build().toArray();
+    }
+
+    /**
+     * Returns seeded random 64-bit values. The values are shifted by a
+     * random number of bits, so that all magnitudes (and so all powers) are
+     * covered equally.
+     *
+     * @param _seed     seed of the random generator
+     * @param _count    number of values
+     * @return random values
+     */
+    public static long[] random(final long _seed,
+                                final int _count)
+    {
+        final Random random = new Random(_seed);
+        final long[] ret = new long[_count];
+        for (int i = 0; i < _count; i++)  {
+            ret[i] = random.nextLong() >> random.nextInt(Long.SIZE);
+        }
+        return ret;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.efaps.number2words.test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Locale;
 
 import org.efaps.number2words.Converter;
@@ -70,6 +72,28 @@ public class English
         Assert.assertEquals(converter.isDecimal(), true, "check English uses decimal system");
     }
 
+    /**
+     * Test the convert for English language into an appendable and a string
+     * builder which already contains text.
+     *
+     * @param _number   number to check
+     * @param _text     expected conversion in English
+     * @throws IOException if the words could not be appended
+     */
+    @Test(dataProvider = "english")
+    public void englishAppendable(final long _number,
+                                  final String _text)
+        throws IOException
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+        final StringWriter writer = new StringWriter();
+        converter.convertTo(_number, writer);
+        Assert.assertEquals(writer.toString(), _text, "test appendable '" + _number + "'");
+        final StringBuilder builder = new StringBuilder("amount: ");
+        converter.convertTo(_number, builder);
+        Assert.assertEquals(builder.toString(), "amount: " + _text, "test string builder '" + _number + "'");
+    }
+
     /**
      * Returns the English test data as an array of an array of integer and the
      * related converted text.
@@ -90,6 +114,7 @@ public class English
             {7L, "seven"},
             {8L, "eight"},
             {16L, "sixteen"},
+            {20L, "twenty"},
             {21L, "twenty-one"},
             {71L, "seventy-one"},
             {100L, "one hundred"},
@@ -99,6 +124,7 @@ public class English
             {800L, "eight hundred"},
             {801L, "eight hundred one"},
             {1316L, "one thousand three hundred sixteen"},
+            {90020L, "ninety thousand twenty"},
             {700000L, "seven hundred thousand"},
             {900000L, "nine hundred thousand"},
             {1000000L, "one million"},
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.FileConverter;
+import org.efaps.number2words.IConverter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the conversion of files with numbers.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class FileConversion
+{
+    /**
+     * Test that the converted file contains the same words in the same order
+     * as the conversion of the single numbers. The small chunk size splits
+     * the file in many chunks and segments.
+     *
+     * @param _locale   locale of the converter to test
+     * @throws IOException if the files could not be written or read
+     */
+    @Test(dataProvider = "locales")
+    public void sameWords(final Locale _locale)
+        throws IOException
+    {
+        final IConverter converter = Converter.getMaleConverter(_locale);
+        final StringBuilder input = new StringBuilder();
+        final StringBuilder expected = new StringBuilder();
+        final Random random = new Random(4711);
+        long count = 0;
+        for (int i = 0; i < 5_000; i++)  {
+            final long number = i < 1_000
+                            ? i - 500
+                            : i == 1_000 ? Long.MIN_VALUE : random.nextLong() >> random.nextInt(63);
+            if (i % 97 == 0)  {
+                input.append('\n');
+                expected.append('\n');
+            }
+            input.append(number).append(i % 13 == 0 ? " \r\n" : "\n");
+            expected.append(converter.convert(number)).append('\n');
+            count++;
+        }
+        // last line without line feed
+        input.append("-42");
+        expected.append(converter.convert(-42)).append('\n');
+        count++;
+
+        final Path in = Files.createTempFile("numbers", ".txt");
+        final Path out = Files.createTempFile("words", ".txt");
+        try  {
+            Files.write(in, input.toString().getBytes(StandardCharsets.US_ASCII));
+            Assert.assertEquals(new FileConverter(converter, 3, 64).convert(in, out), count);
+            Assert.assertEquals(new String(Files.readAllBytes(out), StandardCharsets.UTF_8), expected.toString());
+        } finally  {
+            Files.deleteIfExists(in);
+            Files.deleteIfExists(out);
+        }
+    }
+
+    /**
+     * Test that an empty file is converted into an empty file.
+     *
+     * @throws IOException if the files could not be written or read
+     */
+    @Test
+    public void emptyFile()
+        throws IOException
+    {
+        final Path in = Files.createTempFile("numbers", ".txt");
+        final Path out = Files.createTempFile("words", ".txt");
+        try  {
+            Files.write(out, new byte[] {'x'});
+            final FileConverter converter = new FileConverter(Converter.getMaleConverter(Locale.ENGLISH));
+            Assert.assertEquals(converter.convert(in, out), 0L);
+            Assert.assertEquals(Files.size(out), 0L);
+        } finally  {
+            Files.deleteIfExists(in);
+            Files.deleteIfExists(out);
+        }
+    }
+
+    /**
+     * Test that invalid lines are reported with an {@link IOException}.
+     *
+     * @param _content  content of the input file
+     * @throws IOException if the files could not be written
+     */
+    @Test(dataProvider = "invalid")
+    public void invalidLine(final String _content)
+        throws IOException
+    {
+        final Path in = Files.createTempFile("numbers", ".txt");
+        final Path out = Files.createTempFile("words", ".txt");
+        try  {
+            Files.write(in, _content.getBytes(StandardCharsets.US_ASCII));
+            final FileConverter converter = new FileConverter(Converter.getMaleConverter(Locale.ENGLISH), 2, 4);
+            Assert.assertThrows(IOException.class, () -> converter.convert(in, out));
+        } finally  {
+            Files.deleteIfExists(in);
+            Files.deleteIfExists(out);
+        }
+    }
+
+    /**
+     * Returns the locales of the converters to test.
+     *
+     * @return locales
+     */
+    @DataProvider(name = "locales")
+    public static Object[][] locales()
+    {
+        return new Object[][] {
+            {Locale.ENGLISH},
+            {Locale.GERMAN},
+            {new Locale("es")},
+        };
+    }
+
+    /**
+     * Returns the contents of input files with invalid lines.
+     *
+     * @return invalid file contents
+     */
+    @DataProvider(name = "invalid")
+    public static Object[][] invalid()
+    {
+        return new Object[][] {
+            {"1\n2\nthree\n4\n"},
+            {"1\n-\n3\n"},
+            {"1\n2-3\n"},
+            {"1\n2 3\n"},
+            {"1\n9223372036854775808\n"},
+            {"1\n-9223372036854775809\n"},
+        };
+    }
+}
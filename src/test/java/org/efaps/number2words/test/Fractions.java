@@ -0,0 +1,157 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.FractionStyle;
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.converters.GeneratedEnglish;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the conversion of decimal numbers.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Fractions
+{
+    /**
+     * Test the conversion of decimal numbers.
+     *
+     * @param _locale   locale of the converter
+     * @param _gender   gender of the converter
+     * @param _style    style of the fraction digits
+     * @param _number   decimal number to convert
+     * @param _expected expected words
+     * @throws IOException if the words could not be appended
+     */
+    @Test(dataProvider = "decimals")
+    public void convert(final Locale _locale,
+                        final Gender _gender,
+                        final FractionStyle _style,
+                        final String _number,
+                        final String _expected)
+        throws IOException
+    {
+        final IConverter converter = Converter.getConverter(_locale, _gender);
+        final BigDecimal number = new BigDecimal(_number);
+        Assert.assertEquals(converter.convert(number, _style), _expected, "test '" + _number + "'");
+        Assert.assertEquals(converter.convertTo(number, _style, new StringBuilder(">")).toString(),
+                        ">" + _expected, "test appended '" + _number + "'");
+    }
+
+    /**
+     * Test that the digits style is the default.
+     */
+    @Test
+    public void defaultStyle()
+    {
+        Assert.assertEquals(Converter.getMaleConverter(Locale.ENGLISH).convert(new BigDecimal("2.5")),
+                        "two point five");
+    }
+
+    /**
+     * Test that decimal numbers out of the supported range throw an
+     * exception.
+     */
+    @Test
+    public void outOfRange()
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+        Assert.assertThrows(ArithmeticException.class,
+            () -> converter.convert(new BigDecimal("0.0000000000000000001")));
+        Assert.assertThrows(ArithmeticException.class,
+            () -> converter.convert(new BigDecimal("92233720368547758.08")));
+        Assert.assertThrows(ArithmeticException.class,
+            () -> converter.convert(new BigDecimal("1E+19")));
+    }
+
+    /**
+     * Test that converters without words for decimal numbers throw an
+     * exception.
+     */
+    @Test
+    public void unsupported()
+    {
+        Assert.assertThrows(UnsupportedOperationException.class,
+            () -> new GeneratedEnglish(Gender.MALE).convert(new BigDecimal("1.5")));
+    }
+
+    /**
+     * Returns the decimal numbers to test.
+     *
+     * @return locales, genders, styles, numbers and expected words
+     */
+    @DataProvider(name = "decimals")
+    public static Object[][] decimals()
+    {
+        final Locale spanish = new Locale("es");
+        final FractionStyle digits = FractionStyle.DIGITS;
+        final FractionStyle fraction = FractionStyle.FRACTION;
+        return new Object[][] {
+            {Locale.ENGLISH, Gender.MALE, digits, "3.14", "three point one four"},
+            {Locale.ENGLISH, Gender.MALE, digits, "3.10", "three point one zero"},
+            {Locale.ENGLISH, Gender.MALE, digits, "0.5", "zero point five"},
+            {Locale.ENGLISH, Gender.MALE, digits, "-0.5", "minus zero point five"},
+            {Locale.ENGLISH, Gender.MALE, digits, "-12.05", "minus twelve point zero five"},
+            {Locale.ENGLISH, Gender.MALE, digits, "42", "forty-two"},
+            {Locale.ENGLISH, Gender.MALE, digits, "1E+3", "one thousand"},
+            {Locale.ENGLISH, Gender.MALE, digits, "-92233720368547758.08", "minus ninety-two quadrillion"
+                            + " two hundred thirty-three trillion seven hundred twenty billion three hundred"
+                            + " sixty-eight million five hundred forty-seven thousand seven hundred fifty-eight"
+                            + " point zero eight"},
+            {Locale.ENGLISH, Gender.MALE, fraction, "3.14", "three and fourteen hundredths"},
+            {Locale.ENGLISH, Gender.MALE, fraction, "0.1", "one tenth"},
+            {Locale.ENGLISH, Gender.MALE, fraction, "0.25", "twenty-five hundredths"},
+            {Locale.ENGLISH, Gender.MALE, fraction, "-0.25", "minus twenty-five hundredths"},
+            {Locale.ENGLISH, Gender.MALE, fraction, "2.0001", "two and one ten-thousandth"},
+            {Locale.ENGLISH, Gender.MALE, fraction, "7.123", "seven and one hundred twenty-three thousandths"},
+            {Locale.ENGLISH, Gender.MALE, fraction, "0.00003", "three hundred-thousandths"},
+            {Locale.ENGLISH, Gender.MALE, fraction, "0.000001", "one millionth"},
+            {Locale.ENGLISH, Gender.MALE, fraction, "5.00", "five"},
+            {Locale.ENGLISH, Gender.MALE, fraction, "0.00", "zero"},
+            {Locale.GERMAN, Gender.MALE, digits, "3.14", "drei Komma eins vier"},
+            {Locale.GERMAN, Gender.NEUTER, digits, "1.01", "eins Komma null eins"},
+            {Locale.GERMAN, Gender.MALE, digits, "1.0", "eins Komma null"},
+            {Locale.GERMAN, Gender.FEMALE, digits, "-1.5", "minus eins Komma f\u00FCnf"},
+            {Locale.GERMAN, Gender.MALE, digits, "21.5", "einundzwanzig Komma f\u00FCnf"},
+            {Locale.GERMAN, Gender.MALE, fraction, "3.14", "drei und vierzehn Hundertstel"},
+            {Locale.GERMAN, Gender.MALE, fraction, "1.01", "eins und ein Hundertstel"},
+            {Locale.GERMAN, Gender.MALE, fraction, "0.01", "ein Hundertstel"},
+            {Locale.GERMAN, Gender.MALE, fraction, "0.3", "drei Zehntel"},
+            {Locale.GERMAN, Gender.MALE, fraction, "0.0005", "f\u00FCnf Zehntausendstel"},
+            {Locale.GERMAN, Gender.MALE, fraction, "0.00007", "sieben Hunderttausendstel"},
+            {Locale.GERMAN, Gender.MALE, fraction, "0.000002", "zwei Millionstel"},
+            {spanish, Gender.MALE, digits, "3.14", "tres coma uno cuatro"},
+            {spanish, Gender.MALE, digits, "21.1", "veintiuno coma uno"},
+            {spanish, Gender.MALE, fraction, "3.14", "tres con catorce cent\u00E9simos"},
+            {spanish, Gender.FEMALE, fraction, "3.14", "tres con catorce cent\u00E9simas"},
+            {spanish, Gender.MALE, fraction, "0.21", "veinti\u00FAn cent\u00E9simos"},
+            {spanish, Gender.FEMALE, fraction, "0.21", "veintiuna cent\u00E9simas"},
+            {spanish, Gender.MALE, fraction, "0.001", "un mil\u00E9simo"},
+            {spanish, Gender.FEMALE, fraction, "0.0001", "una diezmil\u00E9sima"}};
+    }
+}
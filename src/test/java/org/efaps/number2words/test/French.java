@@ -0,0 +1,220 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.util.Locale;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for French conversion of numbers to words.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class French
+{
+    /**
+     * Tests the convert for French language.
+     *
+     * @param _number   French number to check
+     * @param _text     expected conversion
+     */
+    @Test(dataProvider = "french")
+    public void frenchPositive(final long _number,
+                               final String _text)
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.FRENCH);
+        Assert.assertEquals(converter.convert(_number), _text, "test '" + _number + "'");
+        Assert.assertEquals(converter.usesShortScale(), false, "check French uses long scale");
+        Assert.assertEquals(converter.isDecimal(), true, "check French uses decimal system");
+    }
+
+    /**
+     * Test the convert for French language where the <code>_number</code> is
+     * interpreted as negative number.
+     *
+     * @param _number   French number to check
+     * @param _text     expected conversion
+     */
+    @Test(dataProvider = "french")
+    public void frenchNegative(final long _number,
+                               final String _text)
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.FRENCH);
+        if (_number > 0)  {
+            Assert.assertEquals(converter.convert(-1 * _number), "moins " + _text, "test '-" + _number + "'");
+        } else  {
+            Assert.assertEquals(converter.convert(_number), _text, "test '" + _number + "'");
+        }
+    }
+
+    /**
+     * Tests the full range from 1 till 999&nbsp;999 with invariants of the
+     * plural: &quot;vingts&quot; and &quot;cents&quot; are only written at
+     * the end of a number, &quot;mille&quot; is never written with
+     * &quot;un&quot; in front and the thousands are written like the numbers
+     * below one thousand.
+     */
+    @Test
+    public void frenchFullRange()
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.FRENCH);
+        for (int number = 1; number < 1000; number++)  {
+            final String text = converter.convert(number);
+            Assert.assertEquals(text.endsWith("s") && (text.endsWith("vingts") || text.endsWith("cents")),
+                            number == 80 || number % 100 == 80 || number % 100 == 0 && number > 100,
+                            "test plural of '" + number + "': " + text);
+            Assert.assertFalse(text.startsWith("un cent"), "test '" + number + "': " + text);
+        }
+        for (int number = 1000; number < 1_000_000; number++)  {
+            final int thousands = number / 1000;
+            final int last = number % 1000;
+            final StringBuilder expected = new StringBuilder();
+            if (thousands > 1)  {
+                final String group = converter.convert(thousands);
+                expected.append(group.endsWith("vingts") || group.endsWith("cents")
+                                ? group.substring(0, group.length() - 1)
+                                : group).append(' ');
+            }
+            expected.append("mille");
+            if (last != 0)  {
+                expected.append(' ').append(converter.convert(last));
+            }
+            Assert.assertEquals(converter.convert(number), expected.toString(), "test '" + number + "'");
+        }
+    }
+
+    /**
+     * Tests the convert of female numbers for French language.
+     *
+     * @param _number   number to check
+     * @param _text     expected conversion in French words
+     */
+    @Test(dataProvider = "frenchFemale")
+    public void frenchFemale(final long _number,
+                             final String _text)
+    {
+        Assert.assertEquals(Converter.getFemaleConverter(Locale.FRENCH).convert(_number), _text,
+                        "test '" + _number + "'");
+    }
+
+    /**
+     * Tests that French neuter numbers are written as male numbers.
+     */
+    @Test
+    public void frenchNeuter()
+    {
+        Assert.assertSame(Converter.getNeuterConverter(Locale.FRENCH), Converter.getMaleConverter(Locale.FRENCH));
+    }
+
+    /**
+     * Returns the French test data as an array of an array of integer and the
+     * related converted text.
+     *
+     * @return French test data
+     */
+    @DataProvider(name = "french")
+    public Object[][] frenchTestData()
+    {
+        return new Object[][] {
+            {0L, "z\u00E9ro"},
+            {1L, "un"},
+            {2L, "deux"},
+            {10L, "dix"},
+            {11L, "onze"},
+            {16L, "seize"},
+            {17L, "dix-sept"},
+            {20L, "vingt"},
+            {21L, "vingt et un"},
+            {22L, "vingt-deux"},
+            {31L, "trente et un"},
+            {60L, "soixante"},
+            {61L, "soixante et un"},
+            {69L, "soixante-neuf"},
+            {70L, "soixante-dix"},
+            {71L, "soixante et onze"},
+            {72L, "soixante-douze"},
+            {77L, "soixante-dix-sept"},
+            {80L, "quatre-vingts"},
+            {81L, "quatre-vingt-un"},
+            {89L, "quatre-vingt-neuf"},
+            {90L, "quatre-vingt-dix"},
+            {91L, "quatre-vingt-onze"},
+            {97L, "quatre-vingt-dix-sept"},
+            {99L, "quatre-vingt-dix-neuf"},
+            {100L, "cent"},
+            {101L, "cent un"},
+            {180L, "cent quatre-vingts"},
+            {200L, "deux cents"},
+            {201L, "deux cent un"},
+            {280L, "deux cent quatre-vingts"},
+            {999L, "neuf cent quatre-vingt-dix-neuf"},
+            {1000L, "mille"},
+            {1001L, "mille un"},
+            {2000L, "deux mille"},
+            {21000L, "vingt et un mille"},
+            {80000L, "quatre-vingt mille"},
+            {80080L, "quatre-vingt mille quatre-vingts"},
+            {200000L, "deux cent mille"},
+            {1000000L, "un million"},
+            {2000000L, "deux millions"},
+            {80000000L, "quatre-vingts millions"},
+            {200000000L, "deux cents millions"},
+            {1000000000L, "un milliard"},
+            {1000000000000L, "un billion"},
+            {1000000000000000L, "un billiard"},
+            {1000000000000000000L, "un trillion"},
+            {9221371031854775807L, "neuf trillions "
+                                + "deux cent vingt et un billiards "
+                                + "trois cent soixante et onze billions "
+                                + "trente et un milliards "
+                                + "huit cent cinquante-quatre millions "
+                                + "sept cent soixante-quinze mille "
+                                + "huit cent sept"},
+        };
+    }
+
+    /**
+     * Returns the French test data for female numbers.
+     *
+     * @return French female test data
+     */
+    @DataProvider(name = "frenchFemale")
+    public Object[][] frenchFemaleTestData()
+    {
+        return new Object[][] {
+            {1, "une"},
+            {11, "onze"},
+            {21, "vingt et une"},
+            {71, "soixante et onze"},
+            {81, "quatre-vingt-une"},
+            {101, "cent une"},
+            {1001, "mille une"},
+            {21_000, "vingt et un mille"},
+            {21_021, "vingt et un mille vingt et une"},
+            {1_000_000, "un million"},
+            {-1, "moins une"},
+            {0, "z\u00E9ro"},
+        };
+    }
+}
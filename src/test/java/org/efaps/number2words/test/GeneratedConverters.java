@@ -0,0 +1,124 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.test;
+
+import java.nio.ByteBuffer;
+import java.text.ParseException;
+import java.util.Locale;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.CurrencyDescriptor;
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.IParser;
+import org.efaps.number2words.converters.AbstractDecimalConverter;
+import org.efaps.number2words.converters.DecimalParser;
+import org.efaps.number2words.converters.GeneratedEnglish;
+import org.efaps.number2words.converters.GeneratedGerman;
+import org.efaps.number2words.converters.GeneratedSpanish;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the converters generated from the language
+ * packs.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class GeneratedConverters
+{
+    /**
+     * Test that the generated converter writes for all groups of three digits
+     * of all powers the same bytes as the converter of the language.
+     *
+     * @param _expected     converter of the language
+     * @param _generated    generated converter
+     */
+    @Test(dataProvider = "converters")
+    public void sameBytes(final IConverter _expected,
+                          final IConverter _generated)
+    {
+        Assert.assertEquals(_generated.getLocale(), _expected.getLocale());
+        Assert.assertEquals(_generated.usesShortScale(), _expected.usesShortScale());
+        final ByteBuffer expected = ByteBuffer.allocate(512);
+        final ByteBuffer generated = ByteBuffer.allocate(512);
+        for (int group = 0; group < 1000; group++)  {
+            long number = group;
+            for (int power = 0; power < 7; power++, number *= 1000)  {
+                for (final long value : new long[] {number, -number - 1, number + 1_001_001})  {
+                    Assert.assertEquals(_generated.convert(value), _expected.convert(value),
+                                    "test '" + value + "'");
+                    expected.clear();
+                    generated.clear();
+                    _expected.convertTo(value, expected);
+                    _generated.convertTo(value, generated);
+                    Assert.assertEquals(generated.flip(), expected.flip(), "test bytes '" + value + "'");
+                }
+            }
+            Assert.assertEquals(_generated.convertMoney(group * 100_001L, CurrencyDescriptor.EUR),
+                            _expected.convertMoney(group * 100_001L, CurrencyDescriptor.EUR),
+                            "test amount '" + group * 100_001L + "'");
+        }
+        Assert.assertEquals(_generated.convert(Long.MAX_VALUE), _expected.convert(Long.MAX_VALUE));
+    }
+
+    /**
+     * Test that the parser compiled from the generated converter parses the
+     * converted words.
+     *
+     * @param _expected     converter of the language
+     * @param _generated    generated converter
+     * @throws ParseException if the words could not be parsed
+     */
+    @Test(dataProvider = "converters")
+    public void parse(final IConverter _expected,
+                      final IConverter _generated)
+        throws ParseException
+    {
+        final IParser parser = DecimalParser.compile((AbstractDecimalConverter) _generated);
+        for (long number = -1_000; number < 1_000_000_000_000L; number = number * 7 + 1_001)  {
+            Assert.assertEquals(parser.parse(_generated.convert(number)), number,
+                            "test '" + _generated.convert(number) + "'");
+        }
+    }
+
+    /**
+     * Returns the converters of the languages with the related generated
+     * converters for all genders.
+     *
+     * @return converter of the language and generated converter
+     */
+    @DataProvider(name = "converters")
+    public static Object[][] converters()
+    {
+        final Object[][] ret = new Object[3 * Gender.values().length][];
+        int index = 0;
+        for (final Gender gender : Gender.values())  {
+            ret[index++] = new Object[] {
+                Converter.getConverter(Locale.ENGLISH, gender), new GeneratedEnglish(gender)};
+            ret[index++] = new Object[] {
+                Converter.getConverter(Locale.GERMAN, gender), new GeneratedGerman(gender)};
+            ret[index++] = new Object[] {
+                Converter.getConverter(new Locale("es"), gender), new GeneratedSpanish(gender)};
+        }
+        return ret;
+    }
+}
@@ -123,4 +123,44 @@ public class German
         };
     }
 
+    /**
+     * Tests the convert of female and neuter numbers for German language.
+     *
+     * @param _number   number to check
+     * @param _female   expected conversion for female numbers
+     * @param _neuter   expected conversion for neuter numbers
+     */
+    @Test(dataProvider = "germanGender")
+    public void germanGender(final long _number,
+                             final String _female,
+                             final String _neuter)
+    {
+        Assert.assertEquals(Converter.getFemaleConverter(Locale.GERMAN).convert(_number), _female,
+                        "test female '" + _number + "'");
+        Assert.assertEquals(Converter.getNeuterConverter(Locale.GERMAN).convert(_number), _neuter,
+                        "test neuter '" + _number + "'");
+    }
+
+    /**
+     * Returns the German test data for female and neuter numbers.
+     *
+     * @return German gender test data
+     */
+    @DataProvider(name = "germanGender")
+    public Object[][] germanGenderTestData()
+    {
+        return new Object[][] {
+            {1L, "eine", "eins"},
+            {2L, "zwei", "zwei"},
+            {11L, "elf", "elf"},
+            {21L, "einundzwanzig", "einundzwanzig"},
+            {101L, "ein hundert eine", "ein hundert eins"},
+            {1001L, "ein tausend eine", "ein tausend eins"},
+            {1000L, "ein tausend", "ein tausend"},
+            {101000L, "ein hundert ein tausend", "ein hundert ein tausend"},
+            {1000001L, "eine Million eine", "eine Million eins"},
+            {-1L, "minus eine", "minus eins"},
+            {0L, "null", "null"},
+        };
+    }
 }
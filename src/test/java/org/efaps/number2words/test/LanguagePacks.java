@@ -0,0 +1,265 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.CurrencyDescriptor;
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.converters.LanguagePack;
+import org.efaps.number2words.converters.LanguagePackProvider;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the language packs.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class LanguagePacks
+{
+    /**
+     * Test that the shipped language pack converts all groups of three
+     * digits of all powers and genders into the same words as the converter
+     * of the language.
+     *
+     * @param _locale   locale of the language pack
+     * @param _gender   gender to test
+     * @throws IOException if the pack could not be read
+     */
+    @Test(dataProvider = "packs")
+    public void sameWords(final Locale _locale,
+                          final Gender _gender)
+        throws IOException
+    {
+        final IConverter expected = Converter.getConverter(_locale, _gender);
+        final LanguagePackProvider provider = LanguagePackProvider.forLocale(_locale);
+        final IConverter converter = LanguagePacks.getConverter(provider, _gender);
+        Assert.assertEquals(converter.usesShortScale(), expected.usesShortScale());
+        for (int group = 0; group < 1000; group++)  {
+            long number = group;
+            for (int power = 0; power < 7; power++, number *= 1000)  {
+                Assert.assertEquals(converter.convert(number), expected.convert(number), "test '" + number + "'");
+                Assert.assertEquals(converter.convert(-number - 1), expected.convert(-number - 1),
+                                "test '" + (-number - 1) + "'");
+            }
+            Assert.assertEquals(converter.convertMoney(group * 100_001L, CurrencyDescriptor.EUR),
+                            expected.convertMoney(group * 100_001L, CurrencyDescriptor.EUR),
+                            "test amount '" + group * 100_001L + "'");
+        }
+        Assert.assertEquals(converter.convertMoney(100_000_000L, CurrencyDescriptor.EUR),
+                        expected.convertMoney(100_000_000L, CurrencyDescriptor.EUR));
+    }
+
+    /**
+     * Test that the parser of a language pack parses the converted words.
+     *
+     * @param _locale   locale of the language pack
+     * @param _gender   gender to test
+     * @throws IOException if the pack could not be read
+     * @throws ParseException if the words could not be parsed
+     */
+    @Test(dataProvider = "packs")
+    public void parse(final Locale _locale,
+                      final Gender _gender)
+        throws IOException, ParseException
+    {
+        final LanguagePackProvider provider = LanguagePackProvider.forLocale(_locale);
+        final IConverter converter = LanguagePacks.getConverter(provider, _gender);
+        for (long number = -1_000; number < 1_000_000_000_000L; number = number * 7 + 1_001)  {
+            Assert.assertEquals(provider.getParser().parse(converter.convert(number)), number,
+                            "test '" + converter.convert(number) + "'");
+        }
+    }
+
+    /**
+     * Test that a reloaded pack is used by the existing converters and that
+     * an invalid pack does not replace the current pack.
+     *
+     * @throws IOException if the pack could not be written or read
+     */
+    @Test
+    public void reload()
+        throws IOException
+    {
+        final Path file = Files.createTempFile("pack", ".properties");
+        try  {
+            final String pack;
+            try (InputStream stream = LanguagePacks.class.getClassLoader().getResourceAsStream(
+                            LanguagePackProvider.RESOURCE_PATH + "en.properties"))  {
+                pack = new String(stream.readAllBytes(), StandardCharsets.ISO_8859_1);
+            }
+            Files.write(file, pack.getBytes(StandardCharsets.ISO_8859_1));
+            final LanguagePackProvider provider = new LanguagePackProvider(file.toUri().toURL());
+            final IConverter converter = provider.getMaleConverter();
+            Assert.assertEquals(converter.convert(-42), "minus forty-two");
+
+            Files.write(file, pack.replace("minus = minus", "minus = negative").getBytes(StandardCharsets.ISO_8859_1));
+            provider.reload();
+            Assert.assertEquals(converter.convert(-42), "negative forty-two");
+
+            Files.write(file, pack.replace("tens =", "tenses =").getBytes(StandardCharsets.ISO_8859_1));
+            Assert.assertThrows(IllegalArgumentException.class, provider::reload);
+            Assert.assertEquals(converter.convert(-42), "negative forty-two");
+        } finally  {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test that conversions running while the pack is swapped always use the
+     * words of exactly one pack. The two packs differ in the word for minus
+     * and in the tens, so that words of a torn or half published pack match
+     * none of the expected words.
+     *
+     * @throws Exception if the test failed
+     */
+    @Test
+    public void swapWhileConverting()
+        throws Exception
+    {
+        final Path file = Files.createTempFile("pack", ".properties");
+        try  {
+            final String pack;
+            try (InputStream stream = LanguagePacks.class.getClassLoader().getResourceAsStream(
+                            LanguagePackProvider.RESOURCE_PATH + "de.properties"))  {
+                pack = new String(stream.readAllBytes(), StandardCharsets.ISO_8859_1);
+            }
+            final String tens = pack.substring(pack.indexOf("tens ="), pack.indexOf('\n', pack.indexOf("tens =")));
+            Files.write(file, pack.replace("minus = minus", "minus = negativ")
+                            .replace(tens, tens.replace("zwanzig", "zwoanzig").replace("achtzig", "achzig"))
+                            .getBytes(StandardCharsets.ISO_8859_1));
+            final LanguagePackProvider provider = LanguagePackProvider.forLocale(Locale.GERMAN);
+            final LanguagePackProvider other = new LanguagePackProvider(file.toUri().toURL());
+            final IConverter converter = provider.getMaleConverter();
+            final String expected = converter.convert(-123_456_789L);
+            final String otherExpected = other.getMaleConverter().convert(-123_456_789L);
+            Assert.assertTrue(otherExpected.startsWith("negativ ") && otherExpected.contains("zwoanzig")
+                            && otherExpected.contains("achzig"), "test other pack '" + otherExpected + "'");
+            final LanguagePack original = provider.getPack();
+            final AtomicBoolean running = new AtomicBoolean(true);
+            final AtomicReference<String> failure = new AtomicReference<>();
+            final Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++)  {
+                threads[i] = new Thread(() -> {
+                    while (running.get())  {
+                        final String words = converter.convert(-123_456_789L);
+                        if (expected.equals(words) == otherExpected.equals(words))  {
+                            failure.set(words);
+                        }
+                    }
+                });
+                threads[i].start();
+            }
+            boolean swapped = false;
+            for (int i = 0; i < 200; i++)  {
+                provider.setPack(i % 2 == 0 ? other.getPack() : original);
+                swapped |= otherExpected.equals(converter.convert(-123_456_789L));
+            }
+            provider.setPack(original);
+            running.set(false);
+            for (final Thread thread : threads)  {
+                thread.join();
+            }
+            Assert.assertTrue(swapped, "test swapped");
+            Assert.assertNull(failure.get());
+            Assert.assertEquals(converter.convert(-123_456_789L), expected, "test restored");
+        } finally  {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test the load statistics of the packs.
+     *
+     * @throws IOException if the pack could not be read
+     */
+    @Test
+    public void statistics()
+        throws IOException
+    {
+        for (final Locale locale : new Locale[] {Locale.ENGLISH, Locale.GERMAN, new Locale("es")})  {
+            final LanguagePackProvider provider = LanguagePackProvider.forLocale(locale);
+            Assert.assertTrue(provider.getPack().getCompileNanos() > 0);
+            Assert.assertTrue(provider.getPack().getLoadNanos() >= provider.getPack().getCompileNanos());
+            Assert.assertTrue(provider.getPack().getFootprint() > 0);
+            Assert.assertThrows(IllegalArgumentException.class,
+                            () -> provider.setPack(LanguagePackProvider.forLocale(
+                                            locale == Locale.ENGLISH ? Locale.GERMAN : Locale.ENGLISH).getPack()));
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> LanguagePackProvider.forLocale(Locale.CHINESE));
+    }
+
+    /**
+     * Returns the converter of the <code>_provider</code> for the
+     * <code>_gender</code>.
+     *
+     * @param _provider provider of the language pack
+     * @param _gender   gender of the counted noun
+     * @return converter
+     */
+    private static IConverter getConverter(final LanguagePackProvider _provider,
+                                           final Gender _gender)
+    {
+        final IConverter ret;
+        switch (_gender)  {
+            case FEMALE:
+                ret = _provider.getFemaleConverter();
+                break;
+            case NEUTER:
+                ret = _provider.getNeuterConverter();
+                break;
+            default:
+                ret = _provider.getMaleConverter();
+                break;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the locales of the language packs with the genders to test.
+     *
+     * @return locales and genders
+     */
+    @DataProvider(name = "packs")
+    public static Object[][] packs()
+    {
+        final Locale[] locales = {Locale.ENGLISH, Locale.GERMAN, new Locale("es")};
+        final Object[][] ret = new Object[locales.length * Gender.values().length][];
+        int index = 0;
+        for (final Locale locale : locales)  {
+            for (final Gender gender : Gender.values())  {
+                ret[index++] = new Object[] {locale, gender};
+            }
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.efaps.number2words.CachingConverter;
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.converters.LanguagePackProvider;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the {@link IConverter#length(long) length}
+ * and the {@link IConverter#byteLength(long) UTF-8 length} of the words
+ * which are computed without converting the numbers.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Lengths
+{
+    /**
+     * Test that the lengths are the same as the lengths of the converted
+     * words for a dense range, the boundaries of all powers and random
+     * values.
+     *
+     * @param _locale   locale of the converter
+     * @param _gender   gender of the converter
+     */
+    @Test(dataProvider = "converters")
+    public void lengths(final Locale _locale,
+                        final Gender _gender)
+    {
+        final IConverter converter = Converter.getConverter(_locale, _gender);
+        for (final long[] numbers : new long[][] {DifferentialHarness.range(-1_000, 100_000),
+                        DifferentialHarness.boundaries(), DifferentialHarness.random(4711, 100_000)})  {
+            for (final long number : numbers)  {
+                final String words = converter.convert(number);
+                Assert.assertEquals(converter.length(number), words.length(), "test '" + number + "'");
+                Assert.assertEquals(converter.byteLength(number), words.getBytes(StandardCharsets.UTF_8).length,
+                                "test bytes '" + number + "'");
+            }
+        }
+    }
+
+    /**
+     * Test that the converters of the language packs and the decorated
+     * converters return the same lengths.
+     *
+     * @param _locale   locale of the converter
+     * @param _gender   gender of the converter
+     * @throws IOException if the language pack could not be read
+     */
+    @Test(dataProvider = "converters")
+    public void decorated(final Locale _locale,
+                          final Gender _gender)
+        throws IOException
+    {
+        final IConverter converter = Converter.getConverter(_locale, _gender);
+        final LanguagePackProvider pack = LanguagePackProvider.forLocale(_locale);
+        final IConverter packConverter = _gender == Gender.FEMALE ? pack.getFemaleConverter()
+                        : _gender == Gender.NEUTER ? pack.getNeuterConverter() : pack.getMaleConverter();
+        final IConverter cached = new CachingConverter(converter, 64);
+        for (final long number : DifferentialHarness.random(42, 10_000))  {
+            Assert.assertEquals(packConverter.length(number), converter.length(number), "test '" + number + "'");
+            Assert.assertEquals(packConverter.byteLength(number), converter.byteLength(number));
+            Assert.assertEquals(cached.length(number), converter.length(number));
+            Assert.assertEquals(cached.byteLength(number), converter.byteLength(number));
+        }
+    }
+
+    /**
+     * Test that the appended words are the same if the string builder has
+     * to be enlarged.
+     */
+    @Test
+    public void presized()
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.GERMAN);
+        final StringBuilder builder = new StringBuilder(1).append('>');
+        converter.convertTo(Long.MIN_VALUE, builder);
+        Assert.assertEquals(builder.toString(), ">" + converter.convert(Long.MIN_VALUE));
+    }
+
+    /**
+     * Returns the locales with the genders to test.
+     *
+     * @return locales and genders
+     */
+    @DataProvider(name = "converters")
+    public static Object[][] converters()
+    {
+        return Differential.converters();
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.ServiceLoader;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.efaps.number2words.ConversionMetrics;
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.IConverterProvider;
+import org.efaps.number2words.Instrumentation;
+import org.efaps.number2words.InstrumentedConverter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the instrumentation of the converters. Each
+ * test disables the instrumentation at the end, so that the other tests get
+ * the shared converters.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Metrics
+{
+    /**
+     * Test that the shared converters of the providers are returned if the
+     * instrumentation is disabled.
+     */
+    @Test
+    public void disabled()
+    {
+        Instrumentation.disable();
+        final IConverter converter = Converter.getMaleConverter(Locale.GERMAN);
+        Assert.assertFalse(converter instanceof InstrumentedConverter, "test not instrumented");
+        Assert.assertSame(converter, Metrics.getProvider(Locale.GERMAN).getMaleConverter(), "test shared");
+        Assert.assertNull(Instrumentation.getMetrics(Locale.GERMAN), "test no metrics");
+        Assert.assertTrue(Instrumentation.getMetrics().isEmpty(), "test no metrics at all");
+    }
+
+    /**
+     * Test the counters and histograms of the metrics.
+     */
+    @Test
+    public void counters()
+    {
+        Instrumentation.enable();
+        try  {
+            final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+            Assert.assertTrue(converter instanceof InstrumentedConverter, "test instrumented");
+            Assert.assertSame(Converter.getMaleConverter(Locale.ENGLISH), converter, "test shared");
+            final IConverter raw = ((InstrumentedConverter) converter).getConverter();
+            long length = 0;
+            long shortWords = 0;
+            for (long number = 0; number < 1000; number++)  {
+                Assert.assertEquals(converter.convert(number), raw.convert(number), "test '" + number + "'");
+                length += raw.convert(number).length();
+                if (raw.convert(number).length() < ConversionMetrics.LENGTH_BUCKET_WIDTH)  {
+                    shortWords++;
+                }
+            }
+            converter.convertTo(4711, new StringBuilder("prefix "));
+            length += raw.convert(4711).length();
+            Assert.assertEquals(converter.convertTo(1, ByteBuffer.allocate(1)), -3, "test too small buffer");
+
+            final ConversionMetrics metrics = Instrumentation.getMetrics(Locale.ENGLISH);
+            Assert.assertNotNull(metrics, "test metrics");
+            Assert.assertSame(((InstrumentedConverter) converter).getMetrics(), metrics, "test same metrics");
+            Assert.assertEquals(metrics.getLanguage(), "en");
+            Assert.assertEquals(metrics.getCallCount(), 1002, "test calls");
+            Assert.assertEquals(metrics.getErrorCount(), 0, "test errors");
+            Assert.assertEquals(metrics.getMeanLength(), (double) length / 1001, 1e-9, "test mean length");
+            Assert.assertEquals(Metrics.sum(metrics.getLatencyHistogram()), 1002, "test latency histogram");
+            Assert.assertEquals(Metrics.sum(metrics.getLengthHistogram()), 1001, "test length histogram");
+            Assert.assertEquals(metrics.getLengthHistogram()[0], shortWords, "test first length bucket");
+            Assert.assertTrue(metrics.getMedianLatencyNanos() <= metrics.get99thPercentileLatencyNanos(),
+                            "test percentiles");
+            Assert.assertTrue(metrics.getMeanLatencyNanos() > 0, "test mean latency");
+            Assert.assertEquals(metrics.getCacheHitRatio(), 0.0, "test no cache");
+
+            metrics.reset();
+            Assert.assertEquals(metrics.getCallCount(), 0, "test reset calls");
+            Assert.assertEquals(metrics.getMedianLatencyNanos(), 0, "test reset latency");
+            Assert.assertEquals(Metrics.sum(metrics.getLengthHistogram()), 0, "test reset lengths");
+        } finally  {
+            Instrumentation.disable();
+        }
+    }
+
+    /**
+     * Test that failed conversions are counted as errors.
+     */
+    @Test
+    public void errors()
+    {
+        Instrumentation.enable();
+        try  {
+            final IConverter converter = Converter.getMaleConverter(Locale.GERMAN);
+            final Writer failing = new Writer()
+            {
+                @Override
+                public void write(final char[] _chars,
+                                  final int _offset,
+                                  final int _length)
+                    throws IOException
+                {
+                    throw new IOException("failed");
+                }
+
+                @Override
+                public void flush()
+                {
+                }
+
+                @Override
+                public void close()
+                {
+                }
+            };
+            Assert.assertThrows(IOException.class, () -> converter.convertTo(42, failing));
+            final ConversionMetrics metrics = Instrumentation.getMetrics(Locale.GERMAN);
+            Assert.assertEquals(metrics.getCallCount(), 1, "test calls");
+            Assert.assertEquals(metrics.getErrorCount(), 1, "test errors");
+            Assert.assertEquals(Metrics.sum(metrics.getLengthHistogram()), 0, "test no length");
+        } finally  {
+            Instrumentation.disable();
+        }
+    }
+
+    /**
+     * Test the hit ratio of the caches and that the genders share the
+     * metrics of the language.
+     */
+    @Test
+    public void cache()
+    {
+        Instrumentation.enable(1024);
+        try  {
+            final IConverter male = Converter.getMaleConverter(new Locale("es"));
+            final IConverter female = Converter.getFemaleConverter(new Locale("es"));
+            Assert.assertNotSame(male, female, "test genders");
+            for (int i = 0; i < 4; i++)  {
+                Assert.assertEquals(male.convert(21), "veintiuno");
+                Assert.assertEquals(female.convert(21), "veintiuna");
+            }
+            final ConversionMetrics metrics = Instrumentation.getMetrics(new Locale("es", "PE"));
+            Assert.assertEquals(metrics.getCallCount(), 8, "test calls");
+            Assert.assertEquals(metrics.getCacheMissCount(), 2, "test misses");
+            Assert.assertEquals(metrics.getCacheHitCount(), 6, "test hits");
+            Assert.assertEquals(metrics.getCacheHitRatio(), 0.75, "test hit ratio");
+        } finally  {
+            Instrumentation.disable();
+        }
+    }
+
+    /**
+     * Test that the metrics are registered as MBeans while the
+     * instrumentation is enabled.
+     *
+     * @throws Exception if the MBean could not be read
+     */
+    @Test
+    public void mbean()
+        throws Exception
+    {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(Instrumentation.OBJECT_NAME + ",language=\"de\"");
+        Instrumentation.enable();
+        try  {
+            Converter.getMaleConverter(Locale.GERMAN).convert(100);
+            Converter.getNeuterConverter(Locale.GERMAN).convert(1);
+            Assert.assertTrue(server.isRegistered(name), "test registered");
+            Assert.assertEquals(server.getAttribute(name, "CallCount"), 2L, "test calls");
+            Assert.assertEquals(((long[]) server.getAttribute(name, "LengthHistogram")).length,
+                            ConversionMetrics.LENGTH_BUCKETS, "test histogram");
+            server.invoke(name, "reset", null, null);
+            Assert.assertEquals(server.getAttribute(name, "CallCount"), 0L, "test reset");
+        } finally  {
+            Instrumentation.disable();
+        }
+        Assert.assertFalse(server.isRegistered(name), "test unregistered");
+    }
+
+    /**
+     * Returns the provider of a locale.
+     *
+     * @param _locale   locale of the provider
+     * @return provider
+     */
+    private static IConverterProvider getProvider(final Locale _locale)
+    {
+        IConverterProvider ret = null;
+        for (final IConverterProvider provider : ServiceLoader.load(IConverterProvider.class))  {
+            if (provider.getLocale().equals(_locale))  {
+                ret = provider;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Sums the buckets of a histogram.
+     *
+     * @param _histogram    histogram to sum
+     * @return sum of all buckets
+     */
+    private static long sum(final long[] _histogram)
+    {
+        long ret = 0;
+        for (final long count : _histogram)  {
+            ret += count;
+        }
+        return ret;
+    }
+}
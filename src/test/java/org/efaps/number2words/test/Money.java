@@ -0,0 +1,139 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.test;
+
+import java.util.Locale;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.CurrencyDescriptor;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the conversion of amounts of money to words.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Money
+{
+    /**
+     * Test the conversion of amounts to words.
+     *
+     * @param _locale       locale of the converter to test
+     * @param _currency     currency of the amount
+     * @param _minorUnits   amount in minor units
+     * @param _text         expected words
+     */
+    @Test(dataProvider = "amounts")
+    public void convertMoney(final Locale _locale,
+                             final CurrencyDescriptor _currency,
+                             final long _minorUnits,
+                             final String _text)
+    {
+        Assert.assertEquals(Converter.getMaleConverter(_locale).convertMoney(_minorUnits, _currency), _text,
+                        "test '" + _minorUnits + "' for '" + _locale + "'");
+    }
+
+    /**
+     * Test the conversion of amounts for a currency without minor unit and
+     * with three minor digits.
+     */
+    @Test
+    public void minorDigits()
+    {
+        final CurrencyDescriptor jpy = new CurrencyDescriptor("JPY", 0).withNames(Locale.ENGLISH, "yen", "yen");
+        Assert.assertEquals(Converter.getMaleConverter(Locale.ENGLISH).convertMoney(1500, jpy),
+                        "one thousand five hundred yen");
+        final CurrencyDescriptor kwd = new CurrencyDescriptor("KWD", 3)
+                        .withNames(Locale.ENGLISH, "dinar", "dinars");
+        Assert.assertEquals(Converter.getMaleConverter(Locale.ENGLISH).convertMoney(2005, kwd),
+                        "two dinars and 005/1000");
+    }
+
+    /**
+     * Test the Danish Krone with a female French converter, because the
+     * French name of the currency is female.
+     */
+    @Test
+    public void frenchFemale()
+    {
+        Assert.assertEquals(Converter.getFemaleConverter(Locale.FRENCH).convertMoney(100, CurrencyDescriptor.DKK),
+                        "une couronne et 00/100");
+        Assert.assertEquals(Converter.getFemaleConverter(Locale.FRENCH).convertMoney(2_100, CurrencyDescriptor.DKK),
+                        "vingt et une couronnes et 00/100");
+    }
+
+    /**
+     * Test that a currency without names for the language of the converter
+     * is rejected.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void missingNames()
+    {
+        Converter.getMaleConverter(Locale.ENGLISH).convertMoney(100, new CurrencyDescriptor("XXX", 2));
+    }
+
+    /**
+     * Returns the amounts with the expected words.
+     *
+     * @return amount test data
+     */
+    @DataProvider(name = "amounts")
+    public Object[][] amountsTestData()
+    {
+        final Locale spanish = new Locale("es");
+        final Locale danish = new Locale("da");
+        return new Object[][] {
+            {Locale.ENGLISH, CurrencyDescriptor.USD, 0L, "zero dollars and 00/100"},
+            {Locale.ENGLISH, CurrencyDescriptor.USD, 5L, "zero dollars and 05/100"},
+            {Locale.ENGLISH, CurrencyDescriptor.USD, 100L, "one dollar and 00/100"},
+            {Locale.ENGLISH, CurrencyDescriptor.USD, 12345L, "one hundred twenty-three dollars and 45/100"},
+            {Locale.ENGLISH, CurrencyDescriptor.EUR, -250L, "minus two euros and 50/100"},
+            {Locale.ENGLISH, CurrencyDescriptor.USD, 100_000_000L, "one million dollars and 00/100"},
+            {Locale.GERMAN, CurrencyDescriptor.EUR, 100L, "ein Euro und 00/100"},
+            {Locale.GERMAN, CurrencyDescriptor.EUR, 2199L, "einundzwanzig Euro und 99/100"},
+            {Locale.GERMAN, CurrencyDescriptor.EUR, -100_001L, "minus ein tausend Euro und 01/100"},
+            {spanish, CurrencyDescriptor.PEN, 100L, "un sol con 00/100"},
+            {spanish, CurrencyDescriptor.PEN, 3150L, "treinta y un soles con 50/100"},
+            {spanish, CurrencyDescriptor.PEN, 1100L, "once soles con 00/100"},
+            {spanish, CurrencyDescriptor.PEN, 2100L, "veinti\u00FAn soles con 00/100"},
+            {spanish, CurrencyDescriptor.PEN, 11_100L, "ciento once soles con 00/100"},
+            {spanish, CurrencyDescriptor.PEN, 100_000_000L, "un mill\u00F3n de soles con 00/100"},
+            {spanish, CurrencyDescriptor.PEN, 300_000_000L, "tres mill\u00F3nes de soles con 00/100"},
+            {spanish, CurrencyDescriptor.USD, 200_000_000_099L, "dos mil mill\u00F3nes de d\u00F3lares con 99/100"},
+            {spanish, CurrencyDescriptor.USD, 150_000_000L, "un mill\u00F3n quinientos mil d\u00F3lares con 00/100"},
+            {Locale.FRENCH, CurrencyDescriptor.EUR, 100L, "un euro et 00/100"},
+            {Locale.FRENCH, CurrencyDescriptor.EUR, 12345L, "cent vingt-trois euros et 45/100"},
+            {Locale.FRENCH, CurrencyDescriptor.USD, -250L, "moins deux dollars et 50/100"},
+            {Locale.FRENCH, CurrencyDescriptor.PEN, 8_000L, "quatre-vingts soles et 00/100"},
+            {Locale.FRENCH, CurrencyDescriptor.USD, 100_000_000L, "un million de dollars et 00/100"},
+            {Locale.FRENCH, CurrencyDescriptor.USD, 200_000_000L, "deux millions de dollars et 00/100"},
+            {Locale.FRENCH, CurrencyDescriptor.USD, 200_000_000_000L, "deux milliards de dollars et 00/100"},
+            {Locale.FRENCH, CurrencyDescriptor.USD, 150_000_000L, "un million cinq cent mille dollars et 00/100"},
+            {danish, CurrencyDescriptor.EUR, 100L, "en euro og 00/100"},
+            {danish, CurrencyDescriptor.EUR, 12345L, "et hundrede og treogtyve euro og 45/100"},
+            {danish, CurrencyDescriptor.DKK, 100L, "en krone og 00/100"},
+            {danish, CurrencyDescriptor.DKK, -250L, "minus to kroner og 50/100"},
+            {danish, CurrencyDescriptor.USD, 2_100L, "enogtyve dollars og 00/100"},
+            {Locale.ENGLISH, CurrencyDescriptor.DKK, 250L, "two kroner and 50/100"},
+        };
+    }
+}
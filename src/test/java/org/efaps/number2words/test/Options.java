@@ -0,0 +1,217 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.test;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.efaps.number2words.CachingConverter;
+import org.efaps.number2words.ConversionOptions;
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.LetterCase;
+import org.efaps.number2words.SignStyle;
+import org.efaps.number2words.converters.GeneratedEnglish;
+import org.efaps.number2words.converters.LanguagePackProvider;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the conversion of numbers to words with
+ * {@link ConversionOptions conversion options}.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Options
+{
+    /**
+     * Options with the conjunction &quot;and&quot; after the hundreds.
+     */
+    private static final ConversionOptions AND = ConversionOptions.DEFAULT.withConjunction("and");
+
+    /**
+     * Tests the conversion with options for all languages.
+     *
+     * @param _locale   locale of the converter
+     * @param _options  conversion options
+     * @param _number   number to convert
+     * @param _text     expected conversion
+     * @throws IOException if the words could not be appended
+     */
+    @Test(dataProvider = "options")
+    public void convert(final Locale _locale,
+                        final ConversionOptions _options,
+                        final long _number,
+                        final String _text)
+        throws IOException
+    {
+        final IConverter converter = Converter.getMaleConverter(_locale);
+        Assert.assertEquals(converter.convert(_number, _options), _text, "test '" + _number + "'");
+        final StringBuilder builder = new StringBuilder(">");
+        converter.convertTo(_number, _options, (Appendable) builder);
+        Assert.assertEquals(builder.toString(), ">" + _text, "test appended '" + _number + "'");
+    }
+
+    /**
+     * Tests that the default options return the same words as the
+     * conversion without options.
+     */
+    @Test
+    public void defaultOptions()
+    {
+        Assert.assertTrue(ConversionOptions.DEFAULT.isDefault(), "test default");
+        for (final String language : new String[] {"en", "de", "es", "fr", "da"})  {
+            final IConverter converter = Converter.getMaleConverter(new Locale(language));
+            for (final long number : DifferentialHarness.boundaries())  {
+                Assert.assertEquals(converter.convert(number, ConversionOptions.DEFAULT), converter.convert(number),
+                                "test " + language + " '" + number + "'");
+            }
+        }
+    }
+
+    /**
+     * Tests that the hand-written converter, the converter of the language
+     * pack, the generated converter and a caching converter write the same
+     * words with the same options.
+     *
+     * @throws IOException if the language pack could not be read
+     */
+    @Test
+    public void sameWords()
+        throws IOException
+    {
+        final ConversionOptions options = Options.AND.withLetterCase(LetterCase.CAPITALIZED)
+                        .withSignStyle(SignStyle.SYMBOL).withHyphen(" ");
+        final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+        final IConverter[] others = {
+            LanguagePackProvider.forLocale(Locale.ENGLISH).getMaleConverter(),
+            new GeneratedEnglish(Gender.MALE),
+            new CachingConverter(converter, 16)};
+        for (final long number : DifferentialHarness.random(4711, 10_000))  {
+            final String expected = converter.convert(number, options);
+            for (final IConverter other : others)  {
+                Assert.assertEquals(other.convert(number, options), expected,
+                                other.getClass().getSimpleName() + " '" + number + "'");
+            }
+        }
+    }
+
+    /**
+     * Tests options which are built for each conversion, so that more
+     * tables are derived than cached and the evicted tables are derived
+     * again.
+     */
+    @Test
+    public void manyOptions()
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+        for (int round = 0; round < 2; round++)  {
+            for (int i = 0; i < 100; i++)  {
+                final ConversionOptions options = ConversionOptions.DEFAULT.withSeparator("<" + i + ">");
+                Assert.assertEquals(converter.convert(1021, options), "one<" + i + ">thousand<" + i + ">twenty-one",
+                                "test separator " + i);
+            }
+        }
+    }
+
+    /**
+     * Tests the equality of the options and that the withers return new
+     * instances.
+     */
+    @Test
+    public void equality()
+    {
+        final ConversionOptions upper = ConversionOptions.DEFAULT.withLetterCase(LetterCase.UPPER);
+        Assert.assertEquals(upper, ConversionOptions.DEFAULT.withLetterCase(LetterCase.UPPER));
+        Assert.assertEquals(upper.hashCode(), ConversionOptions.DEFAULT.withLetterCase(LetterCase.UPPER).hashCode());
+        Assert.assertFalse(upper.equals(ConversionOptions.DEFAULT), "test not equal");
+        Assert.assertFalse(upper.isDefault(), "test not default");
+        Assert.assertEquals(ConversionOptions.DEFAULT.getLetterCase(), LetterCase.DEFAULT, "test unchanged");
+        Assert.assertTrue(ConversionOptions.DEFAULT.withConjunction("").isDefault(), "test empty conjunction");
+        Assert.assertTrue(upper.withLetterCase(LetterCase.DEFAULT).isDefault(), "test back to default");
+        Assert.assertThrows(NullPointerException.class, () -> ConversionOptions.DEFAULT.withSeparator(null));
+    }
+
+    /**
+     * Tests the Roman numerals in lower case.
+     */
+    @Test
+    public void roman()
+    {
+        final IConverter converter = Converter.getRomanConverter();
+        Assert.assertEquals(converter.convert(1994, ConversionOptions.DEFAULT.withLetterCase(LetterCase.LOWER)),
+                        "mcmxciv");
+        Assert.assertEquals(converter.convert(1994, ConversionOptions.DEFAULT.withLetterCase(LetterCase.UPPER)),
+                        "MCMXCIV");
+        Assert.assertEquals(converter.convert(1994, ConversionOptions.DEFAULT.withSeparator("_")), "MCMXCIV");
+    }
+
+    /**
+     * Data provider for the conversion with options.
+     *
+     * @return locales, options, numbers and expected words
+     */
+    @DataProvider(name = "options")
+    public static Object[][] options()
+    {
+        final ConversionOptions capitalized = ConversionOptions.DEFAULT.withLetterCase(LetterCase.CAPITALIZED);
+        final ConversionOptions compound = ConversionOptions.DEFAULT.withCompound(true);
+        return new Object[][] {
+            {Locale.ENGLISH, ConversionOptions.DEFAULT.withLetterCase(LetterCase.UPPER), 21, "TWENTY-ONE"},
+            {Locale.ENGLISH, capitalized, 0, "Zero"},
+            {Locale.ENGLISH, capitalized, -21, "Minus twenty-one"},
+            {Locale.ENGLISH, Options.AND, 100, "one hundred"},
+            {Locale.ENGLISH, Options.AND, 105, "one hundred and five"},
+            {Locale.ENGLISH, Options.AND, 121, "one hundred and twenty-one"},
+            {Locale.ENGLISH, Options.AND, 1005, "one thousand and five"},
+            {Locale.ENGLISH, Options.AND, 1100, "one thousand one hundred"},
+            {Locale.ENGLISH, Options.AND, 1_000_001, "one million and one"},
+            {Locale.ENGLISH, Options.AND.withLetterCase(LetterCase.CAPITALIZED), 2105,
+                "Two thousand one hundred and five"},
+            {Locale.ENGLISH, ConversionOptions.DEFAULT.withSeparator("_").withHyphen(" "), 1021,
+                "one_thousand_twenty one"},
+            {Locale.ENGLISH, ConversionOptions.DEFAULT.withSignStyle(SignStyle.SYMBOL), -5, "-five"},
+            {Locale.ENGLISH, capitalized.withSignStyle(SignStyle.SYMBOL), -5, "-Five"},
+            {Locale.ENGLISH, ConversionOptions.DEFAULT.withSignStyle(SignStyle.NONE), -5, "five"},
+            {Locale.ENGLISH, ConversionOptions.DEFAULT.withSignStyle(SignStyle.NONE), Long.MIN_VALUE,
+                "nine quintillion two hundred twenty-three quadrillion three hundred seventy-two trillion"
+                + " thirty-six billion eight hundred fifty-four million seven hundred seventy-five thousand"
+                + " eight hundred eight"},
+            {Locale.GERMAN, compound, 2_300_001, "zwei Millionen dreihunderttausendein"},
+            {Locale.GERMAN, compound, 21, "einundzwanzig"},
+            {Locale.GERMAN, compound, 123_000_000, "einhundertdreiundzwanzig Millionen"},
+            {Locale.GERMAN, compound, 223_000_000_000_000_000L, "zweihundertdreiundzwanzig Billiarden"},
+            {Locale.GERMAN, compound, 1_123_456_789, "eine Milliarde einhundertdreiundzwanzig Millionen"
+                + " vierhundertsechsundfünfzigtausendsiebenhundertneunundachtzig"},
+            {Locale.GERMAN, ConversionOptions.DEFAULT.withLetterCase(LetterCase.LOWER), 2_000_000, "zwei millionen"},
+            {new Locale("es"), ConversionOptions.DEFAULT.withConjunction("y"), 105, "ciento y cinco"},
+            {Locale.FRENCH, ConversionOptions.DEFAULT.withConjunction("et"), 1001, "mille et un"},
+            {new Locale("da"), ConversionOptions.DEFAULT.withConjunction("og"), 105, "et hundrede og fem"},
+            {new Locale("da"), ConversionOptions.DEFAULT.withConjunction("and"), 2105,
+                "to tusind et hundrede and fem"},
+            {new Locale("da"), compound, 2_000_001, "to millioner og en"},
+            {new Locale("da"), compound, 3_300_001, "tre millioner trehundredetusind og en"},
+            {new Locale("da"), compound, 1021, "ettusind og enogtyve"},
+            {new Locale("da"), compound, 2_000_105, "to millioner ethundredeogfem"},
+            {Locale.ENGLISH, Options.AND.withCompound(true), 1_000_001, "one million and one"}};
+    }
+}
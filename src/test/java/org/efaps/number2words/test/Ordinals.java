@@ -0,0 +1,151 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.converters.GeneratedEnglish;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the conversion of ordinal numbers.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Ordinals
+{
+    /**
+     * Test the conversion of ordinal numbers.
+     *
+     * @param _locale   locale of the converter
+     * @param _gender   gender of the converter
+     * @param _number   number to convert
+     * @param _expected expected ordinal words
+     * @throws IOException if the words could not be appended
+     */
+    @Test(dataProvider = "ordinals")
+    public void convert(final Locale _locale,
+                        final Gender _gender,
+                        final long _number,
+                        final String _expected)
+        throws IOException
+    {
+        final IConverter converter = Converter.getConverter(_locale, _gender);
+        Assert.assertEquals(converter.convertOrdinal(_number), _expected, "test '" + _number + "'");
+        Assert.assertEquals(converter.convertOrdinalTo(_number, new StringBuilder(">")).toString(),
+                        ">" + _expected, "test appended '" + _number + "'");
+    }
+
+    /**
+     * Test that only numbers greater than zero could be converted.
+     */
+    @Test
+    public void notPositive()
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+        Assert.assertThrows(IllegalArgumentException.class, () -> converter.convertOrdinal(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> converter.convertOrdinal(-1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> converter.convertOrdinal(Long.MIN_VALUE));
+    }
+
+    /**
+     * Test that converters without ordinal words throw an exception.
+     */
+    @Test
+    public void unsupported()
+    {
+        Assert.assertThrows(UnsupportedOperationException.class,
+            () -> new GeneratedEnglish(Gender.MALE).convertOrdinal(1));
+    }
+
+    /**
+     * Returns the ordinal numbers to test.
+     *
+     * @return locales, genders, numbers and expected ordinal words
+     */
+    @DataProvider(name = "ordinals")
+    public static Object[][] ordinals()
+    {
+        final Locale spanish = new Locale("es");
+        return new Object[][] {
+            {Locale.ENGLISH, Gender.MALE, 1L, "first"},
+            {Locale.ENGLISH, Gender.MALE, 2L, "second"},
+            {Locale.ENGLISH, Gender.MALE, 3L, "third"},
+            {Locale.ENGLISH, Gender.MALE, 4L, "fourth"},
+            {Locale.ENGLISH, Gender.MALE, 5L, "fifth"},
+            {Locale.ENGLISH, Gender.MALE, 8L, "eighth"},
+            {Locale.ENGLISH, Gender.MALE, 9L, "ninth"},
+            {Locale.ENGLISH, Gender.MALE, 12L, "twelfth"},
+            {Locale.ENGLISH, Gender.MALE, 13L, "thirteenth"},
+            {Locale.ENGLISH, Gender.MALE, 20L, "twentieth"},
+            {Locale.ENGLISH, Gender.MALE, 21L, "twenty-first"},
+            {Locale.ENGLISH, Gender.MALE, 99L, "ninety-ninth"},
+            {Locale.ENGLISH, Gender.MALE, 100L, "one hundredth"},
+            {Locale.ENGLISH, Gender.MALE, 101L, "one hundred first"},
+            {Locale.ENGLISH, Gender.MALE, 1000L, "one thousandth"},
+            {Locale.ENGLISH, Gender.MALE, 1002L, "one thousand second"},
+            {Locale.ENGLISH, Gender.MALE, 2_000_000L, "two millionth"},
+            {Locale.ENGLISH, Gender.MALE, 3_000_100L, "three million one hundredth"},
+            {Locale.ENGLISH, Gender.MALE, 1_000_000_000_000_000_000L, "one quintillionth"},
+            {Locale.ENGLISH, Gender.MALE, Long.MAX_VALUE, "nine quintillion two hundred twenty-three quadrillion"
+                            + " three hundred seventy-two trillion thirty-six billion eight hundred fifty-four million"
+                            + " seven hundred seventy-five thousand eight hundred seventh"},
+            {Locale.GERMAN, Gender.MALE, 1L, "erste"},
+            {Locale.GERMAN, Gender.FEMALE, 1L, "erste"},
+            {Locale.GERMAN, Gender.NEUTER, 1L, "erste"},
+            {Locale.GERMAN, Gender.MALE, 3L, "dritte"},
+            {Locale.GERMAN, Gender.MALE, 7L, "siebte"},
+            {Locale.GERMAN, Gender.MALE, 12L, "zw\u00F6lfte"},
+            {Locale.GERMAN, Gender.MALE, 20L, "zwanzigste"},
+            {Locale.GERMAN, Gender.MALE, 21L, "einundzwanzigste"},
+            {Locale.GERMAN, Gender.MALE, 100L, "ein hundertste"},
+            {Locale.GERMAN, Gender.MALE, 101L, "ein hundert erste"},
+            {Locale.GERMAN, Gender.MALE, 1000L, "ein tausendste"},
+            {Locale.GERMAN, Gender.MALE, 1001L, "ein tausend erste"},
+            {Locale.GERMAN, Gender.MALE, 2000L, "zwei tausendste"},
+            {Locale.GERMAN, Gender.MALE, 1_000_000L, "millionste"},
+            {Locale.GERMAN, Gender.MALE, 2_000_000L, "zweimillionste"},
+            {Locale.GERMAN, Gender.MALE, 123_000_000L, "einhundertdreiundzwanzigmillionste"},
+            {Locale.GERMAN, Gender.MALE, 1_000_000_000L, "milliardste"},
+            {Locale.GERMAN, Gender.MALE, 5_001_000_000L, "f\u00FCnf Milliarden millionste"},
+            {Locale.GERMAN, Gender.MALE, 3_000_100L, "drei Millionen ein hundertste"},
+            {spanish, Gender.MALE, 1L, "primero"},
+            {spanish, Gender.FEMALE, 1L, "primera"},
+            {spanish, Gender.NEUTER, 1L, "primero"},
+            {spanish, Gender.MALE, 11L, "und\u00E9cimo"},
+            {spanish, Gender.MALE, 13L, "decimotercero"},
+            {spanish, Gender.FEMALE, 13L, "decimotercera"},
+            {spanish, Gender.MALE, 21L, "vig\u00E9simo primero"},
+            {spanish, Gender.MALE, 100L, "cent\u00E9simo"},
+            {spanish, Gender.MALE, 101L, "cent\u00E9simo primero"},
+            {spanish, Gender.MALE, 1000L, "mil\u00E9simo"},
+            {spanish, Gender.MALE, 2000L, "dosmil\u00E9simo"},
+            {spanish, Gender.MALE, 2021L, "dosmil\u00E9simo vig\u00E9simo primero"},
+            {spanish, Gender.FEMALE, 2021L, "dosmil\u00E9sima vig\u00E9sima primera"},
+            {spanish, Gender.MALE, 21_000L, "veintiunmil\u00E9simo"},
+            {spanish, Gender.MALE, 100_000L, "cienmil\u00E9simo"},
+            {spanish, Gender.MALE, 1_000_000L, "millon\u00E9simo"}};
+    }
+}
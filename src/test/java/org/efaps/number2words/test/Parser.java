@@ -0,0 +1,260 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.efaps.number2words.test;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Random;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.Gender;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.IParser;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the parsing of words to numbers.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Parser
+{
+    /**
+     * Test that the words of all converters of a language are parsed back to
+     * the same number.
+     *
+     * @param _locale   locale of the parser to test
+     * @throws ParseException if a text could not be parsed
+     */
+    @Test(dataProvider = "locales")
+    public void roundTrip(final Locale _locale)
+        throws ParseException
+    {
+        final IParser parser = Converter.getParser(_locale);
+        Assert.assertEquals(parser.getLocale().getLanguage(), _locale.getLanguage());
+        final Random random = new Random(4711);
+        for (final Gender gender : Gender.values())  {
+            final IConverter converter = Converter.getConverter(_locale, gender);
+            for (long number = -2_000; number <= 30_000; number++)  {
+                Assert.assertEquals(parser.parse(converter.convert(number)), number,
+                                "test '" + number + "' for " + gender);
+            }
+            for (int i = 0; i < 20_000; i++)  {
+                final long number = random.nextLong() >> random.nextInt(63);
+                if (number != Long.MIN_VALUE)  {
+                    Assert.assertEquals(parser.parse(converter.convert(number)), number,
+                                    "test '" + number + "' for " + gender);
+                }
+            }
+            Assert.assertEquals(parser.parse(converter.convert(Long.MAX_VALUE)), Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Test the parsing of texts which are not written by the converters.
+     *
+     * @param _locale   locale of the parser to test
+     * @param _text     text to parse
+     * @param _number   expected number
+     * @throws ParseException if the text could not be parsed
+     */
+    @Test(dataProvider = "texts")
+    public void parse(final Locale _locale,
+                      final String _text,
+                      final long _number)
+        throws ParseException
+    {
+        Assert.assertEquals(Converter.getParser(_locale).parse(_text), _number, "test '" + _text + "'");
+    }
+
+    /**
+     * Test that only the given range of a text is parsed.
+     *
+     * @throws ParseException if the text could not be parsed
+     */
+    @Test
+    public void parseRange()
+        throws ParseException
+    {
+        final String text = "Amount: one hundred twenty-three dollars";
+        Assert.assertEquals(Converter.getParser(Locale.ENGLISH).parse(text, 8, 32), 123);
+    }
+
+    /**
+     * Test that invalid texts are rejected with the position of the error.
+     *
+     * @param _text     invalid text
+     * @param _offset   expected error offset
+     */
+    @Test(dataProvider = "invalid")
+    public void invalid(final String _text,
+                        final int _offset)
+    {
+        try  {
+            Converter.getParser(Locale.ENGLISH).parse(_text);
+            Assert.fail("text '" + _text + "' must not be parsed");
+        } catch (final ParseException e)  {
+            Assert.assertEquals(e.getErrorOffset(), _offset, "test offset of '" + _text + "'");
+        }
+    }
+
+    /**
+     * Test that texts with known words in an invalid order are rejected with
+     * the position of the offending word.
+     *
+     * @param _locale   locale of the parser to test
+     * @param _text     malformed text
+     * @param _offset   expected error offset
+     */
+    @Test(dataProvider = "malformed")
+    public void malformed(final Locale _locale,
+                          final String _text,
+                          final int _offset)
+    {
+        try  {
+            Converter.getParser(_locale).parse(_text);
+            Assert.fail("text '" + _text + "' must not be parsed");
+        } catch (final ParseException e)  {
+            Assert.assertEquals(e.getErrorOffset(), _offset, "test offset of '" + _text + "'");
+        }
+    }
+
+    /**
+     * Test that no parser is returned for an unsupported language.
+     */
+    @Test
+    public void unsupported()
+    {
+        Assert.assertNull(Converter.getParser(new Locale("xx")));
+    }
+
+    /**
+     * Returns the locales of the parsers to test.
+     *
+     * @return locale test data
+     */
+    @DataProvider(name = "locales")
+    public Object[][] localesTestData()
+    {
+        return new Object[][] {
+            {Locale.ENGLISH},
+            {Locale.GERMAN},
+            {new Locale("es")},
+            {Locale.FRENCH},
+            {new Locale("da")},
+        };
+    }
+
+    /**
+     * Returns texts with the expected numbers.
+     *
+     * @return text test data
+     */
+    @DataProvider(name = "texts")
+    public Object[][] textsTestData()
+    {
+        final Locale spanish = new Locale("es");
+        return new Object[][] {
+            {Locale.ENGLISH, "two hundred forty-five thousand", 245_000L},
+            {Locale.ENGLISH, "Two Hundred Forty Five Thousand", 245_000L},
+            {Locale.ENGLISH, "one hundred and five", 105L},
+            {Locale.ENGLISH, "  minus   twelve  ", -12L},
+            {Locale.ENGLISH, "hundred", 100L},
+            {Locale.GERMAN, "zweiundzwanzig Millionen", 22_000_000L},
+            {Locale.GERMAN, "ZWEIUNDZWANZIG MILLIONEN", 22_000_000L},
+            {Locale.GERMAN, "einhundertdreiundzwanzigtausendvierhundertsechsundf\u00FCnfzig", 123_456L},
+            {Locale.GERMAN, "eintausendeins", 1_001L},
+            {Locale.GERMAN, "dreihundertvierzehn Milliarden", 314_000_000_000L},
+            {Locale.GERMAN, "F\u00DCNF", 5L},
+            {Locale.GERMAN, "funf", 5L},
+            {spanish, "mil doscientos", 1_200L},
+            {spanish, "dos mil millones", 2_000_000_000L},
+            {spanish, "un mill\u00F3n doscientos mil", 1_200_000L},
+            {spanish, "veintiun mil dieciseis", 21_016L},
+            {spanish, "ciento uno", 101L},
+            {Locale.FRENCH, "Quatre-vingt-dix-sept", 97L},
+            {Locale.FRENCH, "deux cents millions", 200_000_000L},
+            {Locale.FRENCH, "cent mille et un", 100_001L},
+            {Locale.FRENCH, "zero", 0L},
+            {new Locale("da"), "tooghalvfems", 92L},
+            {new Locale("da"), "fem hundrede og enoghalvtreds", 551L},
+            {new Locale("da"), "et tusind og en", 1_001L},
+        };
+    }
+
+    /**
+     * Returns invalid English texts with the expected error offset.
+     *
+     * @return invalid test data
+     */
+    @DataProvider(name = "invalid")
+    public Object[][] invalidTestData()
+    {
+        return new Object[][] {
+            {"", 0},
+            {"   ", 0},
+            {"minus", 0},
+            {"one apple", 4},
+            {"sevens", 5},
+            {"one minus two", 4},
+            {"ten quintillion", 0},
+        };
+    }
+
+    /**
+     * Returns texts with known words in an invalid order with the expected
+     * error offset.
+     *
+     * @return malformed test data
+     */
+    @DataProvider(name = "malformed")
+    public Object[][] malformedTestData()
+    {
+        final Locale spanish = new Locale("es");
+        final Locale danish = new Locale("da");
+        return new Object[][] {
+            {Locale.ENGLISH, "one one", 4},
+            {Locale.ENGLISH, "one two three", 4},
+            {Locale.ENGLISH, "one twenty", 4},
+            {Locale.ENGLISH, "eleven one", 7},
+            {Locale.ENGLISH, "twenty twenty", 7},
+            {Locale.ENGLISH, "twenty eleven", 7},
+            {Locale.ENGLISH, "one hundred one hundred", 16},
+            {Locale.ENGLISH, "twenty hundred", 7},
+            {Locale.ENGLISH, "thousand thousand", 9},
+            {Locale.ENGLISH, "one million two million", 16},
+            {Locale.ENGLISH, "one thousand two million", 17},
+            {Locale.GERMAN, "zwanzigeins", 7},
+            {Locale.GERMAN, "dreiundzwanzigvierzig", 14},
+            {Locale.GERMAN, "einhunderthundert", 10},
+            {Locale.GERMAN, "Millionen tausend Millionen", 18},
+            {spanish, "treinta treinta", 8},
+            {spanish, "ciento doscientos", 7},
+            {spanish, "uno veintiuno", 4},
+            {Locale.FRENCH, "vingt vingt", 6},
+            {Locale.FRENCH, "un un", 3},
+            {danish, "en en", 3},
+            {danish, "tyve og tyve", 8},
+            {danish, "tyveen", 4},
+        };
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.efaps.number2words.Gender;
+
+/**
+ * <p>Frozen reference implementation of the conversion of numbers to words
+ * for English, German and Spanish. The implementation is intentionally
+ * naive: the absolute value is taken as decimal string of a
+ * {@link BigInteger} (so that also {@link Long#MIN_VALUE} is supported), the
+ * string is cut into groups of three digits and the words are concatenated
+ * with plain string operations.</p>
+ * <p>The implementation must not be optimized and shares no code with the
+ * converters. It is only changed if the words of a language change, so
+ * that it could be used as oracle by the {@link DifferentialHarness
+ * differential harness} for all optimized converters.</p>
+ *
+ * @author The eFaps Team
+ */
+public final class ReferenceConverter
+{
+    /**
+     * English words for the numbers from 0 to 19.
+     */
+    private static final String[] EN_NUMBERS = {
+        "zero", "one", "two", "three", "four", "five", "six", "seven", "eight", "nine",
+        "ten", "eleven", "twelve", "thirteen", "fourteen",
+        "fifteen", "sixteen", "seventeen", "eighteen", "nineteen"};
+
+    /**
+     * English words for the tens.
+     */
+    private static final String[] EN_TENS = {
+        "", "ten", "twenty", "thirty", "forty", "fifty", "sixty", "seventy", "eighty", "ninety"};
+
+    /**
+     * English words for the powers of one thousand.
+     */
+    private static final String[] EN_POWERS = {
+        "thousand", "million", "billion", "trillion", "quadrillion", "quintillion"};
+
+    /**
+     * German words for the numbers from 0 to 19.
+     */
+    private static final String[] DE_NUMBERS = {
+        "null", "ein", "zwei", "drei", "vier", "f\u00FCnf", "sechs", "sieben", "acht", "neun",
+        "zehn", "elf", "zw\u00F6lf", "dreizehn", "vierzehn",
+        "f\u00FCnfzehn", "sechzehn", "siebzehn", "achtzehn", "neunzehn"};
+
+    /**
+     * German words for the tens.
+     */
+    private static final String[] DE_TENS = {
+        "", "zehn", "zwanzig", "drei\u00DFig", "vierzig", "f\u00FCnfzig", "sechzig", "siebzig", "achtzig", "neunzig"};
+
+    /**
+     * German words for the powers of one thousand.
+     */
+    private static final String[] DE_POWERS = {
+        "tausend", "Millionen", "Milliarden", "Billionen", "Billiarden", "Trillionen"};
+
+    /**
+     * German words for one times the powers of one thousand.
+     */
+    private static final String[] DE_SINGLE_POWERS = {
+        "ein tausend", "eine Million", "eine Milliarde", "eine Billion", "eine Billiarde", "eine Trillion"};
+
+    /**
+     * Spanish words for the numbers from 0 to 29.
+     */
+    private static final String[] ES_NUMBERS = {
+        "cero", "uno", "dos", "tres", "cuatro", "cinco", "seis", "siete", "ocho", "nueve",
+        "diez", "once", "doce", "trece", "catorce",
+        "quince", "diecis\u00E9is", "diecisiete", "dieciocho", "diecinueve",
+        "veinte", "veintiuno", "veintid\u00F3s", "veintitr\u00E9s", "veinticuatro",
+        "veinticinco", "veintis\u00E9is", "veintisiete", "veintiocho", "veintinueve"};
+
+    /**
+     * Spanish words for the tens.
+     */
+    private static final String[] ES_TENS = {
+        "", "diez", "veinte", "treinta", "cuarenta", "cincuenta", "sesenta", "setenta", "ochenta", "noventa"};
+
+    /**
+     * Spanish words for the hundreds.
+     */
+    private static final String[] ES_HUNDREDS = {
+        "", "ciento", "doscientos", "trescientos", "cuatrocientos", "quinientos",
+        "seiscientos", "setecientos", "ochocientos", "novecientos"};
+
+    /**
+     * Spanish words for the powers of one thousand.
+     */
+    private static final String[] ES_POWERS = {
+        "mil", "mill\u00F3nes", "mil mill\u00F3nes", "bill\u00F3nes", "mil bill\u00F3nes", "trill\u00F3nes"};
+
+    /**
+     * Spanish words for one times the powers of one thousand.
+     */
+    private static final String[] ES_SINGLE_POWERS = {
+        "un mil", "un mill\u00F3n", "mil mill\u00F3nes", "un bill\u00F3n", "mil bill\u00F3nes", "un trill\u00F3n"};
+
+    /**
+     * Language of the words.
+     */
+    private final String language;
+
+    /**
+     * Gender of the counted noun.
+     */
+    private final Gender gender;
+
+    /**
+     * Creates the reference for a language and gender.
+     *
+     * @param _locale   locale which defines the language (English, German or
+     *                  Spanish)
+     * @param _gender   gender of the counted noun
+     */
+    public ReferenceConverter(final Locale _locale,
+                              final Gender _gender)
+    {
+        this.language = _locale.getLanguage();
+        this.gender = _gender;
+        if (!"en".equals(this.language) && !"de".equals(this.language) && !"es".equals(this.language))  {
+            throw new IllegalArgumentException("no reference for " + _locale);
+        }
+    }
+
+    /**
+     * Converts the <code>_number</code> into words.
+     *
+     * @param _number   number to convert
+     * @return words of the number
+     */
+    public String convert(final long _number)
+    {
+        final String digits = BigInteger.valueOf(_number).abs().toString();
+        final List<String> words = new ArrayList<>();
+        if (_number < 0)  {
+            words.add("es".equals(this.language) ? "menos" : "minus");
+        }
+        if (_number == 0)  {
+            words.add(group(0, -1));
+        } else  {
+            // groups of three digits from the highest to the last group
+            final int groups = (digits.length() + 2) / 3;
+            final String padded = "00".substring(0, groups * 3 - digits.length()) + digits;
+            for (int i = 0; i < groups; i++)  {
+                final int group = Integer.parseInt(padded.substring(i * 3, i * 3 + 3));
+                if (group != 0)  {
+                    words.add(group(group, groups - i - 2));
+                }
+            }
+        }
+        return String.join(" ", words);
+    }
+
+    /**
+     * Returns the words of one group.
+     *
+     * @param _group    value of the group between 0 and 999
+     * @param _power    power of the group (<code>-1</code> for the last
+     *                  group)
+     * @return words of the group
+     */
+    private String group(final int _group,
+                         final int _power)
+    {
+        final String ret;
+        switch (this.language)  {
+            case "de":
+                ret = german(_group, _power);
+                break;
+            case "es":
+                ret = spanish(_group, _power);
+                break;
+            default:
+                ret = _group == 0
+                                ? ReferenceConverter.EN_NUMBERS[0]
+                                : ReferenceConverter.english(_group)
+                                                + (_power < 0 ? "" : " " + ReferenceConverter.EN_POWERS[_power]);
+                break;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the English words of a number between 1 and 999.
+     *
+     * @param _number   number to convert
+     * @return words of the number
+     */
+    private static String english(final int _number)
+    {
+        final List<String> words = new ArrayList<>();
+        if (_number >= 100)  {
+            words.add(ReferenceConverter.EN_NUMBERS[_number / 100] + " hundred");
+        }
+        final int rest = _number % 100;
+        if (rest > 0 && rest < 20)  {
+            words.add(ReferenceConverter.EN_NUMBERS[rest]);
+        } else if (rest >= 20)  {
+            words.add(ReferenceConverter.EN_TENS[rest / 10]
+                            + (rest % 10 == 0 ? "" : "-" + ReferenceConverter.EN_NUMBERS[rest % 10]));
+        }
+        return String.join(" ", words);
+    }
+
+    /**
+     * Returns the German words of a group. Only the last group agrees with
+     * the gender and only if its last two digits are less than 20.
+     *
+     * @param _group    value of the group between 0 and 999
+     * @param _power    power of the group (<code>-1</code> for the last
+     *                  group)
+     * @return words of the group
+     */
+    private String german(final int _group,
+                          final int _power)
+    {
+        final String ret;
+        if (_group == 0)  {
+            ret = ReferenceConverter.DE_NUMBERS[0];
+        } else if (_power >= 0)  {
+            ret = _group == 1
+                            ? ReferenceConverter.DE_SINGLE_POWERS[_power]
+                            : ReferenceConverter.german(_group) + " " + ReferenceConverter.DE_POWERS[_power];
+        } else if (_group % 100 == 1 && this.gender == Gender.FEMALE)  {
+            ret = ReferenceConverter.germanHundreds(_group) + "eine";
+        } else if (_group % 100 == 1 && this.gender == Gender.NEUTER)  {
+            ret = ReferenceConverter.germanHundreds(_group) + "eins";
+        } else  {
+            ret = ReferenceConverter.german(_group);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the German words of the hundreds of a number followed by a
+     * space.
+     *
+     * @param _number   number between 1 and 999
+     * @return words of the hundreds; empty if the number is less than 100
+     */
+    private static String germanHundreds(final int _number)
+    {
+        return _number >= 100 ? ReferenceConverter.DE_NUMBERS[_number / 100] + " hundert " : "";
+    }
+
+    /**
+     * Returns the German words of a number between 1 and 999 (for male
+     * nouns).
+     *
+     * @param _number   number to convert
+     * @return words of the number
+     */
+    private static String german(final int _number)
+    {
+        final int rest = _number % 100;
+        final String words;
+        if (rest == 0)  {
+            words = "";
+        } else if (rest < 20)  {
+            words = ReferenceConverter.DE_NUMBERS[rest];
+        } else if (rest % 10 == 0)  {
+            words = ReferenceConverter.DE_TENS[rest / 10];
+        } else  {
+            words = ReferenceConverter.DE_NUMBERS[rest % 10] + "und" + ReferenceConverter.DE_TENS[rest / 10];
+        }
+        return (ReferenceConverter.germanHundreds(_number) + words).trim();
+    }
+
+    /**
+     * Returns the Spanish words of a group. The last group and the group of
+     * the thousands agree with a female noun; in front of the powers
+     * &quot;uno&quot; is shortened to &quot;un&quot;.
+     *
+     * @param _group    value of the group between 0 and 999
+     * @param _power    power of the group (<code>-1</code> for the last
+     *                  group)
+     * @return words of the group
+     */
+    private String spanish(final int _group,
+                           final int _power)
+    {
+        final boolean female = this.gender == Gender.FEMALE;
+        final String ret;
+        if (_group == 0)  {
+            ret = ReferenceConverter.ES_NUMBERS[0];
+        } else if (_power < 0)  {
+            ret = ReferenceConverter.spanish(_group, female, false);
+        } else if (_group == 1)  {
+            ret = ReferenceConverter.ES_SINGLE_POWERS[_power];
+        } else  {
+            ret = ReferenceConverter.spanish(_group, female && _power == 0, !female || _power > 0) + " "
+                            + ReferenceConverter.ES_POWERS[_power];
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the Spanish words of a number between 1 and 999.
+     *
+     * @param _number   number to convert
+     * @param _female   must the words agree with a female noun?
+     * @param _apocope  must &quot;uno&quot; be shortened to &quot;un&quot;
+     *                  (only for male words)?
+     * @return words of the number
+     */
+    private static String spanish(final int _number,
+                                  final boolean _female,
+                                  final boolean _apocope)
+    {
+        final String ret;
+        if (_number == 100)  {
+            ret = "cien";
+        } else  {
+            final List<String> words = new ArrayList<>();
+            if (_number >= 100)  {
+                final String hundreds = ReferenceConverter.ES_HUNDREDS[_number / 100];
+                words.add(_female ? hundreds.replace("ientos", "ientas") : hundreds);
+            }
+            final int rest = _number % 100;
+            if (rest > 0 && rest < 30)  {
+                words.add(ReferenceConverter.spanishUnit(ReferenceConverter.ES_NUMBERS[rest], _female, _apocope));
+            } else if (rest >= 30)  {
+                words.add(ReferenceConverter.ES_TENS[rest / 10]);
+                if (rest % 10 > 0)  {
+                    words.add("y");
+                    words.add(ReferenceConverter.spanishUnit(ReferenceConverter.ES_NUMBERS[rest % 10], _female,
+                                    _apocope));
+                }
+            }
+            ret = String.join(" ", words);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the Spanish word of a number less than 30 depending on the
+     * gender and the apocope.
+     *
+     * @param _word     male word of the number
+     * @param _female   must the word agree with a female noun?
+     * @param _apocope  must &quot;uno&quot; be shortened?
+     * @return word
+     */
+    private static String spanishUnit(final String _word,
+                                      final boolean _female,
+                                      final boolean _apocope)
+    {
+        String ret = _word;
+        if (_word.endsWith("uno"))  {
+            if (_female)  {
+                ret = _word.substring(0, _word.length() - 1) + "a";
+            } else if (_apocope)  {
+                ret = "uno".equals(_word) ? "un" : "veinti\u00FAn";
+            }
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.util.Locale;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the lookup of converters depending on the
+ * locale.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Registry
+{
+    /**
+     * Test that the converter for a locale is found (also with fallback from
+     * the country and variant to the language) and is shared.
+     *
+     * @param _locale   locale to check
+     * @param _language expected language of the converter
+     */
+    @Test(dataProvider = "locales")
+    public void lookup(final Locale _locale,
+                       final Locale _language)
+    {
+        final IConverter converter = Converter.getMaleConverter(_locale);
+        Assert.assertNotNull(converter, "test converter for '" + _locale + "'");
+        Assert.assertSame(converter, Converter.getMaleConverter(_language), "test shared for '" + _locale + "'");
+        Assert.assertSame(converter, Converter.getMaleConverter(_locale), "test cached for '" + _locale + "'");
+    }
+
+    /**
+     * Test that for unsupported languages always <code>null</code> is
+     * returned.
+     */
+    @Test
+    public void unsupported()
+    {
+        final Locale locale = new Locale("xx", "YY");
+        Assert.assertNull(Converter.getMaleConverter(locale), "test unsupported");
+        Assert.assertNull(Converter.getMaleConverter(locale), "test unsupported is cached");
+    }
+
+    /**
+     * Returns the locales to test and the expected language locale.
+     *
+     * @return locale test data
+     */
+    @DataProvider(name = "locales")
+    public Object[][] localesTestData()
+    {
+        return new Object[][] {
+            {Locale.ENGLISH, Locale.ENGLISH},
+            {Locale.US, Locale.ENGLISH},
+            {Locale.UK, Locale.ENGLISH},
+            {Locale.GERMAN, Locale.GERMAN},
+            {Locale.GERMANY, Locale.GERMAN},
+            {new Locale("de", "AT", "POSIX"), Locale.GERMAN},
+            {new Locale("es"), new Locale("es")},
+            {new Locale("es", "PE"), new Locale("es")},
+            {Locale.FRANCE, Locale.FRENCH},
+            {Locale.CANADA_FRENCH, Locale.FRENCH},
+            {new Locale("da", "DK"), new Locale("da")},
+        };
+    }
+}
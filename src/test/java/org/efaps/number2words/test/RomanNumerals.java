@@ -0,0 +1,204 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.RomanNotation;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the conversion of numbers to Roman
+ * numerals.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class RomanNumerals
+{
+    /**
+     * Values of the standard symbols for the greedy reference conversion.
+     */
+    private static final int[] VALUES = {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1};
+
+    /**
+     * Standard symbols for the greedy reference conversion.
+     */
+    private static final String[] SYMBOLS = {"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"};
+
+    /**
+     * Test the conversion of numbers to Roman numerals.
+     *
+     * @param _notation notation of the numerals
+     * @param _number   number to convert
+     * @param _text     expected numeral
+     */
+    @Test(dataProvider = "numerals")
+    public void convert(final RomanNotation _notation,
+                        final long _number,
+                        final String _text)
+    {
+        Assert.assertEquals(Converter.getRomanConverter(_notation).convert(_number), _text);
+    }
+
+    /**
+     * Test all numbers of the standard notation against a greedy reference
+     * conversion, also with the vinculum notation which writes the numbers
+     * less than 4000 in the same way.
+     */
+    @Test
+    public void standard()
+    {
+        final IConverter standard = Converter.getRomanConverter();
+        final IConverter vinculum = Converter.getRomanConverter(RomanNotation.VINCULUM);
+        Assert.assertFalse(standard.isDecimal(), "test not decimal");
+        for (int number = 1; number <= 3999; number++)  {
+            final String expected = RomanNumerals.reference(number);
+            Assert.assertEquals(standard.convert(number), expected, "test '" + number + "'");
+            Assert.assertEquals(vinculum.convert(number), expected, "test vinculum '" + number + "'");
+        }
+    }
+
+    /**
+     * Test that the lengths and all output methods are consistent for all
+     * notations.
+     *
+     * @param _notation notation of the numerals
+     * @throws IOException if the numeral could not be written
+     */
+    @Test(dataProvider = "notations")
+    public void outputs(final RomanNotation _notation)
+        throws IOException
+    {
+        final IConverter converter = Converter.getRomanConverter(_notation);
+        final StringBuilder builder = new StringBuilder();
+        final ByteBuffer bytes = ByteBuffer.allocate(256);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final long maximum = _notation.getMaximum();
+        for (long number = 1; number <= maximum; number += number < 10_000 ? 1 : 97)  {
+            final String text = converter.convert(number);
+            final byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+            Assert.assertEquals(converter.length(number), text.length(), "test length '" + number + "'");
+            Assert.assertEquals(converter.byteLength(number), expected.length, "test bytes '" + number + "'");
+            builder.setLength(0);
+            Assert.assertEquals(converter.convertTo(number, builder).toString(), text);
+            bytes.clear();
+            Assert.assertEquals(converter.convertTo(number, bytes), expected.length);
+            Assert.assertEquals(new String(bytes.array(), 0, expected.length, StandardCharsets.UTF_8), text);
+            out.reset();
+            Assert.assertEquals(converter.convertTo(number, out, StandardCharsets.UTF_8), expected.length);
+            Assert.assertEquals(out.toByteArray(), expected);
+        }
+        Assert.assertEquals(converter.convert(maximum), converter.convertAll(new long[] {maximum})[0]);
+        Assert.assertEquals(converter.convertTo(maximum, ByteBuffer.allocate(1)),
+                        -converter.byteLength(maximum), "test too small buffer");
+    }
+
+    /**
+     * Test that numbers out of the range of the notation are rejected.
+     *
+     * @param _notation notation of the numerals
+     */
+    @Test(dataProvider = "notations")
+    public void outOfRange(final RomanNotation _notation)
+    {
+        final IConverter converter = Converter.getRomanConverter(_notation);
+        for (final long number : new long[] {0, -1, _notation.getMaximum() + 1, Long.MIN_VALUE, Long.MAX_VALUE})  {
+            Assert.assertThrows(IllegalArgumentException.class, () -> converter.convert(number));
+            Assert.assertThrows(IllegalArgumentException.class, () -> converter.convertTo(number, new StringBuilder()));
+            Assert.assertThrows(IllegalArgumentException.class, () -> converter.convertTo(number,
+                            ByteBuffer.allocate(64)));
+            Assert.assertThrows(IllegalArgumentException.class, () -> converter.length(number));
+        }
+    }
+
+    /**
+     * Returns the Roman numeral of the <code>_number</code> with a greedy
+     * conversion.
+     *
+     * @param _number   number to convert
+     * @return Roman numeral
+     */
+    private static String reference(final int _number)
+    {
+        final StringBuilder ret = new StringBuilder();
+        int rest = _number;
+        for (int i = 0; i < RomanNumerals.VALUES.length; i++)  {
+            while (rest >= RomanNumerals.VALUES[i])  {
+                ret.append(RomanNumerals.SYMBOLS[i]);
+                rest -= RomanNumerals.VALUES[i];
+            }
+        }
+        return ret.toString();
+    }
+
+    /**
+     * Returns all notations.
+     *
+     * @return notations
+     */
+    @DataProvider(name = "notations")
+    public static Object[][] notations()
+    {
+        final RomanNotation[] notations = RomanNotation.values();
+        final Object[][] ret = new Object[notations.length][];
+        for (int i = 0; i < notations.length; i++)  {
+            ret[i] = new Object[] {notations[i]};
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the numbers with the expected numerals.
+     *
+     * @return notations, numbers and numerals
+     */
+    @DataProvider(name = "numerals")
+    public static Object[][] numerals()
+    {
+        return new Object[][] {
+            {RomanNotation.STANDARD, 1L, "I"},
+            {RomanNotation.STANDARD, 4L, "IV"},
+            {RomanNotation.STANDARD, 14L, "XIV"},
+            {RomanNotation.STANDARD, 1984L, "MCMLXXXIV"},
+            {RomanNotation.STANDARD, 2024L, "MMXXIV"},
+            {RomanNotation.STANDARD, 3999L, "MMMCMXCIX"},
+            {RomanNotation.VINCULUM, 3999L, "MMMCMXCIX"},
+            {RomanNotation.VINCULUM, 4000L, "I\u0305V\u0305"},
+            {RomanNotation.VINCULUM, 4001L, "I\u0305V\u0305I"},
+            {RomanNotation.VINCULUM, 10_500L, "X\u0305D"},
+            {RomanNotation.VINCULUM, 1_000_000L, "M\u0305"},
+            {RomanNotation.VINCULUM, 3_999_999L,
+                "M\u0305M\u0305M\u0305C\u0305M\u0305X\u0305C\u0305I\u0305X\u0305CMXCIX"},
+            {RomanNotation.APOSTROPHUS, 500L, "D"},
+            {RomanNotation.APOSTROPHUS, 900L, "CCI\u2183"},
+            {RomanNotation.APOSTROPHUS, 1000L, "CI\u2183"},
+            {RomanNotation.APOSTROPHUS, 5000L, "I\u2183\u2183"},
+            {RomanNotation.APOSTROPHUS, 10_000L, "CCI\u2183\u2183"},
+            {RomanNotation.APOSTROPHUS, 50_000L, "I\u2183\u2183\u2183"},
+            {RomanNotation.APOSTROPHUS, 100_000L, "CCCI\u2183\u2183\u2183"},
+            {RomanNotation.APOSTROPHUS, 2024L, "CI\u2183CI\u2183XXIV"}};
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2003 - 2020 The eFaps Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.efaps.number2words.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.efaps.number2words.Converter;
+import org.efaps.number2words.IConverter;
+import org.efaps.number2words.SnapshotConverter;
+import org.efaps.number2words.converters.LanguagePackProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Implements the test cases for the {@link SnapshotConverter snapshots} of
+ * dense ranges.
+ *
+ * @author The eFaps Team
+ */
+@Test
+public class Snapshots
+{
+    /**
+     * Test that all numbers of the range are served from the snapshot with
+     * the same words as the converter.
+     *
+     * @throws IOException if the snapshot could not be written or read
+     */
+    @Test
+    public void english()
+        throws IOException
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.ENGLISH);
+        final Path file = Snapshots.createFile();
+        try  {
+            Assert.assertEquals(SnapshotConverter.write(converter, 0, 20_000, file), Files.size(file), "test size");
+            final SnapshotConverter snapshot = SnapshotConverter.open(converter, file);
+            Assert.assertEquals(snapshot.getFirst(), 0);
+            Assert.assertEquals(snapshot.getLast(), 20_000);
+            final StringBuilder builder = new StringBuilder();
+            final ByteBuffer bytes = ByteBuffer.allocate(256);
+            for (long number = 0; number <= 20_000; number++)  {
+                final String expected = converter.convert(number);
+                Assert.assertEquals(snapshot.convert(number), expected, "test '" + number + "'");
+                builder.setLength(0);
+                Assert.assertEquals(snapshot.convertTo(number, builder).toString(), expected);
+                bytes.clear();
+                final int length = snapshot.convertTo(number, bytes);
+                Assert.assertEquals(new String(bytes.array(), 0, length, StandardCharsets.UTF_8), expected);
+            }
+        } finally  {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test a snapshot with words which are not ASCII and all methods which
+     * copy the words.
+     *
+     * @throws IOException if the snapshot could not be written or read
+     */
+    @Test
+    public void spanish()
+        throws IOException
+    {
+        final IConverter converter = Converter.getFemaleConverter(new Locale("es"));
+        final Path file = Snapshots.createFile();
+        try  {
+            SnapshotConverter.write(converter, -100, 2_000, file);
+            final SnapshotConverter snapshot = SnapshotConverter.open(converter, file);
+            Assert.assertEquals(snapshot.convert(1_022), converter.convert(1_022));
+            Assert.assertEquals(snapshot.convertTo(-22, new StringBuilder("> ")).toString(),
+                            "> menos veintid\u00F3s");
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Assert.assertEquals(snapshot.convertTo(22, out, StandardCharsets.UTF_8), 10, "test written bytes");
+            Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), "veintid\u00F3s");
+            Assert.assertEquals(snapshot.convertTo(22, ByteBuffer.allocate(4)), -10, "test too small buffer");
+            final ByteBuffer latin = ByteBuffer.allocate(32);
+            Assert.assertEquals(snapshot.convertTo(22, latin, StandardCharsets.ISO_8859_1), 9, "test charset");
+            Assert.assertEquals(snapshot.getLocale(), converter.getLocale());
+            Assert.assertEquals(snapshot.convertOrdinal(3), converter.convertOrdinal(3));
+        } finally  {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test that the numbers outside of the range are converted with the
+     * decorated converter.
+     *
+     * @throws IOException if the snapshot could not be written or read
+     */
+    @Test
+    public void fallback()
+        throws IOException
+    {
+        final IConverter converter = Converter.getMaleConverter(Locale.GERMAN);
+        final Path file = Snapshots.createFile();
+        try  {
+            SnapshotConverter.write(converter, 10, 100, file);
+            final SnapshotConverter snapshot = SnapshotConverter.open(converter, file);
+            for (final long number : new long[] {-5, 9, 10, 100, 101, Long.MIN_VALUE, Long.MAX_VALUE})  {
+                Assert.assertEquals(snapshot.convert(number), converter.convert(number), "test '" + number + "'");
+            }
+        } finally  {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test that stale snapshots, snapshots of another language and corrupt
+     * files are rejected.
+     *
+     * @throws IOException if the snapshot could not be written
+     */
+    @Test
+    public void stale()
+        throws IOException
+    {
+        final Path file = Snapshots.createFile();
+        try  {
+            SnapshotConverter.write(Converter.getMaleConverter(Locale.GERMAN), 0, 1_000, file);
+            SnapshotConverter.open(Converter.getMaleConverter(Locale.GERMAN), file);
+            Assert.assertThrows(IOException.class,
+                () -> SnapshotConverter.open(Converter.getFemaleConverter(Locale.GERMAN), file));
+            Assert.assertThrows(IOException.class,
+                () -> SnapshotConverter.open(Converter.getMaleConverter(Locale.ENGLISH), file));
+            final byte[] content = Files.readAllBytes(file);
+            content[0] = 0;
+            Files.write(file, content);
+            Assert.assertThrows(IOException.class,
+                () -> SnapshotConverter.open(Converter.getMaleConverter(Locale.GERMAN), file));
+        } finally  {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test that the fingerprint depends only on the words, so that the
+     * hand-written converter and the converter of the language pack share
+     * the snapshots.
+     *
+     * @throws IOException if the language pack could not be read
+     */
+    @Test
+    public void fingerprint()
+        throws IOException
+    {
+        final LanguagePackProvider pack = LanguagePackProvider.forLocale(Locale.GERMAN);
+        Assert.assertEquals(pack.getMaleConverter().getFingerprint(),
+                        Converter.getMaleConverter(Locale.GERMAN).getFingerprint(), "test same words");
+        Assert.assertFalse(pack.getFemaleConverter().getFingerprint() == pack.getMaleConverter().getFingerprint(),
+                        "test other words");
+    }
+
+    /**
+     * Creates a new temporary file for a snapshot.
+     *
+     * @return path of the file
+     * @throws IOException if the file could not be created
+     */
+    private static Path createFile()
+        throws IOException
+    {
+        return Files.createTempFile("number2words", ".snapshot");
+    }
+}
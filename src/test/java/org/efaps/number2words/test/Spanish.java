@@ -114,11 +114,13 @@ public class Spanish
             {800L, "ochocientos"},
             {801L, "ochocientos uno"},
             {1316L, "un mil trescientos diecis\u00E9is"},
-            {21000L, "veintiun mil"},
-            {21045L, "veintiun mil cuarenta y cinco"},
+            {111L, "ciento once"},
+            {1011L, "un mil once"},
+            {21000L, "veinti\u00FAn mil"},
+            {21045L, "veinti\u00FAn mil cuarenta y cinco"},
             {24124L, "veinticuatro mil ciento veinticuatro"},
             {700000L, "setecientos mil"},
-            {721000L, "setecientos veintiun mil"},
+            {721000L, "setecientos veinti\u00FAn mil"},
             {735000L, "setecientos treinta y cinco mil"},
             {851000L, "ochocientos cincuenta y un mil"},
             {851321L, "ochocientos cincuenta y un mil trescientos veintiuno"},
@@ -126,8 +128,8 @@ public class Spanish
             {1000000L, "un mill\u00F3n"},
             {2000000L, "dos mill\u00F3nes"},
             {3000200L, "tres mill\u00F3nes doscientos"},
-            {321521221L, "trescientos veintiun mill\u00F3nes quinientos veintiun mil doscientos veintiuno"},
-            {311521221L, "trescientos once mill\u00F3nes quinientos veintiun mil doscientos veintiuno"},
+            {321521221L, "trescientos veinti\u00FAn mill\u00F3nes quinientos veinti\u00FAn mil doscientos veintiuno"},
+            {311521221L, "trescientos once mill\u00F3nes quinientos veinti\u00FAn mil doscientos veintiuno"},
             {123456789L, "ciento veintitr\u00E9s mill\u00F3nes "
                         + "cuatrocientos cincuenta y seis mil "
                         + "setecientos ochenta y nueve"},
@@ -135,10 +137,10 @@ public class Spanish
             {2147483647L, "dos mil mill\u00F3nes ciento cuarenta y siete mill\u00F3nes "
                         + "cuatrocientos ochenta y tres mil "
                         + "seiscientos cuarenta y siete"},
-            {21147483647L, "veintiun mil mill\u00F3nes ciento cuarenta y siete mill\u00F3nes "
+            {21147483647L, "veinti\u00FAn mil mill\u00F3nes ciento cuarenta y siete mill\u00F3nes "
                         + "cuatrocientos ochenta y tres mil "
                         + "seiscientos cuarenta y siete"},
-            {21141481641L, "veintiun mil mill\u00F3nes ciento cuarenta y un mill\u00F3nes "
+            {21141481641L, "veinti\u00FAn mil mill\u00F3nes ciento cuarenta y un mill\u00F3nes "
                         + "cuatrocientos ochenta y un mil "
                         + "seiscientos cuarenta y uno"},
             {1000000000000L, "un bill\u00F3n"},
@@ -146,7 +148,7 @@ public class Spanish
             {2000000000000000L, "dos mil bill\u00F3nes"},
             {1000000000000000000L, "un trill\u00F3n"},
             {9221371031854775807L, "nueve trill\u00F3nes "
-                                + "doscientos veintiun mil bill\u00F3nes "
+                                + "doscientos veinti\u00FAn mil bill\u00F3nes "
                                 + "trescientos setenta y un bill\u00F3nes "
                                 + "treinta y un mil mill\u00F3nes "
                                 + "ochocientos cincuenta y cuatro mill\u00F3nes "
@@ -154,4 +156,137 @@ public class Spanish
                                 + "ochocientos siete"},
         };
     }
+
+    /**
+     * Tests the full range from 0 till 999&nbsp;999 with invariants of the
+     * apocope: numbers below one thousand end with the full form
+     * &quot;uno&quot; (but never &quot;onceo&quot;) and the thousands are
+     * written with the apocopated form in front of &quot;mil&quot;.
+     */
+    @Test
+    public void spanishFullRange()
+    {
+        final IConverter converter = Converter.getMaleConverter(new Locale("es"));
+        Assert.assertEquals(converter.convert(0), "cero");
+        for (int number = 1; number < 1000; number++)  {
+            final String text = converter.convert(number);
+            Assert.assertEquals(text.endsWith("uno"), number % 10 == 1 && number % 100 != 11,
+                            "test 'uno' for '" + number + "': " + text);
+            Assert.assertFalse(text.endsWith("onceo") || text.endsWith(" un") || text.equals("un")
+                            || text.endsWith("\u00FAn"), "test '" + number + "': " + text);
+        }
+        for (int number = 1000; number < 1_000_000; number++)  {
+            final int thousands = number / 1000;
+            final int last = number % 1000;
+            final StringBuilder expected = new StringBuilder();
+            if (thousands == 1)  {
+                expected.append("un mil");
+            } else  {
+                expected.append(Spanish.apocope(converter.convert(thousands))).append(" mil");
+            }
+            if (last != 0)  {
+                expected.append(' ').append(converter.convert(last));
+            }
+            Assert.assertEquals(converter.convert(number), expected.toString(), "test '" + number + "'");
+        }
+    }
+
+    /**
+     * Tests the full range from 0 till 999&nbsp;999 for female numbers: the
+     * thousands and the last group are written with the female words.
+     */
+    @Test
+    public void spanishFemaleFullRange()
+    {
+        final IConverter converter = Converter.getFemaleConverter(new Locale("es"));
+        for (int number = 1; number < 1000; number++)  {
+            final String text = converter.convert(number);
+            Assert.assertEquals(text.endsWith("una"), number % 10 == 1 && number % 100 != 11,
+                            "test 'una' for '" + number + "': " + text);
+            Assert.assertFalse(text.contains("uno") || text.contains("ientos"), "test '" + number + "': " + text);
+        }
+        for (int number = 1000; number < 1_000_000; number++)  {
+            final int thousands = number / 1000;
+            final int last = number % 1000;
+            final StringBuilder expected = new StringBuilder()
+                            .append(thousands == 1 ? "un" : converter.convert(thousands)).append(" mil");
+            if (last != 0)  {
+                expected.append(' ').append(converter.convert(last));
+            }
+            Assert.assertEquals(converter.convert(number), expected.toString(), "test '" + number + "'");
+        }
+    }
+
+    /**
+     * Returns the apocopated form of Spanish words which end with the full
+     * form &quot;uno&quot; (&quot;veintiuno&quot; to
+     * &quot;veinti&uacute;n&quot;, &quot;uno&quot; to &quot;un&quot;).
+     *
+     * @param _text     words to shorten
+     * @return apocopated words
+     */
+    private static String apocope(final String _text)
+    {
+        final String ret;
+        if (_text.endsWith("veintiuno"))  {
+            ret = _text.substring(0, _text.length() - 3) + "\u00FAn";
+        } else if (_text.endsWith("uno"))  {
+            ret = _text.substring(0, _text.length() - 1);
+        } else  {
+            ret = _text;
+        }
+        return ret;
+    }
+
+    /**
+     * Tests the convert of female numbers for Spanish language.
+     *
+     * @param _number   number to check
+     * @param _text     expected conversion in Spanish words
+     */
+    @Test(dataProvider = "spanishFemale")
+    public void spanishFemale(final long _number,
+                              final String _text)
+    {
+        Assert.assertEquals(Converter.getFemaleConverter(new Locale("es")).convert(_number), _text,
+                        "test '" + _number + "'");
+    }
+
+    /**
+     * Tests that Spanish neuter numbers are written as male numbers.
+     */
+    @Test
+    public void spanishNeuter()
+    {
+        Assert.assertSame(Converter.getNeuterConverter(new Locale("es")),
+                        Converter.getMaleConverter(new Locale("es")));
+    }
+
+    /**
+     * Returns the Spanish test data for female numbers.
+     *
+     * @return Spanish female test data
+     */
+    @DataProvider(name = "spanishFemale")
+    public Object[][] spanishFemaleTestData()
+    {
+        return new Object[][] {
+            {1L, "una"},
+            {11L, "once"},
+            {21L, "veintiuna"},
+            {31L, "treinta y una"},
+            {100L, "cien"},
+            {101L, "ciento una"},
+            {200L, "doscientas"},
+            {555L, "quinientas cincuenta y cinco"},
+            {1001L, "un mil una"},
+            {21000L, "veintiuna mil"},
+            {200000L, "doscientas mil"},
+            {300201L, "trescientas mil doscientas una"},
+            {200000000L, "doscientos mill\u00F3nes"},
+            {201000000L, "doscientos un mill\u00F3nes"},
+            {-1L, "menos una"},
+            {0L, "cero"},
+        };
+    }
 }